@@ -0,0 +1,84 @@
+#!/usr/bin/env python3
+#
+# Licensed to the Apache Software Foundation (ASF) under one or more
+# contributor license agreements. See the NOTICE file distributed with
+# this work for additional information regarding copyright ownership.
+# The ASF licenses this file to You under the Apache License, Version 2.0
+# (the "License"); you may not use this file except in compliance with
+# the License. You may obtain a copy of the License at
+#
+# http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS,
+# WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+# See the License for the specific language governing permissions and
+# limitations under the License.
+
+"""
+Compare JMH results in JSON format (java -jar benchmarks.jar -rf json -rff results.json) with a baseline.
+
+A benchmark regressed when its score is worse than the baseline by more than the threshold percentage and by
+more than the error margins of both runs. Exits with status 1 when a benchmark regressed.
+"""
+
+import argparse
+import json
+import math
+import sys
+
+# Modes where a lower score is better. Throughput (thrpt) is better when higher.
+LOWER_IS_BETTER = {"avgt", "sample", "ss"}
+
+
+def load(path):
+    with open(path) as f:
+        results = {}
+        for result in json.load(f):
+            params = ",".join(f"{k}={v}" for k, v in sorted(result.get("params", {}).items()))
+            key = (result["benchmark"], params)
+            metric = result["primaryMetric"]
+            error = metric.get("scoreError")
+            if not isinstance(error, (int, float)) or math.isnan(error):
+                error = 0.0
+            results[key] = (result["mode"], metric["score"], error, metric["scoreUnit"])
+        return results
+
+
+def main():
+    parser = argparse.ArgumentParser(description=__doc__, formatter_class=argparse.RawDescriptionHelpFormatter)
+    parser.add_argument("baseline", help="JMH JSON results of the baseline")
+    parser.add_argument("current", help="JMH JSON results to compare with the baseline")
+    parser.add_argument("--threshold", type=float, default=10.0,
+                        help="Percentage a score can get worse before it is a regression (default 10)")
+    args = parser.parse_args()
+
+    baseline = load(args.baseline)
+    current = load(args.current)
+    regressions = 0
+    width = max([len(key[0]) for key in list(current) + list(baseline)] + [len("Benchmark")])
+    print(f"{'Benchmark':<{width}} {'Params':<20} {'Baseline':>14} {'Current':>14} {'Change':>9}")
+    for key in sorted(current):
+        benchmark, params = key
+        mode, score, error, unit = current[key]
+        if key not in baseline:
+            print(f"{benchmark:<{width}} {params:<20} {'-':>14} {score:>14.3f} {'new':>9}")
+            continue
+        _, base_score, base_error, _ = baseline[key]
+        change = (score - base_score) / base_score * 100 if base_score else 0.0
+        worse = change if mode in LOWER_IS_BETTER else -change
+        regressed = worse > args.threshold and abs(score - base_score) > error + base_error
+        regressions += regressed
+        print(f"{benchmark:<{width}} {params:<20} {base_score:>14.3f} {score:>14.3f} {change:>+8.1f}%"
+              f" {unit}{'  REGRESSION' if regressed else ''}")
+    for key in sorted(set(baseline) - set(current)):
+        print(f"{key[0]:<{width}} {key[1]:<20} missing in current results")
+
+    if regressions:
+        print(f"{regressions} benchmark(s) regressed by more than {args.threshold}%")
+        return 1
+    return 0
+
+
+if __name__ == "__main__":
+    sys.exit(main())
@@ -0,0 +1,80 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openmetadata.common.utils.CipherText;
+import org.openmetadata.common.utils.CursorCodec;
+import org.openmetadata.common.utils.CursorCodec.Direction;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding a paging cursor, which is done for every page of every list request, with {@link CursorCodec}
+ * and with the {@link CipherText} it replaced
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CipherTextBenchmark {
+  private String cursor;
+  private String encrypted;
+  private String encoded;
+
+  @Setup
+  public void setup() throws GeneralSecurityException, IOException {
+    cursor = Fixtures.DATABASE_FQN + ".table" + UUID.randomUUID();
+    encrypted = CipherText.instance().encrypt(cursor);
+    CursorCodec.setSecretKey("benchmark-secret");
+    encoded = CursorCodec.instance().encode(cursor, Direction.AFTER);
+  }
+
+  @Benchmark
+  public String encrypt() throws GeneralSecurityException, IOException {
+    return CipherText.instance().encrypt(cursor);
+  }
+
+  @Benchmark
+  public String decrypt() throws GeneralSecurityException {
+    return CipherText.instance().decrypt(encrypted);
+  }
+
+  @Benchmark
+  public String encode() {
+    return CursorCodec.instance().encode(cursor, Direction.AFTER);
+  }
+
+  @Benchmark
+  public String decode() {
+    return CursorCodec.instance().decode(encoded, Direction.AFTER);
+  }
+}
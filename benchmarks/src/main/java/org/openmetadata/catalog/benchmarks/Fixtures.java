@@ -0,0 +1,110 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.openmetadata.catalog.entity.data.Table;
+import org.openmetadata.catalog.jdbi3.CollectionDAO;
+import org.openmetadata.catalog.type.Column;
+import org.openmetadata.catalog.type.ColumnDataType;
+import org.openmetadata.catalog.type.EntityReference;
+import org.openmetadata.catalog.type.Tag;
+import org.openmetadata.catalog.type.TableType;
+import org.openmetadata.catalog.type.TagLabel;
+import org.openmetadata.catalog.util.JsonUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/** Synthetic entities used by the benchmarks. Fixtures are deterministic except for entity ids. */
+public final class Fixtures {
+  public static final String DATABASE_FQN = "service.database";
+
+  private Fixtures() {
+  }
+
+  /** Table with {@code columnCount} columns, each with a description and {@code tagsPerColumn} tags */
+  public static Table table(String name, int columnCount, int tagsPerColumn) {
+    String fqn = DATABASE_FQN + "." + name;
+    return new Table().withId(UUID.randomUUID()).withName(name).withFullyQualifiedName(fqn)
+            .withDescription("Table " + name).withTableType(TableType.Regular)
+            .withColumns(columns(fqn, columnCount, tagsPerColumn)).withTags(tags("table", 2))
+            .withOwner(new EntityReference().withId(UUID.randomUUID()).withType("user").withName("owner"))
+            .withVersion(0.1).withUpdatedAt(new Date(0)).withUpdatedBy("admin");
+  }
+
+  public static List<Column> columns(String tableFQN, int columnCount, int tagsPerColumn) {
+    List<Column> columns = new ArrayList<>(columnCount);
+    for (int i = 0; i < columnCount; i++) {
+      columns.add(column(tableFQN, "c" + i, i, tagsPerColumn));
+    }
+    return columns;
+  }
+
+  public static Column column(String tableFQN, String name, int ordinalPosition, int tagCount) {
+    return new Column().withName(name).withFullyQualifiedName(tableFQN + "." + name)
+            .withDataType(ColumnDataType.VARCHAR).withDataLength(256).withDataTypeDisplay("varchar(256)")
+            .withOrdinalPosition(ordinalPosition).withDescription("Description of column " + name)
+            .withTags(tags(name, tagCount));
+  }
+
+  /** {@code count} tags with names derived from {@code prefix} */
+  public static List<TagLabel> tags(String prefix, int count) {
+    List<TagLabel> tags = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      tags.add(new TagLabel().withTagFQN("Tier.Tier" + prefix + i).withLabelType(TagLabel.LabelType.MANUAL)
+              .withState(TagLabel.State.CONFIRMED));
+    }
+    return tags;
+  }
+
+  /**
+   * CollectionDAO for measuring code paths without the database. Updates do nothing, every tag exists without derived
+   * tags, and other queries return no rows or zero for counts.
+   */
+  public static CollectionDAO noDatabase() {
+    return (CollectionDAO) Proxy.newProxyInstance(CollectionDAO.class.getClassLoader(),
+            new Class<?>[] {CollectionDAO.class}, (proxy, method, args) ->
+                    Proxy.newProxyInstance(CollectionDAO.class.getClassLoader(),
+                            new Class<?>[] {method.getReturnType()}, (dao, daoMethod, daoArgs) ->
+                                    daoMethod.getName().equals("findTag") ? tagJson((String) daoArgs[0]) :
+                                            emptyResult(daoMethod.getReturnType())));
+  }
+
+  private static String tagJson(String tagFQN) throws JsonProcessingException {
+    return JsonUtils.pojoToJson(new Tag().withName(tagFQN.substring(tagFQN.lastIndexOf('.') + 1))
+            .withFullyQualifiedName(tagFQN).withDescription("Tag " + tagFQN));
+  }
+
+  private static Object emptyResult(Class<?> type) {
+    if (type == List.class) {
+      return new ArrayList<>();
+    } else if (type == int.class) {
+      return 0;
+    } else if (type == long.class) {
+      return 0L;
+    } else if (type == boolean.class) {
+      return false;
+    } else if (type == double.class) {
+      return 0.0;
+    }
+    return null;
+  }
+}
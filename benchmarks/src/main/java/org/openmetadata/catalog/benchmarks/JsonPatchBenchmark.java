@@ -0,0 +1,77 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openmetadata.catalog.entity.data.Table;
+import org.openmetadata.catalog.type.Column;
+import org.openmetadata.catalog.util.JsonUtils;
+
+import javax.json.Json;
+import javax.json.JsonPatch;
+import javax.json.JsonReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applying a JSON patch to a table as done by PATCH requests. The patch updates the description of the table and of
+ * 10% of the columns.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonPatchBenchmark {
+  @Param({"10", "100", "1000", "10000"})
+  public int columns;
+
+  private Table table;
+  private JsonPatch patch;
+
+  @Setup
+  public void setup() throws IOException {
+    table = Fixtures.table("table", columns, 2);
+    String original = JsonUtils.pojoToJson(table);
+    Table updated = JsonUtils.readValue(original, Table.class).withDescription("Updated description");
+    for (int i = 0; i < columns; i += 10) {
+      Column column = updated.getColumns().get(i);
+      column.setDescription("Updated " + column.getDescription());
+    }
+    try (JsonReader reader = Json.createReader(new StringReader(
+            JsonUtils.getJsonPatch(original, JsonUtils.pojoToJson(updated))))) {
+      patch = Json.createPatch(reader.readArray());
+    }
+  }
+
+  @Benchmark
+  public Table applyPatch() {
+    return JsonUtils.applyPatch(table, patch, Table.class);
+  }
+}
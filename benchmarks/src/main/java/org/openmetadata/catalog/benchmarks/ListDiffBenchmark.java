@@ -0,0 +1,108 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openmetadata.catalog.jdbi3.TableRepository;
+import org.openmetadata.catalog.type.Column;
+import org.openmetadata.catalog.type.ColumnDataType;
+import org.openmetadata.catalog.util.EntityUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares the hashed list diff used by {@code EntityUpdater.recordListChange} with the nested linear search it
+ * replaced, on column lists of a table where 10% of the columns are dropped and 10% are added.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListDiffBenchmark {
+  @Param({"10", "100", "1000", "10000"})
+  public int size;
+
+  private List<Column> origColumns;
+  private List<Column> updatedColumns;
+
+  @Setup
+  public void setup() {
+    origColumns = new ArrayList<>(size);
+    updatedColumns = new ArrayList<>(size);
+    int changed = Math.max(1, size / 10);
+    for (int i = 0; i < size; i++) {
+      origColumns.add(column("c" + i, i));
+      updatedColumns.add(i < changed ? column("new" + i, i) : column("c" + i, i));
+    }
+  }
+
+  @Benchmark
+  public void hashedDiff(Blackhole blackhole) {
+    List<Column> added = new ArrayList<>();
+    List<Column> deleted = new ArrayList<>();
+    EntityUtil.diffLists(origColumns, updatedColumns, TableRepository.columnMatch, added, deleted);
+    blackhole.consume(added);
+    blackhole.consume(deleted);
+  }
+
+  @Benchmark
+  public void nestedLoopDiff(Blackhole blackhole) {
+    List<Column> added = new ArrayList<>();
+    List<Column> deleted = new ArrayList<>();
+    nestedLoopDiff(origColumns, updatedColumns, TableRepository.columnMatch, added, deleted);
+    blackhole.consume(added);
+    blackhole.consume(deleted);
+  }
+
+  /** Quadratic list diff that matches each item with a linear search of the other list */
+  static <K> void nestedLoopDiff(List<K> origList, List<K> updatedList, Function<K, ?> matchKey,
+                                 List<K> addedItems, List<K> deletedItems) {
+    for (K stored : origList) {
+      Object key = matchKey.apply(stored);
+      if (updatedList.stream().noneMatch(c -> matchKey.apply(c).equals(key))) {
+        deletedItems.add(stored);
+      }
+    }
+    for (K updated : updatedList) {
+      Object key = matchKey.apply(updated);
+      if (origList.stream().noneMatch(c -> matchKey.apply(c).equals(key))) {
+        addedItems.add(updated);
+      }
+    }
+  }
+
+  static Column column(String name, int ordinalPosition) {
+    return new Column().withName(name).withDataType(ColumnDataType.BIGINT).withOrdinalPosition(ordinalPosition)
+            .withFullyQualifiedName("service.database.table." + name);
+  }
+}
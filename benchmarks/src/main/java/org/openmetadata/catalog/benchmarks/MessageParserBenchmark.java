@@ -0,0 +1,92 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openmetadata.catalog.resources.feeds.MessageParser;
+import org.openmetadata.catalog.resources.feeds.MessageParser.EntityLink;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the single pass entity link parser in {@link MessageParser} with the regular expression it replaced, on
+ * messages of increasing length. A {@code mentions} message is text with an entity link every few words, and an
+ * {@code unclosedLinks} message has links without the closing '>', for which the regular expression backtracks
+ * through every way of splitting the link before giving up. A single unclosed link of a few thousand characters
+ * takes the regular expression minutes, so the links here are short.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageParserBenchmark {
+  private static final Pattern ENTITY_LINK_PATTERN =
+          Pattern.compile("<#E/([^<>]+?)/([^<>]+?)(/([^<>]+?))?(/([^<>]+?))?>");
+
+  @Param({"100", "1000", "10000"})
+  public int messageLength;
+
+  @Param({"mentions", "unclosedLinks"})
+  public String shape;
+
+  private String message;
+
+  @Setup
+  public void setup() {
+    String[] parts = shape.equals("mentions") ?
+            new String[] {"Please review ", "<#E/table/service.db.table%d> ", "and the column ",
+                    "<#E/table/service.db.table%d/columns/c%d> ", "owned by ", "<#E/user/user%d> ",
+                    "with <angle> text. "} :
+            new String[] {"<#E/table/service/db/table%d/columns/c%d/tags/t%d "};
+    StringBuilder builder = new StringBuilder(messageLength + 64);
+    for (int i = 0; builder.length() < messageLength; i++) {
+      builder.append(String.format(parts[i % parts.length], i, i, i));
+    }
+    message = builder.toString();
+  }
+
+  @Benchmark
+  public List<EntityLink> parser() {
+    return MessageParser.getEntityLinks(message);
+  }
+
+  @Benchmark
+  public List<EntityLink> regex() {
+    List<EntityLink> links = new ArrayList<>();
+    Matcher matcher = ENTITY_LINK_PATTERN.matcher(message);
+    while (matcher.find()) {
+      links.add(new EntityLink(matcher.group(1), matcher.group(2), matcher.group(4), matcher.group(6)));
+    }
+    return links;
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openmetadata.catalog.entity.data.Table;
+import org.openmetadata.catalog.util.JsonUtils;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/** Serialization and deserialization of tables of increasing size, as done on every table read and write */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TableJsonBenchmark {
+  @Param({"10", "100", "1000", "10000"})
+  public int columns;
+
+  private Table table;
+  private String json;
+
+  @Setup
+  public void setup() throws IOException {
+    table = Fixtures.table("table", columns, 2);
+    json = JsonUtils.pojoToJson(table);
+  }
+
+  @Benchmark
+  public String pojoToJson() throws IOException {
+    return JsonUtils.pojoToJson(table);
+  }
+
+  @Benchmark
+  public Table readValue() throws IOException {
+    return JsonUtils.readValue(json, Table.class);
+  }
+}
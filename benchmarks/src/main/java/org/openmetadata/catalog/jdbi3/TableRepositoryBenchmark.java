@@ -0,0 +1,94 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openmetadata.catalog.benchmarks.Fixtures;
+import org.openmetadata.catalog.entity.data.Table;
+import org.openmetadata.catalog.jdbi3.EntityRepository.EntityUpdater;
+import org.openmetadata.catalog.type.ChangeDescription;
+import org.openmetadata.catalog.type.Column;
+import org.openmetadata.catalog.util.JsonUtils;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Table update code paths that don't need the database: stripping tags from columns before storing a table, and
+ * diffing a table in a PUT request with the stored one. In the updated table, 10% of the columns are replaced and
+ * 10% have a new description. The benchmark is in this package to reach package private TableRepository methods.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TableRepositoryBenchmark {
+  @Param({"10", "100", "1000", "10000"})
+  public int columns;
+
+  private TableRepository repository;
+  private Table original;
+  private String updatedJson;
+
+  @Setup
+  public void setup() throws IOException {
+    repository = new TableRepository(Fixtures.noDatabase());
+    original = Fixtures.table("table", columns, 2);
+    Table updated = JsonUtils.readValue(JsonUtils.pojoToJson(original), Table.class);
+    List<Column> updatedColumns = updated.getColumns();
+    for (int i = 0; i < columns; i += 10) {
+      updatedColumns.set(i, Fixtures.column(original.getFullyQualifiedName(), "new" + i, i, 2));
+      if (i + 5 < columns) {
+        updatedColumns.get(i + 5).setDescription("Updated description");
+      }
+    }
+    updatedJson = JsonUtils.pojoToJson(updated);
+  }
+
+  @Benchmark
+  public List<Column> cloneWithoutTags() {
+    return repository.cloneWithoutTags(original.getColumns());
+  }
+
+  @Benchmark
+  public ChangeDescription entityUpdater() throws IOException {
+    // The updater changes the updated table, so each invocation updates a fresh copy
+    Table updated = JsonUtils.readValue(updatedJson, Table.class);
+    EntityUpdater updater = repository.getUpdater(original, updated, false);
+    updater.update();
+    return updater.changeDescription;
+  }
+
+  @Benchmark
+  public Table readUpdatedTable() throws IOException {
+    // Cost of copying the updated table included in entityUpdater
+    return JsonUtils.readValue(updatedJson, Table.class);
+  }
+}
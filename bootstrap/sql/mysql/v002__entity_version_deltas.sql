@@ -0,0 +1,6 @@
+--
+-- Entity versions in entity_extension are stored either as a full copy of the entity or as an RFC 6902 JSON patch
+-- against a full copy. baseExtension is the extension of that full copy and is NULL for full copies.
+--
+ALTER TABLE entity_extension ADD COLUMN baseExtension VARCHAR(256) DEFAULT NULL;
+ALTER TABLE entity_extension ADD INDEX baseExtensionIdx (id, baseExtension);
@@ -0,0 +1,22 @@
+--
+-- Version metadata of the entity versions in entity_extension, used for listing the version history without reading
+-- the entity json. The columns are NULL for other extensions such as table sample data.
+--
+ALTER TABLE entity_extension ADD COLUMN version DOUBLE DEFAULT NULL;
+ALTER TABLE entity_extension ADD COLUMN updatedAt BIGINT DEFAULT NULL;
+ALTER TABLE entity_extension ADD COLUMN updatedBy VARCHAR(256) DEFAULT NULL;
+ALTER TABLE entity_extension ADD COLUMN changeDescription JSON DEFAULT NULL;
+ALTER TABLE entity_extension ADD INDEX versionIdx (id, version);
+
+-- Full copies carry their own metadata. Deltas are filled in by migration V005
+UPDATE entity_extension
+SET version = CAST(SUBSTRING(extension, LOCATE('.version.', extension) + 9) AS DECIMAL(10, 1))
+WHERE extension LIKE '%.version.%';
+
+-- Dates in the json are written by RestUtil.DATE_TIME_FORMAT with the milliseconds in the six digit fraction
+UPDATE entity_extension
+SET updatedAt = TIMESTAMPDIFF(SECOND, '1970-01-01', STR_TO_DATE(json ->> '$.updatedAt', '%Y-%m-%dT%T.%fZ')) * 1000 +
+                MICROSECOND(STR_TO_DATE(json ->> '$.updatedAt', '%Y-%m-%dT%T.%fZ')),
+    updatedBy = json ->> '$.updatedBy',
+    changeDescription = json -> '$.changeDescription'
+WHERE extension LIKE '%.version.%' AND baseExtension IS NULL;
@@ -0,0 +1,4 @@
+--
+-- Index for looking up the version of an entity that was current at a given time
+--
+ALTER TABLE entity_extension ADD INDEX versionUpdatedAtIdx (id, updatedAt);
@@ -0,0 +1,19 @@
+--
+-- Time of the last post in a thread, used for listing the threads from the most recently active one
+--
+ALTER TABLE thread_entity ADD COLUMN updatedAt BIGINT NOT NULL DEFAULT 0;
+
+-- The path of the last post is built from the number of posts, since the '[last]' path needs MySQL 8.0
+UPDATE thread_entity
+SET json = JSON_SET(json, '$.updatedAt', COALESCE(
+        IF(JSON_LENGTH(json, '$.posts') > 0,
+           JSON_UNQUOTE(JSON_EXTRACT(json, CONCAT('$.posts[', JSON_LENGTH(json, '$.posts') - 1, '].postTs'))), NULL),
+        JSON_UNQUOTE(JSON_EXTRACT(json, '$.threadTs'))));
+
+-- Dates in the json are written by RestUtil.DATE_TIME_FORMAT with the milliseconds in the six digit fraction
+UPDATE thread_entity
+SET updatedAt = TIMESTAMPDIFF(SECOND, '1970-01-01', STR_TO_DATE(json ->> '$.updatedAt', '%Y-%m-%dT%T.%fZ')) * 1000 +
+                MICROSECOND(STR_TO_DATE(json ->> '$.updatedAt', '%Y-%m-%dT%T.%fZ'))
+WHERE json ->> '$.updatedAt' IS NOT NULL;
+
+ALTER TABLE thread_entity ADD INDEX updatedAtIdx (updatedAt, id);
@@ -0,0 +1,18 @@
+--
+-- Materialized feed of each user, see CollectionDAO.UserFeedDAO
+--
+CREATE TABLE IF NOT EXISTS user_feed (
+    userId VARCHAR(36) NOT NULL,
+    threadId VARCHAR(36) NOT NULL,
+    updatedAt BIGINT NOT NULL,                  -- Time of the last post in the thread
+    PRIMARY KEY (userId, threadId),
+    INDEX userFeedIdx (userId, updatedAt, threadId)
+);
+
+-- Threads created before user_feed was introduced. They are added to user_feed in the background by UserFeedBackfill
+CREATE TABLE IF NOT EXISTS user_feed_backfill (
+    threadId VARCHAR(36) NOT NULL,
+    PRIMARY KEY (threadId)
+);
+
+INSERT INTO user_feed_backfill (threadId) SELECT id FROM thread_entity;
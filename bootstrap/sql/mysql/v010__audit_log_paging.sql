@@ -0,0 +1,18 @@
+--
+-- Audit log entries are listed by time, optionally for a user or an entity type, and paged by (timestamp, id)
+--
+ALTER TABLE audit_log
+    ADD COLUMN id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY FIRST;
+
+-- Time of the entry in milliseconds since epoch from dateTime, which is written as yyyy-MM-dd'T'HH:mm:ss.SSSSSS'Z'
+UPDATE audit_log
+SET timestamp = COALESCE(
+    TIMESTAMPDIFF(SECOND, '1970-01-01', STR_TO_DATE(json ->> '$.dateTime', '%Y-%m-%dT%T.%fZ')) * 1000 +
+    MICROSECOND(STR_TO_DATE(json ->> '$.dateTime', '%Y-%m-%dT%T.%fZ')), 0)
+WHERE timestamp IS NULL;
+
+ALTER TABLE audit_log
+    MODIFY timestamp BIGINT NOT NULL,
+    ADD INDEX timestampIdx (timestamp, id),
+    ADD INDEX usernameIdx (username, timestamp, id),
+    ADD INDEX entityTypeIdx (entityType, timestamp, id);
@@ -0,0 +1,51 @@
+--
+-- Dictionary of the entity type names used in entity_relationship
+--
+CREATE TABLE IF NOT EXISTS entity_type (
+    id SMALLINT UNSIGNED NOT NULL AUTO_INCREMENT,
+    name VARCHAR(64) NOT NULL,                  -- Type name of the entity, such as table or user
+    PRIMARY KEY (id),
+    UNIQUE KEY nameIdx (name)
+);
+
+-- The entity types of the catalog are added up front, so that their relationships are inserted without checking for
+-- their types. Keep in step with EntityRelationshipDAO.SEEDED_ENTITY_TYPES
+INSERT INTO entity_type(name) VALUES
+    ('databaseService'), ('messagingService'), ('dashboardService'), ('pipelineService'), ('storageService'),
+    ('table'), ('database'), ('metrics'), ('dashboard'), ('pipeline'), ('chart'), ('report'), ('topic'), ('model'),
+    ('bots'), ('location'), ('policy'), ('user'), ('team'), ('thread');
+
+INSERT INTO entity_type(name)
+SELECT r.name FROM (
+    SELECT fromEntity AS name FROM entity_relationship
+    UNION SELECT toEntity FROM entity_relationship
+) r LEFT JOIN entity_type e ON e.name = r.name
+WHERE e.id IS NULL;
+
+--
+-- Entity ids are stored as BINARY(16) instead of VARCHAR(36) and entity types as ids of entity_type. The primary key
+-- (fromId, relation, toId) also serves the lookups by fromId and (fromId, relation) so edgeIdx and fromIdx are dropped.
+-- The secondary index on toId carries the compact primary key instead of two 36 character ids.
+--
+CREATE TABLE entity_relationship_binary (
+    fromId BINARY(16) NOT NULL,                 -- ID of the from entity
+    toId BINARY(16) NOT NULL,                   -- ID of the to entity
+    fromEntity SMALLINT UNSIGNED NOT NULL,      -- entity_type id of the from entity
+    toEntity SMALLINT UNSIGNED NOT NULL,        -- entity_type id of the to entity
+    relation TINYINT NOT NULL,
+    jsonSchema VARCHAR(256),                    -- Schema used for generating JSON
+    json JSON,                                  -- JSON payload with additional information
+    timestamp BIGINT,
+    INDEX toIdx (toId, relation),
+    PRIMARY KEY (fromId, relation, toId)
+);
+
+INSERT INTO entity_relationship_binary(fromId, toId, fromEntity, toEntity, relation, jsonSchema, json, timestamp)
+SELECT UNHEX(REPLACE(r.fromId, '-', '')), UNHEX(REPLACE(r.toId, '-', '')), f.id, t.id, r.relation, r.jsonSchema,
+       r.json, r.timestamp
+FROM entity_relationship r
+JOIN entity_type f ON f.name = r.fromEntity
+JOIN entity_type t ON t.name = r.toEntity;
+
+RENAME TABLE entity_relationship TO entity_relationship_v010, entity_relationship_binary TO entity_relationship;
+DROP TABLE entity_relationship_v010;
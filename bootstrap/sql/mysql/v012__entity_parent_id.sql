@@ -0,0 +1,64 @@
+--
+-- Entities that belong to a parent store the id of the parent, set on write, and are listed by parent in the order of
+-- their fully qualified name. Existing entities get the parent from the contains relationship (relation 0) of the
+-- parent, whose id is stored as BINARY(16) since v011.
+--
+ALTER TABLE table_entity
+    ADD COLUMN databaseId VARCHAR(36) DEFAULT NULL,
+    ADD INDEX databaseIdIdx (databaseId, fullyQualifiedName);
+
+UPDATE table_entity e
+JOIN entity_relationship r ON r.toId = UNHEX(REPLACE(e.id, '-', '')) AND r.relation = 0
+JOIN entity_type p ON p.id = r.fromEntity AND p.name = 'database'
+SET e.databaseId =
+    LOWER(INSERT(INSERT(INSERT(INSERT(HEX(r.fromId), 9, 0, '-'), 14, 0, '-'), 19, 0, '-'), 24, 0, '-'));
+
+ALTER TABLE database_entity
+    ADD COLUMN serviceId VARCHAR(36) DEFAULT NULL,
+    ADD INDEX serviceIdIdx (serviceId, fullyQualifiedName);
+
+UPDATE database_entity e
+JOIN entity_relationship r ON r.toId = UNHEX(REPLACE(e.id, '-', '')) AND r.relation = 0
+JOIN entity_type p ON p.id = r.fromEntity AND p.name = 'databaseService'
+SET e.serviceId =
+    LOWER(INSERT(INSERT(INSERT(INSERT(HEX(r.fromId), 9, 0, '-'), 14, 0, '-'), 19, 0, '-'), 24, 0, '-'));
+
+ALTER TABLE chart_entity
+    ADD COLUMN serviceId VARCHAR(36) DEFAULT NULL,
+    ADD INDEX serviceIdIdx (serviceId, fullyQualifiedName);
+
+UPDATE chart_entity e
+JOIN entity_relationship r ON r.toId = UNHEX(REPLACE(e.id, '-', '')) AND r.relation = 0
+JOIN entity_type p ON p.id = r.fromEntity AND p.name = 'dashboardService'
+SET e.serviceId =
+    LOWER(INSERT(INSERT(INSERT(INSERT(HEX(r.fromId), 9, 0, '-'), 14, 0, '-'), 19, 0, '-'), 24, 0, '-'));
+
+ALTER TABLE dashboard_entity
+    ADD COLUMN serviceId VARCHAR(36) DEFAULT NULL,
+    ADD INDEX serviceIdIdx (serviceId, fullyQualifiedName);
+
+UPDATE dashboard_entity e
+JOIN entity_relationship r ON r.toId = UNHEX(REPLACE(e.id, '-', '')) AND r.relation = 0
+JOIN entity_type p ON p.id = r.fromEntity AND p.name = 'dashboardService'
+SET e.serviceId =
+    LOWER(INSERT(INSERT(INSERT(INSERT(HEX(r.fromId), 9, 0, '-'), 14, 0, '-'), 19, 0, '-'), 24, 0, '-'));
+
+ALTER TABLE pipeline_entity
+    ADD COLUMN serviceId VARCHAR(36) DEFAULT NULL,
+    ADD INDEX serviceIdIdx (serviceId, fullyQualifiedName);
+
+UPDATE pipeline_entity e
+JOIN entity_relationship r ON r.toId = UNHEX(REPLACE(e.id, '-', '')) AND r.relation = 0
+JOIN entity_type p ON p.id = r.fromEntity AND p.name = 'pipelineService'
+SET e.serviceId =
+    LOWER(INSERT(INSERT(INSERT(INSERT(HEX(r.fromId), 9, 0, '-'), 14, 0, '-'), 19, 0, '-'), 24, 0, '-'));
+
+ALTER TABLE topic_entity
+    ADD COLUMN serviceId VARCHAR(36) DEFAULT NULL,
+    ADD INDEX serviceIdIdx (serviceId, fullyQualifiedName);
+
+UPDATE topic_entity e
+JOIN entity_relationship r ON r.toId = UNHEX(REPLACE(e.id, '-', '')) AND r.relation = 0
+JOIN entity_type p ON p.id = r.fromEntity AND p.name = 'messagingService'
+SET e.serviceId =
+    LOWER(INSERT(INSERT(INSERT(INSERT(HEX(r.fromId), 9, 0, '-'), 14, 0, '-'), 19, 0, '-'), 24, 0, '-'));
@@ -0,0 +1,13 @@
+--
+-- Columns of tables are stored apart from the table json, one row per top level column with its nested children, so
+-- that wide tables are read, paged and updated a column at a time. Columns of existing tables are moved by V014.
+--
+CREATE TABLE IF NOT EXISTS table_column (
+    tableId VARCHAR(36) NOT NULL,
+    ordinal INT NOT NULL,
+    name VARCHAR(256) NOT NULL,
+    fullyQualifiedName VARCHAR(512) NOT NULL,
+    json JSON NOT NULL,
+    PRIMARY KEY (tableId, ordinal),
+    INDEX fullyQualifiedNameIdx (fullyQualifiedName)
+);
@@ -0,0 +1,12 @@
+--
+-- Table profiles are stored one row per table and profile date instead of as one growing json array per table in
+-- entity_extension, so that a day's profile is added without rewriting the others and reads are limited to a date
+-- range. Profiles stored in entity_extension are moved by V016.
+--
+CREATE TABLE IF NOT EXISTS table_profile (
+    tableId VARCHAR(36) NOT NULL,
+    profileDate DATE NOT NULL,
+    json JSON NOT NULL,
+    PRIMARY KEY (tableId, profileDate),
+    INDEX profileDateIdx (profileDate)
+);
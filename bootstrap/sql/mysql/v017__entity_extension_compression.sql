@@ -0,0 +1,8 @@
+--
+-- Large extensions such as the sample data of tables are stored compressed in compressedJson, with the codec used in
+-- codec and json left empty. Existing extensions stay as json and are compressed when they are next written.
+--
+ALTER TABLE entity_extension
+    MODIFY COLUMN json JSON DEFAULT NULL,
+    ADD COLUMN compressedJson LONGBLOB DEFAULT NULL,
+    ADD COLUMN codec VARCHAR(16) DEFAULT NULL;
@@ -0,0 +1,16 @@
+--
+-- Summary of the joins of each table column, with the join count of the last 30 days and the earliest day counted,
+-- kept in both directions of a column pair so that the joins of a table are read with a single indexed lookup. The
+-- daily join counts remain in field_relationship. Existing joins are summarized by V019.
+--
+CREATE TABLE IF NOT EXISTS column_join (
+    columnFQN VARCHAR(256) NOT NULL,
+    joinedFQN VARCHAR(256) NOT NULL,
+    tableFQN VARCHAR(256) NOT NULL,
+    joinedTableFQN VARCHAR(256) NOT NULL,
+    joinCount INT NOT NULL,
+    firstDay INT DEFAULT NULL,
+    PRIMARY KEY (columnFQN, joinedFQN),
+    INDEX tableFQNIdx (tableFQN, joinedTableFQN),
+    INDEX firstDayIdx (firstDay)
+);
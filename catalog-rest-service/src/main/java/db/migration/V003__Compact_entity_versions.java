@@ -0,0 +1,101 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.openmetadata.catalog.jdbi3.EntityVersionStore;
+import org.openmetadata.catalog.util.EntityUtil;
+import org.openmetadata.catalog.util.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Rewrites entity versions stored as full copies before delta encoding was introduced into snapshots and JSON patches,
+ * using the snapshot interval configured for {@link EntityVersionStore}. Flyway runs before the application sets that
+ * interval, so it is passed in as the {@link EntityVersionStore#SNAPSHOT_INTERVAL_PLACEHOLDER} placeholder, and the
+ * default interval is used when the placeholder is not set.
+ */
+public class V003__Compact_entity_versions extends BaseJavaMigration {
+  private static final Logger LOG = LoggerFactory.getLogger(V003__Compact_entity_versions.class);
+
+  @Override
+  public void migrate(Context context) throws Exception {
+    Connection connection = context.getConnection();
+    int snapshotInterval = getSnapshotInterval(context);
+    List<String> ids = new ArrayList<>();
+    try (PreparedStatement select = connection.prepareStatement("SELECT DISTINCT id FROM entity_extension " +
+            "WHERE extension LIKE '%.version.%' AND baseExtension IS NULL");
+         ResultSet rs = select.executeQuery()) {
+      while (rs.next()) {
+        ids.add(rs.getString("id"));
+      }
+    }
+    LOG.info("Compacting version history of {} entities with snapshot interval {}", ids.size(), snapshotInterval);
+    for (String id : ids) {
+      compact(connection, id, snapshotInterval);
+    }
+  }
+
+  static int getSnapshotInterval(Context context) {
+    String interval = context.getConfiguration().getPlaceholders()
+            .get(EntityVersionStore.SNAPSHOT_INTERVAL_PLACEHOLDER);
+    return interval == null ? EntityVersionStore.DEFAULT_SNAPSHOT_INTERVAL : Integer.parseInt(interval);
+  }
+
+  private void compact(Connection connection, String id, int snapshotInterval) throws SQLException {
+    List<String[]> versions = new ArrayList<>(); // List of [extension, json]
+    try (PreparedStatement select = connection.prepareStatement("SELECT extension, json FROM entity_extension " +
+            "WHERE id = ? AND extension LIKE '%.version.%'")) {
+      select.setString(1, id);
+      try (ResultSet rs = select.executeQuery()) {
+        while (rs.next()) {
+          versions.add(new String[] {rs.getString("extension"), rs.getString("json")});
+        }
+      }
+    }
+    versions.sort(Comparator.comparing(v -> EntityUtil.getVersion(v[0])));
+
+    try (PreparedStatement update = connection.prepareStatement("UPDATE entity_extension " +
+            "SET json = ?, baseExtension = ? WHERE id = ? AND extension = ?")) {
+      String[] snapshot = null;
+      int deltaCount = 0;
+      for (String[] version : versions) {
+        if (snapshot == null || EntityVersionStore.isSnapshotDue(deltaCount, snapshotInterval)) {
+          snapshot = version; // Keep the full copy
+          deltaCount = 0;
+          continue;
+        }
+        update.setString(1, JsonUtils.getJsonPatch(snapshot[1], version[1]));
+        update.setString(2, snapshot[0]);
+        update.setString(3, id);
+        update.setString(4, version[0]);
+        update.addBatch();
+        deltaCount++;
+      }
+      update.executeBatch();
+    }
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package db.migration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.openmetadata.catalog.util.JsonUtils;
+import org.openmetadata.catalog.util.RestUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fills in the version metadata columns added in v004 for entity versions stored as JSON patch. Version metadata of
+ * full copies is extracted in v004 itself.
+ */
+public class V005__Backfill_entity_version_metadata extends BaseJavaMigration {
+  private static final Logger LOG = LoggerFactory.getLogger(V005__Backfill_entity_version_metadata.class);
+
+  @Override
+  public void migrate(Context context) throws Exception {
+    Connection connection = context.getConnection();
+    Map<String, String> snapshots = new HashMap<>(); // Snapshot json indexed by id and extension
+    int count = 0;
+    try (PreparedStatement select = connection.prepareStatement("SELECT id, extension, json, baseExtension " +
+            "FROM entity_extension WHERE version IS NOT NULL AND baseExtension IS NOT NULL ORDER BY id");
+         PreparedStatement snapshot = connection.prepareStatement("SELECT json FROM entity_extension " +
+                 "WHERE id = ? AND extension = ?");
+         PreparedStatement update = connection.prepareStatement("UPDATE entity_extension " +
+                 "SET updatedAt = ?, updatedBy = ?, changeDescription = ? WHERE id = ? AND extension = ?");
+         ResultSet rs = select.executeQuery()) {
+      String currentId = null;
+      while (rs.next()) {
+        String id = rs.getString("id");
+        if (!id.equals(currentId)) {
+          snapshots.clear(); // Snapshots of an entity are only needed while its versions are migrated
+          currentId = id;
+        }
+        String baseExtension = rs.getString("baseExtension");
+        String base = snapshots.get(baseExtension);
+        if (base == null) {
+          base = getSnapshot(snapshot, id, baseExtension);
+          snapshots.put(baseExtension, base);
+        }
+        JsonNode version = JsonUtils.readValue(JsonUtils.applyJsonPatch(base, rs.getString("json")), JsonNode.class);
+        JsonNode updatedAt = version.get("updatedAt");
+        if (updatedAt == null) {
+          update.setNull(1, Types.BIGINT);
+        } else {
+          update.setLong(1, RestUtil.DATE_TIME_FORMAT.parse(updatedAt.asText()).getTime());
+        }
+        update.setString(2, version.has("updatedBy") ? version.get("updatedBy").asText() : null);
+        update.setString(3, version.has("changeDescription") ? version.get("changeDescription").toString() : null);
+        update.setString(4, id);
+        update.setString(5, rs.getString("extension"));
+        update.addBatch();
+        count++;
+      }
+      update.executeBatch();
+    }
+    LOG.info("Backfilled version metadata of {} entity versions", count);
+  }
+
+  private static String getSnapshot(PreparedStatement snapshot, String id, String extension) throws Exception {
+    snapshot.setString(1, id);
+    snapshot.setString(2, extension);
+    try (ResultSet rs = snapshot.executeQuery()) {
+      rs.next();
+      return rs.getString("json");
+    }
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package db.migration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.openmetadata.catalog.util.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Posts of a thread are stored as rows appended to thread_post instead of in the json of thread_entity. The json in
+ * thread_entity is the thread header without posts, and postCount is used for allocating seq of the next post.
+ * Threads are migrated a page at a time in the order of their id.
+ */
+public class V008__Move_thread_posts extends BaseJavaMigration {
+  private static final Logger LOG = LoggerFactory.getLogger(V008__Move_thread_posts.class);
+  private static final int PAGE_SIZE = 100;
+
+  @Override
+  public void migrate(Context context) throws Exception {
+    Connection connection = context.getConnection();
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE IF NOT EXISTS thread_post (" +
+              "threadId VARCHAR(36) NOT NULL, " +
+              "seq INT NOT NULL, " + // Sequence number of the post in the thread starting with 1
+              "json JSON NOT NULL, " +
+              "PRIMARY KEY (threadId, seq))");
+      statement.execute("ALTER TABLE thread_entity ADD COLUMN postCount INT NOT NULL DEFAULT 0");
+    }
+
+    int threadCount = 0;
+    int postCount = 0;
+    try (PreparedStatement select = connection.prepareStatement("SELECT id, json FROM thread_entity WHERE id > ? " +
+            "ORDER BY id LIMIT " + PAGE_SIZE);
+         PreparedStatement insert = connection.prepareStatement("INSERT INTO thread_post(threadId, seq, json) " +
+                 "VALUES (?, ?, ?)");
+         PreparedStatement update = connection.prepareStatement("UPDATE thread_entity SET json = ?, postCount = ? " +
+                 "WHERE id = ?")) {
+      String lastId = "";
+      int pageCount;
+      do {
+        pageCount = 0;
+        select.setString(1, lastId);
+        try (ResultSet rs = select.executeQuery()) {
+          while (rs.next()) {
+            lastId = rs.getString("id");
+            pageCount++;
+            ObjectNode thread = (ObjectNode) JsonUtils.readValue(rs.getString("json"), JsonNode.class);
+            JsonNode posts = thread.remove("posts");
+            int count = posts == null ? 0 : posts.size();
+            for (int seq = 1; seq <= count; seq++) {
+              insert.setString(1, lastId);
+              insert.setInt(2, seq);
+              insert.setString(3, posts.get(seq - 1).toString());
+              insert.addBatch();
+            }
+            thread.putArray("posts");
+            thread.put("postCount", count);
+            update.setString(1, thread.toString());
+            update.setInt(2, count);
+            update.setString(3, lastId);
+            update.addBatch();
+            threadCount++;
+            postCount += count;
+          }
+        }
+        insert.executeBatch();
+        update.executeBatch();
+      } while (pageCount == PAGE_SIZE);
+    }
+    LOG.info("Moved {} posts of {} threads", postCount, threadCount);
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package db.migration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.openmetadata.catalog.util.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * Moves the columns of tables from the table json to the table_column table created in v013. Tables are migrated a
+ * page at a time in the order of their id.
+ */
+public class V014__Move_table_columns extends BaseJavaMigration {
+  private static final Logger LOG = LoggerFactory.getLogger(V014__Move_table_columns.class);
+  private static final int PAGE_SIZE = 100;
+
+  @Override
+  public void migrate(Context context) throws Exception {
+    Connection connection = context.getConnection();
+    int tableCount = 0;
+    int columnCount = 0;
+    try (PreparedStatement select = connection.prepareStatement("SELECT id, json FROM table_entity WHERE id > ? " +
+            "ORDER BY id LIMIT " + PAGE_SIZE);
+         PreparedStatement insert = connection.prepareStatement("INSERT INTO table_column(tableId, ordinal, name, " +
+                 "fullyQualifiedName, json) VALUES (?, ?, ?, ?, ?)");
+         PreparedStatement update = connection.prepareStatement("UPDATE table_entity SET json = ? WHERE id = ?")) {
+      String lastId = "";
+      int pageCount;
+      do {
+        pageCount = 0;
+        select.setString(1, lastId);
+        try (ResultSet rs = select.executeQuery()) {
+          while (rs.next()) {
+            lastId = rs.getString("id");
+            pageCount++;
+            ObjectNode table = (ObjectNode) JsonUtils.readValue(rs.getString("json"), JsonNode.class);
+            JsonNode columns = table.remove("columns");
+            if (columns == null) {
+              continue;
+            }
+            for (int ordinal = 0; ordinal < columns.size(); ordinal++) {
+              JsonNode column = columns.get(ordinal);
+              String name = column.get("name").asText();
+              insert.setString(1, lastId);
+              insert.setInt(2, ordinal);
+              insert.setString(3, name);
+              insert.setString(4, column.has("fullyQualifiedName") ? column.get("fullyQualifiedName").asText() :
+                      table.get("fullyQualifiedName").asText() + "." + name);
+              insert.setString(5, column.toString());
+              insert.addBatch();
+            }
+            update.setString(1, table.toString());
+            update.setString(2, lastId);
+            update.addBatch();
+            tableCount++;
+            columnCount += columns.size();
+          }
+        }
+        insert.executeBatch();
+        update.executeBatch();
+      } while (pageCount == PAGE_SIZE);
+    }
+    LOG.info("Moved {} columns of {} tables", columnCount, tableCount);
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package db.migration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.openmetadata.catalog.util.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * Moves the table profiles stored as one json array per table in entity_extension to the table_profile table created
+ * in v015, one row per table and profile date.
+ */
+public class V016__Move_table_profiles extends BaseJavaMigration {
+  private static final Logger LOG = LoggerFactory.getLogger(V016__Move_table_profiles.class);
+
+  @Override
+  public void migrate(Context context) throws Exception {
+    Connection connection = context.getConnection();
+    int tableCount = 0;
+    int profileCount = 0;
+    try (PreparedStatement select = connection.prepareStatement("SELECT id, json FROM entity_extension " +
+            "WHERE extension = 'table.tableProfile'");
+         PreparedStatement insert = connection.prepareStatement("INSERT INTO table_profile(tableId, profileDate, " +
+                 "json) VALUES (?, ?, ?) ON DUPLICATE KEY UPDATE json = VALUES(json)");
+         ResultSet rs = select.executeQuery()) {
+      while (rs.next()) {
+        JsonNode profiles = JsonUtils.readValue(rs.getString("json"), JsonNode.class);
+        for (JsonNode profile : profiles) {
+          insert.setString(1, rs.getString("id"));
+          insert.setString(2, profile.get("profileDate").asText());
+          insert.setString(3, profile.toString());
+          insert.addBatch();
+          profileCount++;
+        }
+        insert.executeBatch();
+        tableCount++;
+      }
+    }
+    try (PreparedStatement delete = connection.prepareStatement("DELETE FROM entity_extension " +
+            "WHERE extension = 'table.tableProfile'")) {
+      delete.executeUpdate();
+    }
+    LOG.info("Moved {} table profiles of {} tables", profileCount, tableCount);
+  }
+}
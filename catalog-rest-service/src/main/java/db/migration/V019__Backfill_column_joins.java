@@ -0,0 +1,96 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package db.migration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.openmetadata.catalog.util.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDate;
+
+/**
+ * Summarizes the daily join counts of table columns stored in field_relationship into the column_join table created
+ * in v018, one row for each direction of a column pair.
+ */
+public class V019__Backfill_column_joins extends BaseJavaMigration {
+  private static final Logger LOG = LoggerFactory.getLogger(V019__Backfill_column_joins.class);
+  private static final int JOIN_DAYS = 30;
+  private static final int BATCH_SIZE = 1000;
+
+  @Override
+  public void migrate(Context context) throws Exception {
+    Connection connection = context.getConnection();
+    long firstDay = LocalDate.now().toEpochDay() - JOIN_DAYS + 1;
+    int joinCount = 0;
+    try (PreparedStatement select = connection.prepareStatement("SELECT fromFQN, toFQN, json " +
+            "FROM field_relationship WHERE fromType = 'table.columns.column' AND toType = 'table.columns.column' " +
+            "AND relation = 12");
+         PreparedStatement insert = connection.prepareStatement("INSERT INTO column_join(columnFQN, joinedFQN, " +
+                 "tableFQN, joinedTableFQN, joinCount, firstDay) VALUES (?, ?, ?, ?, ?, ?) " +
+                 "ON DUPLICATE KEY UPDATE joinCount = VALUES(joinCount), firstDay = VALUES(firstDay)");
+         ResultSet rs = select.executeQuery()) {
+      while (rs.next()) {
+        String fromFQN = rs.getString("fromFQN");
+        String toFQN = rs.getString("toFQN");
+        int count = 0;
+        Long earliestDay = null;
+        String json = rs.getString("json");
+        for (JsonNode dailyCount : json == null ? JsonUtils.readValue("[]", JsonNode.class) :
+                JsonUtils.readValue(json, JsonNode.class)) {
+          long day = LocalDate.parse(dailyCount.get("date").asText()).toEpochDay();
+          if (day >= firstDay) {
+            count += dailyCount.get("count").asInt();
+            earliestDay = earliestDay == null ? day : Math.min(earliestDay, day);
+          }
+        }
+        addJoin(insert, fromFQN, toFQN, count, earliestDay);
+        addJoin(insert, toFQN, fromFQN, count, earliestDay);
+        if (++joinCount % BATCH_SIZE == 0) {
+          insert.executeBatch();
+        }
+      }
+      insert.executeBatch();
+    }
+    LOG.info("Summarized the joins of {} column pairs", joinCount);
+  }
+
+  private static void addJoin(PreparedStatement insert, String columnFQN, String joinedFQN, int count,
+                              Long firstDay) throws Exception {
+    insert.setString(1, columnFQN);
+    insert.setString(2, joinedFQN);
+    insert.setString(3, getTableFQN(columnFQN));
+    insert.setString(4, getTableFQN(joinedFQN));
+    insert.setInt(5, count);
+    if (firstDay == null) {
+      insert.setNull(6, Types.INTEGER);
+    } else {
+      insert.setInt(6, firstDay.intValue());
+    }
+    insert.addBatch();
+  }
+
+  // Table FQN of a column FQN of format databaseServiceName.databaseName.tableName.columnName
+  private static String getTableFQN(String columnFQN) {
+    return columnFQN.substring(0, columnFQN.lastIndexOf('.'));
+  }
+}
@@ -38,14 +38,31 @@ import org.eclipse.jetty.servlet.ErrorPageErrorHandler;
 import org.glassfish.jersey.media.multipart.MultiPartFeature;
 import org.glassfish.jersey.server.ServerProperties;
 import org.jdbi.v3.core.Jdbi;
-import org.jdbi.v3.core.statement.SqlLogger;
-import org.jdbi.v3.core.statement.StatementContext;
 import org.openmetadata.catalog.events.EventFilter;
 import org.openmetadata.catalog.exception.CatalogGenericExceptionMapper;
 import org.openmetadata.catalog.exception.ConstraintViolationExceptionMapper;
 import org.openmetadata.catalog.exception.JsonMappingExceptionMapper;
+import org.openmetadata.catalog.jdbi3.CollectionDAO;
+import org.openmetadata.catalog.jdbi3.ColumnJoinExpiry;
+import org.openmetadata.catalog.jdbi3.CompositeSqlLogger;
+import org.openmetadata.catalog.jdbi3.EntityExtensionConfiguration;
+import org.openmetadata.catalog.jdbi3.EntityVersionStore;
+import org.openmetadata.catalog.jdbi3.ExtensionStore;
+import org.openmetadata.catalog.jdbi3.ReadReplica;
+import org.openmetadata.catalog.jdbi3.ReadReplicaLagMonitor;
+import org.openmetadata.catalog.jdbi3.RepositoryMetrics;
+import org.openmetadata.catalog.jdbi3.SlowQueryLog;
+import org.openmetadata.catalog.jdbi3.SqlStatementCounter;
+import org.openmetadata.catalog.jdbi3.TableProfileRetention;
+import org.openmetadata.catalog.jdbi3.TableRepository;
+import org.openmetadata.catalog.jdbi3.UserFeedBackfill;
 import org.openmetadata.catalog.module.CatalogModule;
 import org.openmetadata.catalog.resources.CollectionRegistry;
+import org.openmetadata.catalog.resources.PrometheusMetricsServlet;
+import org.openmetadata.catalog.resources.ReadReplicaFilter;
+import org.openmetadata.catalog.resources.RequestMetricsFilter;
+import org.openmetadata.catalog.resources.SlowQueryServlet;
+import org.openmetadata.catalog.resources.SqlStatementFilter;
 import org.openmetadata.catalog.resources.config.ConfigResource;
 import org.openmetadata.catalog.resources.search.SearchResource;
 import org.openmetadata.catalog.security.AuthenticationConfiguration;
@@ -54,15 +71,14 @@ import org.openmetadata.catalog.security.CatalogAuthorizer;
 import org.openmetadata.catalog.security.NoopAuthorizer;
 import org.openmetadata.catalog.security.NoopFilter;
 import org.openmetadata.catalog.security.auth.CatalogSecurityContextRequestFilter;
+import org.openmetadata.common.utils.CursorCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.ws.rs.container.ContainerRequestFilter;
-import javax.ws.rs.container.ContainerResponseFilter;
 import javax.ws.rs.core.Response;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
-import java.time.temporal.ChronoUnit;
 
 /**
  * Main catalog application
@@ -81,7 +97,36 @@ public class CatalogApplication extends Application<CatalogApplicationConfig> {
 
     final JdbiFactory factory = new JdbiFactory();
     final Jdbi jdbi = factory.build(environment, catalogConfig.getDataSourceFactory(), "mysql3");
-
+    SlowQueryLog slowQueryLog = new SlowQueryLog(catalogConfig.getSlowQueryConfiguration(), jdbi);
+    CompositeSqlLogger sqlLogger = new CompositeSqlLogger(new SqlStatementCounter(), slowQueryLog);
+    jdbi.setSqlLogger(sqlLogger);
+    environment.lifecycle().manage(slowQueryLog);
+    CollectionDAO collectionDAO = jdbi.onDemand(CollectionDAO.class);
+    if (catalogConfig.getReadReplicaDataSourceFactory() != null) {
+      // Repositories read from the replica, and the connection pool of each database has its own metrics
+      final Jdbi replicaJdbi = factory.build(environment, catalogConfig.getReadReplicaDataSourceFactory(),
+              "mysql3-replica");
+      replicaJdbi.setSqlLogger(sqlLogger);
+      ReadReplica.configure(catalogConfig.getReadReplicaConfiguration(), environment.metrics());
+      ReadReplica.install(jdbi, replicaJdbi);
+      environment.lifecycle().manage(new ReadReplicaLagMonitor(replicaJdbi,
+              catalogConfig.getReadReplicaConfiguration()));
+      collectionDAO = ReadReplica.route(CollectionDAO.class, collectionDAO, replicaJdbi.onDemand(CollectionDAO.class));
+      environment.jersey().register(new ReadReplicaFilter());
+    }
+    EntityVersionStore.setSnapshotInterval(catalogConfig.getEntityVersionConfiguration().getSnapshotInterval());
+    EntityExtensionConfiguration extensionConfig = catalogConfig.getEntityExtensionConfiguration();
+    ExtensionStore.setCompressionThreshold(extensionConfig.getCompressionThresholdBytes());
+    TableRepository.setSampleDataLimits(extensionConfig.getSampleDataMaxRows(),
+            extensionConfig.getSampleDataMaxBytes());
+    RepositoryMetrics.setRegistry(environment.metrics());
+    String cursorSecretKey = catalogConfig.getPagingCursorConfiguration().getSecretKey();
+    if (cursorSecretKey == null || cursorSecretKey.isEmpty()) {
+      LOG.warn("No pagingCursors secretKey is configured, paging cursors are only valid on this server until it " +
+              "restarts");
+    } else {
+      CursorCodec.setSecretKey(cursorSecretKey);
+    }
 
     // Register Authorizer
     registerAuthorizer(catalogConfig, environment, jdbi);
@@ -103,8 +148,26 @@ public class CatalogApplication extends Application<CatalogApplicationConfig> {
     environment.jersey().register(new JsonProcessingExceptionMapper(true));
     environment.jersey().register(new EarlyEofExceptionMapper());
     environment.jersey().register(JsonMappingExceptionMapper.class);
+    environment.jersey().register(new RequestMetricsFilter(environment.metrics()));
+    environment.jersey().register(new SqlStatementFilter(catalogConfig.getSqlStatementConfiguration(),
+            environment.metrics()));
+    // Admin port serves metrics in Dropwizard JSON format on /metrics and Prometheus text format on /prometheus,
+    // and the recent slow queries on /slow-queries
+    environment.admin().addServlet("prometheus", new PrometheusMetricsServlet(environment.metrics()))
+            .addMapping("/prometheus");
+    environment.admin().addServlet("slow-queries", new SlowQueryServlet(slowQueryLog)).addMapping("/slow-queries");
     environment.healthChecks().register("UserDatabaseCheck", new CatalogHealthCheck(catalogConfig, jdbi));
-    registerResources(catalogConfig, environment, jdbi);
+    registerResources(catalogConfig, environment, collectionDAO);
+
+    // Add threads created before the user feed was introduced to the user feed
+    environment.lifecycle().manage(new UserFeedBackfill(jdbi.onDemand(CollectionDAO.class)));
+
+    // Delete and downsample old table profiles
+    environment.lifecycle().manage(new TableProfileRetention(jdbi.onDemand(CollectionDAO.class),
+            catalogConfig.getTableProfileConfiguration()));
+
+    // Expire the join counts of table columns older than 30 days
+    environment.lifecycle().manage(new ColumnJoinExpiry(jdbi.onDemand(CollectionDAO.class)));
 
     // Register Event Handler
     registerEventFilter(catalogConfig, environment, jdbi);
@@ -160,13 +223,16 @@ public class CatalogApplication extends Application<CatalogApplicationConfig> {
 
   private void registerEventFilter(CatalogApplicationConfig catalogConfig, Environment environment, Jdbi jdbi) {
     if (catalogConfig.getEventHandlerConfiguration() != null) {
-      ContainerResponseFilter eventFilter = new EventFilter(catalogConfig, jdbi);
+      EventFilter eventFilter = new EventFilter(catalogConfig, jdbi, environment);
       environment.jersey().register(eventFilter);
+      // Registered after the objects managed by the event handlers, so it is stopped before them
+      environment.lifecycle().manage(eventFilter);
     }
   }
 
-  private void registerResources(CatalogApplicationConfig config, Environment environment, Jdbi jdbi) throws IOException {
-    CollectionRegistry.getInstance().registerResources(jdbi, environment, authorizer);
+  private void registerResources(CatalogApplicationConfig config, Environment environment, CollectionDAO dao)
+          throws IOException {
+    CollectionRegistry.getInstance().registerResources(dao, environment, authorizer);
 
     environment.lifecycle().manage(new Managed() {
       @Override
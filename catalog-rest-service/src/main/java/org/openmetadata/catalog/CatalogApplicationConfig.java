@@ -18,9 +18,17 @@ package org.openmetadata.catalog;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.dropwizard.health.conf.HealthConfiguration;
+import org.openmetadata.catalog.events.AuditLogConfiguration;
 import org.openmetadata.catalog.events.EventHandlerConfiguration;
+import org.openmetadata.catalog.jdbi3.EntityExtensionConfiguration;
+import org.openmetadata.catalog.jdbi3.EntityVersionConfiguration;
+import org.openmetadata.catalog.jdbi3.ReadReplicaConfiguration;
+import org.openmetadata.catalog.jdbi3.SlowQueryConfiguration;
+import org.openmetadata.catalog.jdbi3.SqlStatementConfiguration;
+import org.openmetadata.catalog.jdbi3.TableProfileConfiguration;
 import org.openmetadata.catalog.security.AuthenticationConfiguration;
 import org.openmetadata.catalog.security.AuthorizerConfiguration;
+import org.openmetadata.catalog.util.PagingCursorConfiguration;
 import io.dropwizard.Configuration;
 import io.dropwizard.db.DataSourceFactory;
 import io.federecio.dropwizard.swagger.SwaggerBundleConfiguration;
@@ -34,6 +42,15 @@ public class CatalogApplicationConfig extends Configuration {
     @JsonProperty("database")
     private DataSourceFactory dataSourceFactory;
 
+    @Valid
+    @JsonProperty("readReplicaDatabase")
+    private DataSourceFactory readReplicaDataSourceFactory;
+
+    @Valid
+    @NotNull
+    @JsonProperty("readReplica")
+    private ReadReplicaConfiguration readReplicaConfiguration = new ReadReplicaConfiguration();
+
     @JsonProperty("swagger")
     private SwaggerBundleConfiguration swaggerBundleConfig;
 
@@ -46,13 +63,64 @@ public class CatalogApplicationConfig extends Configuration {
     @JsonProperty("elasticsearch")
     private ElasticSearchConfiguration elasticSearchConfiguration;
 
+    @Valid
     @JsonProperty("eventHandlerConfiguration")
     private EventHandlerConfiguration eventHandlerConfiguration;
 
+    @Valid
+    @NotNull
+    @JsonProperty("auditLog")
+    private AuditLogConfiguration auditLogConfiguration = new AuditLogConfiguration();
+
+    @Valid
+    @JsonProperty("entityVersions")
+    private EntityVersionConfiguration entityVersionConfiguration = new EntityVersionConfiguration();
+
+    @Valid
+    @NotNull
+    @JsonProperty("entityExtensions")
+    private EntityExtensionConfiguration entityExtensionConfiguration = new EntityExtensionConfiguration();
+
+    @Valid
+    @NotNull
+    @JsonProperty("tableProfiles")
+    private TableProfileConfiguration tableProfileConfiguration = new TableProfileConfiguration();
+
+    @Valid
+    @NotNull
+    @JsonProperty("sqlStatements")
+    private SqlStatementConfiguration sqlStatementConfiguration = new SqlStatementConfiguration();
+
+    @Valid
+    @NotNull
+    @JsonProperty("slowQueryLog")
+    private SlowQueryConfiguration slowQueryConfiguration = new SlowQueryConfiguration();
+
+    @Valid
+    @NotNull
+    @JsonProperty("pagingCursors")
+    private PagingCursorConfiguration pagingCursorConfiguration = new PagingCursorConfiguration();
+
     public DataSourceFactory getDataSourceFactory() {
         return dataSourceFactory;
     }
 
+    public DataSourceFactory getReadReplicaDataSourceFactory() {
+        return readReplicaDataSourceFactory;
+    }
+
+    public void setReadReplicaDataSourceFactory(DataSourceFactory readReplicaDataSourceFactory) {
+        this.readReplicaDataSourceFactory = readReplicaDataSourceFactory;
+    }
+
+    public ReadReplicaConfiguration getReadReplicaConfiguration() {
+        return readReplicaConfiguration;
+    }
+
+    public void setReadReplicaConfiguration(ReadReplicaConfiguration readReplicaConfiguration) {
+        this.readReplicaConfiguration = readReplicaConfiguration;
+    }
+
     public SwaggerBundleConfiguration getSwaggerBundleConfig() {
         return swaggerBundleConfig;
     }
@@ -88,6 +156,62 @@ public class CatalogApplicationConfig extends Configuration {
         this.eventHandlerConfiguration = eventHandlerConfiguration;
     }
 
+    public AuditLogConfiguration getAuditLogConfiguration() {
+        return auditLogConfiguration;
+    }
+
+    public void setAuditLogConfiguration(AuditLogConfiguration auditLogConfiguration) {
+        this.auditLogConfiguration = auditLogConfiguration;
+    }
+
+    public EntityVersionConfiguration getEntityVersionConfiguration() {
+        return entityVersionConfiguration;
+    }
+
+    public void setEntityVersionConfiguration(EntityVersionConfiguration entityVersionConfiguration) {
+        this.entityVersionConfiguration = entityVersionConfiguration;
+    }
+
+    public EntityExtensionConfiguration getEntityExtensionConfiguration() {
+        return entityExtensionConfiguration;
+    }
+
+    public void setEntityExtensionConfiguration(EntityExtensionConfiguration entityExtensionConfiguration) {
+        this.entityExtensionConfiguration = entityExtensionConfiguration;
+    }
+
+    public TableProfileConfiguration getTableProfileConfiguration() {
+        return tableProfileConfiguration;
+    }
+
+    public void setTableProfileConfiguration(TableProfileConfiguration tableProfileConfiguration) {
+        this.tableProfileConfiguration = tableProfileConfiguration;
+    }
+
+    public SqlStatementConfiguration getSqlStatementConfiguration() {
+        return sqlStatementConfiguration;
+    }
+
+    public void setSqlStatementConfiguration(SqlStatementConfiguration sqlStatementConfiguration) {
+        this.sqlStatementConfiguration = sqlStatementConfiguration;
+    }
+
+    public SlowQueryConfiguration getSlowQueryConfiguration() {
+        return slowQueryConfiguration;
+    }
+
+    public void setSlowQueryConfiguration(SlowQueryConfiguration slowQueryConfiguration) {
+        this.slowQueryConfiguration = slowQueryConfiguration;
+    }
+
+    public PagingCursorConfiguration getPagingCursorConfiguration() {
+        return pagingCursorConfiguration;
+    }
+
+    public void setPagingCursorConfiguration(PagingCursorConfiguration pagingCursorConfiguration) {
+        this.pagingCursorConfiguration = pagingCursorConfiguration;
+    }
+
     @Valid
     @NotNull
     @JsonProperty("health")
@@ -105,6 +229,7 @@ public class CatalogApplicationConfig extends Configuration {
     public String toString() {
         return "catalogConfig{" +
                 ", dataSourceFactory=" + dataSourceFactory +
+                ", readReplicaDataSourceFactory=" + readReplicaDataSourceFactory +
                 ", swaggerBundleConfig=" + swaggerBundleConfig +
                 ", authorizerConfiguration=" + authorizerConfiguration +
                 '}';
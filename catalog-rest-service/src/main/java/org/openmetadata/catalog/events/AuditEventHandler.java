@@ -16,6 +16,7 @@
 
 package org.openmetadata.catalog.events;
 
+import io.dropwizard.setup.Environment;
 import org.jdbi.v3.core.Jdbi;
 import org.openmetadata.catalog.CatalogApplicationConfig;
 import org.openmetadata.catalog.type.AuditLog;
@@ -31,10 +32,13 @@ import java.util.Date;
 
 public class AuditEventHandler implements  EventHandler {
   private static final Logger LOG = LoggerFactory.getLogger(AuditEventHandler.class);
-  private AuditLogRepository auditLogRepository;
+  private AuditLogWriter auditLogWriter;
 
-  public void init(CatalogApplicationConfig config, Jdbi jdbi) {
-    this.auditLogRepository = jdbi.onDemand(AuditLogRepository.class);
+  public void init(CatalogApplicationConfig config, Jdbi jdbi, Environment environment) {
+    AuditLogRepository repository = jdbi.onDemand(AuditLogRepository.class);
+    this.auditLogWriter = new AuditLogWriter(repository::createAll, config.getAuditLogConfiguration(),
+            environment.metrics());
+    environment.lifecycle().manage(auditLogWriter);
   }
 
   public Void process(ContainerRequestContext requestContext,
@@ -60,8 +64,11 @@ public class AuditEventHandler implements  EventHandler {
                   .withMethod(AuditLog.Method.fromValue(method))
                   .withUserName(username)
                   .withResponseCode(responseCode);
-          auditLogRepository.create(auditLog);
-          LOG.debug("Added audit log entry: {}", auditLog);
+          if (auditLogWriter.write(auditLog)) {
+            LOG.debug("Added audit log entry: {}", auditLog);
+          } else {
+            LOG.warn("Dropped audit log entry as the audit log buffer is full: {}", auditLog);
+          }
         } else {
           LOG.error("Failed to capture audit log for {}", path);
         }
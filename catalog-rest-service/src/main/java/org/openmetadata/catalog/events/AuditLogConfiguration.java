@@ -0,0 +1,97 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.events;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+public class AuditLogConfiguration {
+  public enum OverflowPolicy {
+    /** Wait up to offerTimeoutMs for space in the buffer, and drop the new record if there is still none */
+    BLOCK,
+    /** Drop the new record */
+    DROP_NEWEST,
+    /** Drop the oldest buffered record to make space for the new one */
+    DROP_OLDEST
+  }
+
+  /** Maximum number of audit records buffered in memory before they are written */
+  @Min(1)
+  private int bufferSize = 10000;
+
+  /** Maximum number of audit records written in one insert */
+  @Min(1)
+  private int batchSize = 100;
+
+  /** Maximum time in milliseconds an audit record is buffered before it is written */
+  @Min(1)
+  private long flushIntervalMs = 1000;
+
+  /** What to do with a new audit record when the buffer is full */
+  @NotNull
+  private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+  /** Time in milliseconds to wait for space in a full buffer with {@link OverflowPolicy#BLOCK} */
+  @Min(0)
+  private long offerTimeoutMs = 100;
+
+  public int getBufferSize() {
+    return bufferSize;
+  }
+
+  public void setBufferSize(int bufferSize) {
+    this.bufferSize = bufferSize;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public void setBatchSize(int batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  public long getFlushIntervalMs() {
+    return flushIntervalMs;
+  }
+
+  public void setFlushIntervalMs(long flushIntervalMs) {
+    this.flushIntervalMs = flushIntervalMs;
+  }
+
+  public OverflowPolicy getOverflowPolicy() {
+    return overflowPolicy;
+  }
+
+  public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+    this.overflowPolicy = overflowPolicy;
+  }
+
+  public long getOfferTimeoutMs() {
+    return offerTimeoutMs;
+  }
+
+  public void setOfferTimeoutMs(long offerTimeoutMs) {
+    this.offerTimeoutMs = offerTimeoutMs;
+  }
+
+  @Override
+  public String toString() {
+    return "AuditLogConfiguration{bufferSize=" + bufferSize + ", batchSize=" + batchSize + ", flushIntervalMs=" +
+            flushIntervalMs + ", overflowPolicy=" + overflowPolicy + ", offerTimeoutMs=" + offerTimeoutMs + '}';
+  }
+}
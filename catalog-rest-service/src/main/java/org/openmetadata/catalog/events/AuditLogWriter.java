@@ -0,0 +1,166 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.events;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import io.dropwizard.lifecycle.Managed;
+import org.openmetadata.catalog.events.AuditLogConfiguration.OverflowPolicy;
+import org.openmetadata.catalog.jdbi3.AuditLogRepository;
+import org.openmetadata.catalog.type.AuditLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buffers audit records in a bounded queue and writes them from a single background thread in multi-row inserts of
+ * up to batchSize records, at most flushIntervalMs after a record is buffered. When the buffer is full, the
+ * configured {@link OverflowPolicy} decides which record is dropped. Buffered records are written on {@link #stop()}.
+ */
+public class AuditLogWriter implements Managed {
+  private static final Logger LOG = LoggerFactory.getLogger(AuditLogWriter.class);
+
+  /** Writes a batch of audit records, see {@link AuditLogRepository#createAll(List)} */
+  @FunctionalInterface
+  public interface BatchWriter {
+    void write(List<AuditLog> batch) throws IOException;
+  }
+
+  private final BatchWriter batchWriter;
+  private final AuditLogConfiguration config;
+  private final BlockingQueue<AuditLog> buffer;
+  private final Thread flusher;
+  private volatile boolean running = false;
+
+  private final Counter written;
+  private final Counter dropped;
+  private final Counter failed;
+  private final Timer flushTimer;
+
+  public AuditLogWriter(BatchWriter batchWriter, AuditLogConfiguration config, MetricRegistry metrics) {
+    this.batchWriter = batchWriter;
+    this.config = config;
+    this.buffer = new ArrayBlockingQueue<>(config.getBufferSize());
+    this.flusher = new Thread(this::flushLoop, "audit-log-writer");
+    this.flusher.setDaemon(true);
+
+    metrics.register(MetricRegistry.name(AuditLogWriter.class, "buffered"), (Gauge<Integer>) buffer::size);
+    this.written = metrics.counter(MetricRegistry.name(AuditLogWriter.class, "written"));
+    this.dropped = metrics.counter(MetricRegistry.name(AuditLogWriter.class, "dropped"));
+    this.failed = metrics.counter(MetricRegistry.name(AuditLogWriter.class, "failed"));
+    this.flushTimer = metrics.timer(MetricRegistry.name(AuditLogWriter.class, "flush"));
+  }
+
+  @Override
+  public void start() {
+    running = true;
+    flusher.start();
+  }
+
+  @Override
+  public void stop() throws InterruptedException {
+    // The flusher notices within flushIntervalMs, writes the buffered records and exits
+    running = false;
+    flusher.join(TimeUnit.SECONDS.toMillis(30));
+  }
+
+  /** Buffer an audit record to be written. Returns false when the record is dropped. */
+  public boolean write(AuditLog auditLog) {
+    boolean added;
+    switch (config.getOverflowPolicy()) {
+      case BLOCK:
+        try {
+          added = buffer.offer(auditLog, config.getOfferTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          added = false;
+        }
+        break;
+      case DROP_OLDEST:
+        added = buffer.offer(auditLog);
+        while (!added) {
+          if (buffer.poll() != null) {
+            dropped.inc();
+          }
+          added = buffer.offer(auditLog);
+        }
+        return true;
+      default:
+        added = buffer.offer(auditLog);
+        break;
+    }
+    if (!added) {
+      dropped.inc();
+    }
+    return added;
+  }
+
+  private void flushLoop() {
+    List<AuditLog> batch = new ArrayList<>(config.getBatchSize());
+    while (running || !buffer.isEmpty()) {
+      try {
+        AuditLog first = running ? buffer.poll(config.getFlushIntervalMs(), TimeUnit.MILLISECONDS) : buffer.poll();
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        // Wait for the batch to fill up till the flush interval from the first record elapses
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getFlushIntervalMs());
+        while (batch.size() < config.getBatchSize() && running) {
+          if (buffer.drainTo(batch, config.getBatchSize() - batch.size()) > 0) {
+            continue;
+          }
+          long remaining = deadline - System.nanoTime();
+          AuditLog next = remaining > 0 ? buffer.poll(remaining, TimeUnit.NANOSECONDS) : null;
+          if (next == null) {
+            break;
+          }
+          batch.add(next);
+        }
+      } catch (InterruptedException e) {
+        // Write what is buffered without waiting any more
+        running = false;
+      }
+      if (!running) {
+        buffer.drainTo(batch, config.getBatchSize() - batch.size());
+      }
+      flush(batch);
+      batch.clear();
+    }
+  }
+
+  private void flush(List<AuditLog> batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+    try (Timer.Context ignored = flushTimer.time()) {
+      batchWriter.write(batch);
+      written.inc(batch.size());
+    } catch (Exception e) {
+      failed.inc(batch.size());
+      LOG.error("Failed to write {} audit log entries", batch.size(), e);
+    }
+  }
+}
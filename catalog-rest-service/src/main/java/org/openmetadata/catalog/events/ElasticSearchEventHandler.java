@@ -16,6 +16,7 @@
 
 package org.openmetadata.catalog.events;
 
+import io.dropwizard.setup.Environment;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpHost;
 import org.apache.http.auth.AuthScope;
@@ -66,7 +67,7 @@ public class ElasticSearchEventHandler implements EventHandler {
     }
   };
 
-  public void init(CatalogApplicationConfig config, Jdbi jdbi) {
+  public void init(CatalogApplicationConfig config, Jdbi jdbi, Environment environment) {
     ElasticSearchConfiguration esConfig = config.getElasticSearchConfiguration();
     RestClientBuilder restClientBuilder = RestClient.builder(new HttpHost(esConfig.getHost(), esConfig.getPort(), "http"));
     if(StringUtils.isNotEmpty(esConfig.getUsername())){
@@ -16,9 +16,10 @@
 
 package org.openmetadata.catalog.events;
 
+import io.dropwizard.lifecycle.Managed;
+import io.dropwizard.setup.Environment;
 import org.jdbi.v3.core.Jdbi;
 import org.openmetadata.catalog.CatalogApplicationConfig;
-import org.openmetadata.catalog.util.ParallelStreamUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,31 +31,39 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Dispatches the events of successful POST, PUT, PATCH and DELETE requests to the configured event handlers. Each
+ * handler processes events from its own bounded queue with {@link EventHandlerExecutor}, so a slow handler does not
+ * hold up the others. On shutdown, the queued events are processed before the handlers are closed.
+ */
 @Provider
-public class EventFilter implements ContainerResponseFilter {
+public class EventFilter implements ContainerResponseFilter, Managed {
 
   private static final Logger LOG = LoggerFactory.getLogger(EventFilter.class);
   private static final List<String> AUDITABLE_METHODS = Arrays.asList("POST", "PUT", "PATCH", "DELETE");
-  private static final int FORK_JOIN_POOL_PARALLELISM = 20;
-  private final ForkJoinPool forkJoinPool;
+  private final EventHandlerConfiguration config;
   private final List<EventHandler> eventHandlers;
+  private final List<EventHandlerExecutor> executors;
 
-  public EventFilter(CatalogApplicationConfig config, Jdbi jdbi) {
-    this.forkJoinPool = new ForkJoinPool(FORK_JOIN_POOL_PARALLELISM);
+  public EventFilter(CatalogApplicationConfig config, Jdbi jdbi, Environment environment) {
+    this.config = config.getEventHandlerConfiguration();
     this.eventHandlers = new ArrayList<>();
-    registerEventHandlers(config, jdbi);
+    this.executors = new ArrayList<>();
+    registerEventHandlers(config, jdbi, environment);
   }
 
-  private void registerEventHandlers(CatalogApplicationConfig config, Jdbi jdbi) {
+  private void registerEventHandlers(CatalogApplicationConfig config, Jdbi jdbi, Environment environment) {
     try {
       Set<String> eventHandlerClassNames = config.getEventHandlerConfiguration().getEventHandlerClassNames();
       for (String eventHandlerClassName : eventHandlerClassNames) {
         EventHandler eventHandler = ((Class<EventHandler>) Class.forName(eventHandlerClassName))
                 .getConstructor().newInstance();
-        eventHandler.init(config, jdbi);
+        eventHandler.init(config, jdbi, environment);
         eventHandlers.add(eventHandler);
+        executors.add(new EventHandlerExecutor(eventHandler.getClass().getSimpleName(), this.config,
+                environment.metrics()));
       }
     } catch (Exception e) {
         LOG.info(e.getMessage());
@@ -71,10 +80,25 @@ public class EventFilter implements ContainerResponseFilter {
       return;
     }
 
-    eventHandlers.parallelStream().forEach(eventHandler -> ParallelStreamUtil.runAsync(() ->
-            eventHandler.process(requestContext, responseContext), forkJoinPool));
-
+    for (int i = 0; i < eventHandlers.size(); i++) {
+      EventHandler eventHandler = eventHandlers.get(i);
+      executors.get(i).submit(() -> eventHandler.process(requestContext, responseContext));
+    }
   }
 
+  @Override
+  public void start() {
+    // Executors start their threads on the first event
+  }
 
+  @Override
+  public void stop() throws InterruptedException {
+    for (int i = 0; i < eventHandlers.size(); i++) {
+      if (!executors.get(i).shutdown(config.getShutdownTimeoutSeconds(), TimeUnit.SECONDS)) {
+        LOG.warn("Timed out waiting for event handler {} to process the queued events",
+                eventHandlers.get(i).getClass().getSimpleName());
+      }
+      eventHandlers.get(i).close();
+    }
+  }
 }
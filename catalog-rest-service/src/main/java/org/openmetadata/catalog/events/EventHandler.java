@@ -16,6 +16,7 @@
 
 package org.openmetadata.catalog.events;
 
+import io.dropwizard.setup.Environment;
 import org.jdbi.v3.core.Jdbi;
 import org.openmetadata.catalog.CatalogApplicationConfig;
 
@@ -23,7 +24,7 @@ import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerResponseContext;
 
 public interface EventHandler {
-  void init(CatalogApplicationConfig config, Jdbi jdbi);
+  void init(CatalogApplicationConfig config, Jdbi jdbi, Environment environment);
   Void process(ContainerRequestContext requestContext, ContainerResponseContext responseContext);
   void close();
 }
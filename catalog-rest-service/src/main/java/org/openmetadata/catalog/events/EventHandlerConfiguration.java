@@ -15,11 +15,38 @@
  */
 package org.openmetadata.catalog.events;
 
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
 import java.util.Set;
 
 public class EventHandlerConfiguration {
+  public enum RejectionPolicy {
+    /** Process the event in the request thread, which slows down requests till the handler catches up */
+    CALLER_RUNS,
+    /** Drop the new event */
+    DROP,
+    /** Drop the oldest queued event to make space for the new one */
+    DROP_OLDEST
+  }
+
   private Set<String> eventHandlerClassNames;
 
+  /** Number of threads processing the events of each handler */
+  @Min(1)
+  private int workers = 1;
+
+  /** Maximum number of events queued for each handler */
+  @Min(1)
+  private int queueSize = 1000;
+
+  /** What to do with a new event when the queue of a handler is full */
+  @NotNull
+  private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+
+  /** Time in seconds to wait on shutdown for the queued events to be processed */
+  @Min(0)
+  private int shutdownTimeoutSeconds = 30;
+
   public Set<String> getEventHandlerClassNames() {
     return eventHandlerClassNames;
   }
@@ -28,5 +55,35 @@ public class EventHandlerConfiguration {
     this.eventHandlerClassNames = eventHandlerClassNames;
   }
 
-}
+  public int getWorkers() {
+    return workers;
+  }
+
+  public void setWorkers(int workers) {
+    this.workers = workers;
+  }
+
+  public int getQueueSize() {
+    return queueSize;
+  }
+
+  public void setQueueSize(int queueSize) {
+    this.queueSize = queueSize;
+  }
 
+  public RejectionPolicy getRejectionPolicy() {
+    return rejectionPolicy;
+  }
+
+  public void setRejectionPolicy(RejectionPolicy rejectionPolicy) {
+    this.rejectionPolicy = rejectionPolicy;
+  }
+
+  public int getShutdownTimeoutSeconds() {
+    return shutdownTimeoutSeconds;
+  }
+
+  public void setShutdownTimeoutSeconds(int shutdownTimeoutSeconds) {
+    this.shutdownTimeoutSeconds = shutdownTimeoutSeconds;
+  }
+}
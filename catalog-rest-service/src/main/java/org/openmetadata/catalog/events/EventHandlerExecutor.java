@@ -0,0 +1,109 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.events;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import org.openmetadata.catalog.events.EventHandlerConfiguration.RejectionPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Processes the events of a single {@link EventHandler} with a fixed number of worker threads and a bounded queue.
+ * When the queue is full, the configured {@link RejectionPolicy} decides what happens to the event. Metrics are
+ * registered under {@code EventFilter.<handler>}: queued events, events dropped, and the time from an event being
+ * submitted to it being processed.
+ */
+public class EventHandlerExecutor {
+  private static final Logger LOG = LoggerFactory.getLogger(EventHandlerExecutor.class);
+
+  private final String name;
+  private final ThreadPoolExecutor executor;
+  private final Timer latency;
+  private final Meter dropped;
+
+  public EventHandlerExecutor(String name, EventHandlerConfiguration config, MetricRegistry metrics) {
+    this.name = name;
+    this.latency = metrics.timer(MetricRegistry.name(EventFilter.class, name, "latency"));
+    this.dropped = metrics.meter(MetricRegistry.name(EventFilter.class, name, "dropped"));
+    this.executor = new ThreadPoolExecutor(config.getWorkers(), config.getWorkers(), 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(config.getQueueSize()), threadFactory(name),
+            rejectionHandler(config.getRejectionPolicy()));
+    metrics.register(MetricRegistry.name(EventFilter.class, name, "queued"),
+            (Gauge<Integer>) () -> executor.getQueue().size());
+  }
+
+  public void submit(Runnable event) {
+    long submitted = System.nanoTime();
+    executor.execute(() -> {
+      try {
+        event.run();
+      } catch (Exception e) {
+        LOG.error("Event handler {} failed to process event", name, e);
+      } finally {
+        latency.update(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+      }
+    });
+  }
+
+  /** Stop accepting events and wait for the queued events to be processed. Returns false on timeout. */
+  public boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+    executor.shutdown();
+    return executor.awaitTermination(timeout, unit);
+  }
+
+  private RejectedExecutionHandler rejectionHandler(RejectionPolicy policy) {
+    switch (policy) {
+      case DROP:
+        return (runnable, pool) -> {
+          dropped.mark();
+          LOG.warn("Dropped event as the queue of event handler {} is full", name);
+        };
+      case DROP_OLDEST:
+        return (runnable, pool) -> {
+          if (!pool.isShutdown()) {
+            if (pool.getQueue().poll() != null) {
+              dropped.mark();
+              LOG.warn("Dropped oldest event as the queue of event handler {} is full", name);
+            }
+            pool.execute(runnable);
+          }
+        };
+      default:
+        // Run in the caller thread, and after shutdown too so that events are not lost while the server stops
+        return (runnable, pool) -> runnable.run();
+    }
+  }
+
+  private static ThreadFactory threadFactory(String name) {
+    AtomicInteger count = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, "event-" + name + "-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
@@ -18,6 +18,7 @@ package org.openmetadata.catalog.exception;
 
 import org.apache.commons.lang.StringUtils;
 
+import java.util.Date;
 import java.util.UUID;
 
 public final class CatalogExceptionMessage {
@@ -36,6 +37,15 @@ public final class CatalogExceptionMessage {
     return entityNotFound(entity, id.toString());
   }
 
+  public static String entityVersionNotFound(String entity, String id, Double version) {
+    return String.format("%s instance for %s and version %s not found", StringUtils.capitalize(entity), id, version);
+  }
+
+  public static String entityNotFoundAsOf(String entity, String id, Date asOf) {
+    return String.format("%s instance for %s not found as of %s", StringUtils.capitalize(entity), id,
+            asOf.toInstant());
+  }
+
   public static String readOnlyAttribute(String entity, String attribute) {
     return String.format("%s attribute %s can't be modified", StringUtils.capitalize(entity), attribute);
   }
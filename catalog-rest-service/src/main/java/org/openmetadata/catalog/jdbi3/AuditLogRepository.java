@@ -16,19 +16,31 @@
 
 package org.openmetadata.catalog.jdbi3;
 
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.sqlobject.CreateSqlObject;
+import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.BindBeanList;
+import org.jdbi.v3.sqlobject.customizer.Define;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 import org.jdbi.v3.sqlobject.transaction.Transaction;
 import org.openmetadata.catalog.type.AuditLog;
 import org.openmetadata.catalog.util.EntityUtil;
 import org.openmetadata.catalog.util.JsonUtils;
+import org.openmetadata.catalog.util.ResultList;
+import org.openmetadata.common.utils.CursorCodec;
+import org.openmetadata.common.utils.CursorCodec.Direction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public abstract class AuditLogRepository {
@@ -37,14 +49,51 @@ public abstract class AuditLogRepository {
   @CreateSqlObject
   abstract AuditLogDAO auditLogDAO();
 
+  /**
+   * List audit log entries from the most to the least recent one, paged by (timestamp, id). Only the entries made
+   * by {@code userName}, for {@code entityType}, and with timestamp in [{@code startTs}, {@code endTs}) are listed
+   * when those are not null.
+   */
   @Transaction
-  public List<AuditLog> list() throws IOException {
-    List<String> jsons = auditLogDAO().list();
-    List<AuditLog> auditLogs = new ArrayList<>();
-    for (String json : jsons) {
-      auditLogs.add(JsonUtils.readValue(json, AuditLog.class));
+  public ResultList<AuditLog> list(String userName, String entityType, Long startTs, Long endTs, int limitParam,
+                                   String before, String after) throws IOException, GeneralSecurityException {
+    // Filters that are not set are turned into conditions that are always true, so that all the binds are used
+    String condition = (userName == null ? ":userName IS NULL" : "username = :userName") + " AND " +
+            (entityType == null ? ":entityType IS NULL" : "entityType = :entityType");
+    long start = startTs == null ? 0 : startTs;
+    long end = endTs == null ? Long.MAX_VALUE : endTs;
+    int total = auditLogDAO().listCount(condition, userName, entityType, start, end);
+
+    List<AuditLogRow> rows;
+    String beforeCursor = null, afterCursor = null;
+    if (before != null) {
+      // Reverse scrolling - Get one extra result used for computing before cursor
+      AuditLogRow cursor = AuditLogRow.parse(CursorCodec.instance().decode(before, Direction.BEFORE));
+      rows = auditLogDAO().listBefore(condition, userName, entityType, start, end, limitParam + 1,
+              cursor.timestamp, cursor.id);
+      Collections.reverse(rows);
+      if (rows.size() > limitParam) { // If extra result exists, then previous page exists - return before cursor
+        rows.remove(0);
+        beforeCursor = rows.get(0).cursor();
+      }
+      afterCursor = rows.isEmpty() ? null : rows.get(rows.size() - 1).cursor();
+    } else {
+      // Forward scrolling, if after == null then first page is being asked
+      AuditLogRow cursor = after == null ? AuditLogRow.FIRST :
+              AuditLogRow.parse(CursorCodec.instance().decode(after, Direction.AFTER));
+      rows = auditLogDAO().listAfter(condition, userName, entityType, start, end, limitParam + 1,
+              cursor.timestamp, cursor.id);
+      beforeCursor = after == null || rows.isEmpty() ? null : rows.get(0).cursor();
+      if (rows.size() > limitParam) { // If extra result exists, then next page exists - return after cursor
+        rows.remove(limitParam);
+        afterCursor = rows.get(limitParam - 1).cursor();
+      }
     }
-    return auditLogs;
+    List<AuditLog> auditLogs = new ArrayList<>(rows.size());
+    for (AuditLogRow row : rows) {
+      auditLogs.add(JsonUtils.readValue(row.json, AuditLog.class));
+    }
+    return new ResultList<>(auditLogs, beforeCursor, afterCursor, total);
   }
 
   @Transaction
@@ -52,44 +101,102 @@ public abstract class AuditLogRepository {
     return EntityUtil.validate(id, auditLogDAO().findById(id), AuditLog.class);
   }
 
-  @Transaction
-  public List<AuditLog> getByEntityType(String entityType) throws IOException {
-    List<String> jsons = auditLogDAO().findByEntityType(entityType);
-    List<AuditLog> auditLogs = new ArrayList<>();
-    for (String json : jsons) {
-      auditLogs.add(JsonUtils.readValue(json, AuditLog.class));
-    }
-    return auditLogs;
-  }
-
   @Transaction
   public AuditLog create(AuditLog auditLog) throws IOException {
-    auditLogDAO().insert(JsonUtils.pojoToJson(auditLog));
+    createAll(Collections.singletonList(auditLog));
     return auditLog;
   }
 
+  /** Write the audit log entries with a single multi-row insert */
+  public void createAll(List<AuditLog> auditLogs) throws IOException {
+    List<AuditLogRow> rows = new ArrayList<>(auditLogs.size());
+    for (AuditLog auditLog : auditLogs) {
+      long timestamp = auditLog.getDateTime() == null ? System.currentTimeMillis() : auditLog.getDateTime().getTime();
+      rows.add(new AuditLogRow(0, timestamp, JsonUtils.pojoToJson(auditLog)));
+    }
+    auditLogDAO().insertAll(rows);
+  }
+
   @Transaction
   public void delete(String id) {
     auditLogDAO().delete(id);
   }
 
-  public interface AuditLogDAO {
-    @SqlUpdate("INSERT INTO audit_log (json) VALUES (:json)")
-    void insert(@Bind("json") String json);
+  /** Row of audit_log. Position of the row in the audit log ordered by (timestamp, id) is used as paging cursor. */
+  public static class AuditLogRow {
+    static final AuditLogRow FIRST = new AuditLogRow(Long.MAX_VALUE, Long.MAX_VALUE, null);
 
-    @SqlQuery("SELECT json FROM audit_log WHERE id = :id")
-    String findById(@Bind("id") String id);
+    private final long id;
+    private final long timestamp;
+    private final String json;
 
-    @SqlQuery("SELECT json FROM audit_log WHERE entity_type = :entity_type")
-    List<String> findByEntityType(@Bind("entity_type") String entityType);
+    public AuditLogRow(long id, long timestamp, String json) {
+      this.id = id;
+      this.timestamp = timestamp;
+      this.json = json;
+    }
 
-    @SqlQuery("SELECT json FROM audit_log")
-    List<String> list();
+    public long getTimestamp() {
+      return timestamp;
+    }
 
-    @SqlUpdate("UPDATE audit_log_entity SET json = :json WHERE id = :id")
-    void update(@Bind("id") String id, @Bind("json") String json);
+    public String getJson() {
+      return json;
+    }
+
+    String cursor() {
+      return timestamp + ":" + id;
+    }
+
+    static AuditLogRow parse(String cursor) {
+      int separator = cursor.indexOf(':');
+      if (separator < 0) {
+        throw new IllegalArgumentException("Invalid audit log cursor " + cursor);
+      }
+      return new AuditLogRow(Long.parseLong(cursor.substring(separator + 1)),
+              Long.parseLong(cursor.substring(0, separator)), null);
+    }
+  }
+
+  public static class AuditLogRowMapper implements RowMapper<AuditLogRow> {
+    @Override
+    public AuditLogRow map(ResultSet rs, StatementContext ctx) throws SQLException {
+      return new AuditLogRow(rs.getLong("id"), rs.getLong("timestamp"), rs.getString("json"));
+    }
+  }
+
+  public interface AuditLogDAO {
+    @SqlUpdate("INSERT INTO audit_log (timestamp, json) VALUES <rows>")
+    void insertAll(@BindBeanList(value = "rows", propertyNames = {"timestamp", "json"}) List<AuditLogRow> rows);
+
+    @SqlQuery("SELECT json FROM audit_log WHERE id = :id")
+    String findById(@Bind("id") String id);
 
-    @SqlUpdate("DELETE FROM audit_log_entity WHERE id = :id")
+    @SqlQuery("SELECT count(*) FROM audit_log WHERE <condition> AND timestamp >= :startTs AND timestamp < :endTs")
+    int listCount(@Define("condition") String condition, @Bind("userName") String userName,
+                  @Bind("entityType") String entityType, @Bind("startTs") long startTs, @Bind("endTs") long endTs);
+
+    @SqlQuery("SELECT id, timestamp, json FROM audit_log " +
+            "WHERE <condition> AND timestamp >= :startTs AND timestamp < :endTs AND " +
+            "(timestamp < :timestamp OR (timestamp = :timestamp AND id < :id)) " +
+            "ORDER BY timestamp DESC, id DESC LIMIT :limit")
+    @RegisterRowMapper(AuditLogRowMapper.class)
+    List<AuditLogRow> listAfter(@Define("condition") String condition, @Bind("userName") String userName,
+                                @Bind("entityType") String entityType, @Bind("startTs") long startTs,
+                                @Bind("endTs") long endTs, @Bind("limit") int limit,
+                                @Bind("timestamp") long timestamp, @Bind("id") long id);
+
+    @SqlQuery("SELECT id, timestamp, json FROM audit_log " +
+            "WHERE <condition> AND timestamp >= :startTs AND timestamp < :endTs AND " +
+            "(timestamp > :timestamp OR (timestamp = :timestamp AND id > :id)) " +
+            "ORDER BY timestamp, id LIMIT :limit")
+    @RegisterRowMapper(AuditLogRowMapper.class)
+    List<AuditLogRow> listBefore(@Define("condition") String condition, @Bind("userName") String userName,
+                                 @Bind("entityType") String entityType, @Bind("startTs") long startTs,
+                                 @Bind("endTs") long endTs, @Bind("limit") int limit,
+                                 @Bind("timestamp") long timestamp, @Bind("id") long id);
+
+    @SqlUpdate("DELETE FROM audit_log WHERE id = :id")
     int delete(@Bind("id") String id);
   }
-}
\ No newline at end of file
+}
@@ -85,9 +85,9 @@ public class ChartRepository extends EntityRepository<Chart> {
     chart.withOwner(null).withService(null).withHref(null).withTags(null);
 
     if (update) {
-      dao.chartDAO().update(chart.getId(), JsonUtils.pojoToJson(chart));
+      dao.chartDAO().update(chart.getId(), JsonUtils.pojoToJson(chart), service);
     } else {
-      dao.chartDAO().insert(chart);
+      dao.chartDAO().insert(chart, service);
     }
 
     // Restore the relationships
@@ -16,13 +16,18 @@
 
 package org.openmetadata.catalog.jdbi3;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.sqlobject.CreateSqlObject;
 import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.BindList;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.jdbi.v3.sqlobject.transaction.Transaction;
+import org.openmetadata.catalog.Entity;
 import org.openmetadata.catalog.entity.Bots;
 import org.openmetadata.catalog.entity.data.Chart;
 import org.openmetadata.catalog.entity.data.Dashboard;
@@ -63,16 +68,27 @@ import org.openmetadata.catalog.jdbi3.TableRepository.TableEntityInterface;
 import org.openmetadata.catalog.jdbi3.TeamRepository.TeamEntityInterface;
 import org.openmetadata.catalog.jdbi3.TopicRepository.TopicEntityInterface;
 import org.openmetadata.catalog.jdbi3.UserRepository.UserEntityInterface;
+import org.openmetadata.catalog.type.ChangeDescription;
 import org.openmetadata.catalog.type.EntityReference;
+import org.openmetadata.catalog.type.EntityVersionSummary;
+import org.openmetadata.catalog.type.Post;
 import org.openmetadata.catalog.type.TagLabel;
 import org.openmetadata.catalog.type.UsageDetails;
 import org.openmetadata.catalog.type.UsageStats;
 import org.openmetadata.catalog.util.EntityUtil;
+import org.openmetadata.catalog.util.JsonUtils;
+import org.openmetadata.catalog.util.RestUtil;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 public interface CollectionDAO {
   @CreateSqlObject
@@ -84,6 +100,9 @@ public interface CollectionDAO {
   @CreateSqlObject
   FieldRelationshipDAO fieldRelationshipDAO();
 
+  @CreateSqlObject
+  ColumnJoinDAO columnJoinDAO();
+
   @CreateSqlObject
   EntityExtensionDAO entityExtensionDAO();
 
@@ -99,6 +118,12 @@ public interface CollectionDAO {
   @CreateSqlObject
   TableDAO tableDAO();
 
+  @CreateSqlObject
+  TableColumnDAO tableColumnDAO();
+
+  @CreateSqlObject
+  TableProfileDAO tableProfileDAO();
+
   @CreateSqlObject
   UsageDAO usageDAO();
 
@@ -147,6 +172,9 @@ public interface CollectionDAO {
   @CreateSqlObject
   FeedDAO feedDAO();
 
+  @CreateSqlObject
+  UserFeedDAO userFeedDAO();
+
   @CreateSqlObject
   LocationDAO locationDAO();
 
@@ -160,6 +188,12 @@ public interface CollectionDAO {
     @Override
     default String getNameColumn() { return "fullyQualifiedName"; }
 
+    @Override
+    default String getParentColumn() { return "serviceId"; }
+
+    @Override
+    default String getParentTableName() { return "dashboard_service_entity"; }
+
     @Override
     default EntityReference getEntityReference(Dashboard entity) {
       return new DashboardEntityInterface(entity).getEntityReference();
@@ -194,6 +228,12 @@ public interface CollectionDAO {
     @Override
     default String getNameColumn() { return "fullyQualifiedName"; }
 
+    @Override
+    default String getParentColumn() { return "serviceId"; }
+
+    @Override
+    default String getParentTableName() { return "dbservice_entity"; }
+
     @Override
     default EntityReference getEntityReference(Database entity) {
       return new DatabaseEntityInterface(entity).getEntityReference();
@@ -241,18 +281,64 @@ public interface CollectionDAO {
     @SqlQuery("SELECT json FROM entity_extension WHERE id = :id AND extension = :extension")
     String getExtension(@Bind("id") String id, @Bind("extension") String extension);
 
+    @SqlUpdate("REPLACE INTO entity_extension(id, extension, jsonSchema, compressedJson, codec) " +
+            "VALUES (:id, :extension, :jsonSchema, :compressedJson, :codec)")
+    void insertCompressed(@Bind("id") String id, @Bind("extension") String extension,
+                          @Bind("jsonSchema") String jsonSchema, @Bind("compressedJson") byte[] compressedJson,
+                          @Bind("codec") String codec);
+
+    @RegisterRowMapper(ExtensionPayloadMapper.class)
+    @SqlQuery("SELECT json, compressedJson, codec FROM entity_extension WHERE id = :id AND extension = :extension")
+    ExtensionPayload getExtensionPayload(@Bind("id") String id, @Bind("extension") String extension);
+
     @RegisterRowMapper(EntityVersionMapper.class)
-    @SqlQuery("SELECT extension, json FROM entity_extension WHERE id = :id AND extension " +
+    @SqlQuery("SELECT extension, json, baseExtension FROM entity_extension WHERE id = :id AND extension " +
             "LIKE CONCAT (:extensionPrefix, '.%')")
     List<EntityVersionPair> getEntityVersions(@Bind("id") String id, @Bind("extensionPrefix") String extensionPrefix);
 
     @SqlQuery("SELECT json FROM entity_extension WHERE id = :id AND extension = :extension")
     String getEntityVersion(@Bind("id") String id, @Bind("extension") String extension);
+
+    @RegisterRowMapper(EntityVersionMapper.class)
+    @SqlQuery("SELECT extension, json, baseExtension FROM entity_extension WHERE id = :id AND extension = :extension")
+    EntityVersionPair getEntityVersionPair(@Bind("id") String id, @Bind("extension") String extension);
+
+    @SqlUpdate("REPLACE INTO entity_extension(id, extension, jsonSchema, json, baseExtension, version, updatedAt, " +
+            "updatedBy, changeDescription) VALUES (:id, :extension, :jsonSchema, :json, :baseExtension, :version, " +
+            ":updatedAt, :updatedBy, :changeDescription)")
+    void insertVersion(@Bind("id") String id, @Bind("extension") String extension,
+                       @Bind("jsonSchema") String jsonSchema, @Bind("json") String json,
+                       @Bind("baseExtension") String baseExtension, @Bind("version") Double version,
+                       @Bind("updatedAt") Long updatedAt, @Bind("updatedBy") String updatedBy,
+                       @Bind("changeDescription") String changeDescription);
+
+    @RegisterRowMapper(EntityVersionSummaryMapper.class)
+    @SqlQuery("SELECT version, updatedAt, updatedBy, changeDescription FROM entity_extension " +
+            "WHERE id = :id AND version < :after ORDER BY version DESC LIMIT :limit")
+    List<EntityVersionSummary> listVersionsAfter(@Bind("id") String id, @Bind("limit") int limit,
+                                                 @Bind("after") double after);
+
+    @RegisterRowMapper(EntityVersionSummaryMapper.class)
+    @SqlQuery("SELECT version, updatedAt, updatedBy, changeDescription FROM entity_extension " +
+            "WHERE id = :id AND version > :before ORDER BY version LIMIT :limit")
+    List<EntityVersionSummary> listVersionsBefore(@Bind("id") String id, @Bind("limit") int limit,
+                                                  @Bind("before") double before);
+
+    @SqlQuery("SELECT extension FROM entity_extension WHERE id = :id AND updatedAt <= :asOf " +
+            "ORDER BY updatedAt DESC LIMIT 1")
+    String getVersionAsOf(@Bind("id") String id, @Bind("asOf") long asOf);
+
+    @SqlQuery("SELECT COUNT(*) FROM entity_extension WHERE id = :id AND version IS NOT NULL")
+    int listVersionsCount(@Bind("id") String id);
+
+    @SqlQuery("SELECT COUNT(*) FROM entity_extension WHERE id = :id AND baseExtension = :baseExtension")
+    int getDeltaCount(@Bind("id") String id, @Bind("baseExtension") String baseExtension);
   }
 
   class EntityVersionPair {
     private final Double version;
     private final String entityJson;
+    private final String baseExtension;
 
     public Double getVersion() {
       return version;
@@ -262,9 +348,55 @@ public interface CollectionDAO {
       return entityJson;
     }
 
+    /** Extension of the full snapshot that {@code entityJson} JSON patch applies to; null for full snapshots */
+    public String getBaseExtension() {
+      return baseExtension;
+    }
+
+    public boolean isDelta() {
+      return baseExtension != null;
+    }
+
     public EntityVersionPair(Double version, String json) {
+      this(version, json, null);
+    }
+
+    public EntityVersionPair(Double version, String json, String baseExtension) {
       this.version = version;
       this.entityJson = json;
+      this.baseExtension = baseExtension;
+    }
+  }
+
+  /** Extension stored either as json, or compressed with {@code codec} when codec is not null */
+  class ExtensionPayload {
+    private final String json;
+    private final byte[] compressedJson;
+    private final String codec;
+
+    public ExtensionPayload(String json, byte[] compressedJson, String codec) {
+      this.json = json;
+      this.compressedJson = compressedJson;
+      this.codec = codec;
+    }
+
+    public String getJson() {
+      return json;
+    }
+
+    public byte[] getCompressedJson() {
+      return compressedJson;
+    }
+
+    public String getCodec() {
+      return codec;
+    }
+  }
+
+  class ExtensionPayloadMapper implements RowMapper<ExtensionPayload> {
+    @Override
+    public ExtensionPayload map(ResultSet rs, StatementContext ctx) throws SQLException {
+      return new ExtensionPayload(rs.getString("json"), rs.getBytes("compressedJson"), rs.getString("codec"));
     }
   }
 
@@ -272,54 +404,117 @@ public interface CollectionDAO {
     @Override
     public EntityVersionPair map(ResultSet rs, StatementContext ctx) throws SQLException {
       Double version = EntityUtil.getVersion(rs.getString("extension"));
-      return new EntityVersionPair(version, rs.getString("json"));
+      return new EntityVersionPair(version, rs.getString("json"), rs.getString("baseExtension"));
+    }
+  }
+
+  class EntityVersionSummaryMapper implements RowMapper<EntityVersionSummary> {
+    @Override
+    public EntityVersionSummary map(ResultSet rs, StatementContext ctx) throws SQLException {
+      long updatedAt = rs.getLong("updatedAt");
+      Date updatedDate = rs.wasNull() ? null : new Date(updatedAt);
+      ChangeDescription changeDescription;
+      try {
+        changeDescription = JsonUtils.readValue(rs.getString("changeDescription"), ChangeDescription.class);
+      } catch (IOException e) {
+        throw new SQLException(e);
+      }
+      return new EntityVersionSummary().withVersion(rs.getDouble("version"))
+              .withUpdatedAt(updatedDate)
+              .withUpdatedBy(rs.getString("updatedBy")).withChangeDescription(changeDescription);
     }
   }
 
+  /**
+   * Relationships store the ids of the entities as BINARY(16) and their types as ids of the entity_type dictionary.
+   * Callers bind and get back ids and type names as text. MySQL 5.7 has neither UUID_TO_BIN nor BIN_TO_UUID, so ids
+   * are bound with UNHEX(REPLACE(id, '-', '')) and returned with BIN_TO_UUID + column + BIN_TO_UUID_END.
+   */
   interface EntityRelationshipDAO {
+    String BIN_TO_UUID = "LOWER(INSERT(INSERT(INSERT(INSERT(HEX(";
+    String BIN_TO_UUID_END = "), 9, 0, '-'), 14, 0, '-'), 19, 0, '-'), 24, 0, '-'))";
+
+    /** Entity types added to the dictionary by the migration that creates it, v011 */
+    Set<String> SEEDED_ENTITY_TYPES = Set.of(Entity.DATABASE_SERVICE, Entity.MESSAGING_SERVICE,
+            Entity.DASHBOARD_SERVICE, Entity.PIPELINE_SERVICE, Entity.STORAGE_SERVICE, Entity.TABLE, Entity.DATABASE,
+            Entity.METRICS, Entity.DASHBOARD, Entity.PIPELINE, Entity.CHART, Entity.REPORT, Entity.TOPIC, Entity.MODEL,
+            Entity.BOTS, Entity.LOCATION, Entity.POLICY, Entity.USER, Entity.TEAM, "thread");
+
+    /**
+     * Insert a relationship, resolving the entity types to their ids in the same statement. When nothing is inserted,
+     * the relationship usually exists already, which is the case of every relationship stored again by an update.
+     * Otherwise an entity type that is not seeded may be missing from the dictionary, it is then added and the insert
+     * is tried once more.
+     */
+    default int insert(String fromId, String toId, String fromEntity, String toEntity, int relation) {
+      int count = insertByTypeName(fromId, toId, fromEntity, toEntity, relation);
+      if (count == 0 && !(SEEDED_ENTITY_TYPES.contains(fromEntity) && SEEDED_ENTITY_TYPES.contains(toEntity)) &&
+              countEntityTypes(fromEntity, toEntity) < (fromEntity.equals(toEntity) ? 1 : 2)) {
+        insertEntityType(fromEntity);
+        insertEntityType(toEntity);
+        count = insertByTypeName(fromId, toId, fromEntity, toEntity, relation);
+      }
+      return count;
+    }
+
     @SqlUpdate("INSERT IGNORE INTO entity_relationship(fromId, toId, fromEntity, toEntity, relation) " +
-            "VALUES (:fromId, :toId, :fromEntity, :toEntity, :relation)")
-    int insert(@Bind("fromId") String fromId, @Bind("toId") String toId, @Bind("fromEntity") String fromEntity,
-               @Bind("toEntity") String toEntity, @Bind("relation") int relation);
+            "SELECT UNHEX(REPLACE(:fromId, '-', '')), UNHEX(REPLACE(:toId, '-', '')), f.id, t.id, :relation " +
+            "FROM entity_type f JOIN entity_type t ON t.name = :toEntity WHERE f.name = :fromEntity")
+    int insertByTypeName(@Bind("fromId") String fromId, @Bind("toId") String toId,
+                         @Bind("fromEntity") String fromEntity, @Bind("toEntity") String toEntity,
+                         @Bind("relation") int relation);
+
+    @SqlQuery("SELECT COUNT(*) FROM entity_type WHERE name IN (:fromEntity, :toEntity)")
+    int countEntityTypes(@Bind("fromEntity") String fromEntity, @Bind("toEntity") String toEntity);
+
+    // Add an entity type to the dictionary unless it is already there, without using up an auto increment id
+    @SqlUpdate("INSERT IGNORE INTO entity_type(name) SELECT :name FROM DUAL " +
+            "WHERE NOT EXISTS (SELECT 1 FROM entity_type WHERE name = :name)")
+    void insertEntityType(@Bind("name") String name);
 
     //
     // Find to operations
     //
-    @SqlQuery("SELECT toId, toEntity FROM entity_relationship " +
-            "WHERE fromId = :fromId AND relation = :relation " +
-            "ORDER BY toId")
+    @SqlQuery("SELECT " + BIN_TO_UUID + "r.toId" + BIN_TO_UUID_END + " AS toId, t.name AS toEntity " +
+            "FROM entity_relationship r JOIN entity_type t ON t.id = r.toEntity " +
+            "WHERE r.fromId = UNHEX(REPLACE(:fromId, '-', '')) AND r.relation = :relation " +
+            "ORDER BY r.toId")
     @RegisterRowMapper(ToEntityReferenceMapper.class)
     List<EntityReference> findTo(@Bind("fromId") String fromId, @Bind("relation") int relation);
 
-    @SqlQuery("SELECT toId FROM entity_relationship " +
-            "WHERE fromId = :fromId AND relation = :relation AND toEntity = :toEntity " +
-            "ORDER BY toId")
+    @SqlQuery("SELECT " + BIN_TO_UUID + "r.toId" + BIN_TO_UUID_END + " FROM entity_relationship r " +
+            "WHERE r.fromId = UNHEX(REPLACE(:fromId, '-', '')) AND r.relation = :relation " +
+            "AND r.toEntity = (SELECT id FROM entity_type WHERE name = :toEntity) " +
+            "ORDER BY r.toId")
     List<String> findTo(@Bind("fromId") String fromId, @Bind("relation") int relation,
                         @Bind("toEntity") String toEntity);
 
     @SqlQuery("SELECT count(*) FROM entity_relationship " +
-            "WHERE fromId = :fromId AND relation = :relation AND toEntity = :toEntity " +
-            "ORDER BY fromId")
+            "WHERE fromId = UNHEX(REPLACE(:fromId, '-', '')) AND relation = :relation " +
+            "AND toEntity = (SELECT id FROM entity_type WHERE name = :toEntity)")
     int findToCount(@Bind("fromId") String fromId, @Bind("relation") int relation, @Bind("toEntity") String toEntity);
 
     //
     // Find from operations
     //
-    @SqlQuery("SELECT fromId FROM entity_relationship " +
-            "WHERE toId = :toId AND relation = :relation AND fromEntity = :fromEntity " +
-            "ORDER BY fromId")
+    @SqlQuery("SELECT " + BIN_TO_UUID + "r.fromId" + BIN_TO_UUID_END + " FROM entity_relationship r " +
+            "WHERE r.toId = UNHEX(REPLACE(:toId, '-', '')) AND r.relation = :relation " +
+            "AND r.fromEntity = (SELECT id FROM entity_type WHERE name = :fromEntity) " +
+            "ORDER BY r.fromId")
     List<String> findFrom(@Bind("toId") String toId, @Bind("relation") int relation,
                           @Bind("fromEntity") String fromEntity);
 
-    @SqlQuery("SELECT fromId, fromEntity FROM entity_relationship " +
-            "WHERE toId = :toId AND relation = :relation " +
-            "ORDER BY fromId")
+    @SqlQuery("SELECT " + BIN_TO_UUID + "r.fromId" + BIN_TO_UUID_END + " AS fromId, f.name AS fromEntity " +
+            "FROM entity_relationship r JOIN entity_type f ON f.id = r.fromEntity " +
+            "WHERE r.toId = UNHEX(REPLACE(:toId, '-', '')) AND r.relation = :relation " +
+            "ORDER BY r.fromId")
     @RegisterRowMapper(FromEntityReferenceMapper.class)
     List<EntityReference> findFrom(@Bind("toId") String toId, @Bind("relation") int relation);
 
-    @SqlQuery("SELECT fromId, fromEntity FROM entity_relationship " +
-            "WHERE toId = :toId AND relation = :relation AND fromEntity = :fromEntity " +
-            "ORDER BY fromId")
+    @SqlQuery("SELECT " + BIN_TO_UUID + "r.fromId" + BIN_TO_UUID_END + " AS fromId, f.name AS fromEntity " +
+            "FROM entity_relationship r JOIN entity_type f ON f.id = r.fromEntity " +
+            "WHERE r.toId = UNHEX(REPLACE(:toId, '-', '')) AND r.relation = :relation AND f.name = :fromEntity " +
+            "ORDER BY r.fromId")
     @RegisterRowMapper(FromEntityReferenceMapper.class)
     List<EntityReference> findFromEntity(@Bind("toId") String toId, @Bind("relation") int relation,
                                          @Bind("fromEntity") String fromEntity);
@@ -328,41 +523,204 @@ public interface CollectionDAO {
     // Delete Operations
     //
     @SqlUpdate("DELETE from entity_relationship " +
-            "WHERE fromId = :fromId AND toId = :toId AND relation = :relation")
+            "WHERE fromId = UNHEX(REPLACE(:fromId, '-', '')) AND toId = UNHEX(REPLACE(:toId, '-', '')) " +
+            "AND relation = :relation")
     void delete(@Bind("fromId") String fromId, @Bind("toId") String toId, @Bind("relation") int relation);
 
     // Delete all the entity relationship fromID --- relation --> entity of type toEntity
     @SqlUpdate("DELETE from entity_relationship " +
-            "WHERE fromId = :fromId AND relation = :relation AND toEntity = :toEntity")
+            "WHERE fromId = UNHEX(REPLACE(:fromId, '-', '')) AND relation = :relation " +
+            "AND toEntity = (SELECT id FROM entity_type WHERE name = :toEntity)")
     void deleteFrom(@Bind("fromId") String fromId, @Bind("relation") int relation, @Bind("toEntity") String toEntity);
 
     // Delete all the entity relationship fromID --- relation --> to any entity
     @SqlUpdate("DELETE from entity_relationship " +
-            "WHERE fromId = :fromId AND relation = :relation")
+            "WHERE fromId = UNHEX(REPLACE(:fromId, '-', '')) AND relation = :relation")
     void deleteFrom(@Bind("fromId") String fromId, @Bind("relation") int relation);
 
     // Delete all the entity relationship toId <-- relation --  entity of type fromEntity
     @SqlUpdate("DELETE from entity_relationship " +
-            "WHERE toId = :toId AND relation = :relation AND fromEntity = :fromEntity")
+            "WHERE toId = UNHEX(REPLACE(:toId, '-', '')) AND relation = :relation " +
+            "AND fromEntity = (SELECT id FROM entity_type WHERE name = :fromEntity)")
     void deleteTo(@Bind("toId") String toId, @Bind("relation") int relation, @Bind("fromEntity") String fromEntity);
 
     @SqlUpdate("DELETE from entity_relationship " +
-            "WHERE toId = :id OR fromId = :id")
+            "WHERE toId = UNHEX(REPLACE(:id, '-', '')) OR fromId = UNHEX(REPLACE(:id, '-', ''))")
     void deleteAll(@Bind("id") String id);
+
+    /** Binary form of an id, for lists of ids bound with {@link BindList} that can not be converted in SQL */
+    static byte[] toBinary(String id) {
+      UUID uuid = UUID.fromString(id);
+      return ByteBuffer.allocate(16).putLong(uuid.getMostSignificantBits())
+              .putLong(uuid.getLeastSignificantBits()).array();
+    }
   }
 
   interface FeedDAO {
-    @SqlUpdate("INSERT INTO thread_entity(json) VALUES (:json)")
-    void insert(@Bind("json") String json);
+    @SqlUpdate("INSERT INTO thread_entity(json, updatedAt, postCount) VALUES (:json, :updatedAt, 0)")
+    void insert(@Bind("json") String json, @Bind("updatedAt") long updatedAt);
 
     @SqlQuery("SELECT json FROM thread_entity WHERE id = :id")
     String findById(@Bind("id") String id);
 
-    @SqlQuery("SELECT json FROM thread_entity")
-    List<String> list();
+    // Posts of a thread are stored in thread_post keyed by (threadId, seq). The thread_entity row is the thread header
+    // with postCount used for allocating seq of the next post. The assignments of an UPDATE are evaluated from left to
+    // right, so postCount in the json is the incremented count, and the json is compared with updatedAt before it
+    // moves. The json updatedAt, which paging cursors are made of, only moves forward along with the column.
+    @SqlUpdate("INSERT INTO thread_post(threadId, seq, json) VALUES (:threadId, :seq, :json)")
+    void insertPost(@Bind("threadId") String threadId, @Bind("seq") int seq, @Bind("json") String json);
+
+    @SqlUpdate("UPDATE thread_entity SET postCount = LAST_INSERT_ID(postCount + 1), " +
+            "json = JSON_SET(json, '$.postCount', postCount, '$.updatedAt', " +
+            "IF(:updatedAt > updatedAt, :updatedAtString, JSON_UNQUOTE(JSON_EXTRACT(json, '$.updatedAt')))), " +
+            "updatedAt = GREATEST(updatedAt, :updatedAt) " +
+            "WHERE id = :id")
+    int nextPostSeq(@Bind("id") String id, @Bind("updatedAt") long updatedAt,
+                    @Bind("updatedAtString") String updatedAtString);
+
+    @SqlQuery("SELECT LAST_INSERT_ID()")
+    int lastInsertId();
+
+    /**
+     * Append a post to a thread without reading the thread. Returns seq of the post, or 0 when the thread does not
+     * exist. Concurrent posts to a thread only serialize on the short update of the thread header.
+     */
+    @Transaction
+    default int appendPost(String threadId, Post post) throws JsonProcessingException {
+      if (nextPostSeq(threadId, post.getPostTs().getTime(), RestUtil.formatDateTime(post.getPostTs())) == 0) {
+        return 0;
+      }
+      int seq = lastInsertId();
+      insertPost(threadId, seq, JsonUtils.pojoToJson(post));
+      return seq;
+    }
+
+    @SqlQuery("SELECT json FROM thread_post WHERE threadId = :threadId AND seq > :after ORDER BY seq LIMIT :limit")
+    List<String> listPostsAfter(@Bind("threadId") String threadId, @Bind("limit") int limit,
+                                @Bind("after") int after);
+
+    @SqlQuery("SELECT json FROM thread_post WHERE threadId = :threadId AND seq < :before ORDER BY seq DESC " +
+            "LIMIT :limit")
+    List<String> listPostsBefore(@Bind("threadId") String threadId, @Bind("limit") int limit,
+                                 @Bind("before") int before);
+
+    @SqlQuery("SELECT postCount FROM thread_entity WHERE id = :id")
+    Integer getPostCount(@Bind("id") String id);
+
+    /** List the most recent {@code count} posts of each of the threads, as [threadId, json] */
+    @SqlQuery("SELECT p.threadId, p.json FROM thread_post p JOIN thread_entity t ON t.id = p.threadId " +
+            "WHERE p.threadId IN (<threadIds>) AND p.seq > t.postCount - :count ORDER BY p.threadId, p.seq")
+    @RegisterRowMapper(ThreadPostMapper.class)
+    List<List<String>> listRecentPosts(@BindList("threadIds") List<String> threadIds, @Bind("count") int count);
+
+    class ThreadPostMapper implements RowMapper<List<String>> {
+      @Override
+      public List<String> map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return Arrays.asList(rs.getString("threadId"), rs.getString("json"));
+      }
+    }
+
+    // Threads are listed from the most to the least recently active, ordered by (updatedAt, id) to break ties
+    @SqlQuery("SELECT json FROM thread_entity WHERE updatedAt < :updatedAt OR (updatedAt = :updatedAt AND id < :id) " +
+            "ORDER BY updatedAt DESC, id DESC LIMIT :limit")
+    List<String> listAfter(@Bind("limit") int limit, @Bind("updatedAt") long updatedAt, @Bind("id") String id);
+
+    @SqlQuery("SELECT json FROM thread_entity WHERE updatedAt > :updatedAt OR (updatedAt = :updatedAt AND id > :id) " +
+            "ORDER BY updatedAt, id LIMIT :limit")
+    List<String> listBefore(@Bind("limit") int limit, @Bind("updatedAt") long updatedAt, @Bind("id") String id);
 
-    @SqlUpdate("UPDATE thread_entity SET json = :json where id = :id")
-    void update(@Bind("id") String id, @Bind("json") String json);
+    @SqlQuery("SELECT count(*) FROM thread_entity")
+    int listCount();
+
+    @SqlQuery("SELECT json FROM thread_entity WHERE id IN (<ids>)")
+    List<String> findByIds(@BindList("ids") List<String> ids);
+
+    @SqlQuery("SELECT json FROM thread_entity WHERE id IN (<ids>) AND " +
+            "(updatedAt < :updatedAt OR (updatedAt = :updatedAt AND id < :id)) " +
+            "ORDER BY updatedAt DESC, id DESC LIMIT :limit")
+    List<String> listAfter(@BindList("ids") List<String> ids, @Bind("limit") int limit,
+                           @Bind("updatedAt") long updatedAt, @Bind("id") String id);
+
+    @SqlQuery("SELECT json FROM thread_entity WHERE id IN (<ids>) AND " +
+            "(updatedAt > :updatedAt OR (updatedAt = :updatedAt AND id > :id)) " +
+            "ORDER BY updatedAt, id LIMIT :limit")
+    List<String> listBefore(@BindList("ids") List<String> ids, @Bind("limit") int limit,
+                            @Bind("updatedAt") long updatedAt, @Bind("id") String id);
+  }
+
+  /**
+   * Materialized feed of a user with one (userId, threadId, updatedAt) row for each thread the user takes part in, kept
+   * up to date on thread create and reply.
+   */
+  interface UserFeedDAO {
+    String UUID_FROM_ID = EntityRelationshipDAO.BIN_TO_UUID + "fromId" + EntityRelationshipDAO.BIN_TO_UUID_END;
+    String UUID_TO_ID = EntityRelationshipDAO.BIN_TO_UUID + "toId" + EntityRelationshipDAO.BIN_TO_UUID_END;
+    String UUID_A_FROM_ID = EntityRelationshipDAO.BIN_TO_UUID + "a.fromId" + EntityRelationshipDAO.BIN_TO_UUID_END;
+    String UUID_M_TO_ID = EntityRelationshipDAO.BIN_TO_UUID + "m.toId" + EntityRelationshipDAO.BIN_TO_UUID_END;
+    String USER_TYPE = "(SELECT id FROM entity_type WHERE name = 'user')";
+    String TEAM_TYPE = "(SELECT id FROM entity_type WHERE name = 'team')";
+
+    /**
+     * Add the threads to the feed of the users taking part in them, or move them to the thread's updatedAt when already
+     * there. Users taking part in a thread are the users who created, replied to or were mentioned in it, and the
+     * owners of the entity the thread is addressed to, which for a team owner are the members of the team.
+     */
+    @SqlUpdate("INSERT INTO user_feed(userId, threadId, updatedAt) " +
+            "SELECT p.userId, t.id, t.updatedAt FROM thread_entity t JOIN (" +
+            "SELECT " + UUID_FROM_ID + " AS userId, " + UUID_TO_ID + " AS threadId FROM entity_relationship " +
+            "WHERE toId IN (<threadKeys>) AND fromEntity = " + USER_TYPE + " AND relation IN (:created, :repliedTo) " +
+            "UNION SELECT " + UUID_TO_ID + ", " + UUID_FROM_ID + " FROM entity_relationship " +
+            "WHERE fromId IN (<threadKeys>) AND toEntity = " + USER_TYPE + " AND relation = :addressedTo " +
+            "UNION SELECT " + UUID_M_TO_ID + ", " + UUID_A_FROM_ID + " FROM entity_relationship a " +
+            "JOIN entity_relationship m ON m.fromId = a.toId " +
+            "WHERE a.fromId IN (<threadKeys>) AND a.toEntity = " + TEAM_TYPE + " AND a.relation = :addressedTo " +
+            "AND m.toEntity = " + USER_TYPE + " AND m.relation = :contains " +
+            "UNION SELECT u.id, f.toFQN FROM field_relationship f JOIN user_entity u ON u.name = f.fromFQN " +
+            "WHERE f.toFQN IN (<threadIds>) AND f.fromType = 'user' AND f.toType = 'thread' " +
+            "AND f.relation = :mentionedIn" +
+            ") p ON p.threadId = t.id " +
+            "ON DUPLICATE KEY UPDATE updatedAt = GREATEST(user_feed.updatedAt, VALUES(updatedAt))")
+    void fanOut(@BindList("threadIds") List<String> threadIds, @BindList("threadKeys") List<byte[]> threadKeys,
+                @Bind("created") int created, @Bind("repliedTo") int repliedTo, @Bind("addressedTo") int addressedTo,
+                @Bind("contains") int contains, @Bind("mentionedIn") int mentionedIn);
+
+    default void fanOut(List<String> threadIds) {
+      List<byte[]> threadKeys = threadIds.stream().map(EntityRelationshipDAO::toBinary).collect(Collectors.toList());
+      fanOut(threadIds, threadKeys, Relationship.CREATED.ordinal(), Relationship.REPLIED_TO.ordinal(),
+              Relationship.ADDRESSED_TO.ordinal(), Relationship.CONTAINS.ordinal(),
+              Relationship.MENTIONED_IN.ordinal());
+    }
+
+    // Threads are listed from the most to the least recently active, ordered by (updatedAt, threadId) to break ties
+    @SqlQuery("SELECT threadId, updatedAt FROM user_feed WHERE userId = :userId AND " +
+            "(updatedAt < :updatedAt OR (updatedAt = :updatedAt AND threadId < :threadId)) " +
+            "ORDER BY updatedAt DESC, threadId DESC LIMIT :limit")
+    @RegisterRowMapper(UserFeedMapper.class)
+    List<List<String>> listAfter(@Bind("userId") String userId, @Bind("limit") int limit,
+                                 @Bind("updatedAt") long updatedAt, @Bind("threadId") String threadId);
+
+    @SqlQuery("SELECT threadId, updatedAt FROM user_feed WHERE userId = :userId AND " +
+            "(updatedAt > :updatedAt OR (updatedAt = :updatedAt AND threadId > :threadId)) " +
+            "ORDER BY updatedAt, threadId LIMIT :limit")
+    @RegisterRowMapper(UserFeedMapper.class)
+    List<List<String>> listBefore(@Bind("userId") String userId, @Bind("limit") int limit,
+                                  @Bind("updatedAt") long updatedAt, @Bind("threadId") String threadId);
+
+    @SqlQuery("SELECT count(*) FROM user_feed WHERE userId = :userId")
+    int listCount(@Bind("userId") String userId);
+
+    @SqlQuery("SELECT threadId FROM user_feed_backfill LIMIT :limit")
+    List<String> listBackfill(@Bind("limit") int limit);
+
+    @SqlUpdate("DELETE FROM user_feed_backfill WHERE threadId IN (<threadIds>)")
+    void deleteBackfill(@BindList("threadIds") List<String> threadIds);
+
+    class UserFeedMapper implements RowMapper<List<String>> {
+      @Override
+      public List<String> map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return Arrays.asList(rs.getString("threadId"), rs.getString("updatedAt"));
+      }
+    }
   }
 
   interface FieldRelationshipDAO {
@@ -371,6 +729,13 @@ public interface CollectionDAO {
     void insert(@Bind("fromFQN") String fromFQN, @Bind("toFQN") String toFQN, @Bind("fromType") String fromType,
                 @Bind("toType") String toType, @Bind("relation") int relation);
 
+    // Insert relationships from each of fromFQNs with type of the same index in fromTypes to toFQN in a single batch
+    @SqlBatch("INSERT IGNORE INTO field_relationship(fromFQN, toFQN, fromType, toType, relation) " +
+            "VALUES (:fromFQN, :toFQN, :fromType, :toType, :relation)")
+    void insertAll(@Bind("fromFQN") List<String> fromFQNs, @Bind("toFQN") String toFQN,
+                   @Bind("fromType") List<String> fromTypes, @Bind("toType") String toType,
+                   @Bind("relation") int relation);
+
     @SqlUpdate("INSERT INTO field_relationship(fromFQN, toFQN, fromType, toType, relation, jsonSchema, json) " +
             "VALUES (:fromFQN, :toFQN, :fromType, :toType, :relation, :jsonSchema, :json) " +
             "ON DUPLICATE KEY UPDATE json = :json")
@@ -397,6 +762,33 @@ public interface CollectionDAO {
     List<List<String>> listToByPrefix(@Bind("fqnPrefix") String fqnPrefix, @Bind("fromType") String fromType,
                                 @Bind("toType") String toType, @Bind("relation") int relation);
 
+    // Relationships with a field of the given prefix on either side, each relationship once
+    @SqlQuery("SELECT fromFQN, toFQN, json FROM field_relationship WHERE fromFQN LIKE CONCAT(:fqnPrefix, '%') " +
+            "AND fromType = :fromType AND toType = :toType AND relation = :relation " +
+            "UNION ALL SELECT fromFQN, toFQN, json FROM field_relationship WHERE toFQN LIKE CONCAT(:fqnPrefix, '%') " +
+            "AND fromFQN NOT LIKE CONCAT(:fqnPrefix, '%') AND fromType = :fromType AND toType = :toType " +
+            "AND relation = :relation")
+    @RegisterRowMapper(ToFieldMapper.class)
+    List<List<String>> listByPrefix(@Bind("fqnPrefix") String fqnPrefix, @Bind("fromType") String fromType,
+                                    @Bind("toType") String toType, @Bind("relation") int relation);
+
+    // Relationships from any of fromFQNs to any of toFQNs, which include the pairs of fromFQNs and toFQNs of the same
+    // index along with other pairs that the callers skip
+    @SqlQuery("SELECT fromFQN, toFQN, json FROM field_relationship WHERE fromFQN IN (<fromFQNs>) " +
+            "AND toFQN IN (<toFQNs>) AND fromType = :fromType AND toType = :toType AND relation = :relation")
+    @RegisterRowMapper(ToFieldMapper.class)
+    List<List<String>> listByFQNs(@BindList("fromFQNs") List<String> fromFQNs, @BindList("toFQNs") List<String> toFQNs,
+                                  @Bind("fromType") String fromType, @Bind("toType") String toType,
+                                  @Bind("relation") int relation);
+
+    // Insert or update the relationships from each of fromFQNs to toFQN of the same index in a single batch
+    @SqlBatch("INSERT INTO field_relationship(fromFQN, toFQN, fromType, toType, relation, jsonSchema, json) " +
+            "VALUES (:fromFQN, :toFQN, :fromType, :toType, :relation, :jsonSchema, :json) " +
+            "ON DUPLICATE KEY UPDATE json = VALUES(json)")
+    void upsertAll(@Bind("fromFQN") List<String> fromFQNs, @Bind("toFQN") List<String> toFQNs,
+                   @Bind("fromType") String fromType, @Bind("toType") String toType, @Bind("relation") int relation,
+                   @Bind("jsonSchema") String jsonSchema, @Bind("json") List<String> jsons);
+
     @SqlUpdate("DELETE from field_relationship WHERE " +
             "(toFQN LIKE CONCAT(:fqnPrefix, '.%') OR fromFQN LIKE CONCAT(:fqnPrefix, '.%')) " +
             "AND relation = :relation")
@@ -417,6 +809,51 @@ public interface CollectionDAO {
     }
   }
 
+  /** Summary of the joins of each table column with the join count of the last 30 days, see {@link ColumnJoins} */
+  interface ColumnJoinDAO {
+    @SqlBatch("INSERT INTO column_join(columnFQN, joinedFQN, tableFQN, joinedTableFQN, joinCount, firstDay) " +
+            "VALUES (:columnFQN, :joinedFQN, :tableFQN, :joinedTableFQN, :joinCount, :firstDay) " +
+            "ON DUPLICATE KEY UPDATE joinCount = VALUES(joinCount), firstDay = VALUES(firstDay)")
+    void upsertAll(@Bind("columnFQN") List<String> columnFQNs, @Bind("joinedFQN") List<String> joinedFQNs,
+                   @Bind("tableFQN") List<String> tableFQNs, @Bind("joinedTableFQN") List<String> joinedTableFQNs,
+                   @Bind("joinCount") List<Integer> joinCounts, @Bind("firstDay") List<Integer> firstDays);
+
+    @SqlQuery("SELECT columnFQN, joinedFQN, joinCount FROM column_join WHERE tableFQN = :tableFQN " +
+            "ORDER BY columnFQN, joinedFQN")
+    @RegisterRowMapper(ColumnJoinMapper.class)
+    List<List<String>> listByTable(@Bind("tableFQN") String tableFQN);
+
+    @SqlQuery("SELECT joinedTableFQN, SUM(joinCount) AS joinCount FROM column_join WHERE tableFQN = :tableFQN " +
+            "GROUP BY joinedTableFQN ORDER BY joinCount DESC, joinedTableFQN LIMIT :limit")
+    @RegisterRowMapper(JoinedTableMapper.class)
+    List<List<String>> listTopJoinedTables(@Bind("tableFQN") String tableFQN, @Bind("limit") int limit);
+
+    // Column pairs with join counts from before the given day, which are due to expire
+    @SqlQuery("SELECT columnFQN, joinedFQN, joinCount FROM column_join WHERE firstDay < :firstDay LIMIT :limit")
+    @RegisterRowMapper(ColumnJoinMapper.class)
+    List<List<String>> listExpiring(@Bind("firstDay") int firstDay, @Bind("limit") int limit);
+
+    // Joins of the columns of a table on either side, when the table is deleted. The rows of the joined side are the
+    // mirrors of the rows of the table, and are found by their primary key instead of scanning for joinedTableFQN
+    @SqlUpdate("DELETE c, m FROM column_join c LEFT JOIN column_join m " +
+            "ON m.columnFQN = c.joinedFQN AND m.joinedFQN = c.columnFQN WHERE c.tableFQN = :tableFQN")
+    int deleteByTable(@Bind("tableFQN") String tableFQN);
+
+    class ColumnJoinMapper implements RowMapper<List<String>> {
+      @Override
+      public List<String> map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return Arrays.asList(rs.getString("columnFQN"), rs.getString("joinedFQN"), rs.getString("joinCount"));
+      }
+    }
+
+    class JoinedTableMapper implements RowMapper<List<String>> {
+      @Override
+      public List<String> map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return Arrays.asList(rs.getString("joinedTableFQN"), rs.getString("joinCount"));
+      }
+    }
+  }
+
   interface BotsDAO extends EntityDAO<Bots>{
     @Override
     default String getTableName() { return "bots_entity"; }
@@ -443,6 +880,12 @@ public interface CollectionDAO {
     @Override
     default String getNameColumn() { return "fullyQualifiedName"; }
 
+    @Override
+    default String getParentColumn() { return "serviceId"; }
+
+    @Override
+    default String getParentTableName() { return "dashboard_service_entity"; }
+
     @Override
     default EntityReference getEntityReference(Chart entity) {
       return new ChartEntityInterface(entity).getEntityReference();
@@ -507,6 +950,12 @@ public interface CollectionDAO {
     @Override
     default String getNameColumn() { return "fullyQualifiedName"; }
 
+    @Override
+    default String getParentColumn() { return "serviceId"; }
+
+    @Override
+    default String getParentTableName() { return "pipeline_service_entity"; }
+
     @Override
     default EntityReference getEntityReference(Pipeline entity) {
       return new PipelineEntityInterface(entity).getEntityReference();
@@ -575,12 +1024,99 @@ public interface CollectionDAO {
     @Override
     default String getNameColumn() { return "fullyQualifiedName"; }
 
+    @Override
+    default String getParentColumn() { return "databaseId"; }
+
+    @Override
+    default String getParentTableName() { return "database_entity"; }
+
+    @Override
+    default String getParentNameColumn() { return "fullyQualifiedName"; }
+
     @Override
     default EntityReference getEntityReference(Table entity) {
       return new TableEntityInterface(entity).getEntityReference();
     }
   }
 
+  /**
+   * Columns of tables, stored apart from the table json so that wide tables are read, paged and updated a column at a
+   * time. A row holds a top level column with its nested children, keyed by the position of the column in the table.
+   */
+  interface TableColumnDAO {
+    @SqlQuery("SELECT json FROM table_column WHERE tableId = :tableId ORDER BY ordinal")
+    List<String> listColumns(@Bind("tableId") String tableId);
+
+    @SqlQuery("SELECT count(*) FROM table_column WHERE tableId = :tableId AND name LIKE CONCAT(:namePrefix, '%')")
+    int listCount(@Bind("tableId") String tableId, @Bind("namePrefix") String namePrefix);
+
+    @SqlQuery("SELECT ordinal, json FROM table_column WHERE tableId = :tableId AND " +
+            "name LIKE CONCAT(:namePrefix, '%') AND ordinal < :before ORDER BY ordinal DESC LIMIT :limit")
+    @RegisterRowMapper(TableColumnMapper.class)
+    List<List<String>> listBefore(@Bind("tableId") String tableId, @Bind("namePrefix") String namePrefix,
+                                  @Bind("limit") int limit, @Bind("before") int before);
+
+    @SqlQuery("SELECT ordinal, json FROM table_column WHERE tableId = :tableId AND " +
+            "name LIKE CONCAT(:namePrefix, '%') AND ordinal > :after ORDER BY ordinal LIMIT :limit")
+    @RegisterRowMapper(TableColumnMapper.class)
+    List<List<String>> listAfter(@Bind("tableId") String tableId, @Bind("namePrefix") String namePrefix,
+                                 @Bind("limit") int limit, @Bind("after") int after);
+
+    @SqlBatch("INSERT INTO table_column(tableId, ordinal, name, fullyQualifiedName, json) " +
+            "VALUES (:tableId, :ordinal, :name, :fullyQualifiedName, :json) ON DUPLICATE KEY UPDATE " +
+            "name = VALUES(name), fullyQualifiedName = VALUES(fullyQualifiedName), json = VALUES(json)")
+    void upsert(@Bind("tableId") String tableId, @Bind("ordinal") List<Integer> ordinals,
+                @Bind("name") List<String> names, @Bind("fullyQualifiedName") List<String> fullyQualifiedNames,
+                @Bind("json") List<String> jsons);
+
+    // Delete the columns at and after the given position, left over when a table now has fewer columns
+    @SqlUpdate("DELETE FROM table_column WHERE tableId = :tableId AND ordinal >= :ordinal")
+    int deleteFrom(@Bind("tableId") String tableId, @Bind("ordinal") int ordinal);
+
+    class TableColumnMapper implements RowMapper<List<String>> {
+      @Override
+      public List<String> map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return Arrays.asList(rs.getString("ordinal"), rs.getString("json"));
+      }
+    }
+  }
+
+  /** Profiles of tables, one row per table and profile date */
+  interface TableProfileDAO {
+    @SqlUpdate("INSERT INTO table_profile(tableId, profileDate, json) VALUES (:tableId, :profileDate, :json) " +
+            "ON DUPLICATE KEY UPDATE json = VALUES(json)")
+    void upsert(@Bind("tableId") String tableId, @Bind("profileDate") String profileDate, @Bind("json") String json);
+
+    @SqlQuery("SELECT json FROM table_profile WHERE tableId = :tableId AND profileDate BETWEEN :startDate AND " +
+            ":endDate ORDER BY profileDate DESC LIMIT :limit")
+    List<String> list(@Bind("tableId") String tableId, @Bind("startDate") String startDate,
+                      @Bind("endDate") String endDate, @Bind("limit") int limit);
+
+    @SqlUpdate("DELETE FROM table_profile WHERE tableId = :tableId")
+    int deleteAll(@Bind("tableId") String tableId);
+
+    @SqlUpdate("DELETE FROM table_profile WHERE profileDate < :profileDate LIMIT :limit")
+    int deleteBefore(@Bind("profileDate") String profileDate, @Bind("limit") int limit);
+
+    // Profiles before the given date, in the order of table and profile date, after the given table and profile date
+    @SqlQuery("SELECT tableId, profileDate FROM table_profile WHERE profileDate < :before AND " +
+            "(tableId > :tableId OR (tableId = :tableId AND profileDate > :profileDate)) " +
+            "ORDER BY tableId, profileDate LIMIT :limit")
+    @RegisterRowMapper(TableProfileKeyMapper.class)
+    List<List<String>> listKeysBefore(@Bind("before") String before, @Bind("tableId") String tableId,
+                                      @Bind("profileDate") String profileDate, @Bind("limit") int limit);
+
+    @SqlBatch("DELETE FROM table_profile WHERE tableId = :tableId AND profileDate = :profileDate")
+    void delete(@Bind("tableId") List<String> tableIds, @Bind("profileDate") List<String> profileDates);
+
+    class TableProfileKeyMapper implements RowMapper<List<String>> {
+      @Override
+      public List<String> map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return Arrays.asList(rs.getString("tableId"), rs.getString("profileDate"));
+      }
+    }
+  }
+
   interface LocationDAO extends EntityDAO<Location> {
     @Override
     default String getTableName() {
@@ -681,6 +1217,12 @@ public interface CollectionDAO {
     @Override
     default String getNameColumn() { return "fullyQualifiedName"; }
 
+    @Override
+    default String getParentColumn() { return "serviceId"; }
+
+    @Override
+    default String getParentTableName() { return "messaging_service_entity"; }
+
     @Override
     default EntityReference getEntityReference(Topic entity) {
       return new TopicEntityInterface(entity).getEntityReference();
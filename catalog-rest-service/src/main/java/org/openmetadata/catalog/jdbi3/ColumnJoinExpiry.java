@@ -0,0 +1,111 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.catalog.jdbi3;
+
+import io.dropwizard.lifecycle.Managed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.openmetadata.catalog.jdbi3.Relationship.JOINED_WITH;
+
+/**
+ * Expires the join counts of table columns older than 30 days daily in the background, so that the join summary of
+ * columns that are no longer joined does not keep counting them. Joins that are ingested again are expired when they
+ * are stored.
+ */
+public class ColumnJoinExpiry implements Managed {
+  private static final Logger LOG = LoggerFactory.getLogger(ColumnJoinExpiry.class);
+  private static final int BATCH_SIZE = 1000;
+
+  private final CollectionDAO dao;
+  private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+    Thread thread = new Thread(r, "column-join-expiry");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private volatile boolean stopped = false;
+
+  public ColumnJoinExpiry(CollectionDAO dao) {
+    this.dao = dao;
+  }
+
+  @Override
+  public void start() {
+    executor.scheduleWithFixedDelay(this::run, 1, TimeUnit.DAYS.toMinutes(1), TimeUnit.MINUTES);
+  }
+
+  @Override
+  public void stop() throws InterruptedException {
+    stopped = true;
+    executor.shutdown();
+    executor.awaitTermination(30, TimeUnit.SECONDS);
+  }
+
+  void run() {
+    try {
+      int expired = expire(ColumnJoins.firstDay());
+      LOG.info("Expired the join counts older than {} days of {} column pairs", ColumnJoins.DAYS, expired);
+    } catch (Exception e) {
+      // Join counts not yet expired are expired on the next run
+      LOG.error("Failed to expire column joins", e);
+    }
+  }
+
+  // Column pairs stored again no longer have counts before the first day, so each batch lists the pairs left
+  private int expire(int firstDay) throws Exception {
+    int count = 0;
+    List<List<String>> rows;
+    do {
+      rows = dao.columnJoinDAO().listExpiring(firstDay, BATCH_SIZE);
+      // Both directions of a pair are listed, keep the one stored in field_relationship from the first column
+      Set<List<String>> keys = new LinkedHashSet<>();
+      for (List<String> row : rows) {
+        keys.add(row.get(0).compareTo(row.get(1)) < 0 ? Arrays.asList(row.get(0), row.get(1)) :
+                Arrays.asList(row.get(1), row.get(0)));
+      }
+
+      // The daily counts of the batch are read with one query
+      Map<List<String>, String> stored = new HashMap<>();
+      if (!keys.isEmpty()) {
+        List<String> fromFQNs = keys.stream().map(key -> key.get(0)).distinct().collect(Collectors.toList());
+        List<String> toFQNs = keys.stream().map(key -> key.get(1)).distinct().collect(Collectors.toList());
+        for (List<String> row : dao.fieldRelationshipDAO().listByFQNs(fromFQNs, toFQNs, ColumnJoins.COLUMN_TYPE,
+                ColumnJoins.COLUMN_TYPE, JOINED_WITH.ordinal())) {
+          stored.put(Arrays.asList(row.get(0), row.get(1)), row.get(2));
+        }
+      }
+      Map<List<String>, DailyCounts> joins = new LinkedHashMap<>();
+      for (List<String> key : keys) {
+        joins.put(key, DailyCounts.fromJson(stored.get(key)));
+      }
+      ColumnJoins.store(dao, joins);
+      count += joins.size();
+    } while (!stopped && !rows.isEmpty());
+    return count;
+  }
+}
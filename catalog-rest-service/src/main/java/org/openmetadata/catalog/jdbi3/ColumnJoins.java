@@ -0,0 +1,100 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import static org.openmetadata.catalog.jdbi3.Relationship.JOINED_WITH;
+
+/**
+ * Joins between table columns. The join counts of a pair of columns by day are stored in {@code field_relationship}
+ * from the column that comes alphabetically first to the other one. The summary of the joins of each column, with the
+ * count of the last 30 days, is kept in {@code column_join} in both directions for reading the joins of a table with
+ * a single indexed lookup.
+ */
+final class ColumnJoins {
+  static final String COLUMN_TYPE = "table.columns.column";
+  // Number of days of join counts kept for the joins of table columns
+  static final int DAYS = 30;
+
+  private ColumnJoins() {}
+
+  /** First day of the days of join counts kept, today included */
+  static int firstDay() {
+    return DailyCounts.today() - DAYS + 1;
+  }
+
+  /** Table FQN of a column FQN of format databaseServiceName.databaseName.tableName.columnName */
+  static String getTableFQN(String columnFQN) {
+    String[] split = columnFQN.split("\\.");
+    if (split.length != 4) {
+      throw new IllegalArgumentException("Invalid fully qualified column name " + columnFQN);
+    }
+    return split[0] + "." + split[1] + "." + split[2];
+  }
+
+  /**
+   * Store the join counts of column pairs keyed by [fromFQN, toFQN], after dropping the counts older than 30 days, and
+   * the join summary of both columns of each pair. Both are written in one batch each.
+   */
+  static void store(CollectionDAO dao, Map<List<String>, DailyCounts> joins) throws JsonProcessingException {
+    if (joins.isEmpty()) {
+      return;
+    }
+    int firstDay = firstDay();
+    List<String> fromFQNs = new ArrayList<>(joins.size());
+    List<String> toFQNs = new ArrayList<>(joins.size());
+    List<String> jsons = new ArrayList<>(joins.size());
+    List<String> columnFQNs = new ArrayList<>(joins.size() * 2);
+    List<String> joinedFQNs = new ArrayList<>(joins.size() * 2);
+    List<Integer> joinCounts = new ArrayList<>(joins.size() * 2);
+    List<Integer> firstDays = new ArrayList<>(joins.size() * 2);
+    for (Entry<List<String>, DailyCounts> entry : joins.entrySet()) {
+      String fromFQN = entry.getKey().get(0);
+      String toFQN = entry.getKey().get(1);
+      DailyCounts dailyCounts = entry.getValue();
+      dailyCounts.expireBefore(firstDay);
+      fromFQNs.add(fromFQN);
+      toFQNs.add(toFQN);
+      jsons.add(dailyCounts.toJson());
+
+      int joinCount = dailyCounts.sumFrom(firstDay);
+      columnFQNs.add(fromFQN);
+      joinedFQNs.add(toFQN);
+      columnFQNs.add(toFQN);
+      joinedFQNs.add(fromFQN);
+      for (int i = 0; i < 2; i++) {
+        joinCounts.add(joinCount);
+        firstDays.add(dailyCounts.firstDay());
+      }
+    }
+    dao.fieldRelationshipDAO().upsertAll(fromFQNs, toFQNs, COLUMN_TYPE, COLUMN_TYPE, JOINED_WITH.ordinal(),
+            "dailyCount", jsons);
+    List<String> tableFQNs = new ArrayList<>(columnFQNs.size());
+    List<String> joinedTableFQNs = new ArrayList<>(columnFQNs.size());
+    for (int i = 0; i < columnFQNs.size(); i++) {
+      tableFQNs.add(getTableFQN(columnFQNs.get(i)));
+      joinedTableFQNs.add(getTableFQN(joinedFQNs.get(i)));
+    }
+    dao.columnJoinDAO().upsertAll(columnFQNs, joinedFQNs, tableFQNs, joinedTableFQNs, joinCounts, firstDays);
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import org.jdbi.v3.core.statement.SqlLogger;
+import org.jdbi.v3.core.statement.StatementContext;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+/** Jdbi takes a single {@link SqlLogger}; this one calls several of them in order. */
+public class CompositeSqlLogger implements SqlLogger {
+  private final List<SqlLogger> loggers;
+
+  public CompositeSqlLogger(SqlLogger... loggers) {
+    this.loggers = Arrays.asList(loggers);
+  }
+
+  @Override
+  public void logBeforeExecution(StatementContext context) {
+    for (SqlLogger logger : loggers) {
+      logger.logBeforeExecution(context);
+    }
+  }
+
+  @Override
+  public void logAfterExecution(StatementContext context) {
+    for (SqlLogger logger : loggers) {
+      logger.logAfterExecution(context);
+    }
+  }
+
+  @Override
+  public void logException(StatementContext context, SQLException ex) {
+    for (SqlLogger logger : loggers) {
+      logger.logException(context, ex);
+    }
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.openmetadata.catalog.type.DailyCount;
+import org.openmetadata.catalog.util.JsonUtils;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Counts by day, such as the number of times two columns were joined, held as days since epoch and counts in arrays
+ * sorted by day. They are stored as a json array of {@link DailyCount}.
+ */
+final class DailyCounts {
+  private int[] days;
+  private int[] counts;
+  private int size;
+
+  DailyCounts() {
+    this(new int[4], new int[4], 0);
+  }
+
+  private DailyCounts(int[] days, int[] counts, int size) {
+    this.days = days;
+    this.counts = counts;
+    this.size = size;
+  }
+
+  static DailyCounts fromJson(String json) throws IOException {
+    List<DailyCount> dailyCounts = json == null ? null : JsonUtils.readObjects(json, DailyCount.class);
+    DailyCounts result = new DailyCounts();
+    if (dailyCounts != null) {
+      for (DailyCount dailyCount : dailyCounts) {
+        result.put(toDay(dailyCount.getDate()), dailyCount.getCount());
+      }
+    }
+    return result;
+  }
+
+  static int toDay(String date) {
+    return (int) LocalDate.parse(date).toEpochDay();
+  }
+
+  static int today() {
+    return (int) LocalDate.now().toEpochDay();
+  }
+
+  /** Set the count of a day, replacing the count already there for the day */
+  void put(int day, int count) {
+    int index = Arrays.binarySearch(days, 0, size, day);
+    if (index >= 0) {
+      counts[index] = count;
+      return;
+    }
+    index = -index - 1;
+    if (size == days.length) {
+      days = Arrays.copyOf(days, size * 2);
+      counts = Arrays.copyOf(counts, size * 2);
+    }
+    System.arraycopy(days, index, days, index + 1, size - index);
+    System.arraycopy(counts, index, counts, index + 1, size - index);
+    days[index] = day;
+    counts[index] = count;
+    size++;
+  }
+
+  /** Remove the counts of the days before {@code firstDay} */
+  void expireBefore(int firstDay) {
+    int index = Arrays.binarySearch(days, 0, size, firstDay);
+    int expired = index >= 0 ? index : -index - 1;
+    System.arraycopy(days, expired, days, 0, size - expired);
+    System.arraycopy(counts, expired, counts, 0, size - expired);
+    size -= expired;
+  }
+
+  /** Sum of the counts from {@code firstDay} on */
+  int sumFrom(int firstDay) {
+    int sum = 0;
+    for (int i = size - 1; i >= 0 && days[i] >= firstDay; i--) {
+      sum += counts[i];
+    }
+    return sum;
+  }
+
+  /** Earliest day with a count, or null when there are none */
+  Integer firstDay() {
+    return size == 0 ? null : days[0];
+  }
+
+  int size() {
+    return size;
+  }
+
+  String toJson() throws JsonProcessingException {
+    List<DailyCount> dailyCounts = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      dailyCounts.add(new DailyCount().withDate(LocalDate.ofEpochDay(days[i]).toString()).withCount(counts[i]));
+    }
+    return JsonUtils.pojoToJson(dailyCounts);
+  }
+}
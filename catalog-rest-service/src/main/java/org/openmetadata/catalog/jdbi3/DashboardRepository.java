@@ -145,9 +145,9 @@ public class DashboardRepository extends EntityRepository<Dashboard> {
     dashboard.withOwner(null).withHref(null).withTags(null);
 
     if (update) {
-      dao.dashboardDAO().update(dashboard.getId(), JsonUtils.pojoToJson(dashboard));
+      dao.dashboardDAO().update(dashboard.getId(), JsonUtils.pojoToJson(dashboard), dashboard.getService());
     } else {
-      dao.dashboardDAO().insert(dashboard);
+      dao.dashboardDAO().insert(dashboard, dashboard.getService());
     }
 
     // Restore the relationships
@@ -90,9 +90,9 @@ public class DatabaseRepository extends EntityRepository<Database> {
     database.withOwner(null).withService(null).withHref(null);
 
     if (update) {
-      dao.databaseDAO().update(database.getId(), JsonUtils.pojoToJson(database));
+      dao.databaseDAO().update(database.getId(), JsonUtils.pojoToJson(database), service);
     } else {
-      dao.databaseDAO().insert(database);
+      dao.databaseDAO().insert(database, service);
     }
 
     // Restore the relationships
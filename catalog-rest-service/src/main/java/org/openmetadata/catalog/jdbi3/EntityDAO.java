@@ -22,13 +22,16 @@ import org.jdbi.v3.sqlobject.customizer.Define;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 import org.openmetadata.catalog.exception.CatalogExceptionMessage;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.EntityRelationshipDAO;
 import org.openmetadata.catalog.exception.EntityNotFoundException;
 import org.openmetadata.catalog.type.EntityReference;
 import org.openmetadata.catalog.util.JsonUtils;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.openmetadata.catalog.exception.CatalogExceptionMessage.entityNotFound;
 
@@ -41,21 +44,38 @@ public interface EntityDAO<T> {
   String getNameColumn();
   EntityReference getEntityReference(T entity);
 
+  /**
+   * Entities that belong to a parent, such as the tables of a database, store the id of the parent in a column of
+   * their table and are listed by parent with an index on (parentColumn, nameColumn). The parent is looked up by name
+   * in its own table. Entities without a parent are listed by the prefix of their name.
+   */
+  default String getParentColumn() { return null; }
+  default String getParentTableName() { return null; }
+  default String getParentNameColumn() { return "name"; }
+
   /**
    * Common queries for all entities implemented here. Do not override.
    */
   @SqlUpdate("INSERT INTO <table> (json) VALUES (:json)")
   void insert(@Define("table") String table, @Bind("json") String json);
 
+  @SqlUpdate("INSERT INTO <table> (json, <parentColumn>) VALUES (:json, :parentId)")
+  void insert(@Define("table") String table, @Define("parentColumn") String parentColumn, @Bind("json") String json,
+              @Bind("parentId") String parentId);
+
   @SqlUpdate("UPDATE <table> SET  json = :json WHERE id = :id")
   void update(@Define("table") String table, @Bind("id") String id, @Bind("json") String json);
 
-  @SqlQuery("SELECT json FROM <table> WHERE id = :id")
-  String findById(@Define("table") String table, @Bind("id") String id);
+  @SqlUpdate("UPDATE <table> SET json = :json, <parentColumn> = COALESCE(:parentId, <parentColumn>) WHERE id = :id")
+  void update(@Define("table") String table, @Define("parentColumn") String parentColumn, @Bind("id") String id,
+              @Bind("json") String json, @Bind("parentId") String parentId);
+
+  @SqlQuery("SELECT <projection> FROM <table> WHERE id = :id")
+  String findById(@Define("table") String table, @Define("projection") String projection, @Bind("id") String id);
 
-  @SqlQuery("SELECT json FROM <table> WHERE <nameColumn> = :name")
-  String findByName(@Define("table") String table, @Define("nameColumn") String nameColumn,
-                    @Bind("name") String name);
+  @SqlQuery("SELECT <projection> FROM <table> WHERE <nameColumn> = :name")
+  String findByName(@Define("table") String table, @Define("projection") String projection,
+                    @Define("nameColumn") String nameColumn, @Bind("name") String name);
 
   @SqlQuery("SELECT count(*) FROM <table> WHERE " +
           "(<nameColumn> LIKE CONCAT(:fqnPrefix, '.%') OR :fqnPrefix IS NULL)")
@@ -64,7 +84,7 @@ public interface EntityDAO<T> {
 
   @SqlQuery(
           "SELECT json FROM (" +
-                  "SELECT <nameColumn>, json FROM <table> WHERE " +
+                  "SELECT <nameColumn>, <projection> AS json FROM <table> WHERE " +
                   "(<nameColumn> LIKE CONCAT(:fqnPrefix, '.%') OR :fqnPrefix IS NULL) AND " +// Filter by
                   // service name
                   "<nameColumn> < :before " + // Pagination by chart fullyQualifiedName
@@ -72,22 +92,82 @@ public interface EntityDAO<T> {
                   "LIMIT :limit" +
                   ") last_rows_subquery ORDER BY <nameColumn>")
   List<String> listBefore(@Define("table") String table,
+                          @Define("projection") String projection,
                           @Define("nameColumn") String nameColumn,
                           @Bind("fqnPrefix") String fqnPrefix,
                           @Bind("limit") int limit,
                           @Bind("before") String before);
 
-  @SqlQuery("SELECT json FROM <table> WHERE " +
+  @SqlQuery("SELECT <projection> FROM <table> WHERE " +
           "(<nameColumn> LIKE CONCAT(:fqnPrefix, '.%') OR :fqnPrefix IS NULL) AND " +
           "<nameColumn> > :after " +
           "ORDER BY <nameColumn> " +
           "LIMIT :limit")
   List<String> listAfter(@Define("table") String table,
+                         @Define("projection") String projection,
                          @Define("nameColumn") String nameColumn,
                          @Bind("fqnPrefix") String fqnPrefix,
                          @Bind("limit") int limit,
                          @Bind("after") String after);
 
+  String PARENT_ID = "(SELECT id FROM <parentTable> WHERE <parentNameColumn> = :parentName)";
+  // Children stored before the parent column was added and not backfilled, such as those written by a server of the
+  // previous version during an upgrade, have no parent column. They are found by the contains relationship (relation
+  // 0) of the parent instead.
+  String CHILD_WITHOUT_PARENT_COLUMN = "<parentColumn> IS NULL AND id IN (SELECT " +
+          EntityRelationshipDAO.BIN_TO_UUID + "toId" + EntityRelationshipDAO.BIN_TO_UUID_END +
+          " FROM entity_relationship WHERE fromId = UNHEX(REPLACE(" + PARENT_ID + ", '-', '')) AND relation = 0)";
+
+  @SqlQuery("SELECT (SELECT count(*) FROM <table> WHERE <parentColumn> = " + PARENT_ID + ") + " +
+          "(SELECT count(*) FROM <table> WHERE " + CHILD_WITHOUT_PARENT_COLUMN + ")")
+  int listCountByParent(@Define("table") String table,
+                        @Define("parentColumn") String parentColumn,
+                        @Define("parentTable") String parentTable,
+                        @Define("parentNameColumn") String parentNameColumn,
+                        @Bind("parentName") String parentName);
+
+  @SqlQuery(
+          "SELECT json FROM (" +
+                  "SELECT <nameColumn>, json FROM (" +
+                  "(SELECT <nameColumn>, <projection> AS json FROM <table> WHERE " +
+                  "<parentColumn> = " + PARENT_ID + " AND <nameColumn> < :before " +
+                  "ORDER BY <nameColumn> DESC LIMIT :limit) " +
+                  "UNION ALL " +
+                  "(SELECT <nameColumn>, <projection> AS json FROM <table> WHERE " +
+                  CHILD_WITHOUT_PARENT_COLUMN + " AND <nameColumn> < :before " +
+                  "ORDER BY <nameColumn> DESC LIMIT :limit)" +
+                  ") children ORDER BY <nameColumn> DESC LIMIT :limit" +
+                  ") last_rows_subquery ORDER BY <nameColumn>")
+  List<String> listBeforeByParent(@Define("table") String table,
+                                  @Define("projection") String projection,
+                                  @Define("nameColumn") String nameColumn,
+                                  @Define("parentColumn") String parentColumn,
+                                  @Define("parentTable") String parentTable,
+                                  @Define("parentNameColumn") String parentNameColumn,
+                                  @Bind("parentName") String parentName,
+                                  @Bind("limit") int limit,
+                                  @Bind("before") String before);
+
+  @SqlQuery(
+          "SELECT json FROM (" +
+                  "(SELECT <nameColumn>, <projection> AS json FROM <table> WHERE " +
+                  "<parentColumn> = " + PARENT_ID + " AND <nameColumn> > :after " +
+                  "ORDER BY <nameColumn> LIMIT :limit) " +
+                  "UNION ALL " +
+                  "(SELECT <nameColumn>, <projection> AS json FROM <table> WHERE " +
+                  CHILD_WITHOUT_PARENT_COLUMN + " AND <nameColumn> > :after " +
+                  "ORDER BY <nameColumn> LIMIT :limit)" +
+                  ") children ORDER BY <nameColumn> LIMIT :limit")
+  List<String> listAfterByParent(@Define("table") String table,
+                                 @Define("projection") String projection,
+                                 @Define("nameColumn") String nameColumn,
+                                 @Define("parentColumn") String parentColumn,
+                                 @Define("parentTable") String parentTable,
+                                 @Define("parentNameColumn") String parentNameColumn,
+                                 @Bind("parentName") String parentName,
+                                 @Bind("limit") int limit,
+                                 @Bind("after") String after);
+
   @SqlQuery("SELECT EXISTS (SELECT * FROM <table> WHERE id = :id)")
   boolean exists(@Define("table") String table, @Bind("id") String id);
 
@@ -101,11 +181,28 @@ public interface EntityDAO<T> {
     insert(getTableName(), JsonUtils.pojoToJson(entity));
   }
 
+  // Stores the entity with the id of its parent, for entities that have a parent column
+  default void insert(T entity, EntityReference parent) throws JsonProcessingException {
+    insert(getTableName(), getParentColumn(), JsonUtils.pojoToJson(entity), parent == null ? null :
+            parent.getId().toString());
+  }
+
   default void update(UUID id, String json) { update(getTableName(), id.toString(), json); }
 
+  // Updates the entity and moves it to the parent, keeping the current parent when parent is null
+  default void update(UUID id, String json, EntityReference parent) {
+    update(getTableName(), getParentColumn(), id.toString(), json, parent == null ? null :
+            parent.getId().toString());
+  }
+
   default T findEntityById(UUID id) throws IOException {
+    return findEntityById(id, "json");
+  }
+
+  // Reads the entity with the json projected by projection, such as one from jsonWithout
+  default T findEntityById(UUID id, String projection) throws IOException {
     Class<T> clz = getEntityClass();
-    String json = findById(getTableName(), id.toString());
+    String json = findById(getTableName(), projection, id.toString());
     T entity = null;
     if (json != null) {
       entity = JsonUtils.readValue(json, clz);
@@ -117,8 +214,12 @@ public interface EntityDAO<T> {
   }
 
   default T findEntityByName(String fqn) throws IOException {
+    return findEntityByName(fqn, "json");
+  }
+
+  default T findEntityByName(String fqn, String projection) throws IOException {
     Class<T> clz = getEntityClass();
-    String json = findByName(getTableName(), getNameColumn(), fqn);
+    String json = findByName(getTableName(), projection, getNameColumn(), fqn);
     T entity = null;
     if (json != null) {
       entity = JsonUtils.readValue(json, clz);
@@ -138,23 +239,43 @@ public interface EntityDAO<T> {
   }
 
   default String findJsonById(String fqn) throws IOException {
-    return findById(getTableName(), fqn);
+    return findById(getTableName(), "json", fqn);
   }
 
   default String findJsonByFqn(String fqn) throws IOException {
-    return findByName(getTableName(), getNameColumn(), fqn);
+    return findByName(getTableName(), "json", getNameColumn(), fqn);
   }
 
-  default int listCount(String databaseFQN) {
-    return listCount(getTableName(), getNameColumn(), databaseFQN);
+  default int listCount(String parentFQN) {
+    if (parentFQN != null && getParentColumn() != null) {
+      return listCountByParent(getTableName(), getParentColumn(), getParentTableName(), getParentNameColumn(),
+              parentFQN);
+    }
+    return listCount(getTableName(), getNameColumn(), escapeLike(parentFQN));
   }
 
   default List<String> listBefore(String parentFQN, int limit, String before) {
-    return listBefore(getTableName(), getNameColumn(), parentFQN, limit, before);
+    return listBefore(parentFQN, limit, before, "json");
+  }
+
+  default List<String> listBefore(String parentFQN, int limit, String before, String projection) {
+    if (parentFQN != null && getParentColumn() != null) {
+      return listBeforeByParent(getTableName(), projection, getNameColumn(), getParentColumn(), getParentTableName(),
+              getParentNameColumn(), parentFQN, limit, before);
+    }
+    return listBefore(getTableName(), projection, getNameColumn(), escapeLike(parentFQN), limit, before);
+  }
+
+  default List<String> listAfter(String parentFQN, int limit, String after) {
+    return listAfter(parentFQN, limit, after, "json");
   }
 
-  default List<String> listAfter(String databaseFQN, int limit, String after) {
-    return listAfter(getTableName(), getNameColumn(), databaseFQN, limit, after);
+  default List<String> listAfter(String parentFQN, int limit, String after, String projection) {
+    if (parentFQN != null && getParentColumn() != null) {
+      return listAfterByParent(getTableName(), projection, getNameColumn(), getParentColumn(), getParentTableName(),
+              getParentNameColumn(), parentFQN, limit, after);
+    }
+    return listAfter(getTableName(), projection, getNameColumn(), escapeLike(parentFQN), limit, after);
   }
 
   default boolean exists(UUID id) {
@@ -168,4 +289,21 @@ public interface EntityDAO<T> {
     }
     return rowsDeleted;
   }
-}
\ No newline at end of file
+
+  /**
+   * Projection of the json column without the given top level attributes, so that attributes that were not asked for
+   * are neither read into the server nor sent over the connection. Attribute names come from code, never from requests.
+   */
+  static String jsonWithout(Collection<String> attributes) {
+    if (attributes.isEmpty()) {
+      return "json";
+    }
+    return attributes.stream().map(attribute -> "'$." + attribute + "'")
+            .collect(Collectors.joining(", ", "JSON_REMOVE(json, ", ")"));
+  }
+
+  // Prefixes are matched with LIKE, where % and _ in a name must not act as wildcards
+  static String escapeLike(String prefix) {
+    return prefix == null ? null : prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import javax.validation.constraints.Min;
+
+public class EntityExtensionConfiguration {
+  /** Extensions larger than this number of bytes are stored compressed */
+  @Min(0)
+  private int compressionThresholdBytes = ExtensionStore.DEFAULT_COMPRESSION_THRESHOLD;
+
+  /** Maximum number of sample data rows stored and returned for a table */
+  @Min(1)
+  private int sampleDataMaxRows = TableRepository.DEFAULT_SAMPLE_DATA_MAX_ROWS;
+
+  /** Maximum number of bytes of sample data json read for a table. Rows after it are left out */
+  @Min(1)
+  private long sampleDataMaxBytes = TableRepository.DEFAULT_SAMPLE_DATA_MAX_BYTES;
+
+  public int getCompressionThresholdBytes() {
+    return compressionThresholdBytes;
+  }
+
+  public void setCompressionThresholdBytes(int compressionThresholdBytes) {
+    this.compressionThresholdBytes = compressionThresholdBytes;
+  }
+
+  public int getSampleDataMaxRows() {
+    return sampleDataMaxRows;
+  }
+
+  public void setSampleDataMaxRows(int sampleDataMaxRows) {
+    this.sampleDataMaxRows = sampleDataMaxRows;
+  }
+
+  public long getSampleDataMaxBytes() {
+    return sampleDataMaxBytes;
+  }
+
+  public void setSampleDataMaxBytes(long sampleDataMaxBytes) {
+    this.sampleDataMaxBytes = sampleDataMaxBytes;
+  }
+
+  @Override
+  public String toString() {
+    return "EntityExtensionConfiguration{compressionThresholdBytes=" + compressionThresholdBytes +
+            ", sampleDataMaxRows=" + sampleDataMaxRows + ", sampleDataMaxBytes=" + sampleDataMaxBytes + '}';
+  }
+}
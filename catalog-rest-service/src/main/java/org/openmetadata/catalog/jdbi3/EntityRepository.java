@@ -1,12 +1,16 @@
 package org.openmetadata.catalog.jdbi3;
 
+import com.codahale.metrics.Timer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import org.jdbi.v3.sqlobject.transaction.Transaction;
 import org.openmetadata.catalog.Entity;
+import org.openmetadata.catalog.exception.EntityNotFoundException;
 import org.openmetadata.catalog.jdbi3.CollectionDAO.EntityVersionPair;
 import org.openmetadata.catalog.type.ChangeDescription;
 import org.openmetadata.catalog.type.EntityHistory;
 import org.openmetadata.catalog.type.EntityReference;
+import org.openmetadata.catalog.type.EntityVersionDiff;
+import org.openmetadata.catalog.type.EntityVersionSummary;
 import org.openmetadata.catalog.type.FieldChange;
 import org.openmetadata.catalog.type.TagLabel;
 import org.openmetadata.catalog.util.EntityInterface;
@@ -15,7 +19,8 @@ import org.openmetadata.catalog.util.EntityUtil.Fields;
 import org.openmetadata.catalog.util.JsonUtils;
 import org.openmetadata.catalog.util.RestUtil.PutResponse;
 import org.openmetadata.catalog.util.ResultList;
-import org.openmetadata.common.utils.CipherText;
+import org.openmetadata.common.utils.CursorCodec;
+import org.openmetadata.common.utils.CursorCodec.Direction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,7 +39,10 @@ import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import static org.openmetadata.catalog.exception.CatalogExceptionMessage.entityNotFoundAsOf;
+import static org.openmetadata.catalog.exception.CatalogExceptionMessage.entityVersionNotFound;
 
 /**
  * Interface used for accessing the concrete entity DAOs such as table, dashboard etc.
@@ -46,8 +54,10 @@ public abstract class EntityRepository<T> {
   private final String entityName;
   private final EntityDAO<T> dao;
   private final CollectionDAO daoCollection;
+  private final EntityVersionStore versionStore;
   private final Fields patchFields;
   private final Fields putFields;
+  private final RepositoryMetrics metrics;
 
   /**
    * Entity related operations that should be implemented or overridden by entities
@@ -60,6 +70,30 @@ public abstract class EntityRepository<T> {
   public abstract void store(T entity, boolean update) throws IOException;
   public abstract void storeRelationships(T entity) throws IOException;
 
+  /**
+   * Attributes stored in the entity json that are only returned when asked for in fields. They are left out when
+   * reading the entity from the database unless asked for.
+   */
+  protected List<String> getOptionalJsonFields() {
+    return Collections.emptyList();
+  }
+
+  /**
+   * Attributes stored in the entity json that are left out of the summary representation used for lists, unless asked
+   * for in fields. They are usually the large ones, such as the columns of a table.
+   */
+  protected List<String> getSummaryExcludedJsonFields() {
+    return Collections.emptyList();
+  }
+
+  /**
+   * Set the fields of an entity listed in its summary representation. Entities that load large attributes from
+   * elsewhere than the entity json override this to leave them out unless asked for.
+   */
+  protected T setSummaryFields(T entity, Fields fields) throws IOException, ParseException {
+    return setFields(entity, fields);
+  }
+
   public EntityUpdater getUpdater(T original, T updated, boolean patchOperation) throws IOException {
     return new EntityUpdater(original, updated, patchOperation);
   }
@@ -69,120 +103,291 @@ public abstract class EntityRepository<T> {
     this.entityClass = entityClass;
     this.dao = entityDAO;
     this.daoCollection = collectionDAO;
+    this.versionStore = new EntityVersionStore(collectionDAO.entityExtensionDAO());
     this.patchFields = patchFields;
     this.putFields = putFields;
     this.entityName = entityClass.getSimpleName().toLowerCase(Locale.ROOT);
+    this.metrics = new RepositoryMetrics(entityName);
   }
 
   @Transaction
   public final T get(String id, Fields fields) throws IOException, ParseException {
-    return setFields(dao.findEntityById(UUID.fromString(id)), fields);
+    try (Timer.Context ignored = metrics.time("get"); ReadReplica.Scope replica = ReadReplica.read()) {
+      T entity = dao.findEntityById(UUID.fromString(id), projection(fields, false));
+      metrics.materialized(1);
+      return setFields(entity, fields);
+    }
   }
 
   @Transaction
   public final T getByName(String fqn, Fields fields) throws IOException, ParseException {
-    return setFields(dao.findEntityByName(fqn), fields);
+    try (Timer.Context ignored = metrics.time("getByName"); ReadReplica.Scope replica = ReadReplica.read()) {
+      T entity = dao.findEntityByName(fqn, projection(fields, false));
+      metrics.materialized(1);
+      return setFields(entity, fields);
+    }
+  }
+
+  /**
+   * Get the version of an entity that was current at time {@code asOf}. When {@code asOf} is null the current version
+   * is returned. Older versions are returned as they were stored and {@code fields} only applies to the current version.
+   */
+  @Transaction
+  public final T get(String id, Fields fields, Date asOf) throws IOException, ParseException {
+    try (ReadReplica.Scope replica = ReadReplica.read()) {
+      return asOf == null ? get(id, fields) : getAsOf(dao.findEntityById(UUID.fromString(id)), fields, asOf);
+    }
+  }
+
+  @Transaction
+  public final T getByName(String fqn, Fields fields, Date asOf) throws IOException, ParseException {
+    try (ReadReplica.Scope replica = ReadReplica.read()) {
+      return asOf == null ? getByName(fqn, fields) : getAsOf(dao.findEntityByName(fqn), fields, asOf);
+    }
+  }
+
+  private T getAsOf(T latest, Fields fields, Date asOf) throws IOException, ParseException {
+    EntityInterface<T> entityInterface = getEntityInterface(latest);
+    if (!entityInterface.getUpdatedAt().after(asOf)) {
+      return setFields(latest, fields);
+    }
+    // Versions are indexed on (id, updatedAt) and the latest one updated at or before asOf is the one that was current
+    String id = entityInterface.getId().toString();
+    String extension = daoCollection.entityExtensionDAO().getVersionAsOf(id, asOf.getTime());
+    if (extension == null) {
+      throw EntityNotFoundException.byMessage(entityNotFoundAsOf(entityName, id, asOf));
+    }
+    return JsonUtils.readValue(versionStore.getVersion(id, extension), entityClass);
   }
 
   @Transaction
   public final ResultList<T> listAfter(Fields fields, String fqnPrefix, int limitParam, String after)
           throws GeneralSecurityException, IOException, ParseException {
-    // forward scrolling, if after == null then first page is being asked
-    List<String> jsons = dao.listAfter(fqnPrefix, limitParam + 1, after == null ? "" :
-            CipherText.instance().decrypt(after));
+    return listAfter(fields, fqnPrefix, limitParam, after, false);
+  }
 
-    List<T> entities = new ArrayList<>();
-    for (String json : jsons) {
-      entities.add(setFields(JsonUtils.readValue(json, entityClass), fields));
-    }
-    int total = dao.listCount(fqnPrefix);
+  /** List entities, in their summary representation when {@code summary} is true. */
+  @Transaction
+  public final ResultList<T> listAfter(Fields fields, String fqnPrefix, int limitParam, String after, boolean summary)
+          throws GeneralSecurityException, IOException, ParseException {
+    try (Timer.Context ignored = metrics.time("listAfter"); ReadReplica.Scope replica = ReadReplica.read()) {
+      // forward scrolling, if after == null then first page is being asked
+      List<String> jsons = dao.listAfter(fqnPrefix, limitParam + 1, after == null ? "" :
+              CursorCodec.instance().decode(after, Direction.AFTER), projection(fields, summary));
+      metrics.materialized(jsons.size());
+
+      List<T> entities = new ArrayList<>();
+      for (String json : jsons) {
+        T entity = JsonUtils.readValue(json, entityClass);
+        entities.add(summary ? setSummaryFields(entity, fields) : setFields(entity, fields));
+      }
+      int total = dao.listCount(fqnPrefix);
 
-    String beforeCursor, afterCursor = null;
-    beforeCursor = after == null ? null : getFullyQualifiedName(entities.get(0));
-    if (entities.size() > limitParam) { // If extra result exists, then next page exists - return after cursor
-      entities.remove(limitParam);
-      afterCursor = getFullyQualifiedName(entities.get(limitParam - 1));
+      String beforeCursor, afterCursor = null;
+      beforeCursor = after == null ? null : getFullyQualifiedName(entities.get(0));
+      if (entities.size() > limitParam) { // If extra result exists, then next page exists - return after cursor
+        entities.remove(limitParam);
+        afterCursor = getFullyQualifiedName(entities.get(limitParam - 1));
+      }
+      return getResultList(entities, beforeCursor, afterCursor, total);
     }
-    return getResultList(entities, beforeCursor, afterCursor, total);
   }
 
   @Transaction
   public final ResultList<T> listBefore(Fields fields, String fqnPrefix, int limitParam, String before)
           throws IOException, GeneralSecurityException, ParseException {
-    // Reverse scrolling - Get one extra result used for computing before cursor
-    List<String> jsons = dao.listBefore(fqnPrefix, limitParam + 1, CipherText.instance().decrypt(before));
+    return listBefore(fields, fqnPrefix, limitParam, before, false);
+  }
 
-    List<T> entities = new ArrayList<>();
-    for (String json : jsons) {
-      entities.add(setFields(JsonUtils.readValue(json, entityClass), fields));
+  @Transaction
+  public final ResultList<T> listBefore(Fields fields, String fqnPrefix, int limitParam, String before,
+                                        boolean summary) throws IOException, GeneralSecurityException, ParseException {
+    try (Timer.Context ignored = metrics.time("listBefore"); ReadReplica.Scope replica = ReadReplica.read()) {
+      // Reverse scrolling - Get one extra result used for computing before cursor
+      List<String> jsons = dao.listBefore(fqnPrefix, limitParam + 1,
+              CursorCodec.instance().decode(before, Direction.BEFORE), projection(fields, summary));
+      metrics.materialized(jsons.size());
+
+      List<T> entities = new ArrayList<>();
+      for (String json : jsons) {
+        T entity = JsonUtils.readValue(json, entityClass);
+        entities.add(summary ? setSummaryFields(entity, fields) : setFields(entity, fields));
+      }
+      int total = dao.listCount(fqnPrefix);
+
+      String beforeCursor = null, afterCursor;
+      if (entities.size() > limitParam) { // If extra result exists, then previous page exists - return before cursor
+        entities.remove(0);
+        beforeCursor = getFullyQualifiedName(entities.get(0));
+      }
+      afterCursor = getFullyQualifiedName(entities.get(entities.size() - 1));
+      return getResultList(entities, beforeCursor, afterCursor, total);
     }
-    int total = dao.listCount(fqnPrefix);
+  }
 
-    String beforeCursor = null, afterCursor;
-    if (entities.size() > limitParam) { // If extra result exists, then previous page exists - return before cursor
-      entities.remove(0);
-      beforeCursor = getFullyQualifiedName(entities.get(0));
+  // Projection of the stored json without the attributes that are not needed for the requested fields
+  private String projection(Fields fields, boolean summary) {
+    List<String> excluded = new ArrayList<>();
+    getOptionalJsonFields().stream().filter(field -> !fields.contains(field)).forEach(excluded::add);
+    if (summary) {
+      getSummaryExcludedJsonFields().stream().filter(field -> !fields.contains(field)).forEach(excluded::add);
     }
-    afterCursor = getFullyQualifiedName(entities.get(entities.size() - 1));
-    return getResultList(entities, beforeCursor, afterCursor, total);
+    return EntityDAO.jsonWithout(excluded);
   }
 
   @Transaction
   public T getVersion(String id, String version) throws IOException {
-    String extension = EntityUtil.getVersionExtension(entityName, Double.parseDouble(version));
-    String json = daoCollection.entityExtensionDAO().getEntityVersion(id, extension);
-    return JsonUtils.readValue(json, entityClass);
+    try (ReadReplica.Scope replica = ReadReplica.read()) {
+      String extension = EntityUtil.getVersionExtension(entityName, Double.parseDouble(version));
+      String json = versionStore.getVersion(id, extension);
+      return JsonUtils.readValue(json, entityClass);
+    }
   }
 
   @Transaction
   public EntityHistory listVersions(String id) throws IOException, ParseException {
+    try (ReadReplica.Scope replica = ReadReplica.read()) {
+      T latest = setFields(dao.findEntityById(UUID.fromString(id)), putFields);
+      String extensionPrefix = EntityUtil.getVersionExtensionPrefix(entityName);
+      List<EntityVersionPair> oldVersions = versionStore.getVersions(id, extensionPrefix);
+      oldVersions.sort(Comparator.comparing(EntityVersionPair::getVersion).reversed());
+
+      final List<Object> allVersions = new ArrayList<>();
+      allVersions.add(JsonUtils.pojoToJson(latest));
+      oldVersions.forEach(version -> allVersions.add(version.getEntityJson()));
+      return new EntityHistory().withEntityType(entityName).withVersions(allVersions);
+    }
+  }
+
+  /**
+   * List the versions of an entity from the latest to the oldest without the entity json. The cursors are version
+   * numbers, the latest version is the current entity and the older versions are read from the version metadata
+   * stored with them.
+   */
+  @Transaction
+  public final ResultList<EntityVersionSummary> listVersionsAfter(String id, int limitParam, String after)
+          throws IOException, GeneralSecurityException {
+    EntityInterface<T> latest = getEntityInterface(dao.findEntityById(UUID.fromString(id)));
+    List<EntityVersionSummary> versions = new ArrayList<>();
+    double afterVersion = Double.MAX_VALUE;
+    if (after == null) {
+      versions.add(getVersionSummary(latest));
+    } else {
+      afterVersion = Double.parseDouble(CursorCodec.instance().decode(after, Direction.AFTER));
+    }
+    versions.addAll(daoCollection.entityExtensionDAO().listVersionsAfter(id, limitParam + 1 - versions.size(),
+            afterVersion));
+    int total = daoCollection.entityExtensionDAO().listVersionsCount(id) + 1;
+
+    String beforeCursor = null, afterCursor = null;
+    if (after != null && !versions.isEmpty()) {
+      beforeCursor = versions.get(0).getVersion().toString();
+    }
+    if (versions.size() > limitParam) { // If extra result exists, then next page exists - return after cursor
+      versions.remove(limitParam);
+      afterCursor = versions.get(limitParam - 1).getVersion().toString();
+    }
+    return new ResultList<>(versions, beforeCursor, afterCursor, total);
+  }
+
+  @Transaction
+  public final ResultList<EntityVersionSummary> listVersionsBefore(String id, int limitParam, String before)
+          throws IOException, GeneralSecurityException {
+    EntityInterface<T> latest = getEntityInterface(dao.findEntityById(UUID.fromString(id)));
+    double beforeVersion = Double.parseDouble(CursorCodec.instance().decode(before, Direction.BEFORE));
+
+    // Versions newer than the cursor in ascending order, the current entity being the newest of them
+    List<EntityVersionSummary> versions = daoCollection.entityExtensionDAO().listVersionsBefore(id, limitParam + 1,
+            beforeVersion);
+    if (versions.size() <= limitParam && latest.getVersion() > beforeVersion) {
+      versions.add(getVersionSummary(latest));
+    }
+    Collections.reverse(versions);
+    int total = daoCollection.entityExtensionDAO().listVersionsCount(id) + 1;
+
+    String beforeCursor = null, afterCursor = null;
+    if (versions.size() > limitParam) { // If extra result exists, then previous page exists - return before cursor
+      versions.remove(0);
+      beforeCursor = versions.get(0).getVersion().toString();
+    }
+    if (!versions.isEmpty()) {
+      afterCursor = versions.get(versions.size() - 1).getVersion().toString();
+    }
+    return new ResultList<>(versions, beforeCursor, afterCursor, total);
+  }
+
+  /** Get JSON patch that transforms version {@code fromVersion} of an entity into version {@code toVersion} */
+  @Transaction
+  public final EntityVersionDiff getVersionDiff(String id, String fromVersion, String toVersion)
+          throws IOException, ParseException {
     T latest = setFields(dao.findEntityById(UUID.fromString(id)), putFields);
-    String extensionPrefix = EntityUtil.getVersionExtensionPrefix(entityName);
-    List<EntityVersionPair> oldVersions = daoCollection.entityExtensionDAO().getEntityVersions(id, extensionPrefix);
-    oldVersions.sort(Comparator.comparing(EntityVersionPair::getVersion).reversed());
-
-    final List<Object> allVersions = new ArrayList<>();
-    allVersions.add(JsonUtils.pojoToJson(latest));
-    oldVersions.forEach(version -> allVersions.add(version.getEntityJson()));
-    return new EntityHistory().withEntityType(entityName).withVersions(allVersions);
+    String fromJson = getVersionJson(id, latest, Double.parseDouble(fromVersion));
+    String toJson = getVersionJson(id, latest, Double.parseDouble(toVersion));
+    String patch = JsonUtils.getJsonPatch(fromJson, toJson);
+    return new EntityVersionDiff().withEntityType(entityName).withFromVersion(Double.parseDouble(fromVersion))
+            .withToVersion(Double.parseDouble(toVersion)).withPatch(JsonUtils.readValue(patch, List.class));
+  }
+
+  private String getVersionJson(String id, T latest, Double version) throws IOException {
+    if (version.equals(getEntityInterface(latest).getVersion())) {
+      return JsonUtils.pojoToJson(latest);
+    }
+    String json = versionStore.getVersion(id, EntityUtil.getVersionExtension(entityName, version));
+    if (json == null) {
+      throw EntityNotFoundException.byMessage(entityVersionNotFound(entityName, id, version));
+    }
+    return json;
+  }
+
+  private EntityVersionSummary getVersionSummary(EntityInterface<T> entity) {
+    return new EntityVersionSummary().withVersion(entity.getVersion()).withUpdatedAt(entity.getUpdatedAt())
+            .withUpdatedBy(entity.getUpdatedBy()).withChangeDescription(entity.getChangeDescription());
   }
 
   @Transaction
   public final T create(T entity) throws IOException, ParseException {
-    validate(entity);
-    return createInternal(entity);
+    try (Timer.Context ignored = metrics.time("create")) {
+      validate(entity);
+      return createInternal(entity);
+    }
   }
 
   @Transaction
   public final PutResponse<T> createOrUpdate(T updated) throws IOException, ParseException {
-    validate(updated);
-    T original = JsonUtils.readValue(dao.findJsonByFqn(getFullyQualifiedName(updated)), entityClass);
-    if (original == null) {
-      return new PutResponse<>(Status.CREATED, createInternal(updated));
-    }
-    // Update the existing entity
-    setFields(original, putFields);
-    validate(updated);
-
-    EntityUpdater entityUpdater = getUpdater(original, updated, false);
-    entityUpdater.update();
-    entityUpdater.store();
-    return new PutResponse<>(Status.OK, updated);
+    try (Timer.Context ignored = metrics.time("createOrUpdate")) {
+      validate(updated);
+      T original = JsonUtils.readValue(dao.findJsonByFqn(getFullyQualifiedName(updated)), entityClass);
+      if (original == null) {
+        return new PutResponse<>(Status.CREATED, createInternal(updated));
+      }
+      metrics.materialized(1);
+      // Update the existing entity
+      setFields(original, putFields);
+      validate(updated);
+
+      EntityUpdater entityUpdater = getUpdater(original, updated, false);
+      entityUpdater.update();
+      entityUpdater.store();
+      return new PutResponse<>(Status.OK, updated);
+    }
   }
 
   @Transaction
   public final T patch(UUID id, String user, JsonPatch patch) throws IOException, ParseException {
-    T original = setFields(dao.findEntityById(id), patchFields);
-    T updated = JsonUtils.applyPatch(original, patch, entityClass);
-    EntityInterface<T> updatedEntity = getEntityInterface(updated);
-    updatedEntity.setUpdateDetails(user, new Date());
-
-    validate(updated);
-    restorePatchAttributes(original, updated);
-    EntityUpdater entityUpdater = getUpdater(original, updated, true);
-    entityUpdater.update();
-    entityUpdater.store();
-    return updated;
+    try (Timer.Context ignored = metrics.time("patch")) {
+      T original = setFields(dao.findEntityById(id), patchFields);
+      metrics.materialized(1);
+      T updated = JsonUtils.applyPatch(original, patch, entityClass);
+      EntityInterface<T> updatedEntity = getEntityInterface(updated);
+      updatedEntity.setUpdateDetails(user, new Date());
+
+      validate(updated);
+      restorePatchAttributes(original, updated);
+      EntityUpdater entityUpdater = getUpdater(original, updated, true);
+      entityUpdater.update();
+      entityUpdater.store();
+      return updated;
+    }
   }
 
   @Transaction
@@ -357,24 +562,10 @@ public abstract class EntityRepository<T> {
     }
 
     public final <K> void recordListChange(String field, List<K> origList, List<K> updatedList, List<K> addedItems,
-                                           List<K> deletedItems, BiPredicate<K, K> typeMatch)
+                                           List<K> deletedItems, Function<K, ?> matchKey)
             throws JsonProcessingException {
-      for (K stored : origList) {
-        // Find updated column matching name, data type and ordinal position
-        K updated = updatedList.stream().filter(c -> typeMatch.test(c, stored)).findAny().orElse(null);
-        if (updated == null) {
-          deletedItems.add(stored);
-        }
-      }
-
-      // Carry forward the user generated metadata from existing columns to new columns
-      for (K updated : updatedList) {
-        // Find stored column matching name, data type and ordinal position
-        K stored = origList.stream().filter(c -> typeMatch.test(c, updated)).findAny().orElse(null);
-        if (stored == null) { // New column added
-          addedItems.add(updated);
-        }
-      }
+      // Items are matched on the key returned by matchKey - see EntityUtil.diffLists
+      EntityUtil.diffLists(origList, updatedList, matchKey, addedItems, deletedItems);
       if (!addedItems.isEmpty()) {
         FieldChange fieldChange = new FieldChange().withName(field).withNewValue(JsonUtils.pojoToJson(addedItems));
         changeDescription.getFieldsAdded().add(fieldChange);
@@ -388,9 +579,7 @@ public abstract class EntityRepository<T> {
     public final void store() throws IOException, ParseException {
       if (updateVersion(original.getVersion())) {
         // Store the old version
-        String extensionName = EntityUtil.getVersionExtension(entityName, original.getVersion());
-        daoCollection.entityExtensionDAO().insert(original.getId().toString(), extensionName, entityName,
-                JsonUtils.pojoToJson(original.getEntity()));
+        versionStore.storeVersion(entityName, original, JsonUtils.pojoToJson(original.getEntity()));
 
         // Store the new version
         EntityRepository.this.store(updated.getEntity(), true);
@@ -398,9 +587,7 @@ public abstract class EntityRepository<T> {
     }
   }
 
-  public static BiPredicate<EntityReference, EntityReference> entityReferenceMatch = (ref1, ref2)
-          -> ref1.getId().equals(ref2.getId());
+  public static Function<EntityReference, UUID> entityReferenceMatch = EntityReference::getId;
 
-  public static BiPredicate<TagLabel, TagLabel> tagLabelMatch = (tag1, tag2)
-          -> tag1.getTagFQN().equals(tag2.getTagFQN());
+  public static Function<TagLabel, String> tagLabelMatch = TagLabel::getTagFQN;
 }
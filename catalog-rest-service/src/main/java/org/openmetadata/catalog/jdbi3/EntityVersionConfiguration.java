@@ -0,0 +1,38 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import javax.validation.constraints.Min;
+
+public class EntityVersionConfiguration {
+  /** Number of versions between full copies of an entity in the version history */
+  @Min(1)
+  private int snapshotInterval = EntityVersionStore.DEFAULT_SNAPSHOT_INTERVAL;
+
+  public int getSnapshotInterval() {
+    return snapshotInterval;
+  }
+
+  public void setSnapshotInterval(int snapshotInterval) {
+    this.snapshotInterval = snapshotInterval;
+  }
+
+  @Override
+  public String toString() {
+    return "EntityVersionConfiguration{snapshotInterval=" + snapshotInterval + '}';
+  }
+}
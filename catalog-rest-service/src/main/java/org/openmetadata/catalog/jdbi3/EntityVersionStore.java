@@ -0,0 +1,142 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.EntityExtensionDAO;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.EntityVersionPair;
+import org.openmetadata.catalog.type.ChangeDescription;
+import org.openmetadata.catalog.util.EntityInterface;
+import org.openmetadata.catalog.util.EntityUtil;
+import org.openmetadata.catalog.util.JsonUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stores the older versions of an entity in {@code entity_extension} under the extension
+ * {@code <entityName>.version.<version>}.
+ *
+ * To keep the version history of large entities small, a full copy of the entity is stored only every
+ * {@code snapshotInterval} versions. The versions in between are stored as RFC 6902 JSON patch against the most recent
+ * full copy, recorded in column {@code baseExtension}. A version is reconstructed by applying its patch to that
+ * snapshot, which takes at most two rows regardless of how long the version history is.
+ */
+public class EntityVersionStore {
+  public static final int DEFAULT_SNAPSHOT_INTERVAL = 10;
+  /** Flyway placeholder that passes the configured snapshot interval to migrations that rewrite version history */
+  public static final String SNAPSHOT_INTERVAL_PLACEHOLDER = "entityVersionSnapshotInterval";
+  private static volatile int snapshotInterval = DEFAULT_SNAPSHOT_INTERVAL;
+
+  private final EntityExtensionDAO dao;
+
+  public EntityVersionStore(EntityExtensionDAO dao) {
+    this.dao = dao;
+  }
+
+  public static void setSnapshotInterval(int interval) {
+    if (interval < 1) {
+      throw new IllegalArgumentException("Entity version snapshotInterval must be at least 1");
+    }
+    snapshotInterval = interval;
+  }
+
+  public static int getSnapshotInterval() {
+    return snapshotInterval;
+  }
+
+  /** Returns true when a version following {@code deltaCount} deltas of a snapshot must be a new snapshot */
+  public static boolean isSnapshotDue(int deltaCount) {
+    return isSnapshotDue(deltaCount, snapshotInterval);
+  }
+
+  /** Same as {@link #isSnapshotDue(int)} for the given snapshot interval */
+  public static boolean isSnapshotDue(int deltaCount, int interval) {
+    return deltaCount + 1 >= interval;
+  }
+
+  /**
+   * Store {@code json} of {@code entity} as its current version. The version metadata such as updatedAt and the change
+   * description are stored along with it, for listing the version history without reading the json.
+   */
+  public void storeVersion(String entityName, EntityInterface<?> entity, String json) throws JsonProcessingException {
+    String id = entity.getId().toString();
+    Double version = entity.getVersion();
+    ChangeDescription change = entity.getChangeDescription();
+    Double previousVersion = change == null ? null : change.getPreviousVersion();
+
+    String extension = EntityUtil.getVersionExtension(entityName, version);
+    String baseExtension = previousVersion == null ? null : getBaseExtension(id, entityName, previousVersion);
+    String versionJson = json;
+    if (baseExtension != null && !isSnapshotDue(dao.getDeltaCount(id, baseExtension))) {
+      versionJson = JsonUtils.getJsonPatch(dao.getEntityVersion(id, baseExtension), json);
+    } else {
+      baseExtension = null;
+    }
+    Long updatedAt = entity.getUpdatedAt() == null ? null : entity.getUpdatedAt().getTime();
+    dao.insertVersion(id, extension, entityName, versionJson, baseExtension, version, updatedAt,
+            entity.getUpdatedBy(), change == null ? null : JsonUtils.pojoToJson(change));
+  }
+
+  /** Get the snapshot extension that the next version after {@code previousVersion} would be a delta of */
+  private String getBaseExtension(String id, String entityName, Double previousVersion) {
+    String previousExtension = EntityUtil.getVersionExtension(entityName, previousVersion);
+    EntityVersionPair previous = dao.getEntityVersionPair(id, previousExtension);
+    if (previous == null) {
+      return null;
+    }
+    return previous.isDelta() ? previous.getBaseExtension() : previousExtension;
+  }
+
+  /** Get full json of a version given its extension {@code <entityName>.version.<version>} */
+  public String getVersion(String id, String extension) {
+    EntityVersionPair version = dao.getEntityVersionPair(id, extension);
+    if (version == null) {
+      return null;
+    }
+    return version.isDelta() ?
+            JsonUtils.applyJsonPatch(dao.getEntityVersion(id, version.getBaseExtension()), version.getEntityJson()) :
+            version.getEntityJson();
+  }
+
+  /** Get full json of all the versions of an entity stored with extension prefix {@code <entityName>.version} */
+  public List<EntityVersionPair> getVersions(String id, String extensionPrefix) {
+    List<EntityVersionPair> versions = dao.getEntityVersions(id, extensionPrefix);
+
+    // Snapshots are part of the same result set. Index them by extension to resolve the deltas
+    Map<String, String> snapshots = new HashMap<>();
+    for (EntityVersionPair version : versions) {
+      if (!version.isDelta()) {
+        snapshots.put(extensionPrefix + "." + version.getVersion(), version.getEntityJson());
+      }
+    }
+
+    List<EntityVersionPair> resolved = new ArrayList<>(versions.size());
+    for (EntityVersionPair version : versions) {
+      if (!version.isDelta()) {
+        resolved.add(version);
+        continue;
+      }
+      String snapshot = snapshots.computeIfAbsent(version.getBaseExtension(), k -> dao.getEntityVersion(id, k));
+      resolved.add(new EntityVersionPair(version.getVersion(),
+              JsonUtils.applyJsonPatch(snapshot, version.getEntityJson())));
+    }
+    return resolved;
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import com.codahale.metrics.Timer;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.EntityExtensionDAO;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.ExtensionPayload;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Stores extensions of an entity, such as the sample data of a table, in {@code entity_extension}.
+ *
+ * Extensions larger than {@code compressionThreshold} bytes are stored compressed in column {@code compressedJson},
+ * with the codec used recorded in column {@code codec}, and are decompressed as they are read. Smaller ones are stored
+ * as json. The timers {@code repository.extension.compress} and {@code repository.extension.decompress} and the
+ * histogram {@code repository.extension.compressedPercent} of the compressed size as a percentage of the json size
+ * record the cost and the gain of compression.
+ */
+public class ExtensionStore {
+  public static final int DEFAULT_COMPRESSION_THRESHOLD = 4096;
+  public static final String GZIP = "gzip";
+  private static volatile int compressionThreshold = DEFAULT_COMPRESSION_THRESHOLD;
+  private static final RepositoryMetrics metrics = new RepositoryMetrics("extension");
+
+  private final EntityExtensionDAO dao;
+
+  public ExtensionStore(EntityExtensionDAO dao) {
+    this.dao = dao;
+  }
+
+  public static void setCompressionThreshold(int threshold) {
+    if (threshold < 0) {
+      throw new IllegalArgumentException("Entity extension compressionThresholdBytes must not be negative");
+    }
+    compressionThreshold = threshold;
+  }
+
+  public void store(String id, String extension, String jsonSchema, String json) {
+    byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+    if (bytes.length <= compressionThreshold) {
+      dao.insert(id, extension, jsonSchema, json);
+      return;
+    }
+    byte[] compressed = compress(bytes);
+    metrics.update("compressedPercent", 100L * compressed.length / bytes.length);
+    dao.insertCompressed(id, extension, jsonSchema, compressed, GZIP);
+  }
+
+  /** Open the json of an extension for reading, or return null when the extension does not exist */
+  public InputStream open(String id, String extension) throws IOException {
+    ExtensionPayload payload = dao.getExtensionPayload(id, extension);
+    if (payload == null) {
+      return null;
+    }
+    if (payload.getCodec() == null) {
+      return new ByteArrayInputStream(payload.getJson().getBytes(StandardCharsets.UTF_8));
+    }
+    return decompress(payload.getCompressedJson(), payload.getCodec());
+  }
+
+  static byte[] compress(byte[] bytes) {
+    try (Timer.Context ignored = metrics.time("compress")) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+      try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+        gzip.write(bytes);
+      }
+      return out.toByteArray();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e); // Not thrown when writing to memory
+    }
+  }
+
+  // Decompresses as the stream is read, and records the time spent decompressing when the stream is closed
+  static InputStream decompress(byte[] compressed, String codec) throws IOException {
+    if (!GZIP.equals(codec)) {
+      throw new IOException("Unknown extension codec " + codec);
+    }
+    return new GZIPInputStream(new ByteArrayInputStream(compressed)) {
+      private long nanos = 0;
+      private boolean closed = false;
+
+      @Override
+      public int read(byte[] buf, int off, int len) throws IOException {
+        long start = System.nanoTime();
+        try {
+          return super.read(buf, off, len);
+        } finally {
+          nanos += System.nanoTime() - start;
+        }
+      }
+
+      @Override
+      public void close() throws IOException {
+        super.close();
+        if (!closed) {
+          closed = true;
+          metrics.record("decompress", nanos);
+        }
+      }
+    };
+  }
+}
@@ -16,10 +16,12 @@
 
 package org.openmetadata.catalog.jdbi3;
 
+import com.codahale.metrics.Timer;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import org.jdbi.v3.sqlobject.transaction.Transaction;
 import org.openmetadata.catalog.Entity;
 import org.openmetadata.catalog.entity.feed.Thread;
-import org.openmetadata.catalog.resources.feeds.FeedUtil;
+import org.openmetadata.catalog.exception.EntityNotFoundException;
 import org.openmetadata.catalog.resources.feeds.MessageParser;
 import org.openmetadata.catalog.resources.feeds.MessageParser.EntityLink;
 import org.openmetadata.catalog.resources.feeds.MessageParser.EntityLink.LinkType;
@@ -27,16 +29,30 @@ import org.openmetadata.catalog.type.EntityReference;
 import org.openmetadata.catalog.type.Post;
 import org.openmetadata.catalog.util.EntityUtil;
 import org.openmetadata.catalog.util.JsonUtils;
+import org.openmetadata.catalog.util.ResultList;
+import org.openmetadata.common.utils.CursorCodec;
+import org.openmetadata.common.utils.CursorCodec.Direction;
 
 import java.io.IOException;
+import java.security.GeneralSecurityException;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
+import static org.openmetadata.catalog.exception.CatalogExceptionMessage.entityNotFound;
+
 public class FeedRepository {
+  /** Number of the most recent posts returned with a thread */
+  public static final int RECENT_POSTS = 3;
+
   private final CollectionDAO dao;
+  private final RepositoryMetrics metrics = new RepositoryMetrics("thread");
 
   public FeedRepository(CollectionDAO dao) { this.dao = dao; }
 
@@ -54,8 +70,10 @@ public class FeedRepository {
     EntityReference owner = EntityUtil.populateOwner(aboutRef.getId(),
             dao.relationshipDAO(), dao.userDAO(), dao.teamDAO());
 
-    // Insert a new thread
-    dao.feedDAO().insert(JsonUtils.pojoToJson(thread));
+    // Insert a new thread header followed by the first post
+    thread.setPostCount(1);
+    dao.feedDAO().insert(getHeaderJson(thread), thread.getUpdatedAt().getTime());
+    dao.feedDAO().appendPost(thread.getId().toString(), thread.getPosts().get(0));
 
     // Add relationship User -- created --> Thread relationship
     dao.relationshipDAO().insert(fromUser.toString(), thread.getId().toString(),
@@ -74,90 +92,270 @@ public class FeedRepository {
 
     // Create relationship for users, teams, and other entities that are mentioned in the post
     // Multiple mentions of the same entity is handled by taking distinct mentions
-    List<EntityLink> mentions = MessageParser.getEntityLinks(thread.getPosts().get(0).getMessage());
-
-    mentions.stream().distinct().forEach(mention ->
-            dao.fieldRelationshipDAO().insert(mention.getFullyQualifiedFieldValue(), thread.getId().toString(),
-                    mention.getFullyQualifiedFieldType(), "thread", Relationship.MENTIONED_IN.ordinal()));
+    Set<EntityLink> mentions = new LinkedHashSet<>(MessageParser.getEntityLinks(thread.getPosts().get(0).getMessage()));
+    if (!mentions.isEmpty()) {
+      List<String> fromFQNs = new ArrayList<>(mentions.size());
+      List<String> fromTypes = new ArrayList<>(mentions.size());
+      mentions.forEach(mention -> {
+        fromFQNs.add(mention.getFullyQualifiedFieldValue());
+        fromTypes.add(mention.getFullyQualifiedFieldType());
+      });
+      dao.fieldRelationshipDAO().insertAll(fromFQNs, thread.getId().toString(), fromTypes, "thread",
+              Relationship.MENTIONED_IN.ordinal());
+    }
 
+    // Add the thread to the feed of the creator, the mentioned users, and the owners
+    dao.userFeedDAO().fanOut(Collections.singletonList(thread.getId().toString()));
     return thread;
   }
 
+  /** Get the thread header with its most recent posts. The other posts are listed with {@link #listPosts} */
   public Thread get(String id) throws IOException {
-    return EntityUtil.validate(id, dao.feedDAO().findById(id), Thread.class);
+    Thread thread = EntityUtil.validate(id, dao.feedDAO().findById(id), Thread.class);
+    List<Post> posts = JsonUtils.readObjects(dao.feedDAO().listPostsBefore(id, RECENT_POSTS, Integer.MAX_VALUE),
+            Post.class);
+    Collections.reverse(posts);
+    return thread.withPosts(posts);
   }
 
+  /** Append a post to a thread and return the thread header with only the appended post */
+
   @Transaction
   public Thread addPostToThread(String id, Post post) throws IOException {
-    // Query 1 - validate user creating thread
+    // Validate user creating the post
     UUID fromUser = post.getFrom();
     dao.userDAO().findEntityById(fromUser);
 
-    // Query 2 - Find the thread
-    Thread thread = EntityUtil.validate(id, dao.feedDAO().findById(id), Thread.class);
-    FeedUtil.addPost(thread, post);
-
-    // TODO is rewriting entire json okay?
-    // Query 3 - update the JSON document for the feed
-    dao.feedDAO().update(id, JsonUtils.pojoToJson(thread));
-
-    // Query 4 - Add relation User -- repliedTo --> Thread
-    // Add relationship from thread to the from entity that is posting a reply
-    boolean relationAlreadyExists = false;
-    for (Post p : thread.getPosts()) {
-      if (p.getFrom().equals(post.getFrom())) {
-        relationAlreadyExists = true;
-        break;
-      }
+    // Append the post without reading or rewriting the thread
+    post.setPostTs(new Date());
+    if (dao.feedDAO().appendPost(id, post) == 0) {
+      throw EntityNotFoundException.byMessage(entityNotFound(Thread.class.getSimpleName(), id));
     }
-    if (!relationAlreadyExists) {
-      dao.relationshipDAO().insert(post.getFrom().toString(), thread.getId().toString(),
-              "user", "thread", Relationship.REPLIED_TO.ordinal());
+
+    // Add relation User -- repliedTo --> Thread. It is ignored if the user already replied to the thread
+    dao.relationshipDAO().insert(post.getFrom().toString(), id, "user", "thread", Relationship.REPLIED_TO.ordinal());
+
+    // Add the thread to the feed of the user replying, and move it to the top of the feed of the other participants
+    dao.userFeedDAO().fanOut(Collections.singletonList(id));
+    Thread thread = JsonUtils.readValue(dao.feedDAO().findById(id), Thread.class);
+    return thread.withPosts(new ArrayList<>(Collections.singletonList(post)));
+  }
+
+  /** List posts of a thread in the order they were posted, paged by post sequence number */
+  public ResultList<Post> listPosts(String id, int limitParam, String before, String after)
+          throws IOException, GeneralSecurityException {
+    Integer total = dao.feedDAO().getPostCount(id);
+    if (total == null) {
+      throw EntityNotFoundException.byMessage(entityNotFound(Thread.class.getSimpleName(), id));
     }
-    return thread;
+
+    String beforeCursor = null, afterCursor = null;
+    List<Post> posts;
+    if (before != null) {
+      // Reverse scrolling - Get one extra result used for computing before cursor
+      int beforeSeq = Integer.parseInt(CursorCodec.instance().decode(before, Direction.BEFORE));
+      posts = JsonUtils.readObjects(dao.feedDAO().listPostsBefore(id, limitParam + 1, beforeSeq), Post.class);
+      Collections.reverse(posts);
+      int firstSeq = beforeSeq - posts.size(); // Posts have consecutive sequence numbers starting with 1
+      if (posts.size() > limitParam) { // If extra result exists, then previous page exists - return before cursor
+        posts.remove(0);
+        firstSeq++;
+        beforeCursor = String.valueOf(firstSeq);
+      }
+      afterCursor = posts.isEmpty() ? null : String.valueOf(firstSeq + posts.size() - 1);
+    } else {
+      // Forward scrolling, if after == null then first page is being asked
+      int afterSeq = after == null ? 0 : Integer.parseInt(CursorCodec.instance().decode(after, Direction.AFTER));
+      posts = JsonUtils.readObjects(dao.feedDAO().listPostsAfter(id, limitParam + 1, afterSeq), Post.class);
+      beforeCursor = after == null || posts.isEmpty() ? null : String.valueOf(afterSeq + 1);
+      if (posts.size() > limitParam) { // If extra result exists, then next page exists - return after cursor
+        posts.remove(limitParam);
+        afterCursor = String.valueOf(afterSeq + limitParam);
+      }
+    }
+    return new ResultList<>(posts, beforeCursor, afterCursor, total);
   }
 
+  /**
+   * List threads from the most to the least recently active one. When {@code link} is given, only the threads about
+   * the entity, mentioning it, or for a user the threads in the feed of the user are listed.
+   */
   @Transaction
-  public List<Thread> listThreads(String link) throws IOException {
-    if (link == null) {
-      // Not listing thread by data asset or user
-      return JsonUtils.readObjects(dao.feedDAO().list(), Thread.class);
+  public ResultList<Thread> listThreads(String link, int limitParam, String before, String after)
+          throws IOException, GeneralSecurityException {
+    try (Timer.Context ignored = metrics.time("listThreads")) {
+      EntityLink entityLink = link == null ? null : EntityLink.parse(link);
+      EntityReference reference = entityLink == null ? null : validateEntityLink(entityLink);
+      if (reference != null && reference.getType().equals(Entity.USER)) {
+        return listUserFeed(reference.getId().toString(), limitParam, before, after);
+      }
+
+      List<String> threadIds = reference == null ? null : getThreadIds(entityLink);
+      if (threadIds != null && threadIds.isEmpty()) {
+        return new ResultList<>(Collections.emptyList(), null, null, 0);
+      }
+      int total = threadIds == null ? dao.feedDAO().listCount() : threadIds.size();
+
+      List<Thread> threads;
+      String beforeCursor = null, afterCursor = null;
+      if (before != null) {
+        // Reverse scrolling - Get one extra result used for computing before cursor
+        ThreadCursor cursor = ThreadCursor.parse(CursorCodec.instance().decode(before, Direction.BEFORE));
+        List<String> jsons = threadIds == null ?
+                dao.feedDAO().listBefore(limitParam + 1, cursor.updatedAt, cursor.id) :
+                dao.feedDAO().listBefore(threadIds, limitParam + 1, cursor.updatedAt, cursor.id);
+        threads = JsonUtils.readObjects(jsons, Thread.class);
+        Collections.reverse(threads);
+        if (threads.size() > limitParam) { // If extra result exists, then previous page exists - return before cursor
+          threads.remove(0);
+          beforeCursor = ThreadCursor.of(threads.get(0));
+        }
+        afterCursor = threads.isEmpty() ? null : ThreadCursor.of(threads.get(threads.size() - 1));
+      } else {
+        // Forward scrolling, if after == null then first page is being asked
+        ThreadCursor cursor = after == null ? ThreadCursor.FIRST :
+                ThreadCursor.parse(CursorCodec.instance().decode(after, Direction.AFTER));
+        List<String> jsons = threadIds == null ?
+                dao.feedDAO().listAfter(limitParam + 1, cursor.updatedAt, cursor.id) :
+                dao.feedDAO().listAfter(threadIds, limitParam + 1, cursor.updatedAt, cursor.id);
+        threads = JsonUtils.readObjects(jsons, Thread.class);
+        beforeCursor = after == null || threads.isEmpty() ? null : ThreadCursor.of(threads.get(0));
+        if (threads.size() > limitParam) { // If extra result exists, then next page exists - return after cursor
+          threads.remove(limitParam);
+          afterCursor = ThreadCursor.of(threads.get(limitParam - 1));
+        }
+      }
+      metrics.materialized(threads.size());
+      return new ResultList<>(addRecentPosts(threads), beforeCursor, afterCursor, total);
+    }
+  }
+
+  /**
+   * List threads in the feed of a user from the most to the least recently active one. These are the threads created
+   * or replied to by the user, the threads mentioning the user, and the threads addressed to the user as an owner.
+   */
+  private ResultList<Thread> listUserFeed(String userId, int limitParam, String before, String after)
+          throws IOException, GeneralSecurityException {
+    int total = dao.userFeedDAO().listCount(userId);
+
+    List<List<String>> feed;
+    String beforeCursor = null, afterCursor = null;
+    if (before != null) {
+      // Reverse scrolling - Get one extra result used for computing before cursor
+      ThreadCursor cursor = ThreadCursor.parse(CursorCodec.instance().decode(before, Direction.BEFORE));
+      feed = dao.userFeedDAO().listBefore(userId, limitParam + 1, cursor.updatedAt, cursor.id);
+      Collections.reverse(feed);
+      if (feed.size() > limitParam) { // If extra result exists, then previous page exists - return before cursor
+        feed.remove(0);
+        beforeCursor = ThreadCursor.of(feed.get(0));
+      }
+      afterCursor = feed.isEmpty() ? null : ThreadCursor.of(feed.get(feed.size() - 1));
+    } else {
+      // Forward scrolling, if after == null then first page is being asked
+      ThreadCursor cursor = after == null ? ThreadCursor.FIRST :
+              ThreadCursor.parse(CursorCodec.instance().decode(after, Direction.AFTER));
+      feed = dao.userFeedDAO().listAfter(userId, limitParam + 1, cursor.updatedAt, cursor.id);
+      beforeCursor = after == null || feed.isEmpty() ? null : ThreadCursor.of(feed.get(0));
+      if (feed.size() > limitParam) { // If extra result exists, then next page exists - return after cursor
+        feed.remove(limitParam);
+        afterCursor = ThreadCursor.of(feed.get(limitParam - 1));
+      }
+    }
+    metrics.materialized(feed.size());
+    return new ResultList<>(getThreads(feed), beforeCursor, afterCursor, total);
+  }
+
+  /** Get the threads in a page of user feed in the feed order, with one query for the headers and one for the posts */
+  private List<Thread> getThreads(List<List<String>> feed) throws IOException {
+    if (feed.isEmpty()) {
+      return new ArrayList<>();
+    }
+    List<String> threadIds = new ArrayList<>();
+    feed.forEach(l -> threadIds.add(l.get(0)));
+    Map<String, Thread> threadMap = new HashMap<>();
+    for (Thread thread : JsonUtils.readObjects(dao.feedDAO().findByIds(threadIds), Thread.class)) {
+      threadMap.put(thread.getId().toString(), thread);
+    }
+    List<Thread> threads = new ArrayList<>();
+    threadIds.forEach(id -> threads.add(threadMap.get(id)));
+    return addRecentPosts(threads);
+  }
+
+  /** Add the most recent posts to the threads with a single query for all the threads */
+  private List<Thread> addRecentPosts(List<Thread> threads) throws IOException {
+    if (threads.isEmpty()) {
+      return threads;
     }
-    EntityLink entityLink = EntityLink.parse(link);
+    Map<String, Thread> threadMap = new HashMap<>();
+    threads.forEach(thread -> threadMap.put(thread.getId().toString(), thread));
+    for (List<String> post : dao.feedDAO().listRecentPosts(new ArrayList<>(threadMap.keySet()), RECENT_POSTS)) {
+      threadMap.get(post.get(0)).getPosts().add(JsonUtils.readValue(post.get(1), Post.class));
+    }
+    return threads;
+  }
+
+  /** Json of the thread header stored in thread_entity, which is the thread without its posts */
+  private static String getHeaderJson(Thread thread) throws JsonProcessingException {
+    List<Post> posts = thread.getPosts();
+    try {
+      return JsonUtils.pojoToJson(thread.withPosts(new ArrayList<>()));
+    } finally {
+      thread.setPosts(posts);
+    }
+  }
+
+  private EntityReference validateEntityLink(EntityLink entityLink) throws IOException {
     if (entityLink.getLinkType() != LinkType.ENTITY) {
       throw new IllegalArgumentException("Only entity links of type <E#/{entityType}/{entityName}> is allowed");
     }
-    EntityReference reference = EntityUtil.validateEntityLink(entityLink, dao);
-    List<String> threadIds = new ArrayList<>();
+    return EntityUtil.validateEntityLink(entityLink, dao);
+  }
+
+  /** Get ids of the threads related to the entity, other than a user, in {@code entityLink} */
+  private List<String> getThreadIds(EntityLink entityLink) {
+    // If an entity has multiple relationships (created, mentioned, repliedTo etc.) to the same thread
+    // Don't sent duplicated copies of the thread in response
+    Set<String> threadIds = new LinkedHashSet<>();
     List<List<String>> result = dao.fieldRelationshipDAO().listToByPrefix(entityLink.getFullyQualifiedFieldValue(),
             entityLink.getFullyQualifiedFieldType(), "thread",
             Relationship.MENTIONED_IN.ordinal());
     result.forEach(l -> threadIds.add(l.get(1)));
 
-    // TODO remove hardcoding of thread
-    // For a user entitylink get created or replied relationships to the thread
-    if (reference.getType().equals(Entity.USER)) {
-      threadIds.addAll(dao.relationshipDAO().findTo(reference.getId().toString(),
-              Relationship.CREATED.ordinal(), "thread"));
-      threadIds.addAll(dao.relationshipDAO().findTo(reference.getId().toString(),
-              Relationship.REPLIED_TO.ordinal(), "thread"));
-    } else {
-      // Only data assets are added as about
-      result = dao.fieldRelationshipDAO().listToByPrefix(entityLink.getFullyQualifiedFieldValue(),
-              entityLink.getFullyQualifiedFieldType(), "thread",
-              Relationship.IS_ABOUT.ordinal());
-      result.forEach(l -> threadIds.add(l.get(1)));
+    // Only data assets are added as about
+    result = dao.fieldRelationshipDAO().listToByPrefix(entityLink.getFullyQualifiedFieldValue(),
+            entityLink.getFullyQualifiedFieldType(), "thread",
+            Relationship.IS_ABOUT.ordinal());
+    result.forEach(l -> threadIds.add(l.get(1)));
+    return new ArrayList<>(threadIds);
+  }
+
+  /** Position of a thread in the list of threads ordered by (updatedAt, id), used as paging cursor */
+  static class ThreadCursor {
+    static final ThreadCursor FIRST = new ThreadCursor(Long.MAX_VALUE, "");
+
+    private final long updatedAt;
+    private final String id;
+
+    ThreadCursor(long updatedAt, String id) {
+      this.updatedAt = updatedAt;
+      this.id = id;
     }
 
-    List<Thread> threads = new ArrayList<>();
-    Set<String> uniqueValues = new HashSet<>();
-    for (String t : threadIds) {
-      // If an entity has multiple relationships (created, mentioned, repliedTo etc.) to the same thread
-      // Don't sent duplicated copies of the thread in response
-      if (uniqueValues.add(t)) {
-        threads.add(EntityUtil.validate(t, dao.feedDAO().findById(t), Thread.class));
+    static String of(Thread thread) {
+      return thread.getUpdatedAt().getTime() + ":" + thread.getId();
+    }
+
+    /** Cursor of a user feed row [threadId, updatedAt] */
+    static String of(List<String> feedRow) {
+      return feedRow.get(1) + ":" + feedRow.get(0);
+    }
+
+    static ThreadCursor parse(String cursor) {
+      int separator = cursor.indexOf(':');
+      if (separator < 0) {
+        throw new IllegalArgumentException("Invalid thread cursor " + cursor);
       }
+      return new ThreadCursor(Long.parseLong(cursor.substring(0, separator)), cursor.substring(separator + 1));
     }
-    return threads;
   }
-}
\ No newline at end of file
+}
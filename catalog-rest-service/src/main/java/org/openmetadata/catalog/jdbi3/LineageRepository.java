@@ -16,6 +16,7 @@
 
 package org.openmetadata.catalog.jdbi3;
 
+import com.codahale.metrics.Timer;
 import org.jdbi.v3.sqlobject.transaction.Transaction;
 import org.openmetadata.catalog.api.lineage.AddLineage;
 import org.openmetadata.catalog.type.Edge;
@@ -33,20 +34,25 @@ import static org.openmetadata.catalog.util.EntityUtil.getEntityReference;
 
 public class LineageRepository {
   private final CollectionDAO dao;
+  private final RepositoryMetrics metrics = new RepositoryMetrics("lineage");
 
   public LineageRepository(CollectionDAO dao) { this.dao = dao; }
 
   @Transaction
   public EntityLineage get(String entityType, String id, int upstreamDepth, int downstreamDepth) throws IOException {
-    EntityReference ref = getEntityReference(entityType, UUID.fromString(id), dao);
-    return getLineage(ref, upstreamDepth, downstreamDepth);
+    try (Timer.Context ignored = metrics.time("get"); ReadReplica.Scope replica = ReadReplica.read()) {
+      EntityReference ref = getEntityReference(entityType, UUID.fromString(id), dao);
+      return getLineage(ref, upstreamDepth, downstreamDepth);
+    }
   }
 
   @Transaction
   public EntityLineage getByName(String entityType, String fqn, int upstreamDepth, int downstreamDepth)
           throws IOException {
-    EntityReference ref = EntityUtil.getEntityReferenceByName(entityType, fqn, dao);
-    return getLineage(ref, upstreamDepth, downstreamDepth);
+    try (Timer.Context ignored = metrics.time("getByName"); ReadReplica.Scope replica = ReadReplica.read()) {
+      EntityReference ref = EntityUtil.getEntityReferenceByName(entityType, fqn, dao);
+      return getLineage(ref, upstreamDepth, downstreamDepth);
+    }
   }
 
   @Transaction
@@ -42,7 +42,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -60,6 +60,11 @@ public class PipelineRepository extends EntityRepository<Pipeline> {
     this.dao = dao;
   }
 
+  @Override
+  protected List<String> getOptionalJsonFields() {
+    return Collections.singletonList("tasks");
+  }
+
   public static String getFQN(Pipeline pipeline) {
     return (pipeline.getService().getName() + "." + pipeline.getName());
   }
@@ -133,9 +138,9 @@ public class PipelineRepository extends EntityRepository<Pipeline> {
     pipeline.withOwner(null).withService(null).withHref(null).withTags(null);
 
     if (update) {
-      dao.pipelineDAO().update(pipeline.getId(), JsonUtils.pojoToJson(pipeline));
+      dao.pipelineDAO().update(pipeline.getId(), JsonUtils.pojoToJson(pipeline), service);
     } else {
-      dao.pipelineDAO().insert(pipeline);
+      dao.pipelineDAO().insert(pipeline, service);
     }
 
     // Restore the relationships
@@ -322,6 +327,5 @@ public class PipelineRepository extends EntityRepository<Pipeline> {
     }
   }
 
-  public static BiPredicate<Task, Task> taskMatch = (task1, task2)
-          -> task1.getName().equals(task2.getName());
+  public static Function<Task, String> taskMatch = Task::getName;
 }
@@ -0,0 +1,293 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.catalog.jdbi3;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import org.jdbi.v3.core.ConnectionException;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.SqlStatements;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.StatementCustomizer;
+import org.jdbi.v3.sqlobject.CreateSqlObject;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Routes the read-only operations of repositories to the read replica database. An operation reads from the replica
+ * within a {@link #read()} scope, and everything else, writes included, runs on the primary database. The queries of a
+ * scope fall back to the primary when:
+ * <ul>
+ *   <li>the replica is further behind the primary than the configured maximum lag, or its lag is unknown</li>
+ *   <li>the client wrote to the primary in the last {@code readYourWritesMs}, so that it reads its own writes</li>
+ *   <li>a query of a single row finds nothing on the replica, which is retried on the primary in case the row was
+ *   just written</li>
+ *   <li>no connection to the replica can be made</li>
+ * </ul>
+ * A default method of a data access object runs whole on one database, so that its statements share a handle and its
+ * {@code @Transaction} applies. Within a read scope it runs on the replica, unless it runs a statement other than a
+ * query, which the replica rejects before it runs; the method is then run again on the primary. It is also run again
+ * on the primary when it fails or finds nothing on the replica. See {@link #install(Jdbi, Jdbi)}.
+ * <p>
+ * The time of the last write of a client is carried by the client from one request to the next, as requests of a
+ * client are served by any thread of any server, whose clocks are kept in sync, see {@link #startRequest(Long)}.
+ * Outside of requests, the reads of a thread follow its own writes.
+ * <p>
+ * Routed reads are counted in the meters {@code database.reads.replica} and {@code database.reads.primaryFallback},
+ * and the replica lag is the gauge {@code database.replica.lagSeconds}.
+ */
+public final class ReadReplica {
+  private static final Logger LOG = LoggerFactory.getLogger(ReadReplica.class);
+  private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+  private static final Scope SCOPE = new Scope();
+
+  private static volatile boolean available = false;
+  private static volatile Long lagSeconds = null;
+  private static volatile long readYourWritesMs = TimeUnit.SECONDS.toMillis(5);
+  private static volatile MetricRegistry registry = new MetricRegistry();
+
+  private ReadReplica() {}
+
+  public static void configure(ReadReplicaConfiguration config, MetricRegistry metricRegistry) {
+    readYourWritesMs = config.getReadYourWritesMs();
+    registry = metricRegistry;
+    registry.gauge("database.replica.lagSeconds", () -> (Gauge<Long>) () -> lagSeconds);
+  }
+
+  /**
+   * Watch the statements run on the databases. Statements other than queries count as writes on the primary, and are
+   * rejected on the replica before they run, which sends a default method that writes back to the primary.
+   */
+  public static void install(Jdbi primaryJdbi, Jdbi replicaJdbi) {
+    primaryJdbi.getConfig(SqlStatements.class).addCustomizer(new StatementCustomizer() {
+      @Override
+      public void beforeExecution(PreparedStatement statement, StatementContext context) {
+        if (!isQuery(context.getRenderedSql())) {
+          wrote();
+        }
+      }
+    });
+    replicaJdbi.getConfig(SqlStatements.class).addCustomizer(new StatementCustomizer() {
+      @Override
+      public void beforeExecution(PreparedStatement statement, StatementContext context) {
+        if (!isQuery(context.getRenderedSql())) {
+          throw new ReplicaWriteException(context.getRenderedSql());
+        }
+      }
+    });
+  }
+
+  static boolean isQuery(String sql) {
+    String trimmed = sql.trim();
+    return trimmed.regionMatches(true, 0, "SELECT", 0, 6) || trimmed.startsWith("(");
+  }
+
+  /** Set the replication lag of the replica, null when unknown, and whether reads are served by the replica */
+  static void setLag(Long lag, boolean replicaAvailable) {
+    lagSeconds = lag;
+    available = replicaAvailable;
+  }
+
+  /**
+   * Start a read-only operation, which reads from the replica unless it has to fall back to the primary. Close the
+   * returned scope when the operation completes. Scopes nest, an inner scope reads from where the outermost one does.
+   */
+  public static Scope read() {
+    State state = STATE.get();
+    if (state.depth++ == 0) {
+      state.replica = available && System.currentTimeMillis() - state.lastWriteMillis > readYourWritesMs;
+    }
+    return SCOPE;
+  }
+
+  /**
+   * Start serving a request of a client that last wrote at {@code lastWriteMillis}, since the epoch, or null when the
+   * client did not tell. Any state left by the previous request served by the thread is dropped.
+   */
+  public static void startRequest(Long lastWriteMillis) {
+    State state = new State();
+    if (lastWriteMillis != null) {
+      // A time in the future does not keep the client on the primary for longer than a write now
+      state.lastWriteMillis = Math.min(lastWriteMillis, System.currentTimeMillis());
+    }
+    STATE.set(state);
+  }
+
+  /**
+   * End serving a request, and return the time of the last write of the request for the client to send along with
+   * its next requests, or null when the request did not write.
+   */
+  public static Long endRequest() {
+    State state = STATE.get();
+    STATE.remove();
+    return state.wrote ? state.lastWriteMillis : null;
+  }
+
+  public static long getReadYourWritesMs() {
+    return readYourWritesMs;
+  }
+
+  /**
+   * A data access object of type {@code type} that runs the queries of read scopes on {@code replica} and everything
+   * else on {@code primary}. Data access objects created from it with {@link CreateSqlObject} are routed too.
+   */
+  public static <T> T route(Class<T> type, T primary, T replica) {
+    return type.cast(newRouter(type, primary, replica));
+  }
+
+  private static Object newRouter(Class<?> type, Object primary, Object replica) {
+    return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, new Router(type, primary, replica));
+  }
+
+  static boolean inReplicaScope() {
+    State state = STATE.get();
+    return state.depth > 0 && state.replica;
+  }
+
+  // Later reads of the request or thread, including the rest of the current scope, read from the primary for a while
+  static void wrote() {
+    State state = STATE.get();
+    state.lastWriteMillis = System.currentTimeMillis();
+    state.wrote = true;
+    state.replica = false;
+  }
+
+  public static final class Scope implements AutoCloseable {
+    private Scope() {}
+
+    @Override
+    public void close() {
+      STATE.get().depth--;
+    }
+  }
+
+  /** A statement other than a query about to run on the replica */
+  static final class ReplicaWriteException extends IllegalStateException {
+    ReplicaWriteException(String sql) {
+      super("Statement rejected by the read replica: " + sql);
+    }
+  }
+
+  private static final class State {
+    private int depth;
+    private boolean replica;
+    private boolean wrote;
+    private long lastWriteMillis;
+  }
+
+  private static final class Router implements InvocationHandler {
+    private final Class<?> type;
+    private final Object primary;
+    private final Object replica;
+    private final Map<Method, Object> sqlObjects = new ConcurrentHashMap<>();
+
+    private Router(Class<?> type, Object primary, Object replica) {
+      this.type = type;
+      this.primary = primary;
+      this.replica = replica;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      if (method.getDeclaringClass() == Object.class) {
+        switch (method.getName()) {
+          case "equals": return proxy == args[0];
+          case "hashCode": return System.identityHashCode(proxy);
+          default: return "ReadReplica.Router(" + type.getSimpleName() + ")";
+        }
+      }
+      if (method.isAnnotationPresent(CreateSqlObject.class)) {
+        return sqlObjects.computeIfAbsent(method, m -> newRouter(m.getReturnType(), invokeUnchecked(primary, m),
+                invokeUnchecked(replica, m)));
+      }
+      boolean defaultMethod = method.isDefault() || mostSpecific(method).isDefault();
+      if (!defaultMethod && !method.isAnnotationPresent(SqlQuery.class)) {
+        wrote();
+        return call(primary, method, args);
+      }
+      if (!inReplicaScope()) {
+        return call(primary, method, args);
+      }
+      Object result;
+      try {
+        result = call(replica, method, args);
+      } catch (ConnectionException e) {
+        LOG.warn("Failed to connect to the read replica, reading from the primary database", e);
+        registry.meter("database.reads.primaryFallback").mark();
+        return call(primary, method, args);
+      } catch (Exception e) {
+        if (!defaultMethod) {
+          throw e;
+        }
+        if (isWrite(e)) {
+          wrote(); // The method writes, and it runs again on the primary
+        }
+        registry.meter("database.reads.primaryFallback").mark();
+        return call(primary, method, args);
+      }
+      if (result == null) {
+        registry.meter("database.reads.primaryFallback").mark();
+        return call(primary, method, args);
+      }
+      registry.meter("database.reads.replica").mark();
+      return result;
+    }
+
+    // Interfaces override the abstract methods of the interfaces they extend with default methods
+    private Method mostSpecific(Method method) {
+      try {
+        return type.getMethod(method.getName(), method.getParameterTypes());
+      } catch (NoSuchMethodException e) {
+        return method;
+      }
+    }
+
+    private static boolean isWrite(Throwable e) {
+      for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+        if (cause instanceof ReplicaWriteException) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private static Object call(Object target, Method method, Object[] args) throws Throwable {
+      try {
+        return method.invoke(target, args);
+      } catch (InvocationTargetException e) {
+        throw e.getCause();
+      }
+    }
+
+    private static Object invokeUnchecked(Object target, Method method) {
+      try {
+        return method.invoke(target);
+      } catch (IllegalAccessException | InvocationTargetException e) {
+        throw new IllegalStateException("Failed to create " + method.getReturnType().getSimpleName(), e);
+      }
+    }
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.catalog.jdbi3;
+
+import javax.validation.constraints.Min;
+
+public class ReadReplicaConfiguration {
+  /** Reads fall back to the primary database when the replica is more than maxLagSeconds behind it */
+  @Min(0)
+  private int maxLagSeconds = 5;
+
+  /** Interval in seconds between two checks of the replication lag of the replica */
+  @Min(1)
+  private int lagCheckIntervalSeconds = 10;
+
+  /**
+   * Time in milliseconds after a write during which the reads of the client that wrote go to the primary. The time of
+   * the last write is returned to the client in a response header and a cookie, which the client sends back.
+   */
+  @Min(0)
+  private long readYourWritesMs = 5000;
+
+  public int getMaxLagSeconds() {
+    return maxLagSeconds;
+  }
+
+  public void setMaxLagSeconds(int maxLagSeconds) {
+    this.maxLagSeconds = maxLagSeconds;
+  }
+
+  public int getLagCheckIntervalSeconds() {
+    return lagCheckIntervalSeconds;
+  }
+
+  public void setLagCheckIntervalSeconds(int lagCheckIntervalSeconds) {
+    this.lagCheckIntervalSeconds = lagCheckIntervalSeconds;
+  }
+
+  public long getReadYourWritesMs() {
+    return readYourWritesMs;
+  }
+
+  public void setReadYourWritesMs(long readYourWritesMs) {
+    this.readYourWritesMs = readYourWritesMs;
+  }
+
+  @Override
+  public String toString() {
+    return "ReadReplicaConfiguration{maxLagSeconds=" + maxLagSeconds + ", lagCheckIntervalSeconds=" +
+            lagCheckIntervalSeconds + ", readYourWritesMs=" + readYourWritesMs + '}';
+  }
+}
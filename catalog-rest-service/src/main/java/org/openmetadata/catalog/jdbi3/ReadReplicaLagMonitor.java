@@ -0,0 +1,103 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.catalog.jdbi3;
+
+import io.dropwizard.lifecycle.Managed;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks the replication lag of the read replica periodically in the background, and lets {@link ReadReplica} route
+ * reads to it only while it is at most maxLagSeconds behind the primary. A replica that does not report a replication
+ * status, such as the reader endpoint of a cluster, is taken as up to date. Until the first check, and when the lag
+ * can't be read or replication is stopped, reads go to the primary.
+ */
+public class ReadReplicaLagMonitor implements Managed {
+  private static final Logger LOG = LoggerFactory.getLogger(ReadReplicaLagMonitor.class);
+
+  private final Jdbi replica;
+  private final ReadReplicaConfiguration config;
+  private boolean available = false;
+  private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+    Thread thread = new Thread(r, "read-replica-lag-monitor");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  public ReadReplicaLagMonitor(Jdbi replica, ReadReplicaConfiguration config) {
+    this.replica = replica;
+    this.config = config;
+  }
+
+  @Override
+  public void start() {
+    executor.scheduleWithFixedDelay(this::run, 0, config.getLagCheckIntervalSeconds(), TimeUnit.SECONDS);
+  }
+
+  @Override
+  public void stop() throws InterruptedException {
+    executor.shutdown();
+    executor.awaitTermination(30, TimeUnit.SECONDS);
+    ReadReplica.setLag(null, false);
+  }
+
+  void run() {
+    Long lag = null;
+    try {
+      lag = replica.withHandle(ReadReplicaLagMonitor::getLagSeconds);
+    } catch (Exception e) {
+      LOG.warn("Failed to check the replication lag of the read replica", e);
+    }
+    boolean replicaAvailable = lag != null && lag <= config.getMaxLagSeconds();
+    if (replicaAvailable != available) {
+      if (replicaAvailable) {
+        LOG.info("Read replica is {} seconds behind the primary database, reading from the replica", lag);
+      } else {
+        LOG.warn("Read replica lag is {} seconds, over {} seconds or unknown, reading from the primary database", lag,
+                config.getMaxLagSeconds());
+      }
+    }
+    available = replicaAvailable;
+    ReadReplica.setLag(lag, replicaAvailable);
+  }
+
+  // Seconds the replica is behind the primary, 0 when it has no replication status and null when replication stopped
+  static Long getLagSeconds(Handle handle) {
+    Optional<Map<String, Object>> status;
+    String column;
+    try {
+      status = handle.createQuery("SHOW REPLICA STATUS").mapToMap().findFirst();
+      column = "seconds_behind_source";
+    } catch (Exception e) {
+      // MySQL before 8.0.22
+      status = handle.createQuery("SHOW SLAVE STATUS").mapToMap().findFirst();
+      column = "seconds_behind_master";
+    }
+    if (status.isEmpty()) {
+      return 0L;
+    }
+    Object lag = status.get().get(column);
+    return lag == null ? null : ((Number) lag).longValue();
+  }
+}
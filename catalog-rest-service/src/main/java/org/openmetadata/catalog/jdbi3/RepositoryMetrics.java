@@ -0,0 +1,61 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics of the operations of a repository, named {@code repository.<entityType>.<operation>} for the operation
+ * timers and {@code repository.<entityType>.entitiesMaterialized} for the number of entities read from the database.
+ * The metrics are registered with the registry of the application once it is set with {@link #setRegistry}.
+ */
+public final class RepositoryMetrics {
+  private static volatile MetricRegistry registry = new MetricRegistry();
+
+  private final String entityType;
+
+  public RepositoryMetrics(String entityType) {
+    this.entityType = entityType;
+  }
+
+  public static void setRegistry(MetricRegistry metricRegistry) {
+    registry = metricRegistry;
+  }
+
+  /** Start timing an operation; close the returned context when it completes */
+  public Timer.Context time(String operation) {
+    return registry.timer(MetricRegistry.name("repository", entityType, operation)).time();
+  }
+
+  /** Record the duration of an operation timed by the caller */
+  public void record(String operation, long durationNanos) {
+    registry.timer(MetricRegistry.name("repository", entityType, operation)).update(durationNanos,
+            TimeUnit.NANOSECONDS);
+  }
+
+  /** Record a value in the histogram {@code repository.<entityType>.<histogram>} */
+  public void update(String histogram, long value) {
+    registry.histogram(MetricRegistry.name("repository", entityType, histogram)).update(value);
+  }
+
+  public void materialized(long count) {
+    registry.counter(MetricRegistry.name("repository", entityType, "entitiesMaterialized")).inc(count);
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import javax.validation.constraints.Min;
+
+public class SlowQueryConfiguration {
+  /** Record the SQL statements that take longer than thresholdMs */
+  private boolean enabled = true;
+
+  /** Time in milliseconds above which a SQL statement is recorded as slow */
+  @Min(0)
+  private long thresholdMs = 500;
+
+  /** Number of the most recent slow statements kept in memory */
+  @Min(1)
+  private int bufferSize = 100;
+
+  /** Run EXPLAIN FORMAT=JSON, in the background, for the first slow run of every SELECT statement */
+  private boolean explain = false;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public long getThresholdMs() {
+    return thresholdMs;
+  }
+
+  public void setThresholdMs(long thresholdMs) {
+    this.thresholdMs = thresholdMs;
+  }
+
+  public int getBufferSize() {
+    return bufferSize;
+  }
+
+  public void setBufferSize(int bufferSize) {
+    this.bufferSize = bufferSize;
+  }
+
+  public boolean isExplain() {
+    return explain;
+  }
+
+  public void setExplain(boolean explain) {
+    this.explain = explain;
+  }
+
+  @Override
+  public String toString() {
+    return "SlowQueryConfiguration{enabled=" + enabled + ", thresholdMs=" + thresholdMs + ", bufferSize=" +
+            bufferSize + ", explain=" + explain + '}';
+  }
+}
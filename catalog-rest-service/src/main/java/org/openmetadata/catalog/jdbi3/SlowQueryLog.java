@@ -0,0 +1,269 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import com.mysql.cj.jdbc.ClientPreparedStatement;
+import io.dropwizard.lifecycle.Managed;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.extension.ExtensionMethod;
+import org.jdbi.v3.core.statement.SqlLogger;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Records the SQL statements that take longer than the configured threshold in a ring buffer of the most recent ones,
+ * and logs them as warnings. A slow statement is recorded with its rendered template, after {@code @Define}
+ * substitution, the names of its bind parameters without their values, its time and, for statements other than
+ * SELECT, the number of rows it updated.
+ *
+ * <p>The list parameters of {@code @BindList} are collapsed, so {@code IN (:__ids_0, :__ids_1)} is recorded as
+ * {@code IN (:ids)} with the parameter {@code ids[2]}. When explain is enabled, the first slow run of every SELECT
+ * template is explained in the background with the same bound values, and the plan is kept for the template.
+ */
+public class SlowQueryLog implements SqlLogger, Managed {
+  private static final Logger LOG = LoggerFactory.getLogger(SlowQueryLog.class);
+  private static final Pattern LIST_PARAMETERS = Pattern.compile(":__(\\w+?)_\\d+(?:\\s*,\\s*:__\\1_\\d+)*");
+  private static final Pattern LIST_PARAMETER = Pattern.compile("__(\\w+?)_\\d+");
+  private static final int EXPLAIN_QUEUE_SIZE = 16;
+
+  private final SlowQueryConfiguration config;
+  private final long thresholdNanos;
+  private final Jdbi jdbi;
+  private final Deque<SlowQuery> queries;
+  private final Set<String> explained = ConcurrentHashMap.newKeySet();
+  private final Map<String, String> plans = new ConcurrentHashMap<>();
+  private final ThreadPoolExecutor explainer;
+
+  public SlowQueryLog(SlowQueryConfiguration config, Jdbi jdbi) {
+    this.config = config;
+    this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(config.getThresholdMs());
+    this.jdbi = jdbi;
+    this.queries = new ArrayDeque<>(config.getBufferSize());
+    this.explainer = config.isExplain() ? new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(EXPLAIN_QUEUE_SIZE), runnable -> {
+              Thread thread = new Thread(runnable, "slow-query-explain");
+              thread.setDaemon(true);
+              return thread;
+            }) : null;
+  }
+
+  public SlowQueryConfiguration getConfig() {
+    return config;
+  }
+
+  @Override
+  public void logAfterExecution(StatementContext context) {
+    long nanos = context.getElapsedTime(ChronoUnit.NANOS);
+    if (config.isEnabled() && nanos >= thresholdNanos) {
+      record(context, nanos);
+    }
+  }
+
+  private void record(StatementContext context, long nanos) {
+    String template = template(context.getRenderedSql());
+    List<String> names = context.getParsedSql().getParameters().getParameterNames();
+    boolean select = isSelect(template);
+    SlowQuery query = new SlowQuery(System.currentTimeMillis(), method(context.getExtensionMethod()), template,
+            binds(names), nanos / 1_000_000.0, select ? null : updateCount(context));
+    if (select) {
+      LOG.warn("Slow query {} took {} ms: {} with [{}]", query.getMethod(), query.getElapsedMillis(), template,
+              query.getBinds());
+    } else {
+      LOG.warn("Slow query {} took {} ms and updated {} rows: {} with [{}]", query.getMethod(),
+              query.getElapsedMillis(), query.getRows(), template, query.getBinds());
+    }
+    synchronized (queries) {
+      if (queries.size() == config.getBufferSize()) {
+        queries.removeFirst();
+      }
+      queries.addLast(query);
+    }
+    if (explainer != null && select && explained.add(template)) {
+      explain(context, template);
+    }
+  }
+
+  /** Recorded slow queries, the most recent first */
+  public List<SlowQuery> getQueries() {
+    List<SlowQuery> list;
+    synchronized (queries) {
+      list = new ArrayList<>(queries);
+    }
+    Collections.reverse(list);
+    return list;
+  }
+
+  /** EXPLAIN FORMAT=JSON plan of a template, or null when it was not explained */
+  public String getPlan(String template) {
+    return plans.get(template);
+  }
+
+  private void explain(StatementContext context, String template) {
+    // The statement is rendered with its values now, while it is open, and the plan is computed in the background
+    String boundSql = boundSql(context);
+    if (boundSql == null) {
+      return;
+    }
+    String sql = "EXPLAIN FORMAT=JSON " + boundSql;
+    try {
+      explainer.execute(() -> {
+        try {
+          String plan = jdbi.withHandle(handle -> {
+            try (Statement statement = handle.getConnection().createStatement();
+                 ResultSet rs = statement.executeQuery(sql)) {
+              return rs.next() ? rs.getString(1) : null;
+            }
+          });
+          plans.put(template, plan);
+        } catch (Exception e) {
+          LOG.warn("Failed to explain {}", template, e);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      explained.remove(template); // Explain the template on a later slow run
+    }
+  }
+
+  static String template(String renderedSql) {
+    return LIST_PARAMETERS.matcher(renderedSql).replaceAll(":$1");
+  }
+
+  /** Names of the bind parameters in order, with the size of the list parameters, such as "fqn, ids[120]" */
+  static String binds(List<String> names) {
+    Map<String, Integer> binds = new LinkedHashMap<>();
+    for (String name : names) {
+      Matcher matcher = LIST_PARAMETER.matcher(name);
+      if (matcher.matches()) {
+        binds.merge(matcher.group(1), 1, Integer::sum);
+      } else {
+        binds.putIfAbsent(name, 0);
+      }
+    }
+    StringBuilder builder = new StringBuilder();
+    binds.forEach((name, size) -> {
+      builder.append(builder.length() == 0 ? "" : ", ").append(name);
+      if (size > 0) {
+        builder.append('[').append(size).append(']');
+      }
+    });
+    return builder.toString();
+  }
+
+  private static String method(ExtensionMethod method) {
+    return method == null ? null : method.getType().getSimpleName() + "." + method.getMethod().getName();
+  }
+
+  private static boolean isSelect(String sql) {
+    String trimmed = sql.trim();
+    return trimmed.regionMatches(true, 0, "SELECT", 0, 6);
+  }
+
+  /** SQL of the statement with the values bound to it, or null when the statement is not a MySQL one */
+  private static String boundSql(StatementContext context) {
+    try {
+      Statement statement = context.getStatement();
+      return statement.isWrapperFor(ClientPreparedStatement.class) ?
+              statement.unwrap(ClientPreparedStatement.class).asSql() : null;
+    } catch (SQLException e) {
+      return null;
+    }
+  }
+
+  private static long updateCount(StatementContext context) {
+    try {
+      return context.getStatement().getUpdateCount();
+    } catch (SQLException e) {
+      return -1;
+    }
+  }
+
+  @Override
+  public void start() {
+  }
+
+  @Override
+  public void stop() {
+    if (explainer != null) {
+      explainer.shutdownNow();
+    }
+  }
+
+  /** A statement that took longer than the threshold */
+  public static class SlowQuery {
+    private final long timestamp;
+    private final String method;
+    private final String template;
+    private final String binds;
+    private final double elapsedMillis;
+    private final Long rows;
+
+    SlowQuery(long timestamp, String method, String template, String binds, double elapsedMillis, Long rows) {
+      this.timestamp = timestamp;
+      this.method = method;
+      this.template = template;
+      this.binds = binds;
+      this.elapsedMillis = elapsedMillis;
+      this.rows = rows;
+    }
+
+    public long getTimestamp() {
+      return timestamp;
+    }
+
+    public String getMethod() {
+      return method;
+    }
+
+    public String getTemplate() {
+      return template;
+    }
+
+    public String getBinds() {
+      return binds;
+    }
+
+    public double getElapsedMillis() {
+      return elapsedMillis;
+    }
+
+    /** Rows updated by a statement other than SELECT, null for a SELECT */
+    public Long getRows() {
+      return rows;
+    }
+  }
+}
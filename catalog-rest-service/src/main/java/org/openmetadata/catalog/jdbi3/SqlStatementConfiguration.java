@@ -0,0 +1,50 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import javax.validation.constraints.Min;
+
+public class SqlStatementConfiguration {
+  /** Add the number of SQL statements and the time spent in them to the headers of every response */
+  private boolean debugHeaders = false;
+
+  /** Log a warning when the same SQL statement runs more than this number of times in one request */
+  @Min(1)
+  private int repeatedStatementThreshold = 10;
+
+  public boolean isDebugHeaders() {
+    return debugHeaders;
+  }
+
+  public void setDebugHeaders(boolean debugHeaders) {
+    this.debugHeaders = debugHeaders;
+  }
+
+  public int getRepeatedStatementThreshold() {
+    return repeatedStatementThreshold;
+  }
+
+  public void setRepeatedStatementThreshold(int repeatedStatementThreshold) {
+    this.repeatedStatementThreshold = repeatedStatementThreshold;
+  }
+
+  @Override
+  public String toString() {
+    return "SqlStatementConfiguration{debugHeaders=" + debugHeaders + ", repeatedStatementThreshold=" +
+            repeatedStatementThreshold + '}';
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import org.jdbi.v3.core.statement.SqlLogger;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements run and the time spent in them by the thread serving a request. Counting starts with
+ * {@link #start()} and ends with {@link #stop()}; statements run by a thread outside of a request are not counted.
+ * Statements are also logged at debug level.
+ */
+public class SqlStatementCounter implements SqlLogger {
+  private static final Logger LOG = LoggerFactory.getLogger(SqlStatementCounter.class);
+  private static final ThreadLocal<RequestStatements> CURRENT = new ThreadLocal<>();
+
+  /** Start counting the statements run by the current thread */
+  public static RequestStatements start() {
+    RequestStatements statements = new RequestStatements();
+    CURRENT.set(statements);
+    return statements;
+  }
+
+  /** Stop counting the statements run by the current thread, and return them; null when counting was not started */
+  public static RequestStatements stop() {
+    RequestStatements statements = CURRENT.get();
+    CURRENT.remove();
+    return statements;
+  }
+
+  @Override
+  public void logAfterExecution(StatementContext context) {
+    record(context);
+  }
+
+  @Override
+  public void logException(StatementContext context, SQLException ex) {
+    record(context);
+  }
+
+  private static void record(StatementContext context) {
+    long nanos = context.getElapsedTime(ChronoUnit.NANOS);
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("sql {}, parameters {}, timeTaken {} ms", context.getRenderedSql(), context.getBinding(),
+              nanos / 1_000_000);
+    }
+    RequestStatements statements = CURRENT.get();
+    if (statements != null) {
+      statements.add(context.getRawSql(), nanos);
+    }
+  }
+
+  /** Statements run while serving one request */
+  public static class RequestStatements {
+    private final Map<String, Integer> templates = new HashMap<>();
+    private int count;
+    private long nanos;
+
+    void add(String template, long elapsedNanos) {
+      count++;
+      nanos += elapsedNanos;
+      templates.merge(template, 1, Integer::sum);
+    }
+
+    public int getCount() {
+      return count;
+    }
+
+    public long getNanos() {
+      return nanos;
+    }
+
+    /** SQL templates that ran more than threshold times, with the number of times they ran */
+    public Map<String, Integer> getRepeated(int threshold) {
+      Map<String, Integer> repeated = new LinkedHashMap<>();
+      templates.forEach((template, times) -> {
+        if (times > threshold) {
+          repeated.put(template, times);
+        }
+      });
+      return repeated;
+    }
+  }
+}
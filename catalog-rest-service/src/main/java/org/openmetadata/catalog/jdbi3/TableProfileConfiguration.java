@@ -0,0 +1,63 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import javax.validation.constraints.Min;
+
+public class TableProfileConfiguration {
+  /** Number of days table profiles are kept. 0 keeps them forever */
+  @Min(0)
+  private int retentionDays = 365;
+
+  /** Number of days all daily table profiles are kept. Older ones are downsampled to one per week. 0 keeps all */
+  @Min(0)
+  private int dailyRetentionDays = 90;
+
+  /** Time in minutes between two runs of table profile retention */
+  @Min(1)
+  private long intervalMinutes = 24 * 60;
+
+  public int getRetentionDays() {
+    return retentionDays;
+  }
+
+  public void setRetentionDays(int retentionDays) {
+    this.retentionDays = retentionDays;
+  }
+
+  public int getDailyRetentionDays() {
+    return dailyRetentionDays;
+  }
+
+  public void setDailyRetentionDays(int dailyRetentionDays) {
+    this.dailyRetentionDays = dailyRetentionDays;
+  }
+
+  public long getIntervalMinutes() {
+    return intervalMinutes;
+  }
+
+  public void setIntervalMinutes(long intervalMinutes) {
+    this.intervalMinutes = intervalMinutes;
+  }
+
+  @Override
+  public String toString() {
+    return "TableProfileConfiguration{retentionDays=" + retentionDays + ", dailyRetentionDays=" +
+            dailyRetentionDays + ", intervalMinutes=" + intervalMinutes + '}';
+  }
+}
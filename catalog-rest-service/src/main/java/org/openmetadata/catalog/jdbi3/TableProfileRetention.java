@@ -0,0 +1,126 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import io.dropwizard.lifecycle.Managed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies the retention of table profiles periodically in the background. Profiles older than the retention are
+ * deleted, and profiles older than the daily retention are downsampled to the last profile of each week.
+ */
+public class TableProfileRetention implements Managed {
+  private static final Logger LOG = LoggerFactory.getLogger(TableProfileRetention.class);
+  static final int BATCH_SIZE = 1000;
+
+  private final CollectionDAO dao;
+  private final TableProfileConfiguration config;
+  private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+    Thread thread = new Thread(r, "table-profile-retention");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private volatile boolean stopped = false;
+
+  public TableProfileRetention(CollectionDAO dao, TableProfileConfiguration config) {
+    this.dao = dao;
+    this.config = config;
+  }
+
+  @Override
+  public void start() {
+    executor.scheduleWithFixedDelay(this::run, 1, config.getIntervalMinutes(), TimeUnit.MINUTES);
+  }
+
+  @Override
+  public void stop() throws InterruptedException {
+    stopped = true;
+    executor.shutdown();
+    executor.awaitTermination(30, TimeUnit.SECONDS);
+  }
+
+  void run() {
+    try {
+      LocalDate today = LocalDate.now();
+      if (config.getRetentionDays() > 0) {
+        int deleted = deleteBefore(today.minusDays(config.getRetentionDays()));
+        LOG.info("Deleted {} table profiles older than {} days", deleted, config.getRetentionDays());
+      }
+      if (config.getDailyRetentionDays() > 0) {
+        int deleted = downsampleBefore(today.minusDays(config.getDailyRetentionDays()));
+        LOG.info("Deleted {} table profiles older than {} days to keep one per week", deleted,
+                config.getDailyRetentionDays());
+      }
+    } catch (Exception e) {
+      // Profiles not yet deleted are deleted on the next run
+      LOG.error("Failed to apply table profile retention", e);
+    }
+  }
+
+  int deleteBefore(LocalDate date) {
+    int count = 0;
+    int deleted;
+    do {
+      deleted = dao.tableProfileDAO().deleteBefore(date.toString(), BATCH_SIZE);
+      count += deleted;
+    } while (!stopped && deleted == BATCH_SIZE);
+    return count;
+  }
+
+  // Keep the last profile of each table and week before the given date. Profiles are read in the order of table and
+  // date, so a profile is deleted when the next one is of the same table and week.
+  int downsampleBefore(LocalDate date) {
+    int count = 0;
+    String tableId = "";
+    String profileDate = "";
+    List<List<String>> keys;
+    do {
+      keys = dao.tableProfileDAO().listKeysBefore(date.toString(), tableId, profileDate, BATCH_SIZE);
+      List<String> deleteTableIds = new ArrayList<>();
+      List<String> deleteDates = new ArrayList<>();
+      for (List<String> key : keys) {
+        if (key.get(0).equals(tableId) && sameWeek(profileDate, key.get(1))) {
+          deleteTableIds.add(tableId);
+          deleteDates.add(profileDate);
+        }
+        tableId = key.get(0);
+        profileDate = key.get(1);
+      }
+      if (!deleteTableIds.isEmpty()) {
+        dao.tableProfileDAO().delete(deleteTableIds, deleteDates);
+        count += deleteTableIds.size();
+      }
+    } while (!stopped && keys.size() == BATCH_SIZE);
+    return count;
+  }
+
+  static boolean sameWeek(String date1, String date2) {
+    LocalDate d1 = LocalDate.parse(date1);
+    LocalDate d2 = LocalDate.parse(date2);
+    return d1.get(IsoFields.WEEK_BASED_YEAR) == d2.get(IsoFields.WEEK_BASED_YEAR) &&
+            d1.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR) == d2.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+  }
+}
@@ -16,7 +16,11 @@
 
 package org.openmetadata.catalog.jdbi3;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.io.CountingInputStream;
 import org.jdbi.v3.sqlobject.transaction.Transaction;
 import org.openmetadata.catalog.Entity;
 import org.openmetadata.catalog.entity.data.Location;
@@ -28,7 +32,6 @@ import org.openmetadata.catalog.type.ChangeDescription;
 import org.openmetadata.catalog.type.Column;
 import org.openmetadata.catalog.type.ColumnJoin;
 import org.openmetadata.catalog.type.ColumnProfile;
-import org.openmetadata.catalog.type.DailyCount;
 import org.openmetadata.catalog.type.EntityReference;
 import org.openmetadata.catalog.type.JoinedWith;
 import org.openmetadata.catalog.type.TableConstraint;
@@ -41,31 +44,37 @@ import org.openmetadata.catalog.util.EntityUtil;
 import org.openmetadata.catalog.util.EntityUtil.Fields;
 import org.openmetadata.catalog.util.JsonUtils;
 import org.openmetadata.catalog.util.RestUtil;
+import org.openmetadata.catalog.util.ResultList;
+import org.openmetadata.common.utils.CursorCodec;
+import org.openmetadata.common.utils.CursorCodec.Direction;
 import org.openmetadata.common.utils.CommonUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.ws.rs.core.Response.Status;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.security.GeneralSecurityException;
 import java.text.ParseException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.function.BiPredicate;
+import java.util.function.Function;
 
 import static javax.ws.rs.core.Response.Status.CREATED;
 import static org.openmetadata.catalog.jdbi3.Relationship.JOINED_WITH;
-import static org.openmetadata.common.utils.CommonUtil.parseDate;
 
 public class TableRepository extends EntityRepository<Table> {
   static final Logger LOG = LoggerFactory.getLogger(TableRepository.class);
@@ -75,17 +84,48 @@ public class TableRepository extends EntityRepository<Table> {
   // Table fields that can be updated in a PUT request
   static final Fields TABLE_UPDATE_FIELDS = new Fields(TableResource.FIELD_LIST,
           "owner,columns,database,tags,tableConstraints");
+  // Number of the latest table profiles returned with the tableProfile field
+  public static final int LATEST_TABLE_PROFILES = 30;
+
+  public static final int DEFAULT_SAMPLE_DATA_MAX_ROWS = 1000;
+  public static final long DEFAULT_SAMPLE_DATA_MAX_BYTES = 1024 * 1024;
+  private static volatile int sampleDataMaxRows = DEFAULT_SAMPLE_DATA_MAX_ROWS;
+  private static volatile long sampleDataMaxBytes = DEFAULT_SAMPLE_DATA_MAX_BYTES;
 
   private final CollectionDAO dao;
+  private final ExtensionStore extensionStore;
 
   public TableRepository(CollectionDAO dao) {
     super(Table.class, dao.tableDAO(), dao, TABLE_PATCH_FIELDS, TABLE_UPDATE_FIELDS);
     this.dao = dao;
+    this.extensionStore = new ExtensionStore(dao.entityExtensionDAO());
+  }
+
+  public static void setSampleDataLimits(int maxRows, long maxBytes) {
+    if (maxRows < 1 || maxBytes < 1) {
+      throw new IllegalArgumentException("Sample data sampleDataMaxRows and sampleDataMaxBytes must be at least 1");
+    }
+    sampleDataMaxRows = maxRows;
+    sampleDataMaxBytes = maxBytes;
+  }
+
+  @Override
+  protected List<String> getOptionalJsonFields() {
+    return Arrays.asList("tableConstraints", "viewDefinition");
   }
 
   @Override
   public Table setFields(Table table, Fields fields) throws IOException, ParseException {
-    table.setColumns(table.getColumns());
+    return setFields(table, fields, true);
+  }
+
+  @Override
+  protected Table setSummaryFields(Table table, Fields fields) throws IOException, ParseException {
+    return setFields(table, fields, fields.contains("columns"));
+  }
+
+  private Table setFields(Table table, Fields fields, boolean withColumns) throws IOException, ParseException {
+    table.setColumns(withColumns ? getColumns(table.getId()) : null);
     table.setTableConstraints(fields.contains("tableConstraints") ? table.getTableConstraints() : null);
     table.setOwner(fields.contains("owner") ? getOwner(table) : null);
     table.setFollowers(fields.contains("followers") ? getFollowers(table) : null);
@@ -119,36 +159,40 @@ public class TableRepository extends EntityRepository<Table> {
   }
 
   @Transaction
-  public void delete(UUID id) {
+  public void delete(UUID id) throws IOException {
+    String fqn = dao.tableDAO().findEntityById(id).getFullyQualifiedName();
     dao.tableDAO().delete(id);
+    // Remove the daily join counts and the join summary of the columns on both sides of the joins
+    dao.fieldRelationshipDAO().deleteAllByPrefix(EntityDAO.escapeLike(fqn), JOINED_WITH.ordinal());
+    dao.columnJoinDAO().deleteByTable(fqn);
+    dao.tableColumnDAO().deleteFrom(id.toString(), 0);
+    dao.tableProfileDAO().deleteAll(id.toString());
     dao.relationshipDAO().deleteAll(id.toString()); // Remove all relationships
   }
 
   @Transaction
   public void addJoins(UUID tableId, TableJoins joins) throws IOException, ParseException {
     // Validate the request content
-    Table table = dao.tableDAO().findEntityById(tableId);
+    Table table = getTableWithColumns(tableId);
     if (!CommonUtil.dateInRange(RestUtil.DATE_FORMAT, joins.getStartDate(), 0, 30)) {
       throw new IllegalArgumentException("Date range can only include past 30 days starting today");
     }
 
-    // Validate joined columns
+    // Validate joined columns, reading each joined table once
+    Map<String, Table> joinedTables = new HashMap<>();
     for (ColumnJoin join : joins.getColumnJoins()) {
       validateColumn(table, join.getColumnName());
-      validateColumnFQNs(join.getJoinedWith());
+      validateColumnFQNs(join.getJoinedWith(), joinedTables);
     }
 
     // With all validation done, add new joins
-    for (ColumnJoin join : joins.getColumnJoins()) {
-      String columnFQN = table.getFullyQualifiedName() + "." + join.getColumnName();
-      addJoin(joins.getStartDate(), columnFQN, join.getJoinedWith());
-    }
+    addJoins(table.getFullyQualifiedName(), joins);
   }
 
   @Transaction
   public void addSampleData(UUID tableId, TableData tableData) throws IOException {
     // Validate the request content
-    Table table = dao.tableDAO().findEntityById(tableId);
+    Table table = getTableWithColumns(tableId);
 
     // Validate all the columns
     for (String columnName : tableData.getColumns()) {
@@ -162,31 +206,53 @@ public class TableRepository extends EntityRepository<Table> {
       }
     }
 
-    dao.entityExtensionDAO().insert(tableId.toString(), "table.sampleData", "tableData",
-            JsonUtils.pojoToJson(tableData));
+    // Keep the first rows up to the sample data limit
+    if (tableData.getRows().size() > sampleDataMaxRows) {
+      tableData.setRows(new ArrayList<>(tableData.getRows().subList(0, sampleDataMaxRows)));
+    }
+    extensionStore.store(tableId.toString(), "table.sampleData", "tableData", JsonUtils.pojoToJson(tableData));
   }
 
   @Transaction
   public void addTableProfileData(UUID tableId, TableProfile tableProfile) throws IOException {
     // Validate the request content
-    Table table = dao.tableDAO().findEntityById(tableId);
+    Table table = getTableWithColumns(tableId);
+    String profileDate = parseProfileDate(tableProfile.getProfileDate()).toString();
 
-    List<TableProfile> storedTableProfiles = getTableProfile(table);
-    Map<String, TableProfile> storedMapTableProfiles = new HashMap<>();
-    if (storedTableProfiles != null) {
-      for (TableProfile profile : storedTableProfiles) {
-        storedMapTableProfiles.put(profile.getProfileDate(), profile);
-      }
-    }
     //validate all the columns
     for (ColumnProfile columnProfile : tableProfile.getColumnProfile()) {
       validateColumn(table, columnProfile.getName());
     }
-    storedMapTableProfiles.put(tableProfile.getProfileDate(), tableProfile);
-    List<TableProfile> updatedProfiles = new ArrayList<>(storedMapTableProfiles.values());
 
-    dao.entityExtensionDAO().insert(tableId.toString(), "table.tableProfile", "tableProfile",
-            JsonUtils.pojoToJson(updatedProfiles));
+    // Add the profile of the day, replacing the one already stored for the day
+    dao.tableProfileDAO().upsert(tableId.toString(), profileDate, JsonUtils.pojoToJson(tableProfile));
+  }
+
+  /**
+   * List the profiles of a table from the latest to the oldest one, optionally only the ones profiled between
+   * {@code startDate} and {@code endDate} included.
+   */
+  @Transaction
+  public List<TableProfile> listTableProfiles(UUID tableId, String startDate, String endDate, int limit)
+          throws IOException {
+    if (!dao.tableDAO().exists(tableId)) {
+      throw EntityNotFoundException.byMessage(CatalogExceptionMessage.entityNotFound(Entity.TABLE, tableId));
+    }
+    LocalDate start = startDate == null ? LocalDate.of(1970, 1, 1) : parseProfileDate(startDate);
+    LocalDate end = endDate == null ? LocalDate.of(9999, 12, 31) : parseProfileDate(endDate);
+    return JsonUtils.readObjects(dao.tableProfileDAO().list(tableId.toString(), start.toString(), end.toString(),
+            limit), TableProfile.class);
+  }
+
+  private static LocalDate parseProfileDate(String date) {
+    if (date != null) {
+      try {
+        return LocalDate.parse(date);
+      } catch (DateTimeParseException ignored) {
+        // Reported below
+      }
+    }
+    throw new IllegalArgumentException("Invalid profile date " + date + ", expected format yyyy-MM-dd");
   }
 
   @Transaction
@@ -260,22 +326,48 @@ public class TableRepository extends EntityRepository<Table> {
     // Don't store owner, database, href and tags as JSON. Build it on the fly based on relationships
     table.withOwner(null).withDatabase(null).withHref(null).withTags(null);
 
-    // Don't store column tags as JSON but build it on the fly based on relationships
+    // Columns are stored in their own table. Don't store column tags but build them on the fly based on relationships
     List<Column> columnWithTags = table.getColumns();
-    table.setColumns(cloneWithoutTags(columnWithTags));
-    table.getColumns().forEach(column -> column.setTags(null));
+    table.setColumns(null);
 
     if (update) {
-      dao.tableDAO().update(table.getId(), JsonUtils.pojoToJson(table));
+      dao.tableDAO().update(table.getId(), JsonUtils.pojoToJson(table), database);
     } else {
-      dao.tableDAO().insert(table);
+      dao.tableDAO().insert(table, database);
     }
+    storeColumns(table.getId(), cloneWithoutTags(columnWithTags), update);
 
     // Restore the relationships
     table.withOwner(owner).withDatabase(database).withTags(tags);
     table.setColumns(columnWithTags);
   }
 
+  // Store the columns of a table, writing only the columns that changed since they were last stored
+  private void storeColumns(UUID tableId, List<Column> columns, boolean update) throws IOException {
+    columns = Optional.ofNullable(columns).orElse(Collections.emptyList());
+    List<Column> storedColumns = update ? getColumns(tableId) : Collections.emptyList();
+    List<Integer> ordinals = new ArrayList<>();
+    List<String> names = new ArrayList<>();
+    List<String> fullyQualifiedNames = new ArrayList<>();
+    List<String> jsons = new ArrayList<>();
+    for (int ordinal = 0; ordinal < columns.size(); ordinal++) {
+      Column column = columns.get(ordinal);
+      if (ordinal < storedColumns.size() && column.equals(storedColumns.get(ordinal))) {
+        continue; // Column is unchanged
+      }
+      ordinals.add(ordinal);
+      names.add(column.getName());
+      fullyQualifiedNames.add(column.getFullyQualifiedName());
+      jsons.add(JsonUtils.pojoToJson(column));
+    }
+    if (!ordinals.isEmpty()) {
+      dao.tableColumnDAO().upsert(tableId.toString(), ordinals, names, fullyQualifiedNames, jsons);
+    }
+    if (storedColumns.size() > columns.size()) {
+      dao.tableColumnDAO().deleteFrom(tableId.toString(), columns.size());
+    }
+  }
+
   @Override
   public void storeRelationships(Table table) throws IOException {
     // Add relationship from database to table
@@ -336,6 +428,60 @@ public class TableRepository extends EntityRepository<Table> {
     applyTags(table.getColumns());
   }
 
+  private List<Column> getColumns(UUID tableId) throws IOException {
+    return JsonUtils.readObjects(dao.tableColumnDAO().listColumns(tableId.toString()), Column.class);
+  }
+
+  private Table getTableWithColumns(UUID tableId) throws IOException {
+    Table table = dao.tableDAO().findEntityById(tableId);
+    return table.withColumns(getColumns(tableId));
+  }
+
+  /**
+   * List the columns of a table in the order they appear in the table, optionally only the ones with names starting
+   * with {@code namePrefix}. Columns are paged by their position in the table.
+   */
+  @Transaction
+  public ResultList<Column> listColumns(UUID tableId, Fields fields, String namePrefix, int limitParam, String before,
+                                        String after) throws IOException, GeneralSecurityException {
+    if (!dao.tableDAO().exists(tableId)) {
+      throw EntityNotFoundException.byMessage(CatalogExceptionMessage.entityNotFound(Entity.TABLE, tableId));
+    }
+    String id = tableId.toString();
+    String prefix = namePrefix == null ? "" : EntityDAO.escapeLike(namePrefix);
+    int total = dao.tableColumnDAO().listCount(id, prefix);
+
+    String beforeCursor = null, afterCursor = null;
+    List<List<String>> rows;
+    if (before != null) {
+      // Reverse scrolling - Get one extra result used for computing before cursor
+      rows = dao.tableColumnDAO().listBefore(id, prefix, limitParam + 1,
+              Integer.parseInt(CursorCodec.instance().decode(before, Direction.BEFORE)));
+      Collections.reverse(rows);
+      if (rows.size() > limitParam) { // If extra result exists, then previous page exists - return before cursor
+        rows.remove(0);
+        beforeCursor = rows.get(0).get(0);
+      }
+      afterCursor = rows.isEmpty() ? null : rows.get(rows.size() - 1).get(0);
+    } else {
+      // Forward scrolling, if after == null then first page is being asked
+      rows = dao.tableColumnDAO().listAfter(id, prefix, limitParam + 1,
+              after == null ? -1 : Integer.parseInt(CursorCodec.instance().decode(after, Direction.AFTER)));
+      beforeCursor = after == null || rows.isEmpty() ? null : rows.get(0).get(0);
+      if (rows.size() > limitParam) { // If extra result exists, then next page exists - return after cursor
+        rows.remove(limitParam);
+        afterCursor = rows.get(limitParam - 1).get(0);
+      }
+    }
+
+    List<Column> columns = new ArrayList<>();
+    for (List<String> row : rows) {
+      columns.add(JsonUtils.readValue(row.get(1), Column.class));
+    }
+    getColumnTags(fields.contains("tags"), columns);
+    return new ResultList<>(columns, beforeCursor, afterCursor, total);
+  }
+
   private EntityReference getDatabase(UUID tableId) throws IOException {
     // Find database for the table
     List<String> result = dao.relationshipDAO().findFrom(tableId.toString(),
@@ -406,126 +552,74 @@ public class TableRepository extends EntityRepository<Table> {
     }
   }
 
-  private void validateColumnFQNs(List<JoinedWith> joinedWithList) throws IOException {
+  private void validateColumnFQNs(List<JoinedWith> joinedWithList, Map<String, Table> joinedTables)
+          throws IOException {
     for (JoinedWith joinedWith : joinedWithList) {
       // Validate table
-      String tableFQN = getTableFQN(joinedWith.getFullyQualifiedName());
-      Table joinedWithTable = dao.tableDAO().findEntityByName(tableFQN);
+      String tableFQN = ColumnJoins.getTableFQN(joinedWith.getFullyQualifiedName());
+      Table joinedWithTable = joinedTables.get(tableFQN);
+      if (joinedWithTable == null) {
+        joinedWithTable = dao.tableDAO().findEntityByName(tableFQN);
+        joinedWithTable.setColumns(getColumns(joinedWithTable.getId()));
+        joinedTables.put(tableFQN, joinedWithTable);
+      }
 
       // Validate column
       validateColumnFQN(joinedWithTable, joinedWith.getFullyQualifiedName());
     }
   }
 
-  private String getTableFQN(String columnFQN) {
-    // Split columnFQN of format databaseServiceName.databaseName.tableName.columnName
-    String[] split = columnFQN.split("\\.");
-    if (split.length != 4) {
-      throw new IllegalArgumentException("Invalid fully qualified column name " + columnFQN);
-    }
-    // Return table FQN of format databaseService.tableName
-    return split[0] + "." + split[1] + "." + split[2];
-  }
-
-  private void addJoin(String date, String columnFQN, List<JoinedWith> joinedWithList) throws IOException,
-          ParseException {
-    for (JoinedWith joinedWith : joinedWithList) {
-      // Use the column that comes alphabetically first as the from field and the other as to field.
-      // This helps us keep the bidirectional relationship to a single row instead one row for
-      // capturing relationship in each direction.
-      //
-      // One row like this     - fromColumn <--- joinedWith --> toColumn
-      // Instead of additional - toColumn <--- joinedWith --> fromColumn
-      String fromColumnFQN;
-      String toColumnFQN;
-      if (columnFQN.compareTo(joinedWith.getFullyQualifiedName()) < 0) {
-        fromColumnFQN = columnFQN;
-        toColumnFQN = joinedWith.getFullyQualifiedName();
-      } else {
-        fromColumnFQN = joinedWith.getFullyQualifiedName();
-        toColumnFQN = columnFQN;
-      }
-      String json = dao.fieldRelationshipDAO().find(fromColumnFQN, toColumnFQN, "table.columns.column",
-              "table.columns.column", JOINED_WITH.ordinal());
-
-      DailyCount dailyCount = new DailyCount().withCount(joinedWith.getJoinCount()).withDate(date);
-      List<DailyCount> dailyCountList;
-      if (json == null) { // Create first entry
-        dailyCountList = Collections.singletonList(dailyCount);
-      } else { // Update the existing entry
-        dailyCountList = JsonUtils.readObjects(json, DailyCount.class);
-        boolean foundDate = false;
-        for (DailyCount d : dailyCountList) { // If the date already exists, update the count. Otherwise add a new entry
-          if (d.getDate().equals(dailyCount.getDate())) {
-            // Entry for date already exists. Update the count
-            d.setCount(dailyCount.getCount());
-            foundDate = true;
-            break;
-          }
-        }
-        if (!foundDate) {
-          dailyCountList.add(dailyCount);
-        }
-
-        // Sort the dailyCount list by date
-        dailyCountList.sort((d1, d2) -> {
-          try {
-            return RestUtil.compareDates(d1.getDate(), d2.getDate());
-          } catch (ParseException ignored) {
-            // This should never happen
-          }
-          return 0;
-        });
-
-        ListIterator<DailyCount> iterator = dailyCountList.listIterator();
-        while (iterator.hasNext()) {
-          String reportedOnDate = iterator.next().getDate();
-          if (!CommonUtil.dateInRange(RestUtil.DATE_FORMAT, reportedOnDate, 0, 30)) {
-            iterator.remove();
-            LOG.info("Removed join entry for column {} with column {} on older date {}", columnFQN,
-                    joinedWith.getFullyQualifiedName(), reportedOnDate);
-          }
+  /**
+   * Add the join counts of a day to the joins of the columns of a table. The stored counts of all the joins of the
+   * table are read with one query and merged in memory, counts older than 30 days are dropped, and the joins are
+   * written back in one batch along with the join summary of the columns.
+   */
+  private void addJoins(String tableFQN, TableJoins joins) throws IOException {
+    // Use the column that comes alphabetically first as the from field and the other as to field.
+    // This helps us keep the bidirectional relationship to a single row instead one row for
+    // capturing relationship in each direction.
+    //
+    // One row like this     - fromColumn <--- joinedWith --> toColumn
+    // Instead of additional - toColumn <--- joinedWith --> fromColumn
+    Map<List<String>, String> stored = new HashMap<>();
+    for (List<String> row : dao.fieldRelationshipDAO().listByPrefix(EntityDAO.escapeLike(tableFQN + "."),
+            ColumnJoins.COLUMN_TYPE, ColumnJoins.COLUMN_TYPE, JOINED_WITH.ordinal())) {
+      stored.put(Arrays.asList(row.get(0), row.get(1)), row.get(2));
+    }
+
+    int day = DailyCounts.toDay(joins.getStartDate());
+    Map<List<String>, DailyCounts> updated = new LinkedHashMap<>();
+    for (ColumnJoin join : joins.getColumnJoins()) {
+      String columnFQN = tableFQN + "." + join.getColumnName();
+      for (JoinedWith joinedWith : join.getJoinedWith()) {
+        String joinedFQN = joinedWith.getFullyQualifiedName();
+        List<String> key = columnFQN.compareTo(joinedFQN) < 0 ? Arrays.asList(columnFQN, joinedFQN) :
+                Arrays.asList(joinedFQN, columnFQN);
+        DailyCounts dailyCounts = updated.get(key);
+        if (dailyCounts == null) {
+          dailyCounts = DailyCounts.fromJson(stored.get(key));
+          updated.put(key, dailyCounts);
         }
+        dailyCounts.put(day, joinedWith.getJoinCount());
       }
-      json = JsonUtils.pojoToJson(dailyCountList);
-
-      dao.fieldRelationshipDAO().upsert(fromColumnFQN, toColumnFQN, "table.columns.column",
-              "table.columns.column", JOINED_WITH.ordinal(), "dailyCount", json);
     }
+    ColumnJoins.store(dao, updated);
   }
 
-  private TableJoins getJoins(Table table) throws ParseException, IOException {
+  // Joins of the columns of the table with their count in the last 30 days, from the join summary of the columns
+  private TableJoins getJoins(Table table) throws ParseException {
     String today = RestUtil.DATE_FORMAT.format(new Date()); // today
-    String todayMinus30Days = CommonUtil.getDateStringByOffset(RestUtil.DATE_FORMAT, today, -30);
-    TableJoins tableJoins = new TableJoins().withStartDate(todayMinus30Days).withDayCount(30)
+    String todayMinus30Days = CommonUtil.getDateStringByOffset(RestUtil.DATE_FORMAT, today, -ColumnJoins.DAYS);
+    TableJoins tableJoins = new TableJoins().withStartDate(todayMinus30Days).withDayCount(ColumnJoins.DAYS)
             .withColumnJoins(Collections.emptyList());
 
-    List<List<String>> list = dao.fieldRelationshipDAO().listToByPrefix(table.getFullyQualifiedName(),
-            "table.columns.column", "table.columns.column", JOINED_WITH.ordinal());
-    list.addAll(dao.fieldRelationshipDAO().listFromByPrefix(table.getFullyQualifiedName(), "table.columns.column",
-            "table.columns.column", JOINED_WITH.ordinal()));
-
-    if (list.size() == 0) { // No join information found. Return empty list
-      return tableJoins;
-    }
-
     // Map of <ColumnName> to List of <Fully Qualified Column names> it is joined with
-    Map<String, List<JoinedWith>> map = new HashMap<>();
-
-    // list [ [fromFQN, toFQN, json], ...] contains inner list [fromFQN, toFQN, json]
-    for (List<String> innerList : list) {
-      String columnName = innerList.get(0).split("\\.")[3]; // Get from column name from FQN
-      List<JoinedWith> columnJoinList = map.computeIfAbsent(columnName, k -> new ArrayList<>());
-
-      // Parse JSON to get daily counts and aggregate it
-      List<DailyCount> dailyCountList = JsonUtils.readObjects(innerList.get(2), DailyCount.class);
-      int aggregatedCount = 0;
-      for (DailyCount d : dailyCountList) {
-        if (CommonUtil.dateInRange(RestUtil.DATE_FORMAT, d.getDate(), 0, 30)) {
-          aggregatedCount += d.getCount();
-        }
-      }
-      columnJoinList.add(new JoinedWith().withFullyQualifiedName(innerList.get(1)).withJoinCount(aggregatedCount));
+    Map<String, List<JoinedWith>> map = new LinkedHashMap<>();
+    // list [ [columnFQN, joinedFQN, joinCount], ...] ordered by column
+    for (List<String> row : dao.columnJoinDAO().listByTable(table.getFullyQualifiedName())) {
+      String columnName = row.get(0).split("\\.")[3]; // Get column name from FQN
+      map.computeIfAbsent(columnName, k -> new ArrayList<>()).add(new JoinedWith()
+              .withFullyQualifiedName(row.get(1)).withJoinCount(Integer.parseInt(row.get(2))));
     }
 
     List<ColumnJoin> columnJoins = new ArrayList<>();
@@ -535,21 +629,65 @@ public class TableRepository extends EntityRepository<Table> {
     return tableJoins.withColumnJoins(columnJoins);
   }
 
+  /**
+   * List the tables most joined with a table in the last 30 days, with the number of joins of their columns with the
+   * columns of the table.
+   */
+  @Transaction
+  public List<JoinedWith> listTopJoinedTables(UUID tableId, int limit) throws IOException {
+    Table table = dao.tableDAO().findEntityById(tableId);
+    List<JoinedWith> joinedTables = new ArrayList<>();
+    for (List<String> row : dao.columnJoinDAO().listTopJoinedTables(table.getFullyQualifiedName(), limit)) {
+      joinedTables.add(new JoinedWith().withFullyQualifiedName(row.get(0)).withJoinCount(Integer.parseInt(row.get(1))));
+    }
+    return joinedTables;
+  }
+
   private TableData getSampleData(Table table) throws IOException {
-    return JsonUtils.readValue(dao.entityExtensionDAO().getExtension(table.getId().toString(), "table.sampleData"),
-            TableData.class);
+    try (InputStream in = extensionStore.open(table.getId().toString(), "table.sampleData")) {
+      return in == null ? null : readSampleData(in, sampleDataMaxRows, sampleDataMaxBytes);
+    }
   }
 
-  private List<TableProfile> getTableProfile(Table table) throws IOException {
-    List<TableProfile> tableProfiles =
-            JsonUtils.readObjects(dao.entityExtensionDAO().getExtension(table.getId().toString(),
-                    "table.tableProfile"),
-                    TableProfile.class);
-    if (tableProfiles != null) {
-      tableProfiles.sort(Comparator.comparing(p -> parseDate(p.getProfileDate(), RestUtil.DATE_FORMAT),
-              Comparator.reverseOrder()));
+  /**
+   * Read sample data a row at a time, up to {@code maxRows} rows and until {@code maxBytes} bytes of json are read.
+   * The rest of the stream is not read, which saves decompressing it when the sample data is stored compressed.
+   */
+  static TableData readSampleData(InputStream in, int maxRows, long maxBytes) throws IOException {
+    TableData tableData = new TableData();
+    List<List<Object>> rows = new ArrayList<>();
+    CountingInputStream counting = new CountingInputStream(in);
+    try (JsonParser parser = JsonUtils.createParser(counting)) {
+      parser.nextToken(); // Start of the object
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.getCurrentName();
+        parser.nextToken();
+        if ("columns".equals(field)) {
+          tableData.setColumns(parser.readValueAs(new TypeReference<List<String>>() {}));
+        } else if ("rows".equals(field)) {
+          while (parser.nextToken() == JsonToken.START_ARRAY) {
+            if (rows.size() >= maxRows || counting.getCount() > maxBytes) {
+              parser.skipChildren();
+              if (tableData.getColumns() != null) {
+                return tableData.withRows(rows); // Columns are written before rows, nothing more to read
+              }
+              continue;
+            }
+            rows.add(parser.readValueAs(new TypeReference<List<Object>>() {}));
+          }
+        } else {
+          parser.skipChildren();
+        }
+      }
     }
-    return tableProfiles;
+    return tableData.withRows(rows);
+  }
+
+  // Latest profiles of the table, most recent first
+  private List<TableProfile> getTableProfile(Table table) throws IOException {
+    List<TableProfile> tableProfiles = JsonUtils.readObjects(dao.tableProfileDAO().list(table.getId().toString(),
+            "1970-01-01", "9999-12-31", LATEST_TABLE_PROFILES), TableProfile.class);
+    return tableProfiles.isEmpty() ? null : tableProfiles;
   }
 
   public static class TableEntityInterface implements EntityInterface<Table> {
@@ -693,7 +831,7 @@ public class TableRepository extends EntityRepository<Table> {
     }
 
     private void updateColumns(String fieldName, List<Column> origColumns, List<Column> updatedColumns,
-                               BiPredicate<Column, Column> columnMatch) throws IOException {
+                               Function<Column, ?> columnMatch) throws IOException {
       List<Column> deletedColumns = new ArrayList<>();
       List<Column> addedColumns = new ArrayList<>();
       recordListChange(fieldName, origColumns, updatedColumns, addedColumns, deletedColumns, columnMatch);
@@ -706,10 +844,16 @@ public class TableRepository extends EntityRepository<Table> {
         EntityUtil.applyTags(dao.tagDAO(), added.getTags(), added.getFullyQualifiedName());
       }
 
+      // Index stored columns by name, data type and ordinal position. First match wins as in a linear search
+      Map<Object, Column> storedColumns = new HashMap<>();
+      for (Column stored : origColumns) {
+        storedColumns.putIfAbsent(columnMatch.apply(stored), stored);
+      }
+
       // Carry forward the user generated metadata from existing columns to new columns
       for (Column updated : updatedColumns) {
         // Find stored column matching name, data type and ordinal position
-        Column stored = origColumns.stream().filter(c -> TableRepository.this.columnMatch.test(c, updated)).findAny().orElse(null);
+        Column stored = storedColumns.get(columnMatch.apply(updated));
         if (stored == null) { // New column added
           continue;
         }
@@ -753,17 +897,13 @@ public class TableRepository extends EntityRepository<Table> {
     }
   }
 
-  BiPredicate<Column, Column> columnMatch = (column1, column2) -> {
-    /* you CAN compare apples and oranges */
-    return column1.getName().equals(column2.getName()) &&
-            column1.getDataType() == column2.getDataType() &&
-            column1.getArrayDataType() == column2.getArrayDataType() &&
-            Objects.equals(column1.getOrdinalPosition(), column2.getOrdinalPosition());
-  };
+  // Columns match when name, data type, array data type and ordinal position are the same
+  public static final Function<Column, List<Object>> columnMatch = column ->
+          Arrays.asList(column.getName(), column.getDataType(), column.getArrayDataType(),
+                  column.getOrdinalPosition());
 
-  BiPredicate<TableConstraint, TableConstraint> tableConstraintMatch = (constraint1, constraint2) -> {
-    /* you CAN compare apples and oranges */
-    return constraint1.getConstraintType() == constraint2.getConstraintType() &&
-            constraint1.getColumns().equals(constraint2.getColumns());
-  };
+  // Table constraints match when constraint type and list of columns are the same. The columns are compared in order,
+  // so callers that match regardless of column order sort them first, as updateConstraints does
+  public static final Function<TableConstraint, List<Object>> tableConstraintMatch = constraint ->
+          Arrays.asList(constraint.getConstraintType(), constraint.getColumns());
 }
@@ -33,6 +33,7 @@ import org.openmetadata.catalog.util.JsonUtils;
 import java.io.IOException;
 import java.net.URI;
 import java.text.ParseException;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
@@ -54,6 +55,11 @@ public class TopicRepository extends EntityRepository<Topic> {
     this.dao = dao;
   }
 
+  @Override
+  protected List<String> getSummaryExcludedJsonFields() {
+    return Collections.singletonList("schemaText");
+  }
+
   @Transaction
   public void delete(UUID id) {
     if (dao.relationshipDAO().findToCount(id.toString(), Relationship.CONTAINS.ordinal(), Entity.TOPIC) > 0) {
@@ -90,9 +96,9 @@ public class TopicRepository extends EntityRepository<Topic> {
     topic.withOwner(null).withService(null).withHref(null).withTags(null);
 
     if (update) {
-      dao.topicDAO().update(topic.getId(), JsonUtils.pojoToJson(topic));
+      dao.topicDAO().update(topic.getId(), JsonUtils.pojoToJson(topic), service);
     } else {
-      dao.topicDAO().insert(topic);
+      dao.topicDAO().insert(topic, service);
     }
 
     // Restore the relationships
@@ -46,16 +46,20 @@ public class UsageRepository {
 
   @Transaction
   public EntityUsage get(String entityType, String id, String date, int days) throws IOException {
-    EntityReference ref = getEntityReference(entityType, UUID.fromString(id), dao);
-    List<UsageDetails> usageDetails = dao.usageDAO().getUsageById(id, date, days - 1);
-    return new EntityUsage().withUsage(usageDetails).withEntity(ref);
+    try (ReadReplica.Scope replica = ReadReplica.read()) {
+      EntityReference ref = getEntityReference(entityType, UUID.fromString(id), dao);
+      List<UsageDetails> usageDetails = dao.usageDAO().getUsageById(id, date, days - 1);
+      return new EntityUsage().withUsage(usageDetails).withEntity(ref);
+    }
   }
 
   @Transaction
   public EntityUsage getByName(String entityType, String fqn, String date, int days) throws IOException {
-    EntityReference ref = EntityUtil.getEntityReferenceByName(entityType, fqn, dao);
-    List<UsageDetails> usageDetails = dao.usageDAO().getUsageById(ref.getId().toString(), date, days - 1);
-    return new EntityUsage().withUsage(usageDetails).withEntity(ref);
+    try (ReadReplica.Scope replica = ReadReplica.read()) {
+      EntityReference ref = EntityUtil.getEntityReferenceByName(entityType, fqn, dao);
+      List<UsageDetails> usageDetails = dao.usageDAO().getUsageById(ref.getId().toString(), date, days - 1);
+      return new EntityUsage().withUsage(usageDetails).withEntity(ref);
+    }
   }
 
   @Transaction
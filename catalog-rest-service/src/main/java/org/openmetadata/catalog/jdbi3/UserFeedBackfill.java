@@ -0,0 +1,77 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import io.dropwizard.lifecycle.Managed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adds the threads created before user_feed was introduced to the feed of their users. The threads are queued in
+ * user_feed_backfill by the migration and are processed in batches in the background after the server starts.
+ */
+public class UserFeedBackfill implements Managed {
+  private static final Logger LOG = LoggerFactory.getLogger(UserFeedBackfill.class);
+  private static final int BATCH_SIZE = 100;
+
+  private final CollectionDAO dao;
+  private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+    Thread thread = new Thread(r, "user-feed-backfill");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private volatile boolean stopped = false;
+
+  public UserFeedBackfill(CollectionDAO dao) {
+    this.dao = dao;
+  }
+
+  @Override
+  public void start() {
+    executor.submit(this::backfill);
+  }
+
+  @Override
+  public void stop() throws InterruptedException {
+    stopped = true;
+    executor.shutdown();
+    executor.awaitTermination(30, TimeUnit.SECONDS);
+  }
+
+  private void backfill() {
+    int count = 0;
+    try {
+      List<String> threadIds;
+      while (!stopped && !(threadIds = dao.userFeedDAO().listBackfill(BATCH_SIZE)).isEmpty()) {
+        dao.userFeedDAO().fanOut(threadIds);
+        dao.userFeedDAO().deleteBackfill(threadIds);
+        count += threadIds.size();
+      }
+      if (count > 0) {
+        LOG.info("Added {} threads to user feed", count);
+      }
+    } catch (Exception e) {
+      // Threads not yet added remain in user_feed_backfill and are added on the next start
+      LOG.error("Failed to add threads to user feed after {} threads", count, e);
+    }
+  }
+}
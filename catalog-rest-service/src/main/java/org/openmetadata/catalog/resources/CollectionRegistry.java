@@ -18,7 +18,6 @@ package org.openmetadata.catalog.resources;
 
 import io.dropwizard.setup.Environment;
 import io.swagger.annotations.Api;
-import org.jdbi.v3.core.Jdbi;
 import org.openmetadata.catalog.jdbi3.CollectionDAO;
 import org.openmetadata.catalog.security.CatalogAuthorizer;
 import org.openmetadata.catalog.type.CollectionDescriptor;
@@ -141,13 +140,12 @@ public final class CollectionRegistry {
   /**
    * Register resources from CollectionRegistry
    */
-  public void registerResources(Jdbi jdbi, Environment environment, CatalogAuthorizer authorizer) {
+  public void registerResources(CollectionDAO daoObject, Environment environment, CatalogAuthorizer authorizer) {
     // Build list of ResourceDescriptors
     for (Map.Entry<String, CollectionDetails> e : collectionMap.entrySet()) {
       CollectionDetails details = e.getValue();
       String resourceClass = details.resourceClass;
       try {
-        CollectionDAO daoObject = jdbi.onDemand(CollectionDAO.class);
         Object resource = createResource(daoObject, resourceClass, authorizer);
         environment.jersey().register(resource);
         LOG.info("Registering {}", resourceClass);
@@ -0,0 +1,114 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.resources;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+
+/**
+ * Serves the metrics of a registry in the Prometheus text exposition format. Counters and gauges are exposed as
+ * gauges, meters as counters of the number of events, and histograms and timers as summaries with the quantiles of
+ * their snapshot. Timer values are in seconds.
+ */
+public class PrometheusMetricsServlet extends HttpServlet {
+  static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+  private static final double[] QUANTILES = {0.5, 0.75, 0.95, 0.98, 0.99, 0.999};
+  private static final double SECONDS_PER_NANO = 1.0 / 1_000_000_000;
+
+  private final transient MetricRegistry registry;
+
+  public PrometheusMetricsServlet(MetricRegistry registry) {
+    this.registry = registry;
+  }
+
+  @Override
+  protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+    response.setStatus(HttpServletResponse.SC_OK);
+    response.setContentType(CONTENT_TYPE);
+    response.setHeader("Cache-Control", "must-revalidate,no-cache,no-store");
+    try (Writer writer = response.getWriter()) {
+      write(registry, writer);
+    }
+  }
+
+  static void write(MetricRegistry registry, Writer writer) throws IOException {
+    for (Map.Entry<String, Gauge> entry : registry.getGauges().entrySet()) {
+      Object value = entry.getValue().getValue();
+      if (value instanceof Number) {
+        writeSample(writer, sanitize(entry.getKey()), "gauge", ((Number) value).doubleValue());
+      } else if (value instanceof Boolean) {
+        writeSample(writer, sanitize(entry.getKey()), "gauge", (Boolean) value ? 1 : 0);
+      }
+    }
+    for (Map.Entry<String, Counter> entry : registry.getCounters().entrySet()) {
+      writeSample(writer, sanitize(entry.getKey()), "gauge", entry.getValue().getCount());
+    }
+    for (Map.Entry<String, Meter> entry : registry.getMeters().entrySet()) {
+      writeSample(writer, sanitize(entry.getKey()) + "_total", "counter", entry.getValue().getCount());
+    }
+    for (Map.Entry<String, Histogram> entry : registry.getHistograms().entrySet()) {
+      Histogram histogram = entry.getValue();
+      writeSummary(writer, sanitize(entry.getKey()), histogram.getSnapshot(), 1, histogram.getCount());
+    }
+    for (Map.Entry<String, Timer> entry : registry.getTimers().entrySet()) {
+      Timer timer = entry.getValue();
+      writeSummary(writer, sanitize(entry.getKey()) + "_seconds", timer.getSnapshot(), SECONDS_PER_NANO,
+              timer.getCount());
+    }
+  }
+
+  private static void writeSample(Writer writer, String name, String type, double value) throws IOException {
+    writer.write("# TYPE " + name + " " + type + "\n");
+    writer.write(name + " " + format(value) + "\n");
+  }
+
+  private static void writeSummary(Writer writer, String name, Snapshot snapshot, double factor, long count)
+          throws IOException {
+    writer.write("# TYPE " + name + " summary\n");
+    for (double quantile : QUANTILES) {
+      writer.write(name + "{quantile=\"" + quantile + "\"} " + format(snapshot.getValue(quantile) * factor) + "\n");
+    }
+    writer.write(name + "_count " + count + "\n");
+  }
+
+  /** Replace the characters that are not valid in a Prometheus metric name with underscores */
+  static String sanitize(String name) {
+    String sanitized = name.replaceAll("[^a-zA-Z0-9_:]", "_");
+    return Character.isDigit(sanitized.charAt(0)) ? "_" + sanitized : sanitized;
+  }
+
+  private static String format(double value) {
+    if (Double.isNaN(value)) {
+      return "NaN";
+    } else if (Double.isInfinite(value)) {
+      return value > 0 ? "+Inf" : "-Inf";
+    }
+    return value == Math.rint(value) && Math.abs(value) < 1e15 ? Long.toString((long) value) : Double.toString(value);
+  }
+}
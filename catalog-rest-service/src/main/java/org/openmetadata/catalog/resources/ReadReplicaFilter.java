@@ -0,0 +1,74 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.resources;
+
+import org.openmetadata.catalog.jdbi3.ReadReplica;
+
+import javax.annotation.Priority;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.Cookie;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.NewCookie;
+import javax.ws.rs.ext.Provider;
+
+/**
+ * Carries the time of the last write of a client across its requests, so that the client reads its own writes when
+ * its requests are served by different threads or servers, see {@link ReadReplica}. The time is returned on the
+ * responses to writes in the header {@code X-Last-Write-Ms} and in a cookie of the same name that expires with the
+ * read your writes time. Browsers send the cookie back, and other clients send the header back.
+ */
+@Provider
+@Priority(45) // Before authentication, whose user lookups may read from the replica
+public class ReadReplicaFilter implements ContainerRequestFilter, ContainerResponseFilter {
+  public static final String LAST_WRITE_HEADER = "X-Last-Write-Ms";
+
+  @Override
+  public void filter(ContainerRequestContext requestContext) {
+    String lastWrite = requestContext.getHeaderString(LAST_WRITE_HEADER);
+    if (lastWrite == null) {
+      Cookie cookie = requestContext.getCookies().get(LAST_WRITE_HEADER);
+      lastWrite = cookie == null ? null : cookie.getValue();
+    }
+    ReadReplica.startRequest(parse(lastWrite));
+  }
+
+  @Override
+  public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+    Long lastWrite = ReadReplica.endRequest();
+    if (lastWrite == null) {
+      return;
+    }
+    int maxAge = (int) Math.max(1, (ReadReplica.getReadYourWritesMs() + 999) / 1000);
+    responseContext.getHeaders().putSingle(LAST_WRITE_HEADER, lastWrite);
+    responseContext.getHeaders().add(HttpHeaders.SET_COOKIE, new NewCookie(LAST_WRITE_HEADER, lastWrite.toString(),
+            "/", null, null, maxAge, false, true));
+  }
+
+  static Long parse(String lastWrite) {
+    if (lastWrite == null) {
+      return null;
+    }
+    try {
+      return Long.parseLong(lastWrite.trim());
+    } catch (NumberFormatException e) {
+      return null; // Not a time set by the server
+    }
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.resources;
+
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.io.CountingOutputStream;
+
+import javax.annotation.Priority;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.ext.Provider;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the latency of every resource method in the timer {@code <resource>.<method>.requests}, from before
+ * authentication until the response entity is serialized, and the size of the serialized response entities in the
+ * counter {@code <resource>.<method>.bytesSerialized}.
+ */
+@Provider
+@Priority(40) // Before authentication and SqlStatementFilter
+public class RequestMetricsFilter implements ContainerRequestFilter, ContainerResponseFilter, WriterInterceptor {
+  private static final String START_NANOS = RequestMetricsFilter.class.getName() + ".startNanos";
+  private static final String METRIC_NAME = RequestMetricsFilter.class.getName() + ".metricName";
+
+  private final MetricRegistry metrics;
+
+  @Context
+  private ResourceInfo resourceInfo;
+
+  public RequestMetricsFilter(MetricRegistry metrics) {
+    this.metrics = metrics;
+  }
+
+  @Override
+  public void filter(ContainerRequestContext requestContext) {
+    requestContext.setProperty(START_NANOS, System.nanoTime());
+  }
+
+  @Override
+  public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+    Long start = (Long) requestContext.getProperty(START_NANOS);
+    Method method = resourceInfo.getResourceMethod();
+    if (start == null || method == null) {
+      return;
+    }
+    String name = MetricRegistry.name(resourceInfo.getResourceClass(), method.getName());
+    if (responseContext.hasEntity()) {
+      // Completed by aroundWriteTo once the entity is serialized
+      requestContext.setProperty(METRIC_NAME, name);
+    } else {
+      record(name, start, 0);
+    }
+  }
+
+  @Override
+  public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+    String name = (String) context.getProperty(METRIC_NAME);
+    if (name == null) {
+      context.proceed();
+      return;
+    }
+    CountingOutputStream out = new CountingOutputStream(context.getOutputStream());
+    context.setOutputStream(out);
+    try {
+      context.proceed();
+    } finally {
+      record(name, (Long) context.getProperty(START_NANOS), out.getCount());
+    }
+  }
+
+  private void record(String name, long start, long bytes) {
+    metrics.timer(MetricRegistry.name(name, "requests")).update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    metrics.counter(MetricRegistry.name(name, "bytesSerialized")).inc(bytes);
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.resources;
+
+import org.openmetadata.catalog.jdbi3.SlowQueryLog;
+import org.openmetadata.catalog.jdbi3.SlowQueryLog.SlowQuery;
+import org.openmetadata.catalog.util.JsonUtils;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Serves the most recent slow queries recorded by {@link SlowQueryLog} as JSON, with their plans when explained. */
+public class SlowQueryServlet extends HttpServlet {
+  private final transient SlowQueryLog slowQueryLog;
+
+  public SlowQueryServlet(SlowQueryLog slowQueryLog) {
+    this.slowQueryLog = slowQueryLog;
+  }
+
+  @Override
+  protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+    List<Map<String, Object>> queries = new ArrayList<>();
+    for (SlowQuery query : slowQueryLog.getQueries()) {
+      Map<String, Object> entry = new LinkedHashMap<>();
+      entry.put("timestamp", query.getTimestamp());
+      entry.put("method", query.getMethod());
+      entry.put("template", query.getTemplate());
+      entry.put("binds", query.getBinds());
+      entry.put("elapsedMillis", query.getElapsedMillis());
+      entry.put("rows", query.getRows());
+      String plan = slowQueryLog.getPlan(query.getTemplate());
+      if (plan != null) {
+        entry.put("explain", JsonUtils.readValue(plan, Object.class));
+      }
+      queries.add(entry);
+    }
+    Map<String, Object> body = new LinkedHashMap<>();
+    body.put("thresholdMs", slowQueryLog.getConfig().getThresholdMs());
+    body.put("queries", queries);
+
+    response.setStatus(HttpServletResponse.SC_OK);
+    response.setContentType("application/json");
+    response.setHeader("Cache-Control", "must-revalidate,no-cache,no-store");
+    try (Writer writer = response.getWriter()) {
+      writer.write(JsonUtils.pojoToJson(body, true));
+    }
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.resources;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import org.openmetadata.catalog.jdbi3.SqlStatementConfiguration;
+import org.openmetadata.catalog.jdbi3.SqlStatementCounter;
+import org.openmetadata.catalog.jdbi3.SqlStatementCounter.RequestStatements;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Priority;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.ext.Provider;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the SQL statements run to serve each request with {@link SqlStatementCounter}. The number of statements
+ * and the time spent in them are recorded per resource method in the metrics {@code <resource>.<method>.sqlStatements}
+ * and {@code <resource>.<method>.sqlTime}, and are added to the response headers when debug headers are enabled.
+ * Statements that run more times than the configured threshold in one request, usually a query per row of a
+ * list, are logged as a warning.
+ */
+@Provider
+@Priority(50) // Before authentication, to count the statements run by the authorizer
+public class SqlStatementFilter implements ContainerRequestFilter, ContainerResponseFilter {
+  private static final Logger LOG = LoggerFactory.getLogger(SqlStatementFilter.class);
+  public static final String SQL_STATEMENTS_HEADER = "X-Sql-Statements";
+  public static final String SQL_TIME_HEADER = "X-Sql-Time-Ms";
+
+  private final SqlStatementConfiguration config;
+  private final MetricRegistry metrics;
+
+  @Context
+  private ResourceInfo resourceInfo;
+
+  public SqlStatementFilter(SqlStatementConfiguration config, MetricRegistry metrics) {
+    this.config = config;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public void filter(ContainerRequestContext requestContext) {
+    SqlStatementCounter.start();
+  }
+
+  @Override
+  public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+    RequestStatements statements = SqlStatementCounter.stop();
+    if (statements == null) {
+      return;
+    }
+    if (config.isDebugHeaders()) {
+      responseContext.getHeaders().putSingle(SQL_STATEMENTS_HEADER, statements.getCount());
+      responseContext.getHeaders().putSingle(SQL_TIME_HEADER,
+              String.format("%.3f", statements.getNanos() / 1_000_000.0));
+    }
+
+    Method method = resourceInfo.getResourceMethod();
+    String name = method == null ? null :
+            MetricRegistry.name(resourceInfo.getResourceClass(), method.getName());
+    if (name != null) {
+      Histogram count = metrics.histogram(MetricRegistry.name(name, "sqlStatements"));
+      count.update(statements.getCount());
+      Timer time = metrics.timer(MetricRegistry.name(name, "sqlTime"));
+      time.update(statements.getNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    Map<String, Integer> repeated = statements.getRepeated(config.getRepeatedStatementThreshold());
+    repeated.forEach((template, times) ->
+            LOG.warn("{} {} ({}) ran the same statement {} times: {}", requestContext.getMethod(),
+                    requestContext.getUriInfo().getPath(), name, times, template));
+  }
+}
@@ -34,13 +34,18 @@ import org.openmetadata.catalog.resources.Collection;
 import org.openmetadata.catalog.resources.locations.LocationResource;
 import org.openmetadata.catalog.security.CatalogAuthorizer;
 import org.openmetadata.catalog.security.SecurityUtil;
+import org.openmetadata.catalog.type.Column;
 import org.openmetadata.catalog.type.EntityHistory;
 import org.openmetadata.catalog.type.EntityReference;
+import org.openmetadata.catalog.type.EntityVersionDiff;
+import org.openmetadata.catalog.type.EntityVersionSummary;
 import org.openmetadata.catalog.type.TableData;
+import org.openmetadata.catalog.type.JoinedWith;
 import org.openmetadata.catalog.type.TableJoins;
 import org.openmetadata.catalog.type.TableProfile;
 import org.openmetadata.catalog.util.EntityUtil;
 import org.openmetadata.catalog.util.EntityUtil.Fields;
+import org.openmetadata.catalog.util.EntityVersionList;
 import org.openmetadata.catalog.util.RestUtil;
 import org.openmetadata.catalog.util.RestUtil.PutResponse;
 import org.openmetadata.catalog.util.ResultList;
@@ -71,6 +76,7 @@ import java.io.UnsupportedEncodingException;
 import java.security.GeneralSecurityException;
 import java.text.ParseException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
@@ -120,16 +126,33 @@ public class TableResource {
     }
   }
 
+  static class ColumnList extends ResultList<Column> {
+    @SuppressWarnings("unused") // Used for deserialization
+    ColumnList() {}
+  }
+
+  static class TableProfileList extends ResultList<TableProfile> {
+    @SuppressWarnings("unused") // Used for deserialization
+    TableProfileList() {}
+  }
+
+  static class JoinedTableList extends ResultList<JoinedWith> {
+    @SuppressWarnings("unused") // Used for deserialization
+    JoinedTableList() {}
+  }
+
   static final String FIELDS = "columns,tableConstraints,usageSummary,owner," +
           "database,tags,followers,joins,sampleData,viewDefinition,tableProfile,location";
   public static final List<String> FIELD_LIST = Arrays.asList(FIELDS.replaceAll(" ", "")
           .split(","));
+  static final List<String> COLUMN_FIELD_LIST = Collections.singletonList("tags");
 
   @GET
   @Operation(summary = "List tables", tags = "tables",
           description = "Get a list of tables, optionally filtered by `database` it belongs to. Use `fields` " +
                   "parameter to get only necessary fields. Use cursor-based pagination to limit the number " +
-                  "entries in the list using `limit` and `before` or `after` query params.",
+                  "entries in the list using `limit` and `before` or `after` query params. Use `summary` to " +
+                  "leave out the columns of wide tables.",
           responses = {@ApiResponse(responseCode = "200", description = "List of tables",
                   content = @Content(mediaType = "application/json",
                           schema = @Schema(implementation = TableList.class)))
@@ -153,21 +176,65 @@ public class TableResource {
                         @QueryParam("before") String before,
                                 @Parameter(description = "Returns list of tables after this cursor",
                                 schema = @Schema(type = "string"))
-                        @QueryParam("after") String after)
+                        @QueryParam("after") String after,
+                                @Parameter(description = "Return the summary of the tables, without columns unless " +
+                                        "they are asked for in `fields`")
+                        @DefaultValue("false")
+                        @QueryParam("summary") boolean summary)
           throws IOException, ParseException, GeneralSecurityException {
     RestUtil.validateCursors(before, after);
     Fields fields = new Fields(FIELD_LIST, fieldsParam);
 
     ResultList<Table> tables;
     if (before != null) { // Reverse paging
-      tables = dao.listBefore(fields, databaseParam, limitParam, before);
+      tables = dao.listBefore(fields, databaseParam, limitParam, before, summary);
     } else { // Forward paging or first page
-      tables = dao.listAfter(fields, databaseParam, limitParam, after);
+      tables = dao.listAfter(fields, databaseParam, limitParam, after, summary);
     }
     tables.getData().forEach(t -> addHref(uriInfo, t));
     return tables;
   }
 
+  @GET
+  @Path("/{id}/columns")
+  @Operation(summary = "List columns of a table", tags = "tables",
+          description = "Get a list of columns of a table in the order they appear in the table, optionally " +
+                  "filtered by `namePrefix`. Use cursor-based pagination to limit the number entries in the list " +
+                  "using `limit` and `before` or `after` query params.",
+          responses = {
+                  @ApiResponse(responseCode = "200", description = "List of columns",
+                          content = @Content(mediaType = "application/json",
+                                  schema = @Schema(implementation = ColumnList.class))),
+                  @ApiResponse(responseCode = "404", description = "Table for instance {id} is not found")
+          })
+  public ResultList<Column> listColumns(@Context UriInfo uriInfo,
+                                        @Context SecurityContext securityContext,
+                                        @Parameter(description = "table Id", schema = @Schema(type = "string"))
+                                        @PathParam("id") String id,
+                                        @Parameter(description = "Fields requested in the returned columns",
+                                                schema = @Schema(type = "string", example = "tags"))
+                                        @QueryParam("fields") String fieldsParam,
+                                        @Parameter(description = "Filter columns by the start of their name",
+                                                schema = @Schema(type = "string", example = "customer"))
+                                        @QueryParam("namePrefix") String namePrefix,
+                                        @Parameter(description = "Limit the number of columns returned. " +
+                                                "(1 to 1000, default = 10)")
+                                        @DefaultValue("10")
+                                        @Min(1)
+                                        @Max(1000)
+                                        @QueryParam("limit") int limitParam,
+                                        @Parameter(description = "Returns list of columns before this cursor",
+                                                schema = @Schema(type = "string"))
+                                        @QueryParam("before") String before,
+                                        @Parameter(description = "Returns list of columns after this cursor",
+                                                schema = @Schema(type = "string"))
+                                        @QueryParam("after") String after)
+          throws IOException, GeneralSecurityException {
+    RestUtil.validateCursors(before, after);
+    Fields fields = new Fields(COLUMN_FIELD_LIST, fieldsParam);
+    return dao.listColumns(UUID.fromString(id), fields, namePrefix, limitParam, before, after);
+  }
+
   @GET
   @Path("/{id}/versions")
   @Operation(summary = "List table versions", tags = "tables",
@@ -184,6 +251,67 @@ public class TableResource {
     return dao.listVersions(id);
   }
 
+  @GET
+  @Path("/{id}/versions/summary")
+  @Operation(summary = "List table version summaries", tags = "tables",
+          description = "Get a page of the versions of a table identified by `id` from the latest to the oldest " +
+                  "version, without the table itself. Use `/{id}/versions/{version}` to get a version.",
+          responses = {@ApiResponse(responseCode = "200", description = "List of table versions",
+                  content = @Content(mediaType = "application/json",
+                          schema = @Schema(implementation = EntityVersionList.class)))
+          })
+  public ResultList<EntityVersionSummary> listVersionSummaries(@Context UriInfo uriInfo,
+                                                               @Context SecurityContext securityContext,
+                                                               @Parameter(description = "table Id",
+                                                                       schema = @Schema(type = "string"))
+                                                               @PathParam("id") String id,
+                                                               @Parameter(description = "Limit the number of " +
+                                                                       "versions returned. (1 to 1000, default = 10)")
+                                                               @DefaultValue("10")
+                                                               @Min(1)
+                                                               @Max(1000)
+                                                               @QueryParam("limit") int limitParam,
+                                                               @Parameter(description = "Returns list of versions " +
+                                                                       "before this cursor",
+                                                                       schema = @Schema(type = "string"))
+                                                               @QueryParam("before") String before,
+                                                               @Parameter(description = "Returns list of versions " +
+                                                                       "after this cursor",
+                                                                       schema = @Schema(type = "string"))
+                                                               @QueryParam("after") String after)
+          throws IOException, GeneralSecurityException {
+    RestUtil.validateCursors(before, after);
+    if (before != null) { // Reverse paging
+      return dao.listVersionsBefore(id, limitParam, before);
+    }
+    return dao.listVersionsAfter(id, limitParam, after); // Forward paging or first page
+  }
+
+  @GET
+  @Path("/{id}/versions/{fromVersion}/diff/{toVersion}")
+  @Operation(summary = "Diff two versions of the table", tags = "tables",
+          description = "Get JSON patch that transforms version `fromVersion` of a table into version `toVersion`",
+          responses = {
+                  @ApiResponse(responseCode = "200", description = "Difference between the versions",
+                          content = @Content(mediaType = "application/json",
+                                  schema = @Schema(implementation = EntityVersionDiff.class))),
+                  @ApiResponse(responseCode = "404", description = "Table for instance {id} and version is " +
+                          "not found")
+          })
+  public EntityVersionDiff getVersionDiff(@Context UriInfo uriInfo,
+                                          @Context SecurityContext securityContext,
+                                          @Parameter(description = "table Id", schema = @Schema(type = "string"))
+                                          @PathParam("id") String id,
+                                          @Parameter(description = "table version to diff from",
+                                                  schema = @Schema(type = "string", example = "0.1"))
+                                          @PathParam("fromVersion") String fromVersion,
+                                          @Parameter(description = "table version to diff to",
+                                                  schema = @Schema(type = "string", example = "1.1"))
+                                          @PathParam("toVersion") String toVersion)
+          throws IOException, ParseException {
+    return dao.getVersionDiff(id, fromVersion, toVersion);
+  }
+
   @GET
   @Path("/{id}")
   @Operation(summary = "Get a table", tags = "tables",
@@ -200,9 +328,13 @@ public class TableResource {
                    @PathParam("id") String id,
                    @Parameter(description = "Fields requested in the returned resource",
                            schema = @Schema(type = "string", example = FIELDS))
-                   @QueryParam("fields") String fieldsParam) throws IOException, ParseException {
+                   @QueryParam("fields") String fieldsParam,
+                   @Parameter(description = "Get the table as it was at this time, as ISO 8601 " +
+                           "date-time or milliseconds since epoch",
+                           schema = @Schema(type = "string", example = "2021-09-01T00:00:00Z"))
+                   @QueryParam("asOf") String asOf) throws IOException, ParseException {
     Fields fields = new Fields(FIELD_LIST, fieldsParam);
-    return addHref(uriInfo, dao.get(id, fields));
+    return addHref(uriInfo, dao.get(id, fields, RestUtil.parseTimestamp(asOf)));
   }
   
   @GET
@@ -222,9 +354,13 @@ public class TableResource {
                          @PathParam("fqn") String fqn,
                          @Parameter(description = "Fields requested in the returned resource",
                                     schema = @Schema(type = "string", example = FIELDS))
-                         @QueryParam("fields") String fieldsParam) throws IOException, ParseException {
+                         @QueryParam("fields") String fieldsParam,
+                         @Parameter(description = "Get the table as it was at this time, as ISO 8601 " +
+                                 "date-time or milliseconds since epoch",
+                                 schema = @Schema(type = "string", example = "2021-09-01T00:00:00Z"))
+                         @QueryParam("asOf") String asOf) throws IOException, ParseException {
     Fields fields = new Fields(FIELD_LIST, fieldsParam);
-    return addHref(uriInfo, dao.getByName(fqn, fields));
+    return addHref(uriInfo, dao.getByName(fqn, fields, RestUtil.parseTimestamp(asOf)));
   }
 
   @GET
@@ -321,7 +457,7 @@ public class TableResource {
   public Response delete(@Context UriInfo uriInfo,
                          @Context SecurityContext securityContext,
                          @Parameter(description = "Id of the table", schema = @Schema(type = "string"))
-                         @PathParam("id") String id) {
+                         @PathParam("id") String id) throws IOException {
     SecurityUtil.checkAdminOrBotRole(authorizer, securityContext);
     dao.delete(UUID.fromString(id));
     return Response.ok().build();
@@ -370,6 +506,31 @@ public class TableResource {
     return addHref(uriInfo, table);
   }
 
+  @GET
+  @Path("/{id}/joins/top")
+  @Operation(summary = "List the tables most joined with a table", tags = "tables",
+          description = "Get the tables whose columns were joined the most with the columns of this table in the " +
+                  "last 30 days, with the number of joins, from the most joined one.",
+          responses = {
+                  @ApiResponse(responseCode = "200", description = "List of joined tables",
+                          content = @Content(mediaType = "application/json",
+                                  schema = @Schema(implementation = JoinedTableList.class))),
+                  @ApiResponse(responseCode = "404", description = "Table for instance {id} is not found")
+          })
+  public ResultList<JoinedWith> listTopJoinedTables(@Context UriInfo uriInfo,
+                                                    @Context SecurityContext securityContext,
+                                                    @Parameter(description = "Id of the table",
+                                                            schema = @Schema(type = "string"))
+                                                    @PathParam("id") String id,
+                                                    @Parameter(description = "Limit the number of tables " +
+                                                            "returned. (1 to 1000, default = 10)")
+                                                    @DefaultValue("10")
+                                                    @Min(1)
+                                                    @Max(1000)
+                                                    @QueryParam("limit") int limitParam) throws IOException {
+    return new ResultList<>(dao.listTopJoinedTables(UUID.fromString(id), limitParam));
+  }
+
   @PUT
   @Path("/{id}/sampleData")
   @Operation(summary = "Add sample data", tags = "tables",
@@ -385,6 +546,37 @@ public class TableResource {
     return addHref(uriInfo, table);
   }
 
+  @GET
+  @Path("/{id}/tableProfile")
+  @Operation(summary = "List table profiles", tags = "tables",
+          description = "Get the profiles of a table from the latest to the oldest one, optionally only the ones " +
+                  "profiled between `startDate` and `endDate` included. Use `limit` to get the latest N profiles.",
+          responses = {
+                  @ApiResponse(responseCode = "200", description = "List of table profiles",
+                          content = @Content(mediaType = "application/json",
+                                  schema = @Schema(implementation = TableProfileList.class))),
+                  @ApiResponse(responseCode = "404", description = "Table for instance {id} is not found")
+          })
+  public ResultList<TableProfile> listTableProfiles(@Context UriInfo uriInfo,
+                                                    @Context SecurityContext securityContext,
+                                                    @Parameter(description = "Id of the table",
+                                                            schema = @Schema(type = "string"))
+                                                    @PathParam("id") String id,
+                                                    @Parameter(description = "Profiles from this date",
+                                                            schema = @Schema(type = "string", example = "2021-09-01"))
+                                                    @QueryParam("startDate") String startDate,
+                                                    @Parameter(description = "Profiles up to this date",
+                                                            schema = @Schema(type = "string", example = "2021-09-30"))
+                                                    @QueryParam("endDate") String endDate,
+                                                    @Parameter(description = "Limit the number of profiles " +
+                                                            "returned. (1 to 1000, default = 30)")
+                                                    @DefaultValue("30")
+                                                    @Min(1)
+                                                    @Max(1000)
+                                                    @QueryParam("limit") int limitParam) throws IOException {
+    return new ResultList<>(dao.listTableProfiles(UUID.fromString(id), startDate, endDate, limitParam));
+  }
+
   @PUT
   @Path("/{id}/tableProfile")
   @Operation(summary = "Add table profile data", tags = "tables",
@@ -34,7 +34,10 @@ import org.openmetadata.catalog.util.RestUtil;
 import org.openmetadata.catalog.util.ResultList;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
@@ -46,6 +49,7 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 import java.io.IOException;
+import java.security.GeneralSecurityException;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
@@ -81,14 +85,30 @@ public class FeedResource {
     @SuppressWarnings("unused") // Used for deserialization
     ThreadList() {}
 
-    ThreadList(List<Thread> data) {
-      super(data);
+    ThreadList(ResultList<Thread> threads) {
+      super(threads.getData());
+      setPaging(threads.getPaging());
     }
   }
 
+  static class PostList extends ResultList<Post> {
+    @SuppressWarnings("unused") // Used for deserialization
+    PostList() {}
+
+    PostList(ResultList<Post> posts) {
+      super(posts.getData());
+      setPaging(posts.getPaging());
+    }
+  }
+
+  /** Maximum number of threads returned in a page of the feed */
+  public static final int MAX_PAGE_SIZE = 100;
+
   @GET
   @Operation(summary = "List threads", tags = "feeds",
-          description = "Get a list of threads, optionally filtered by `entityLink`.",
+          description = "Get a list of threads from the most to the least recently active thread, optionally " +
+                  "filtered by `entityLink`. Use cursor-based pagination to limit the number entries in the list " +
+                  "using `limit` and `before` or `after` query params. Each thread has its most recent posts.",
           responses = {
                   @ApiResponse(responseCode = "200", description = "List of threads",
                           content = @Content(mediaType = "application/json",
@@ -97,14 +117,30 @@ public class FeedResource {
   public ThreadList list(@Context UriInfo uriInfo,
                          @Parameter(description = "Filter threads by entity link",
                                  schema = @Schema(type = "string", example = "<E#/{entityType}/{entityId}>"))
-                         @QueryParam("entity") String entityLink) throws IOException {
-    return new ThreadList(addHref(uriInfo, dao.listThreads(entityLink)));
+                         @QueryParam("entity") String entityLink,
+                         @Parameter(description = "Limit the number of threads returned. " +
+                                 "(1 to " + MAX_PAGE_SIZE + ", default = 10)")
+                         @DefaultValue("10")
+                         @Min(1)
+                         @Max(MAX_PAGE_SIZE)
+                         @QueryParam("limit") int limitParam,
+                         @Parameter(description = "Returns list of threads before this cursor",
+                                 schema = @Schema(type = "string"))
+                         @QueryParam("before") String before,
+                         @Parameter(description = "Returns list of threads after this cursor",
+                                 schema = @Schema(type = "string"))
+                         @QueryParam("after") String after) throws IOException, GeneralSecurityException {
+    RestUtil.validateCursors(before, after);
+    ThreadList threads = new ThreadList(dao.listThreads(entityLink, limitParam, before, after));
+    addHref(uriInfo, threads.getData());
+    return threads;
   }
 
   @GET
   @Path("/{id}")
   @Operation(summary = "Get a thread", tags = "feeds",
-          description = "Get a thread by `id`.",
+          description = "Get a thread by `id` with its most recent posts. Use `GET /feed/{id}/posts` to list all " +
+                  "the posts.",
           responses = {
                   @ApiResponse(responseCode = "200", description = "The thread",
                           content = @Content(mediaType = "application/json",
@@ -115,6 +151,34 @@ public class FeedResource {
     return addHref(uriInfo, dao.get(id));
   }
 
+  @GET
+  @Path("/{id}/posts")
+  @Operation(summary = "List posts of a thread", tags = "feeds",
+          description = "Get a list of posts of a thread in the order they were posted. Use cursor-based pagination " +
+                  "to limit the number entries in the list using `limit` and `before` or `after` query params.",
+          responses = {
+                  @ApiResponse(responseCode = "200", description = "List of posts",
+                          content = @Content(mediaType = "application/json",
+                          schema = @Schema(implementation = PostList.class))),
+                  @ApiResponse(responseCode = "404", description = "Thread for instance {id} is not found")
+          })
+  public PostList listPosts(@Context UriInfo uriInfo, @PathParam("id") String id,
+                            @Parameter(description = "Limit the number of posts returned. " +
+                                    "(1 to " + MAX_PAGE_SIZE + ", default = 10)")
+                            @DefaultValue("10")
+                            @Min(1)
+                            @Max(MAX_PAGE_SIZE)
+                            @QueryParam("limit") int limitParam,
+                            @Parameter(description = "Returns list of posts before this cursor",
+                                    schema = @Schema(type = "string"))
+                            @QueryParam("before") String before,
+                            @Parameter(description = "Returns list of posts after this cursor",
+                                    schema = @Schema(type = "string"))
+                            @QueryParam("after") String after) throws IOException, GeneralSecurityException {
+    RestUtil.validateCursors(before, after);
+    return new PostList(dao.listPosts(id, limitParam, before, after));
+  }
+
   @POST
   @Operation(summary = "Create a thread", tags = "feeds",
           description = "Create a new thread. A thread is created about a data asset when a user posts the first post.",
@@ -137,11 +201,11 @@ public class FeedResource {
   @POST
   @Path("/{id}/posts")
   @Operation(summary = "Add post to a thread", tags = "feeds",
-          description = "Add a post to an existing thread.",
+          description = "Add a post to an existing thread. Returns the thread with only the added post.",
           responses = {
-                  @ApiResponse(responseCode = "200", description = "The post",
+                  @ApiResponse(responseCode = "200", description = "The thread with the added post",
                           content = @Content(mediaType = "application/json",
-                          schema = @Schema(implementation = Post.class))),
+                          schema = @Schema(implementation = Thread.class))),
                   @ApiResponse(responseCode = "400", description = "Bad request")
           })
   public Response addPost(@Context UriInfo uriInfo, @PathParam("id") String id,
@@ -38,5 +38,6 @@ public final class FeedUtil {
       post.setPostTs(new Date());
       thread.getPosts().add(post);
     }
+    thread.setUpdatedAt(post.getPostTs());
   }
 }
@@ -19,25 +19,72 @@ package org.openmetadata.catalog.resources.feeds;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public final class MessageParser {
 
   private MessageParser() {
 
   }
-  // Pattern to match the following markdown entity links:
-  // <#E/{entityType}/{entityId}
-  // <#E/{entityType}/{entityId}/{fieldName}
-  // <#E/{entityType}/{entityId}/{fieldName}/{fieldValue}
-  private static final Pattern ENTITY_LINK_PATTERN =
-          Pattern.compile("<#E/" +  // Match initial string <#E/
-                  "([^<>]+?)" +     // Non greedy collection group 1 for {entityType}
-                  "/([^<>]+?)" +    // Non greedy collection group 2 for {entityId}
-                  "(/([^<>]+?))?" + // Non greedy collection group 3 for optional /{fieldName} and 4 for fieldName
-                  "(/([^<>]+?))?" + // Non greedy collection group 5 for optional /{fieldValue} and 6 for fieldValue
-                  ">");             // Match for end of link name
+
+  // Markdown entity links are of the form:
+  // <#E/{entityType}/{entityId}>
+  // <#E/{entityType}/{entityId}/{fieldName}>
+  // <#E/{entityType}/{entityId}/{fieldName}/{fieldValue}>
+  // None of the parts can contain '<' or '>'. Parts are separated by the first '/' that is not the first character of
+  // a part and is followed by at least one character, and {fieldValue} takes the rest of the link.
+  private static final String LINK_START = "<#E/";
+
+  /**
+   * Find the first entity link in {@code message} starting at index {@code from} in a single pass without
+   * backtracking, and add it to {@code links}.
+   *
+   * @return index in the message after the link found, or -1 when there are no more links in the message
+   */
+  private static int findEntityLink(String message, int from, List<EntityLink> links) {
+    int start = message.indexOf(LINK_START, from);
+    while (start >= 0) {
+      int begin = start + LINK_START.length();
+      int end = begin;
+      char c = 0;
+      while (end < message.length() && (c = message.charAt(end)) != '<' && c != '>') {
+        end++;
+      }
+      if (end == message.length()) {
+        return -1; // Link is not closed
+      }
+      if (c == '>') {
+        int entityTypeEnd = nextSeparator(message, begin, end);
+        if (entityTypeEnd < end) {
+          int entityIdEnd = nextSeparator(message, entityTypeEnd + 1, end);
+          String fieldName = null, fieldValue = null;
+          if (entityIdEnd < end) {
+            int fieldNameEnd = nextSeparator(message, entityIdEnd + 1, end);
+            fieldName = message.substring(entityIdEnd + 1, fieldNameEnd);
+            fieldValue = fieldNameEnd < end ? message.substring(fieldNameEnd + 1, end) : null;
+          }
+          links.add(new EntityLink(message.substring(begin, entityTypeEnd),
+                  message.substring(entityTypeEnd + 1, entityIdEnd), fieldName, fieldValue));
+          return end + 1;
+        }
+      }
+      // Not a valid link. The next link can't start before the end of this one as it has no '<' in it.
+      start = message.indexOf(LINK_START, end);
+    }
+    return -1;
+  }
+
+  /**
+   * Index of the '/' ending the link part that starts at {@code begin}, or {@code end} when the part takes the rest of
+   * the link. The separator can't be the first character of the part and must be followed by at least one character.
+   */
+  private static int nextSeparator(String message, int begin, int end) {
+    for (int i = begin + 1; i < end - 1; i++) {
+      if (message.charAt(i) == '/') {
+        return i;
+      }
+    }
+    return end;
+  }
 
   public static class EntityLink {
     private final LinkType linkType;
@@ -79,19 +126,15 @@ public final class MessageParser {
     }
 
     public static EntityLink parse(String link) {
-      Matcher matcher = ENTITY_LINK_PATTERN.matcher(link);
-      EntityLink entityLink = null;
-      while (matcher.find()) {
-        if (entityLink == null) {
-          entityLink = new EntityLink(matcher.group(1), matcher.group(2), matcher.group(4), matcher.group(6));
-        } else {
-          throw new IllegalArgumentException("Unexpected multiple entity links in " + link);
-        }
-      }
-      if (entityLink == null) {
+      List<EntityLink> links = new ArrayList<>(1);
+      int next = findEntityLink(link, 0, links);
+      if (links.isEmpty()) {
         throw new IllegalArgumentException("Entity link was not found in " + link);
       }
-      return entityLink;
+      if (findEntityLink(link, next, links) >= 0) {
+        throw new IllegalArgumentException("Unexpected multiple entity links in " + link);
+      }
+      return links.get(0);
     }
 
     public LinkType getLinkType() {
@@ -153,10 +196,9 @@ public final class MessageParser {
    */
   public static List<EntityLink> getEntityLinks(String message) {
     List<EntityLink> links = new ArrayList<>();
-    Matcher matcher = ENTITY_LINK_PATTERN.matcher(message);
-    while (matcher.find()) {
-      EntityLink link = new EntityLink(matcher.group(1), matcher.group(2), matcher.group(4), matcher.group(6));
-      links.add(link);
+    int next = 0;
+    while (next >= 0) {
+      next = findEntityLink(message, next, links);
     }
     return links;
   }
@@ -35,8 +35,11 @@ import org.openmetadata.catalog.security.CatalogAuthorizer;
 import org.openmetadata.catalog.security.SecurityUtil;
 import org.openmetadata.catalog.type.EntityHistory;
 import org.openmetadata.catalog.type.EntityReference;
+import org.openmetadata.catalog.type.EntityVersionDiff;
+import org.openmetadata.catalog.type.EntityVersionSummary;
 import org.openmetadata.catalog.util.EntityUtil;
 import org.openmetadata.catalog.util.EntityUtil.Fields;
+import org.openmetadata.catalog.util.EntityVersionList;
 import org.openmetadata.catalog.util.RestUtil;
 import org.openmetadata.catalog.util.RestUtil.PutResponse;
 import org.openmetadata.catalog.util.ResultList;
@@ -184,6 +187,67 @@ public class PipelineResource {
     return dao.listVersions(id);
   }
 
+  @GET
+  @Path("/{id}/versions/summary")
+  @Operation(summary = "List pipeline version summaries", tags = "pipelines",
+          description = "Get a page of the versions of a pipeline identified by `id` from the latest to the oldest " +
+                  "version, without the pipeline itself. Use `/{id}/versions/{version}` to get a version.",
+          responses = {@ApiResponse(responseCode = "200", description = "List of pipeline versions",
+                  content = @Content(mediaType = "application/json",
+                          schema = @Schema(implementation = EntityVersionList.class)))
+          })
+  public ResultList<EntityVersionSummary> listVersionSummaries(@Context UriInfo uriInfo,
+                                                               @Context SecurityContext securityContext,
+                                                               @Parameter(description = "pipeline Id",
+                                                                       schema = @Schema(type = "string"))
+                                                               @PathParam("id") String id,
+                                                               @Parameter(description = "Limit the number of " +
+                                                                       "versions returned. (1 to 1000, default = 10)")
+                                                               @DefaultValue("10")
+                                                               @Min(1)
+                                                               @Max(1000)
+                                                               @QueryParam("limit") int limitParam,
+                                                               @Parameter(description = "Returns list of versions " +
+                                                                       "before this cursor",
+                                                                       schema = @Schema(type = "string"))
+                                                               @QueryParam("before") String before,
+                                                               @Parameter(description = "Returns list of versions " +
+                                                                       "after this cursor",
+                                                                       schema = @Schema(type = "string"))
+                                                               @QueryParam("after") String after)
+          throws IOException, GeneralSecurityException {
+    RestUtil.validateCursors(before, after);
+    if (before != null) { // Reverse paging
+      return dao.listVersionsBefore(id, limitParam, before);
+    }
+    return dao.listVersionsAfter(id, limitParam, after); // Forward paging or first page
+  }
+
+  @GET
+  @Path("/{id}/versions/{fromVersion}/diff/{toVersion}")
+  @Operation(summary = "Diff two versions of the pipeline", tags = "pipelines",
+          description = "Get JSON patch that transforms version `fromVersion` of a pipeline into version `toVersion`",
+          responses = {
+                  @ApiResponse(responseCode = "200", description = "Difference between the versions",
+                          content = @Content(mediaType = "application/json",
+                                  schema = @Schema(implementation = EntityVersionDiff.class))),
+                  @ApiResponse(responseCode = "404", description = "Pipeline for instance {id} and version is " +
+                          "not found")
+          })
+  public EntityVersionDiff getVersionDiff(@Context UriInfo uriInfo,
+                                          @Context SecurityContext securityContext,
+                                          @Parameter(description = "pipeline Id", schema = @Schema(type = "string"))
+                                          @PathParam("id") String id,
+                                          @Parameter(description = "pipeline version to diff from",
+                                                  schema = @Schema(type = "string", example = "0.1"))
+                                          @PathParam("fromVersion") String fromVersion,
+                                          @Parameter(description = "pipeline version to diff to",
+                                                  schema = @Schema(type = "string", example = "1.1"))
+                                          @PathParam("toVersion") String toVersion)
+          throws IOException, ParseException {
+    return dao.getVersionDiff(id, fromVersion, toVersion);
+  }
+
   @GET
   @Path("/{id}")
   @Operation(summary = "Get a pipeline", tags = "pipelines",
@@ -199,9 +263,13 @@ public class PipelineResource {
                        @PathParam("id") String id,
                        @Parameter(description = "Fields requested in the returned resource",
                                schema = @Schema(type = "string", example = FIELDS))
-                       @QueryParam("fields") String fieldsParam) throws IOException, ParseException {
+                       @QueryParam("fields") String fieldsParam,
+                       @Parameter(description = "Get the pipeline as it was at this time, as ISO 8601 " +
+                               "date-time or milliseconds since epoch",
+                               schema = @Schema(type = "string", example = "2021-09-01T00:00:00Z"))
+                       @QueryParam("asOf") String asOf) throws IOException, ParseException {
     Fields fields = new Fields(FIELD_LIST, fieldsParam);
-    return addHref(uriInfo, dao.get(id, fields));
+    return addHref(uriInfo, dao.get(id, fields, RestUtil.parseTimestamp(asOf)));
   }
 
   @GET
@@ -218,9 +286,13 @@ public class PipelineResource {
                              @Context SecurityContext securityContext,
                              @Parameter(description = "Fields requested in the returned resource",
                                      schema = @Schema(type = "string", example = FIELDS))
-                             @QueryParam("fields") String fieldsParam) throws IOException, ParseException {
+                             @QueryParam("fields") String fieldsParam,
+                             @Parameter(description = "Get the pipeline as it was at this time, as ISO 8601 " +
+                                     "date-time or milliseconds since epoch",
+                                     schema = @Schema(type = "string", example = "2021-09-01T00:00:00Z"))
+                             @QueryParam("asOf") String asOf) throws IOException, ParseException {
     Fields fields = new Fields(FIELD_LIST, fieldsParam);
-    Pipeline pipeline = dao.getByName(fqn, fields);
+    Pipeline pipeline = dao.getByName(fqn, fields, RestUtil.parseTimestamp(asOf));
     return addHref(uriInfo, pipeline);
   }
 
@@ -65,9 +65,12 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -416,6 +419,33 @@ public final class EntityUtil {
     return mergedTags.isEmpty() ? null : mergedTags;
   }
 
+  /**
+   * Compare {@code origList} with {@code updatedList} and collect items only in {@code updatedList} into
+   * {@code addedItems} and items only in {@code origList} into {@code deletedItems}. Two items match when
+   * {@code matchKey} returns equal keys for them. Keys are hashed so that the diff runs in linear time even for
+   * tables with thousands of columns. Items are collected in the order they appear in their source list.
+   */
+  public static <K> void diffLists(List<K> origList, List<K> updatedList, Function<K, ?> matchKey,
+                                   List<K> addedItems, List<K> deletedItems) {
+    Set<Object> updatedKeys = new HashSet<>();
+    for (K updated : updatedList) {
+      updatedKeys.add(matchKey.apply(updated));
+    }
+    Set<Object> origKeys = new HashSet<>();
+    for (K stored : origList) {
+      Object key = matchKey.apply(stored);
+      origKeys.add(key);
+      if (!updatedKeys.contains(key)) {
+        deletedItems.add(stored);
+      }
+    }
+    for (K updated : updatedList) {
+      if (!origKeys.contains(matchKey.apply(updated))) {
+        addedItems.add(updated);
+      }
+    }
+  }
+
   public static void publishEntityCreatedEvent(String entity, String entityName, String event) {
     String print = String.format("Entity Created: [%s] Name: [%s] Event: [%s]", entity, entityName, event);
     LOG.info(print);
@@ -16,6 +16,7 @@
 
 package org.openmetadata.catalog.util;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -101,6 +102,20 @@ public final class JsonUtils {
     return formatJson(diff.toJsonArray());
   }
 
+  /** Get compact RFC 6902 JSON patch that transforms json document {@code v1} into json document {@code v2} */
+  public static String getJsonPatch(String v1, String v2) {
+    JsonValue source = Json.createReader(new StringReader(v1)).readValue();
+    JsonValue dest = Json.createReader(new StringReader(v2)).readValue();
+    return Json.createDiff(source.asJsonObject(), dest.asJsonObject()).toJsonArray().toString();
+  }
+
+  /** Apply RFC 6902 JSON patch {@code patch} generated by {@link #getJsonPatch} to json document {@code json} */
+  public static String applyJsonPatch(String json, String patch) {
+    JsonValue source = Json.createReader(new StringReader(json)).readValue();
+    JsonArray operations = Json.createReader(new StringReader(patch)).readArray();
+    return Json.createPatch(operations).apply(source.asJsonObject()).toString();
+  }
+
   public static String formatJson(JsonValue jsonValue) {
     StringWriter stringWriter = new StringWriter();
     prettyPrintString(jsonValue, stringWriter);
@@ -139,6 +154,11 @@ public final class JsonUtils {
             OBJECT_MAPPER.writeValueAsString(o);
   }
 
+  /** Create a parser for reading json from a stream a token or a value at a time */
+  public static JsonParser createParser(InputStream in) throws IOException {
+    return OBJECT_MAPPER.getFactory().createParser(in);
+  }
+
   public static JsonStructure getJsonStructure(Object o) {
     return OBJECT_MAPPER.convertValue(o, JsonStructure.class);
   }
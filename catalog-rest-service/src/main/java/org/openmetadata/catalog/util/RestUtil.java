@@ -30,6 +30,8 @@ import java.net.URI;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -122,6 +124,33 @@ public final class RestUtil {
     return relationships;
   }
 
+  /** Format {@code date} the same way as date-time fields are serialized in json */
+  public static String formatDateTime(Date date) {
+    // DateFormat is not thread safe
+    return ((DateFormat) DATE_TIME_FORMAT.clone()).format(date);
+  }
+
+  /**
+   * Parse a point in time given either as ISO 8601 date-time such as {@code 2021-09-01T10:15:30Z} or as milliseconds
+   * since epoch. Returns null when {@code timestamp} is null.
+   */
+  public static Date parseTimestamp(String timestamp) {
+    if (timestamp == null) {
+      return null;
+    }
+    try {
+      return new Date(Long.parseLong(timestamp));
+    } catch (NumberFormatException ignored) {
+      // Not milliseconds since epoch
+    }
+    try {
+      return Date.from(OffsetDateTime.parse(timestamp).toInstant());
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException(String.format("Invalid timestamp %s. Use ISO 8601 date-time or " +
+              "milliseconds since epoch", timestamp));
+    }
+  }
+
   public static int compareDates(String date1, String date2) throws ParseException {
     return DATE_FORMAT.parse(date1).compareTo(DATE_FORMAT.parse(date2));
   }
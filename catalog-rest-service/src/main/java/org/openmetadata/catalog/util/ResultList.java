@@ -20,11 +20,10 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import org.openmetadata.catalog.type.Paging;
-import org.openmetadata.common.utils.CipherText;
+import org.openmetadata.common.utils.CursorCodec;
+import org.openmetadata.common.utils.CursorCodec.Direction;
 
 import javax.validation.constraints.NotNull;
-import java.io.UnsupportedEncodingException;
-import java.security.GeneralSecurityException;
 import java.util.List;
 
 /**
@@ -108,11 +107,10 @@ public class ResultList<T> {
    *          -------- BACKWARD SCROLLING ENDS -------------
    *
    */
-  public ResultList(List<T> data, String beforeCursor, String afterCursor, int total) throws GeneralSecurityException,
-          UnsupportedEncodingException {
+  public ResultList(List<T> data, String beforeCursor, String afterCursor, int total) {
     this.data = data;
-    paging = new Paging().withBefore(CipherText.instance().encrypt(beforeCursor))
-                    .withAfter(CipherText.instance().encrypt(afterCursor)).withTotal(total);
+    paging = new Paging().withBefore(CursorCodec.instance().encode(beforeCursor, Direction.BEFORE))
+                    .withAfter(CursorCodec.instance().encode(afterCursor, Direction.AFTER)).withTotal(total);
   }
 
   @JsonProperty("data")
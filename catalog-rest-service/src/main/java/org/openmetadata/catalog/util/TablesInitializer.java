@@ -25,6 +25,7 @@ import org.apache.commons.cli.HelpFormatter;
 import org.apache.commons.cli.Options;
 import org.flywaydb.core.Flyway;
 import org.flywaydb.core.api.MigrationVersion;
+import org.openmetadata.catalog.jdbi3.EntityVersionStore;
 
 import java.io.File;
 import java.nio.charset.StandardCharsets;
@@ -40,6 +41,8 @@ public final class TablesInitializer {
   private static final String OPTION_SCRIPT_ROOT_PATH = "script-root";
   private static final String OPTION_CONFIG_FILE_PATH = "config";
   private static final String DISABLE_VALIDATE_ON_MIGRATE = "disable-validate-on-migrate";
+  // Migrations that transform data in Java, such as compacting entity version history
+  private static final String JAVA_MIGRATION_LOCATION = "classpath:db/migration";
   private static final Options OPTIONS;
 
   static {
@@ -117,7 +120,11 @@ public final class TablesInitializer {
       System.out.println("Disabling validation on schema migrate");
     }
     String scriptRootPath = commandLine.getOptionValue(OPTION_SCRIPT_ROOT_PATH);
-    Flyway flyway = get(jdbcUrl, user, password, scriptRootPath, !disableValidateOnMigrate);
+    Map<String, Object> versionConf = (Map<String, Object>) conf.get("entityVersions");
+    Object snapshotInterval = versionConf == null ? null : versionConf.get("snapshotInterval");
+    Flyway flyway = get(jdbcUrl, user, password, scriptRootPath, !disableValidateOnMigrate,
+            snapshotInterval == null ? EntityVersionStore.DEFAULT_SNAPSHOT_INTERVAL :
+                    Integer.parseInt(snapshotInterval.toString()));
     try {
       execute(flyway, schemaMigrationOptionSpecified);
       System.out.printf("\"%s\" option successful%n", schemaMigrationOptionSpecified.toString());
@@ -128,9 +135,10 @@ public final class TablesInitializer {
 
   }
 
-  static Flyway get(String url, String user, String password, String scriptRootPath, boolean validateOnMigrate) {
-    System.out.format("url %s, user %s, password %s, scriptRoot %s, validateOnMigrate %s", url, user, password,
-            scriptRootPath, validateOnMigrate);
+  static Flyway get(String url, String user, String password, String scriptRootPath, boolean validateOnMigrate,
+                    int snapshotInterval) {
+    System.out.format("url %s, user %s, password %s, scriptRoot %s, validateOnMigrate %s, snapshotInterval %d", url,
+            user, password, scriptRootPath, validateOnMigrate, snapshotInterval);
     String location = "filesystem:" + scriptRootPath + File.separator + "mysql";
     return Flyway.configure()
             .encoding(StandardCharsets.UTF_8)
@@ -141,8 +149,9 @@ public final class TablesInitializer {
             .baselineOnMigrate(true)
             .baselineVersion(MigrationVersion.fromVersion("000"))
             .cleanOnValidationError(false)
-            .locations(location)
+            .locations(location, JAVA_MIGRATION_LOCATION)
             .dataSource(url, user, password)
+            .placeholders(Map.of(EntityVersionStore.SNAPSHOT_INTERVAL_PLACEHOLDER, String.valueOf(snapshotInterval)))
             .load();
   }
 
@@ -0,0 +1,99 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.events;
+
+import com.codahale.metrics.MetricRegistry;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.catalog.events.AuditLogConfiguration.OverflowPolicy;
+import org.openmetadata.catalog.type.AuditLog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AuditLogWriterTest {
+  @Test
+  public void writeInBatches() throws Exception {
+    AuditLogConfiguration config = new AuditLogConfiguration();
+    config.setBatchSize(3);
+    config.setFlushIntervalMs(10);
+    List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+    MetricRegistry metrics = new MetricRegistry();
+    AuditLogWriter writer = new AuditLogWriter(batchWriter(batches), config, metrics);
+
+    writer.start();
+    for (int i = 0; i < 10; i++) {
+      assertTrue(writer.write(auditLog("path" + i)));
+    }
+    writer.stop(); // Buffered entries are written on stop
+
+    List<String> paths = new ArrayList<>();
+    for (List<String> batch : batches) {
+      assertTrue(batch.size() <= 3);
+      paths.addAll(batch);
+    }
+    for (int i = 0; i < 10; i++) {
+      assertEquals("path" + i, paths.get(i));
+    }
+    assertEquals(10, metrics.counter(MetricRegistry.name(AuditLogWriter.class, "written")).getCount());
+  }
+
+  @Test
+  public void overflow() throws Exception {
+    for (OverflowPolicy policy : OverflowPolicy.values()) {
+      AuditLogConfiguration config = new AuditLogConfiguration();
+      config.setBufferSize(2);
+      config.setOverflowPolicy(policy);
+      config.setOfferTimeoutMs(1);
+      List<List<String>> batches = new ArrayList<>();
+      MetricRegistry metrics = new MetricRegistry();
+      AuditLogWriter writer = new AuditLogWriter(batchWriter(batches), config, metrics);
+
+      // The writer is not started so the buffer fills up
+      assertTrue(writer.write(auditLog("path0")));
+      assertTrue(writer.write(auditLog("path1")));
+      assertEquals(policy == OverflowPolicy.DROP_OLDEST, writer.write(auditLog("path2")));
+      assertEquals(1, metrics.counter(MetricRegistry.name(AuditLogWriter.class, "dropped")).getCount());
+
+      writer.start();
+      writer.stop();
+      List<String> expected = policy == OverflowPolicy.DROP_OLDEST ? List.of("path1", "path2") :
+              List.of("path0", "path1");
+      assertEquals(expected, batches.get(0));
+      assertFalse(batches.size() > 1);
+    }
+  }
+
+  /** Batch writer that records the paths of the audit log entries of each batch written */
+  private static AuditLogWriter.BatchWriter batchWriter(List<List<String>> batches) {
+    return batch -> {
+      List<String> paths = new ArrayList<>();
+      batch.forEach(auditLog -> paths.add(auditLog.getPath()));
+      batches.add(paths);
+    };
+  }
+
+  private static AuditLog auditLog(String path) {
+    return new AuditLog().withPath(path).withMethod(AuditLog.Method.POST).withResponseCode(200)
+            .withUserName("admin").withEntityId(UUID.randomUUID()).withEntityType("table");
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.events;
+
+import com.codahale.metrics.MetricRegistry;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.catalog.events.EventHandlerConfiguration.RejectionPolicy;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EventHandlerExecutorTest {
+  @Test
+  public void rejectionPolicy() throws Exception {
+    for (RejectionPolicy policy : RejectionPolicy.values()) {
+      EventHandlerConfiguration config = new EventHandlerConfiguration();
+      config.setQueueSize(1);
+      config.setRejectionPolicy(policy);
+      MetricRegistry metrics = new MetricRegistry();
+      EventHandlerExecutor executor = new EventHandlerExecutor("test", config, metrics);
+
+      // Block the only worker so that the second event fills the queue and the third one is rejected
+      CountDownLatch blocked = new CountDownLatch(1);
+      CountDownLatch started = new CountDownLatch(1);
+      List<String> processed = new CopyOnWriteArrayList<>();
+      executor.submit(() -> {
+        started.countDown();
+        await(blocked);
+        processed.add("event1");
+      });
+      assertTrue(started.await(10, TimeUnit.SECONDS));
+      executor.submit(() -> processed.add("event2"));
+      String caller = Thread.currentThread().getName();
+      executor.submit(() -> processed.add(Thread.currentThread().getName().equals(caller) ? "caller" : "event3"));
+      blocked.countDown();
+      assertTrue(executor.shutdown(10, TimeUnit.SECONDS));
+
+      switch (policy) {
+        case CALLER_RUNS:
+          assertEquals(List.of("caller", "event1", "event2"), processed);
+          break;
+        case DROP:
+          assertEquals(List.of("event1", "event2"), processed);
+          break;
+        default:
+          assertEquals(List.of("event1", "event3"), processed);
+          break;
+      }
+      long dropped = policy == RejectionPolicy.CALLER_RUNS ? 0 : 1;
+      assertEquals(dropped, metrics.meter(MetricRegistry.name(EventFilter.class, "test", "dropped")).getCount());
+      assertEquals(3 - dropped, metrics.timer(MetricRegistry.name(EventFilter.class, "test", "latency")).getCount());
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
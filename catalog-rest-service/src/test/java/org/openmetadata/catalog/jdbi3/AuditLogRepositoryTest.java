@@ -0,0 +1,207 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.catalog.jdbi3;
+
+import org.junit.jupiter.api.Test;
+import org.openmetadata.catalog.jdbi3.AuditLogRepository.AuditLogDAO;
+import org.openmetadata.catalog.jdbi3.AuditLogRepository.AuditLogRow;
+import org.openmetadata.catalog.type.AuditLog;
+import org.openmetadata.catalog.util.JsonUtils;
+import org.openmetadata.catalog.util.ResultList;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AuditLogRepositoryTest {
+  private static final String[] USERS = {"alice", "bob"};
+  private static final String[] ENTITY_TYPES = {"table", "database", "user"};
+
+  @Test
+  public void listWithFilters() throws Exception {
+    FakeAuditLogDAO dao = new FakeAuditLogDAO();
+    AuditLogRepository repository = new AuditLogRepository() {
+      @Override
+      AuditLogDAO auditLogDAO() {
+        return dao;
+      }
+    };
+    List<AuditLog> auditLogs = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      // Pairs of entries have the same timestamp, which are ordered by id
+      auditLogs.add(new AuditLog().withPath("path" + i).withMethod(AuditLog.Method.PUT).withResponseCode(200)
+              .withUserName(USERS[i % USERS.length]).withEntityType(ENTITY_TYPES[i % ENTITY_TYPES.length])
+              .withEntityId(UUID.randomUUID()).withDateTime(new Date(1000L * (i / 2))));
+    }
+    repository.createAll(auditLogs);
+
+    for (String userName : new String[] {null, "alice"}) {
+      for (String entityType : new String[] {null, "table"}) {
+        for (Long startTs : new Long[] {null, 2000L}) {
+          for (Long endTs : new Long[] {null, 8000L}) {
+            List<String> expected = auditLogs.stream()
+                    .filter(a -> userName == null || userName.equals(a.getUserName()))
+                    .filter(a -> entityType == null || entityType.equals(a.getEntityType()))
+                    .filter(a -> startTs == null || a.getDateTime().getTime() >= startTs)
+                    .filter(a -> endTs == null || a.getDateTime().getTime() < endTs)
+                    .map(AuditLog::getPath).collect(Collectors.toList());
+            Collections.reverse(expected); // Most recent entry first
+            for (int limit : new int[] {1, 3, 20}) {
+              assertPages(repository, expected, userName, entityType, startTs, endTs, limit);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void listEmpty() throws Exception {
+    AuditLogRepository repository = new AuditLogRepository() {
+      @Override
+      AuditLogDAO auditLogDAO() {
+        return new FakeAuditLogDAO();
+      }
+    };
+    ResultList<AuditLog> page = repository.list(null, null, null, null, 10, null, null);
+    assertTrue(page.getData().isEmpty());
+    assertEquals(0, page.getPaging().getTotal());
+    assertNull(page.getPaging().getBefore());
+    assertNull(page.getPaging().getAfter());
+  }
+
+  /** Page forward through the audit log and then back to the first page, checking each page against expected */
+  private static void assertPages(AuditLogRepository repository, List<String> expected, String userName,
+                                  String entityType, Long startTs, Long endTs, int limit)
+          throws IOException, GeneralSecurityException {
+    String message = String.format("userName=%s entityType=%s startTs=%s endTs=%s limit=%d", userName, entityType,
+            startTs, endTs, limit);
+    int offset = 0;
+    ResultList<AuditLog> page = repository.list(userName, entityType, startTs, endTs, limit, null, null);
+    assertNull(page.getPaging().getBefore(), message);
+    while (true) { // Forward scrolling
+      assertPage(expected, page, limit, offset, message);
+      if (page.getPaging().getAfter() == null) {
+        break;
+      }
+      offset += limit;
+      page = repository.list(userName, entityType, startTs, endTs, limit, null, page.getPaging().getAfter());
+    }
+    assertEquals(expected.size(), offset + page.getData().size(), message);
+    while (page.getPaging().getBefore() != null) { // Backward scrolling
+      offset -= limit;
+      page = repository.list(userName, entityType, startTs, endTs, limit, page.getPaging().getBefore(), null);
+      assertPage(expected, page, limit, offset, message);
+    }
+    assertEquals(0, offset, message);
+  }
+
+  private static void assertPage(List<String> expected, ResultList<AuditLog> page, int limit, int offset,
+                                 String message) {
+    assertEquals(expected.size(), page.getPaging().getTotal(), message);
+    List<String> paths = page.getData().stream().map(AuditLog::getPath).collect(Collectors.toList());
+    assertEquals(expected.subList(offset, Math.min(offset + limit, expected.size())), paths, message);
+  }
+
+  /** In memory audit_log that evaluates the filters and the (timestamp, id) cursors like the SQL queries */
+  private static class FakeAuditLogDAO implements AuditLogDAO {
+    private final List<Entry> entries = new ArrayList<>();
+
+    @Override
+    public void insertAll(List<AuditLogRow> rows) {
+      for (AuditLogRow row : rows) {
+        try {
+          entries.add(new Entry(entries.size() + 1, row.getTimestamp(),
+                  JsonUtils.readValue(row.getJson(), AuditLog.class), row.getJson()));
+        } catch (IOException e) {
+          throw new IllegalStateException(e);
+        }
+      }
+    }
+
+    @Override
+    public String findById(String id) {
+      return entries.get(Integer.parseInt(id) - 1).json;
+    }
+
+    @Override
+    public int listCount(String condition, String userName, String entityType, long startTs, long endTs) {
+      return filter(condition, userName, entityType, startTs, endTs).size();
+    }
+
+    @Override
+    public List<AuditLogRow> listAfter(String condition, String userName, String entityType, long startTs,
+                                       long endTs, int limit, long timestamp, long id) {
+      return filter(condition, userName, entityType, startTs, endTs).stream()
+              .filter(e -> e.timestamp < timestamp || (e.timestamp == timestamp && e.id < id))
+              .sorted(Comparator.comparingLong((Entry e) -> e.timestamp).thenComparingLong(e -> e.id).reversed())
+              .limit(limit).map(Entry::toRow).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<AuditLogRow> listBefore(String condition, String userName, String entityType, long startTs,
+                                        long endTs, int limit, long timestamp, long id) {
+      return filter(condition, userName, entityType, startTs, endTs).stream()
+              .filter(e -> e.timestamp > timestamp || (e.timestamp == timestamp && e.id > id))
+              .sorted(Comparator.comparingLong((Entry e) -> e.timestamp).thenComparingLong(e -> e.id))
+              .limit(limit).map(Entry::toRow).collect(Collectors.toList());
+    }
+
+    @Override
+    public int delete(String id) {
+      throw new UnsupportedOperationException();
+    }
+
+    private List<Entry> filter(String condition, String userName, String entityType, long startTs, long endTs) {
+      // Filters that are not set must be turned into conditions that are always true
+      assertEquals(userName != null, condition.contains("username = :userName"), condition);
+      assertEquals(entityType != null, condition.contains("entityType = :entityType"), condition);
+      return entries.stream()
+              .filter(e -> userName == null || userName.equals(e.auditLog.getUserName()))
+              .filter(e -> entityType == null || entityType.equals(e.auditLog.getEntityType()))
+              .filter(e -> e.timestamp >= startTs && e.timestamp < endTs)
+              .collect(Collectors.toList());
+    }
+  }
+
+  private static class Entry {
+    private final long id;
+    private final long timestamp;
+    private final AuditLog auditLog;
+    private final String json;
+
+    Entry(long id, long timestamp, AuditLog auditLog, String json) {
+      this.id = id;
+      this.timestamp = timestamp;
+      this.auditLog = auditLog;
+      this.json = json;
+    }
+
+    AuditLogRow toRow() {
+      return new AuditLogRow(id, timestamp, json);
+    }
+  }
+}
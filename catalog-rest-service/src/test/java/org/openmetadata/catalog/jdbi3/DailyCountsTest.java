@@ -0,0 +1,56 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DailyCountsTest {
+  @Test
+  public void putExpireAndSum() throws IOException {
+    DailyCounts counts = DailyCounts.fromJson("[{\"count\":5,\"date\":\"2021-09-03\"}," +
+            "{\"count\":2,\"date\":\"2021-09-01\"}]");
+    int day = DailyCounts.toDay("2021-09-02");
+    counts.put(day, 3); // Added between the stored days
+    counts.put(DailyCounts.toDay("2021-09-03"), 7); // Replaces the stored count
+    assertEquals(3, counts.size());
+    assertEquals(12, counts.sumFrom(DailyCounts.toDay("2021-09-01")));
+    assertEquals(10, counts.sumFrom(day));
+    assertEquals("[{\"count\":2,\"date\":\"2021-09-01\"},{\"count\":3,\"date\":\"2021-09-02\"}," +
+            "{\"count\":7,\"date\":\"2021-09-03\"}]", counts.toJson());
+
+    counts.expireBefore(day);
+    assertEquals("[{\"count\":3,\"date\":\"2021-09-02\"},{\"count\":7,\"date\":\"2021-09-03\"}]", counts.toJson());
+    counts.expireBefore(DailyCounts.toDay("2021-10-01"));
+    assertEquals(0, counts.size());
+    assertEquals("[]", counts.toJson());
+  }
+
+  @Test
+  public void growBeyondInitialCapacity() throws IOException {
+    DailyCounts counts = DailyCounts.fromJson(null);
+    for (int day = 30; day > 0; day--) {
+      counts.put(day, 1);
+    }
+    assertEquals(30, counts.size());
+    assertEquals(30, counts.sumFrom(0));
+    assertEquals(5, counts.sumFrom(26));
+  }
+}
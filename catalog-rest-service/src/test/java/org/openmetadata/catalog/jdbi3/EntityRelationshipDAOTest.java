@@ -0,0 +1,76 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.catalog.jdbi3;
+
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.openmetadata.catalog.Entity;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.EntityRelationshipDAO;
+import org.openmetadata.catalog.resources.EmbeddedMySqlSupport;
+import org.openmetadata.catalog.type.EntityReference;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(EmbeddedMySqlSupport.class)
+public class EntityRelationshipDAOTest {
+  @Test
+  public void insertAfterSchemaIsReinitialized() {
+    Jdbi jdbi = Jdbi.create(EmbeddedMySqlSupport.JDBC_URL, EmbeddedMySqlSupport.USER, "");
+    jdbi.installPlugin(new SqlObjectPlugin());
+    EntityRelationshipDAO dao = jdbi.onDemand(CollectionDAO.class).relationshipDAO();
+
+    String databaseId = UUID.randomUUID().toString();
+    String tableId = UUID.randomUUID().toString();
+    assertEquals(1, dao.insert(databaseId, tableId, Entity.DATABASE, Entity.TABLE, Relationship.CONTAINS.ordinal()));
+    assertEquals(0, dao.insert(databaseId, tableId, Entity.DATABASE, Entity.TABLE, Relationship.CONTAINS.ordinal()));
+    assertFrom(dao, tableId, databaseId, Entity.DATABASE);
+
+    // The entity types get new ids in the new dictionary, in a different order than before
+    EmbeddedMySqlSupport.reinitializeSchema();
+    String userId = UUID.randomUUID().toString();
+    assertEquals(1, dao.insert(userId, tableId, Entity.USER, Entity.TABLE, Relationship.OWNS.ordinal()));
+    assertEquals(1, dao.insert(databaseId, tableId, Entity.DATABASE, Entity.TABLE, Relationship.CONTAINS.ordinal()));
+    assertFrom(dao, tableId, databaseId, Entity.DATABASE);
+    assertFrom(dao, tableId, userId, Entity.USER);
+    assertEquals(List.of(tableId), dao.findTo(databaseId, Relationship.CONTAINS.ordinal(), Entity.TABLE));
+  }
+
+  @Test
+  public void insertWithEntityTypeNotSeeded() {
+    Jdbi jdbi = Jdbi.create(EmbeddedMySqlSupport.JDBC_URL, EmbeddedMySqlSupport.USER, "");
+    jdbi.installPlugin(new SqlObjectPlugin());
+    EntityRelationshipDAO dao = jdbi.onDemand(CollectionDAO.class).relationshipDAO();
+
+    String glossaryId = UUID.randomUUID().toString();
+    String tableId = UUID.randomUUID().toString();
+    assertEquals(1, dao.insert(glossaryId, tableId, "glossary", Entity.TABLE, Relationship.CONTAINS.ordinal()));
+    assertEquals(0, dao.insert(glossaryId, tableId, "glossary", Entity.TABLE, Relationship.CONTAINS.ordinal()));
+    assertEquals(List.of(tableId), dao.findTo(glossaryId, Relationship.CONTAINS.ordinal(), Entity.TABLE));
+  }
+
+  private static void assertFrom(EntityRelationshipDAO dao, String toId, String fromId, String fromEntity) {
+    int relation = fromEntity.equals(Entity.USER) ? Relationship.OWNS.ordinal() : Relationship.CONTAINS.ordinal();
+    List<EntityReference> from = dao.findFrom(toId, relation);
+    assertEquals(1, from.size());
+    assertEquals(fromId, from.get(0).getId().toString());
+    assertEquals(fromEntity, from.get(0).getType());
+  }
+}
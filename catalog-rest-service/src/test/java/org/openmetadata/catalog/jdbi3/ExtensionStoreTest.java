@@ -0,0 +1,80 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import org.junit.jupiter.api.Test;
+import org.openmetadata.catalog.type.TableData;
+import org.openmetadata.catalog.util.JsonUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExtensionStoreTest {
+  @Test
+  public void compressAndDecompress() throws IOException {
+    byte[] json = JsonUtils.pojoToJson(sampleData(1000)).getBytes(StandardCharsets.UTF_8);
+    byte[] compressed = ExtensionStore.compress(json);
+    assertTrue(compressed.length < json.length / 4);
+    try (InputStream in = ExtensionStore.decompress(compressed, ExtensionStore.GZIP)) {
+      assertArrayEquals(json, in.readAllBytes());
+    }
+    assertThrows(IOException.class, () -> ExtensionStore.decompress(compressed, "lz4"));
+  }
+
+  @Test
+  public void readSampleDataWithLimits() throws IOException {
+    TableData tableData = sampleData(1000);
+    byte[] compressed = ExtensionStore.compress(JsonUtils.pojoToJson(tableData).getBytes(StandardCharsets.UTF_8));
+
+    // All rows
+    assertEquals(tableData, read(compressed, 1000, Long.MAX_VALUE));
+
+    // Up to the row limit
+    TableData limited = read(compressed, 10, Long.MAX_VALUE);
+    assertEquals(tableData.getColumns(), limited.getColumns());
+    assertEquals(tableData.getRows().subList(0, 10), limited.getRows());
+
+    // Up to the byte limit, which stops at the first row after it
+    limited = read(compressed, 1000, 1);
+    assertEquals(tableData.getColumns(), limited.getColumns());
+    assertTrue(limited.getRows().size() < tableData.getRows().size());
+    assertEquals(tableData.getRows().subList(0, limited.getRows().size()), limited.getRows());
+  }
+
+  private static TableData read(byte[] compressed, int maxRows, long maxBytes) throws IOException {
+    try (InputStream in = ExtensionStore.decompress(compressed, ExtensionStore.GZIP)) {
+      return TableRepository.readSampleData(in, maxRows, maxBytes);
+    }
+  }
+
+  private static TableData sampleData(int rowCount) {
+    List<List<Object>> rows = new ArrayList<>();
+    for (int i = 0; i < rowCount; i++) {
+      rows.add(Arrays.asList(i, "customer" + i, "customer" + i + "@example.com"));
+    }
+    return new TableData().withColumns(Arrays.asList("id", "name", "email")).withRows(rows);
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.catalog.jdbi3;
+
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.openmetadata.catalog.entity.feed.Thread;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.FeedDAO;
+import org.openmetadata.catalog.resources.EmbeddedMySqlSupport;
+import org.openmetadata.catalog.type.Post;
+import org.openmetadata.catalog.util.JsonUtils;
+import org.openmetadata.catalog.util.RestUtil;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(EmbeddedMySqlSupport.class)
+public class FeedDAOTest {
+  @Test
+  public void updatedAtOnlyMovesForward() throws IOException {
+    Jdbi jdbi = Jdbi.create(EmbeddedMySqlSupport.JDBC_URL, EmbeddedMySqlSupport.USER, "");
+    jdbi.installPlugin(new SqlObjectPlugin());
+    FeedDAO dao = jdbi.onDemand(CollectionDAO.class).feedDAO();
+
+    UUID id = UUID.randomUUID();
+    Date created = new Date(1_600_000_000_000L);
+    dao.insert(JsonUtils.pojoToJson(new Thread().withId(id).withUpdatedAt(created)), created.getTime());
+    Date later = new Date(created.getTime() + 60_000);
+    assertEquals(1, dao.appendPost(id.toString(), new Post().withMessage("1").withPostTs(later)));
+    assertUpdatedAt(jdbi, dao, id, later, 1);
+
+    // A post with an older time committed later does not move the thread back
+    Date earlier = new Date(created.getTime() + 30_000);
+    assertEquals(2, dao.appendPost(id.toString(), new Post().withMessage("2").withPostTs(earlier)));
+    assertUpdatedAt(jdbi, dao, id, later, 2);
+  }
+
+  private static void assertUpdatedAt(Jdbi jdbi, FeedDAO dao, UUID id, Date updatedAt, int postCount)
+          throws IOException {
+    Thread thread = JsonUtils.readValue(dao.findById(id.toString()), Thread.class);
+    assertEquals(RestUtil.formatDateTime(updatedAt), RestUtil.formatDateTime(thread.getUpdatedAt()));
+    assertEquals(postCount, thread.getPostCount());
+    long column = jdbi.withHandle(handle -> handle.createQuery("SELECT updatedAt FROM thread_entity WHERE id = :id")
+            .bind("id", id.toString()).mapTo(Long.class).one());
+    assertEquals(updatedAt.getTime(), column);
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.catalog.jdbi3;
+
+import com.codahale.metrics.MetricRegistry;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.openmetadata.catalog.entity.feed.Thread;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.FeedDAO;
+import org.openmetadata.catalog.resources.EmbeddedMySqlSupport;
+import org.openmetadata.catalog.type.Post;
+import org.openmetadata.catalog.util.JsonUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Routes the data access objects of a primary and a replica Jdbi on the embedded MySQL. Both point to the same
+ * database, the replica is told apart by rejecting statements other than queries.
+ */
+@ExtendWith(EmbeddedMySqlSupport.class)
+public class ReadReplicaMySqlTest {
+  private static final int THREADS = 4;
+  private static final int POSTS = 24;
+
+  private final MetricRegistry registry = new MetricRegistry();
+  private FeedDAO dao;
+
+  @BeforeEach
+  public void setup() {
+    Jdbi primaryJdbi = newJdbi();
+    Jdbi replicaJdbi = newJdbi();
+    ReadReplica.configure(new ReadReplicaConfiguration(), registry);
+    ReadReplica.install(primaryJdbi, replicaJdbi);
+    ReadReplica.setLag(0L, true);
+    dao = ReadReplica.route(CollectionDAO.class, primaryJdbi.onDemand(CollectionDAO.class),
+            replicaJdbi.onDemand(CollectionDAO.class)).feedDAO();
+  }
+
+  @AfterEach
+  public void reset() {
+    ReadReplica.setLag(null, false);
+    ReadReplica.endRequest();
+  }
+
+  @Test
+  public void appendPostsConcurrently() throws Exception {
+    String threadId = createThread();
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    List<Future<List<Integer>>> futures = new ArrayList<>();
+    for (int i = 0; i < THREADS; i++) {
+      futures.add(executor.submit(() -> {
+        List<Integer> seqs = new ArrayList<>();
+        for (int j = 0; j < POSTS; j++) {
+          // Half of the posts are appended within read scopes, from which the replica sends them to the primary
+          ReadReplica.startRequest(null);
+          try (ReadReplica.Scope ignored = j % 2 == 0 ? ReadReplica.read() : null) {
+            seqs.add(dao.appendPost(threadId, new Post().withMessage("post").withPostTs(new Date())));
+          } finally {
+            ReadReplica.endRequest();
+          }
+        }
+        return seqs;
+      }));
+    }
+    List<Integer> seqs = new ArrayList<>();
+    for (Future<List<Integer>> future : futures) {
+      seqs.addAll(future.get());
+    }
+    executor.shutdown();
+
+    // Each post got its own seq from the counter of the thread, on the connection that bumped it
+    Collections.sort(seqs);
+    assertEquals(IntStream.rangeClosed(1, THREADS * POSTS).boxed().collect(Collectors.toList()), seqs);
+    assertEquals(THREADS * POSTS, dao.getPostCount(threadId));
+    assertEquals(THREADS * POSTS, dao.listPostsAfter(threadId, THREADS * POSTS + 1, 0).size());
+    assertEquals(THREADS * POSTS / 2, registry.meter("database.reads.primaryFallback").getCount());
+  }
+
+  private String createThread() throws Exception {
+    UUID id = UUID.randomUUID();
+    Date now = new Date();
+    dao.insert(JsonUtils.pojoToJson(new Thread().withId(id).withUpdatedAt(now)), now.getTime());
+    return id.toString();
+  }
+
+  private static Jdbi newJdbi() {
+    Jdbi jdbi = Jdbi.create(EmbeddedMySqlSupport.JDBC_URL, EmbeddedMySqlSupport.USER, "");
+    jdbi.installPlugin(new SqlObjectPlugin());
+    return jdbi;
+  }
+}
@@ -0,0 +1,244 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.catalog.jdbi3;
+
+import com.codahale.metrics.MetricRegistry;
+import org.jdbi.v3.sqlobject.CreateSqlObject;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ReadReplicaTest {
+  private final Database primary = new Database("primary", false);
+  private final Database replica = new Database("replica", true);
+  private final MetricRegistry registry = new MetricRegistry();
+  private TestCollectionDAO dao;
+
+  @BeforeEach
+  public void setup() {
+    setReadYourWritesMs(0);
+    ReadReplica.setLag(0L, true);
+    primary.rows.put("t1", "primary t1");
+    replica.rows.put("t1", "replica t1");
+    primary.rows.put("t2", "primary t2"); // Not yet replicated
+    dao = ReadReplica.route(TestCollectionDAO.class, () -> primary, () -> replica);
+  }
+
+  @AfterEach
+  public void reset() {
+    ReadReplica.setLag(null, false);
+    ReadReplica.endRequest();
+  }
+
+  @Test
+  public void readsInScopeGoToReplica() {
+    assertEquals("primary t1", dao.testDAO().find("t1"));
+    try (ReadReplica.Scope ignored = ReadReplica.read()) {
+      assertEquals("replica t1", dao.testDAO().find("t1"));
+      // Statements run by default methods are routed one by one
+      assertEquals("replica t1", dao.testDAO().findOrDefault("t1"));
+      assertEquals("test_entity", dao.testDAO().getTableName());
+      try (ReadReplica.Scope nested = ReadReplica.read()) {
+        assertEquals("replica t1", dao.testDAO().find("t1"));
+      }
+      assertEquals("replica t1", dao.testDAO().find("t1"));
+    }
+    assertEquals("primary t1", dao.testDAO().find("t1"));
+    assertEquals(5, registry.meter("database.reads.replica").getCount());
+  }
+
+  @Test
+  public void missingRowsAreReadFromPrimary() {
+    try (ReadReplica.Scope ignored = ReadReplica.read()) {
+      assertEquals("primary t2", dao.testDAO().find("t2"));
+      // A default method runs again on the primary when it fails on the replica, not when it maps a missing row
+      assertEquals("primary t2", dao.testDAO().findOrThrow("t2"));
+      assertEquals("none", dao.testDAO().findOrDefault("t3"));
+    }
+    assertEquals(2, registry.meter("database.reads.primaryFallback").getCount());
+  }
+
+  @Test
+  public void defaultMethodsThatWriteRunOnPrimary() {
+    setReadYourWritesMs(60000);
+    ReadReplica.startRequest(null);
+    try (ReadReplica.Scope ignored = ReadReplica.read()) {
+      assertEquals("replica t1", dao.testDAO().insertIfMissing("t1", "new t1"));
+      assertEquals("new t3", dao.testDAO().insertIfMissing("t3", "new t3"));
+      assertEquals(List.of("primary"), primary.writes);
+      assertEquals("primary t1", dao.testDAO().find("t1"));
+    }
+    assertNotNull(ReadReplica.endRequest());
+    assertEquals(List.of(), replica.writes);
+  }
+
+  @Test
+  public void laggingReplicaIsNotRead() {
+    ReadReplica.setLag(60L, false);
+    try (ReadReplica.Scope ignored = ReadReplica.read()) {
+      assertEquals("primary t1", dao.testDAO().find("t1"));
+    }
+    assertEquals(60L, registry.getGauges().get("database.replica.lagSeconds").getValue());
+  }
+
+  @Test
+  public void threadReadsItsOwnWrites() throws InterruptedException {
+    setReadYourWritesMs(60000);
+    try (ReadReplica.Scope ignored = ReadReplica.read()) {
+      assertEquals("replica t1", dao.testDAO().find("t1"));
+      dao.testDAO().insert("t1", "updated t1");
+      assertEquals(List.of("primary"), primary.writes);
+      assertEquals("updated t1", dao.testDAO().find("t1"));
+    }
+    try (ReadReplica.Scope ignored = ReadReplica.read()) {
+      assertEquals("updated t1", dao.testDAO().find("t1"));
+    }
+
+    // Once the read your writes time is over the replica is read again
+    setReadYourWritesMs(0);
+    Thread.sleep(1);
+    try (ReadReplica.Scope ignored = ReadReplica.read()) {
+      assertEquals("replica t1", dao.testDAO().find("t1"));
+    }
+    assertEquals(List.of(), replica.writes);
+  }
+
+  @Test
+  public void clientReadsItsOwnWrites() throws InterruptedException {
+    setReadYourWritesMs(60000);
+    ReadReplica.startRequest(null);
+    try (ReadReplica.Scope ignored = ReadReplica.read()) {
+      assertEquals("replica t1", dao.testDAO().find("t1"));
+      dao.testDAO().insert("t1", "updated t1");
+      assertEquals("updated t1", dao.testDAO().find("t1"));
+    }
+    Long lastWrite = ReadReplica.endRequest();
+    assertNotNull(lastWrite);
+
+    // The next request served by the thread, from another client, reads from the replica
+    ReadReplica.startRequest(null);
+    try (ReadReplica.Scope ignored = ReadReplica.read()) {
+      assertEquals("replica t1", dao.testDAO().find("t1"));
+    }
+    assertNull(ReadReplica.endRequest());
+
+    // A request of the client that wrote, served by another thread, reads from the primary
+    AtomicReference<String> read = new AtomicReference<>();
+    Thread thread = new Thread(() -> {
+      ReadReplica.startRequest(lastWrite);
+      try (ReadReplica.Scope ignored = ReadReplica.read()) {
+        read.set(dao.testDAO().find("t1"));
+      }
+      ReadReplica.endRequest();
+    });
+    thread.start();
+    thread.join();
+    assertEquals("updated t1", read.get());
+
+    // Once the read your writes time since the last write of the client is over the replica is read again
+    ReadReplica.startRequest(lastWrite - 60000);
+    try (ReadReplica.Scope ignored = ReadReplica.read()) {
+      assertEquals("replica t1", dao.testDAO().find("t1"));
+    }
+    assertNull(ReadReplica.endRequest());
+  }
+
+  private void setReadYourWritesMs(long readYourWritesMs) {
+    ReadReplicaConfiguration config = new ReadReplicaConfiguration();
+    config.setReadYourWritesMs(readYourWritesMs);
+    ReadReplica.configure(config, registry);
+  }
+
+  public interface TestEntityDAO {
+    String getTableName();
+
+    @SqlQuery("SELECT json FROM test_entity WHERE id = :id")
+    String find(String id);
+
+    @SqlUpdate("INSERT INTO test_entity(id, json) VALUES (:id, :json)")
+    void insert(String id, String json);
+
+    default String findOrDefault(String id) {
+      String json = find(id);
+      return json == null ? "none" : json;
+    }
+
+    default String findOrThrow(String id) {
+      String json = find(id);
+      if (json == null) {
+        throw new IllegalArgumentException(id + " not found");
+      }
+      return json;
+    }
+
+    default String insertIfMissing(String id, String json) {
+      if (find(id) == null) {
+        insert(id, json);
+      }
+      return find(id);
+    }
+  }
+
+  public interface TestDAO extends TestEntityDAO {
+    @Override
+    default String getTableName() {
+      return "test_entity";
+    }
+  }
+
+  public interface TestCollectionDAO {
+    @CreateSqlObject
+    TestDAO testDAO();
+  }
+
+  private static class Database implements TestDAO {
+    private final String name;
+    private final boolean replica;
+    private final Map<String, String> rows = new HashMap<>();
+    private final List<String> writes = new ArrayList<>();
+
+    Database(String name, boolean replica) {
+      this.name = name;
+      this.replica = replica;
+    }
+
+    @Override
+    public String find(String id) {
+      return rows.get(id);
+    }
+
+    @Override
+    public void insert(String id, String json) {
+      if (replica) {
+        throw new ReadReplica.ReplicaWriteException("INSERT INTO test_entity");
+      }
+      writes.add(name);
+      rows.put(id, json);
+    }
+  }
+}
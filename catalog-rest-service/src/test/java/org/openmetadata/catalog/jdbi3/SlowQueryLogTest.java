@@ -0,0 +1,43 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SlowQueryLogTest {
+  @Test
+  public void template() {
+    assertEquals("SELECT json FROM thread_entity WHERE id IN (:ids) AND updatedAt < :updatedAt",
+            SlowQueryLog.template("SELECT json FROM thread_entity WHERE id IN (:__ids_0, :__ids_1,:__ids_2) " +
+                    "AND updatedAt < :updatedAt"));
+    assertEquals("SELECT count(*) FROM table_entity WHERE (fullyQualifiedName LIKE CONCAT(:fqnPrefix, '.%') " +
+                    "OR :fqnPrefix IS NULL)",
+            SlowQueryLog.template("SELECT count(*) FROM table_entity WHERE (fullyQualifiedName LIKE " +
+                    "CONCAT(:fqnPrefix, '.%') OR :fqnPrefix IS NULL)"));
+  }
+
+  @Test
+  public void binds() {
+    assertEquals("fqnPrefix, limit, ids[3]",
+            SlowQueryLog.binds(Arrays.asList("fqnPrefix", "fqnPrefix", "limit", "__ids_0", "__ids_1", "__ids_2")));
+    assertEquals("", SlowQueryLog.binds(Arrays.asList()));
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import org.junit.jupiter.api.Test;
+import org.openmetadata.catalog.jdbi3.SqlStatementCounter.RequestStatements;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SqlStatementCounterTest {
+  @Test
+  public void countPerThread() throws InterruptedException {
+    assertNull(SqlStatementCounter.stop());
+    RequestStatements statements = SqlStatementCounter.start();
+    statements.add("SELECT json FROM table_entity WHERE id = :id", 1000);
+    statements.add("SELECT json FROM table_entity WHERE id = :id", 2000);
+    statements.add("SELECT json FROM user_entity WHERE id = :id", 500);
+
+    // Another thread does not count in this thread's statements
+    AtomicReference<RequestStatements> otherStatements = new AtomicReference<>(new RequestStatements());
+    Thread other = new Thread(() -> otherStatements.set(SqlStatementCounter.stop()));
+    other.start();
+    other.join();
+    assertNull(otherStatements.get());
+
+    assertSame(statements, SqlStatementCounter.stop());
+    assertNull(SqlStatementCounter.stop());
+    assertEquals(3, statements.getCount());
+    assertEquals(3500, statements.getNanos());
+  }
+
+  @Test
+  public void repeatedStatements() {
+    RequestStatements statements = new RequestStatements();
+    for (int i = 0; i < 11; i++) {
+      statements.add("SELECT json FROM user_entity WHERE id = :id", 1);
+    }
+    for (int i = 0; i < 10; i++) {
+      statements.add("SELECT json FROM team_entity WHERE id = :id", 1);
+    }
+    Map<String, Integer> repeated = statements.getRepeated(10);
+    assertEquals(Map.of("SELECT json FROM user_entity WHERE id = :id", 11), repeated);
+    assertTrue(statements.getRepeated(11).isEmpty());
+  }
+}
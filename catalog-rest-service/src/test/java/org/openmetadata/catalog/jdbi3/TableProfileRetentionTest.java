@@ -0,0 +1,172 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import org.junit.jupiter.api.Test;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.TableProfileDAO;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TableProfileRetentionTest {
+  @Test
+  public void sameWeek() {
+    assertTrue(TableProfileRetention.sameWeek("2021-09-06", "2021-09-12")); // Monday and Sunday
+    assertFalse(TableProfileRetention.sameWeek("2021-09-12", "2021-09-13")); // Sunday and next Monday
+    assertTrue(TableProfileRetention.sameWeek("2020-12-31", "2021-01-03")); // ISO week 53 of 2020
+    assertFalse(TableProfileRetention.sameWeek("2020-09-07", "2021-09-06")); // Same week number a year apart
+  }
+
+  @Test
+  public void downsampleBefore() {
+    FakeTableProfileDAO profiles = new FakeTableProfileDAO();
+    // Daily profiles of table1 from a Monday fill more than a batch. The last key of the first batch is a Saturday,
+    // so its week continues in the next batch.
+    LocalDate monday = LocalDate.parse("2018-01-01");
+    for (int i = 0; i < TableProfileRetention.BATCH_SIZE + 200; i++) {
+      profiles.add("table1", monday.plusDays(i));
+    }
+    assertTrue(TableProfileRetention.sameWeek(monday.plusDays(TableProfileRetention.BATCH_SIZE - 1).toString(),
+            monday.plusDays(TableProfileRetention.BATCH_SIZE).toString()));
+    // Daily profiles of table2 in the ISO week 53 of 2020, which is split by the cutoff date
+    for (LocalDate date = LocalDate.parse("2020-12-28"); date.isBefore(LocalDate.parse("2021-01-04"));
+         date = date.plusDays(1)) {
+      profiles.add("table2", date);
+    }
+    // Weekly profiles of table3 are already downsampled
+    for (LocalDate date = LocalDate.parse("2020-06-03"); date.isBefore(LocalDate.parse("2021-02-01"));
+         date = date.plusWeeks(1)) {
+      profiles.add("table3", date);
+    }
+
+    LocalDate cutoff = LocalDate.parse("2021-01-01");
+    Map<String, List<String>> expected = new TreeMap<>();
+    profiles.keys.forEach(key -> {
+      List<String> dates = expected.computeIfAbsent(key.get(0), k -> new ArrayList<>());
+      // Keep the profiles from the cutoff date and the last profile of each week before it
+      if (!dates.isEmpty() && dates.get(dates.size() - 1).compareTo(cutoff.toString()) < 0 &&
+              key.get(1).compareTo(cutoff.toString()) < 0 &&
+              TableProfileRetention.sameWeek(dates.get(dates.size() - 1), key.get(1))) {
+        dates.remove(dates.size() - 1);
+      }
+      dates.add(key.get(1));
+    });
+    int expectedDeleted = profiles.keys.size() - expected.values().stream().mapToInt(List::size).sum();
+
+    TableProfileRetention retention = new TableProfileRetention(profiles.collectionDAO(),
+            new TableProfileConfiguration());
+    assertEquals(expectedDeleted, retention.downsampleBefore(cutoff));
+    assertEquals(expected, profiles.dates());
+    assertEquals(List.of("2020-12-31", "2021-01-01", "2021-01-02", "2021-01-03"), profiles.dates().get("table2"));
+    assertEquals(0, retention.downsampleBefore(cutoff)); // Already downsampled
+  }
+
+  @Test
+  public void deleteBefore() {
+    FakeTableProfileDAO profiles = new FakeTableProfileDAO();
+    LocalDate start = LocalDate.parse("2020-01-01");
+    for (String table : List.of("table1", "table2")) {
+      for (int i = 0; i < TableProfileRetention.BATCH_SIZE; i++) {
+        profiles.add(table, start.plusDays(i));
+      }
+    }
+    LocalDate cutoff = start.plusDays(600);
+    TableProfileRetention retention = new TableProfileRetention(profiles.collectionDAO(),
+            new TableProfileConfiguration());
+    assertEquals(2 * 600, retention.deleteBefore(cutoff));
+    for (List<String> dates : profiles.dates().values()) {
+      assertEquals(TableProfileRetention.BATCH_SIZE - 600, dates.size());
+      assertEquals(cutoff.toString(), dates.get(0));
+    }
+  }
+
+  /** In memory table_profile keys with the queries used by the retention */
+  private static class FakeTableProfileDAO implements TableProfileDAO {
+    private final TreeSet<List<String>> keys = new TreeSet<>(Comparator.comparing((List<String> k) -> k.get(0))
+            .thenComparing(k -> k.get(1)));
+
+    void add(String tableId, LocalDate profileDate) {
+      keys.add(Arrays.asList(tableId, profileDate.toString()));
+    }
+
+    Map<String, List<String>> dates() {
+      return keys.stream().collect(Collectors.groupingBy(k -> k.get(0), TreeMap::new,
+              Collectors.mapping(k -> k.get(1), Collectors.toList())));
+    }
+
+    CollectionDAO collectionDAO() {
+      return (CollectionDAO) Proxy.newProxyInstance(CollectionDAO.class.getClassLoader(),
+              new Class<?>[] {CollectionDAO.class}, (proxy, method, args) -> {
+                if (method.getName().equals("tableProfileDAO")) {
+                  return this;
+                }
+                throw new UnsupportedOperationException(method.getName());
+              });
+    }
+
+    @Override
+    public int deleteBefore(String profileDate, int limit) {
+      List<List<String>> deleted = keys.stream().filter(k -> k.get(1).compareTo(profileDate) < 0).limit(limit)
+              .collect(Collectors.toList());
+      deleted.forEach(keys::remove);
+      return deleted.size();
+    }
+
+    @Override
+    public List<List<String>> listKeysBefore(String before, String tableId, String profileDate, int limit) {
+      return keys.stream().filter(k -> k.get(1).compareTo(before) < 0)
+              .filter(k -> k.get(0).compareTo(tableId) > 0 ||
+                      (k.get(0).equals(tableId) && k.get(1).compareTo(profileDate) > 0))
+              .limit(limit).collect(Collectors.toList());
+    }
+
+    @Override
+    public void delete(List<String> tableIds, List<String> profileDates) {
+      assertEquals(tableIds.size(), profileDates.size());
+      for (int i = 0; i < tableIds.size(); i++) {
+        assertTrue(keys.remove(Arrays.asList(tableIds.get(i), profileDates.get(i))));
+      }
+    }
+
+    @Override
+    public void upsert(String tableId, String profileDate, String json) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<String> list(String tableId, String startDate, String endDate, int limit) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int deleteAll(String tableId) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
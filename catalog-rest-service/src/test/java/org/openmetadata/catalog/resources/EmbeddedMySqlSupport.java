@@ -33,6 +33,9 @@ import static com.wix.mysql.distribution.Version.v5_7_27;
 
 public class EmbeddedMySqlSupport implements BeforeAllCallback, AfterAllCallback {
   public static final Logger LOG = LoggerFactory.getLogger(EmbeddedMySqlSupport.class);
+  public static final String JDBC_URL =
+          "jdbc:mysql://localhost:3307/openmetadata_test_db?useSSL=false&serverTimezone=UTC";
+  public static final String USER = "test";
   static EmbeddedMysql embeddedMysql;
 
   @Override
@@ -41,7 +44,7 @@ public class EmbeddedMySqlSupport implements BeforeAllCallback, AfterAllCallback
       MysqldConfig config = MysqldConfig.aMysqldConfig(v5_7_27)
               .withPort(3307)
               .withTimeZone(TimeZone.getTimeZone(ZoneId.of("UTC")))
-              .withUser("test", "")
+              .withUser(USER, "")
               .build();
 
       SchemaConfig schemaConfig = SchemaConfig.aSchemaConfig("openmetadata_test_db").build();
@@ -49,21 +52,25 @@ public class EmbeddedMySqlSupport implements BeforeAllCallback, AfterAllCallback
       embeddedMysql = EmbeddedMysql.anEmbeddedMysql(config).addSchema(schemaConfig).start();
       LOG.info("Embedded MySQL is started");
 
-      Flyway flyway = Flyway.configure()
-              // TODO Remove hardcoding
-              .dataSource("jdbc:mysql://localhost:3307/openmetadata_test_db?useSSL=false&serverTimezone=UTC",
-                      "test", "")
-              .sqlMigrationPrefix("v")
-              .load();
-      flyway.clean();
-      flyway.migrate();
-      LOG.info("Flyway migration is complete");
+      reinitializeSchema();
     } else {
       LOG.info("Embedded MySQL is already running");
     }
 
   }
 
+  /** Drop all the tables of the test database and create them again with the flyway migrations */
+  public static void reinitializeSchema() {
+    Flyway flyway = Flyway.configure()
+            // TODO Remove hardcoding
+            .dataSource(JDBC_URL, USER, "")
+            .sqlMigrationPrefix("v")
+            .load();
+    flyway.clean();
+    flyway.migrate();
+    LOG.info("Flyway migration is complete");
+  }
+
   @Override
   public void afterAll(ExtensionContext extensionContext) {
     if (embeddedMysql != null) {
@@ -2,6 +2,7 @@ package org.openmetadata.catalog.resources;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import org.apache.http.client.HttpResponseException;
+import org.jdbi.v3.core.Jdbi;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
@@ -29,9 +30,11 @@ import org.openmetadata.catalog.resources.teams.UserResourceTest;
 import org.openmetadata.catalog.type.ChangeDescription;
 import org.openmetadata.catalog.type.EntityHistory;
 import org.openmetadata.catalog.type.EntityReference;
+import org.openmetadata.catalog.type.EntityVersionDiff;
 import org.openmetadata.catalog.type.FieldChange;
 import org.openmetadata.catalog.type.TagLabel;
 import org.openmetadata.catalog.util.EntityInterface;
+import org.openmetadata.catalog.util.EntityVersionList;
 import org.openmetadata.catalog.util.JsonUtils;
 import org.openmetadata.catalog.util.ResultList;
 import org.openmetadata.catalog.util.TestUtils;
@@ -49,6 +52,7 @@ import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -579,6 +583,11 @@ public abstract class EntityResourceTest<T> extends CatalogApplicationTest {
     return TestUtils.get(target, entityClass, authHeaders);
   }
 
+  protected final T getEntityAsOf(UUID id, Date asOf, Map<String, String> authHeaders) throws HttpResponseException {
+    WebTarget target = getResource(id).queryParam("asOf", asOf.getTime());
+    return TestUtils.get(target, entityClass, authHeaders);
+  }
+
   protected final T createEntity(Object createRequest, Map<String, String> authHeaders)
           throws HttpResponseException {
     return TestUtils.post(getCollection(), createRequest, entityClass, authHeaders);
@@ -635,6 +644,13 @@ public abstract class EntityResourceTest<T> extends CatalogApplicationTest {
       assertEquals(changeDescription.getPreviousVersion(), getEntityInterface(previousVersion).getVersion());
     }
 
+    // GET ../entity/{id}/versions/summary to list the versions without the entity
+    EntityVersionList versions = getVersionSummaries(entityInterface.getId(), authHeaders);
+    assertEquals(history.getVersions().size(), versions.getData().size());
+    assertEquals(history.getVersions().size(), versions.getPaging().getTotal());
+    assertEquals(entityInterface.getVersion(), versions.getData().get(0).getVersion());
+    assertEquals(entityInterface.getUpdatedBy(), versions.getData().get(0).getUpdatedBy());
+
     // GET ../entity/{id}/versions/{versionId} to get specific versions of the entity
     // Get the latest version of the entity from the versions API and ensure it is correct
     // TODO fix this
@@ -644,6 +660,20 @@ public abstract class EntityResourceTest<T> extends CatalogApplicationTest {
       // Get the previous version of the entity from the versions API and ensure it is correct
       T previousVersion = getVersion(entityInterface.getId(), changeDescription.getPreviousVersion(), authHeaders);
       assertEquals(changeDescription.getPreviousVersion(), getEntityInterface(previousVersion).getVersion());
+
+      // GET ../entity/{id}/versions/{fromVersion}/diff/{toVersion} to get the change between the versions
+      EntityVersionDiff diff = getVersionDiff(entityInterface.getId(), changeDescription.getPreviousVersion(),
+              entityInterface.getVersion(), authHeaders);
+      assertEquals(changeDescription.getPreviousVersion(), diff.getFromVersion());
+      assertEquals(entityInterface.getVersion(), diff.getToVersion());
+      assertFalse(diff.getPatch().isEmpty());
+
+      // GET ../entity/{id}?asOf={timestamp} to get the version that was current at the time of the previous version
+      Date previousUpdatedAt = getEntityInterface(previousVersion).getUpdatedAt();
+      if (previousUpdatedAt.before(entityInterface.getUpdatedAt())) {
+        T asOf = getEntityAsOf(entityInterface.getId(), previousUpdatedAt, authHeaders);
+        assertEquals(changeDescription.getPreviousVersion(), getEntityInterface(asOf).getVersion());
+      }
     }
 
     // GET the newly updated database and validate
@@ -703,6 +733,18 @@ public abstract class EntityResourceTest<T> extends CatalogApplicationTest {
     return TestUtils.get(target, EntityHistory.class, authHeaders);
   }
 
+  protected EntityVersionList getVersionSummaries(UUID id, Map<String, String> authHeaders)
+          throws HttpResponseException {
+    WebTarget target = getResource(collectionName + "/" + id + "/versions/summary").queryParam("limit", 1000);
+    return TestUtils.get(target, EntityVersionList.class, authHeaders);
+  }
+
+  protected EntityVersionDiff getVersionDiff(UUID id, Double fromVersion, Double toVersion,
+                                             Map<String, String> authHeaders) throws HttpResponseException {
+    WebTarget target = getResource(collectionName + "/" + id + "/versions/" + fromVersion + "/diff/" + toVersion);
+    return TestUtils.get(target, EntityVersionDiff.class, authHeaders);
+  }
+
   protected T getVersion(UUID id, Double version, Map<String, String> authHeaders) throws HttpResponseException {
     WebTarget target = getResource(collectionName + "/" + id + "/versions/" + version.toString());
     return TestUtils.get(target, entityClass, authHeaders);
@@ -863,6 +905,52 @@ public abstract class EntityResourceTest<T> extends CatalogApplicationTest {
     return TestUtils.get(target, entityListClass, authHeaders);
   }
 
+  /**
+   * Page through the entities listed with {@code queryParams} forward and then backward with every page size, and
+   * check that exactly the entities with {@code expectedFQNs} are listed in the order of their names
+   */
+  protected void assertListed(Map<String, String> queryParams, List<String> expectedFQNs)
+          throws HttpResponseException {
+    List<String> expected = new ArrayList<>(expectedFQNs);
+    Collections.sort(expected);
+    for (int limit = 1; limit <= expected.size() + 1; limit++) {
+      List<String> forward = new ArrayList<>();
+      ResultList<T> page = listEntities(queryParams, limit, null, null, adminAuthHeaders());
+      while (true) { // Forward scrolling
+        assertEquals(expected.size(), page.getPaging().getTotal());
+        forward.addAll(getFQNs(page));
+        if (page.getPaging().getAfter() == null) {
+          break;
+        }
+        page = listEntities(queryParams, limit, null, page.getPaging().getAfter(), adminAuthHeaders());
+      }
+      assertEquals(expected, forward);
+
+      List<String> backward = getFQNs(page);
+      while (page.getPaging().getBefore() != null) { // Backward scrolling from the last page
+        page = listEntities(queryParams, limit, page.getPaging().getBefore(), null, adminAuthHeaders());
+        assertEquals(expected.size(), page.getPaging().getTotal());
+        backward.addAll(0, getFQNs(page));
+      }
+      assertEquals(expected, backward);
+    }
+  }
+
+  private List<String> getFQNs(ResultList<T> list) {
+    List<String> fqns = new ArrayList<>();
+    list.getData().forEach(entity -> fqns.add(getEntityInterface(entity).getFullyQualifiedName()));
+    return fqns;
+  }
+
+  /** Clear the parent column of an entity, as it is for entities stored before the column was added in v012 */
+  protected static void clearParentColumn(String table, String parentColumn, UUID id) {
+    Jdbi jdbi = Jdbi.create(EmbeddedMySqlSupport.JDBC_URL, EmbeddedMySqlSupport.USER, "");
+    int count = jdbi.withHandle(handle -> handle.createUpdate("UPDATE <table> SET <parentColumn> = NULL " +
+            "WHERE id = :id").define("table", table).define("parentColumn", parentColumn).bind("id", id.toString())
+            .execute());
+    assertEquals(1, count);
+  }
+
   private void printEntities(ResultList<T> list) {
     list.getData().forEach(entity -> LOG.info("{} {}", entityClass, getEntityInterface(entity).getFullyQualifiedName()));
     LOG.info("before {} after {} ", list.getPaging().getBefore(), list.getPaging().getAfter());
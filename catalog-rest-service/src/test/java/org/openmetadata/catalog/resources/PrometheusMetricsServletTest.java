@@ -0,0 +1,61 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.resources;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PrometheusMetricsServletTest {
+  @Test
+  public void writeMetrics() throws IOException {
+    MetricRegistry registry = new MetricRegistry();
+    registry.counter("repository.table.entitiesMaterialized").inc(3);
+    registry.meter("requests").mark(2);
+    registry.register("jvm.threads", (Gauge<Integer>) () -> 7);
+    registry.histogram("sqlStatements").update(4);
+    registry.timer("repository.table.get").update(250, TimeUnit.MILLISECONDS);
+
+    StringWriter writer = new StringWriter();
+    PrometheusMetricsServlet.write(registry, writer);
+    String text = writer.toString();
+
+    assertTrue(text.contains("# TYPE repository_table_entitiesMaterialized gauge\n" +
+            "repository_table_entitiesMaterialized 3\n"), text);
+    assertTrue(text.contains("# TYPE requests_total counter\nrequests_total 2\n"), text);
+    assertTrue(text.contains("jvm_threads 7\n"), text);
+    assertTrue(text.contains("sqlStatements{quantile=\"0.99\"} 4\nsqlStatements{quantile=\"0.999\"} 4\n" +
+            "sqlStatements_count 1\n"), text);
+    assertTrue(text.contains("# TYPE repository_table_get_seconds summary\n" +
+            "repository_table_get_seconds{quantile=\"0.5\"} 0.25\n"), text);
+    assertTrue(text.contains("repository_table_get_seconds_count 1\n"), text);
+  }
+
+  @Test
+  public void sanitize() {
+    assertEquals("org_openmetadata_TableResource_get_requests",
+            PrometheusMetricsServlet.sanitize("org.openmetadata.TableResource.get.requests"));
+    assertEquals("_1xx_responses", PrometheusMetricsServlet.sanitize("1xx-responses"));
+  }
+}
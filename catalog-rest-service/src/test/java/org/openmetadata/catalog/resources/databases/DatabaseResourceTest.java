@@ -23,10 +23,12 @@ import org.junit.jupiter.api.TestInfo;
 import org.openmetadata.catalog.Entity;
 import org.openmetadata.catalog.api.data.CreateDatabase;
 import org.openmetadata.catalog.entity.data.Database;
+import org.openmetadata.catalog.entity.services.DatabaseService;
 import org.openmetadata.catalog.exception.CatalogExceptionMessage;
 import org.openmetadata.catalog.jdbi3.DatabaseRepository.DatabaseEntityInterface;
 import org.openmetadata.catalog.resources.EntityResourceTest;
 import org.openmetadata.catalog.resources.databases.DatabaseResource.DatabaseList;
+import org.openmetadata.catalog.resources.services.DatabaseServiceResourceTest;
 import org.openmetadata.catalog.type.EntityReference;
 import org.openmetadata.catalog.util.EntityInterface;
 import org.openmetadata.catalog.util.ResultList;
@@ -36,6 +38,7 @@ import javax.ws.rs.client.WebTarget;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -48,6 +51,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.openmetadata.catalog.exception.CatalogExceptionMessage.entityNotFound;
+import static org.openmetadata.catalog.resources.services.DatabaseServiceResourceTest.createService;
 import static org.openmetadata.catalog.util.TestUtils.adminAuthHeaders;
 import static org.openmetadata.catalog.util.TestUtils.assertResponse;
 import static org.openmetadata.catalog.util.TestUtils.authHeaders;
@@ -172,6 +176,38 @@ public class DatabaseResourceTest extends EntityResourceTest<Database> {
     }
   }
 
+  @Test
+  public void get_listDatabasesByService_200(TestInfo test) throws HttpResponseException {
+    // Database FQNs of service "a" are a prefix of those of service "a.b", and "x_y" matches "xay" as a LIKE pattern
+    Map<String, DatabaseService> services = new HashMap<>();
+    for (String name : List.of("a", "a.b", "x_y", "xay")) {
+      services.put(name, createService(DatabaseServiceResourceTest.create(test).withName(name), adminAuthHeaders()));
+    }
+    Database database = createDatabase("a", "b", services);
+    createDatabase("a", "d", services);
+    createDatabase("a.b", "c", services);
+    createDatabase("a.b", "d", services);
+    createDatabase("x_y", "d", services);
+    createDatabase("xay", "d", services);
+
+    assertListed(Map.of("service", "a"), List.of("a.b", "a.d"));
+    assertListed(Map.of("service", "a.b"), List.of("a.b.c", "a.b.d"));
+    assertListed(Map.of("service", "x_y"), List.of("x_y.d"));
+
+    // Databases stored before the serviceId column was added are still listed by service
+    clearParentColumn("database_entity", "serviceId", database.getId());
+    assertListed(Map.of("service", "a"), List.of("a.b", "a.d"));
+    assertListed(Map.of("service", "a.b"), List.of("a.b.c", "a.b.d"));
+  }
+
+  private static Database createDatabase(String serviceName, String name, Map<String, DatabaseService> services)
+          throws HttpResponseException {
+    DatabaseService service = services.get(serviceName);
+    EntityReference serviceRef = new EntityReference().withId(service.getId()).withName(service.getName())
+            .withType(Entity.DATABASE_SERVICE);
+    return createDatabase(new CreateDatabase().withName(name).withService(serviceRef), adminAuthHeaders());
+  }
+
   @Test
   public void get_nonExistentDatabase_404_notFound() {
     HttpResponseException exception = assertThrows(HttpResponseException.class, () ->
@@ -37,7 +37,10 @@ import org.openmetadata.catalog.entity.services.StorageService;
 import org.openmetadata.catalog.exception.CatalogExceptionMessage;
 import org.openmetadata.catalog.jdbi3.TableRepository.TableEntityInterface;
 import org.openmetadata.catalog.resources.EntityResourceTest;
+import org.openmetadata.catalog.resources.databases.TableResource.ColumnList;
+import org.openmetadata.catalog.resources.databases.TableResource.JoinedTableList;
 import org.openmetadata.catalog.resources.databases.TableResource.TableList;
+import org.openmetadata.catalog.resources.databases.TableResource.TableProfileList;
 import org.openmetadata.catalog.resources.services.DatabaseServiceResourceTest;
 import org.openmetadata.catalog.resources.services.StorageServiceResourceTest;
 import org.openmetadata.catalog.resources.tags.TagResourceTest;
@@ -78,6 +81,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static java.util.Collections.singletonList;
 import static javax.ws.rs.core.Response.Status.BAD_REQUEST;
@@ -622,6 +626,68 @@ public class TableResourceTest extends EntityResourceTest<Table> {
       putJoins(table1.getId(), table1Joins, adminAuthHeaders());
       table1 = getTable(table1.getId(), "joins", adminAuthHeaders());
     }
+
+    // table2 and table3 are each joined with table1 60 times a day over 30 days
+    List<JoinedWith> topJoined = listTopJoinedTables(table1.getId(), null, adminAuthHeaders()).getData();
+    assertEquals(2, topJoined.size());
+    assertEquals(table2.getFullyQualifiedName(), topJoined.get(0).getFullyQualifiedName());
+    assertEquals(1800, topJoined.get(0).getJoinCount());
+    assertEquals(table3.getFullyQualifiedName(), topJoined.get(1).getFullyQualifiedName());
+    assertEquals(1800, topJoined.get(1).getJoinCount());
+
+    topJoined = listTopJoinedTables(table2.getId(), 1, adminAuthHeaders()).getData();
+    assertEquals(1, topJoined.size());
+    assertEquals(table1.getFullyQualifiedName(), topJoined.get(0).getFullyQualifiedName());
+  }
+
+  @Test
+  public void delete_tableWithJoins_200(TestInfo test) throws HttpResponseException, ParseException {
+    Table table1 = createAndCheckEntity(create(test, 1), adminAuthHeaders());
+    Table table2 = createAndCheckEntity(create(test, 2), adminAuthHeaders());
+    Table table3 = createAndCheckEntity(create(test, 3), adminAuthHeaders());
+    String t1c1 = table1.getFullyQualifiedName() + ".c1";
+    String t2c1 = table2.getFullyQualifiedName() + ".c1";
+    String t3c1 = table3.getFullyQualifiedName() + ".c1";
+
+    // table1.c1 is joined with table2.c1 and table3.c1, and table2.c2 with table3.c2
+    putJoins(table1.getId(), new TableJoins().withDayCount(1).withStartDate(RestUtil.today(0))
+            .withColumnJoins(singletonList(new ColumnJoin().withColumnName("c1").withJoinedWith(Arrays.asList(
+                    new JoinedWith().withFullyQualifiedName(t2c1).withJoinCount(10),
+                    new JoinedWith().withFullyQualifiedName(t3c1).withJoinCount(20))))), adminAuthHeaders());
+    putJoins(table2.getId(), new TableJoins().withDayCount(1).withStartDate(RestUtil.today(0))
+            .withColumnJoins(singletonList(new ColumnJoin().withColumnName("c2").withJoinedWith(singletonList(
+                    new JoinedWith().withFullyQualifiedName(table3.getFullyQualifiedName() + ".c2")
+                            .withJoinCount(30))))), adminAuthHeaders());
+
+    // Deleting table2 removes its joins on both sides
+    deleteTable(table2.getId(), adminAuthHeaders());
+    table1 = getTable(table1.getId(), "joins", adminAuthHeaders());
+    validateColumnJoins(new ArrayList<>(singletonList(new ColumnJoin().withColumnName("c1").withJoinedWith(
+            new ArrayList<>(singletonList(new JoinedWith().withFullyQualifiedName(t3c1).withJoinCount(20)))))),
+            table1.getJoins());
+    List<JoinedWith> topJoined = listTopJoinedTables(table1.getId(), null, adminAuthHeaders()).getData();
+    assertEquals(1, topJoined.size());
+    assertEquals(table3.getFullyQualifiedName(), topJoined.get(0).getFullyQualifiedName());
+
+    table3 = getTable(table3.getId(), "joins", adminAuthHeaders());
+    validateColumnJoins(new ArrayList<>(singletonList(new ColumnJoin().withColumnName("c1").withJoinedWith(
+            new ArrayList<>(singletonList(new JoinedWith().withFullyQualifiedName(t1c1).withJoinCount(20)))))),
+            table3.getJoins());
+
+    // A new table with the name of the deleted table has no joins
+    table2 = createAndCheckEntity(create(test, 2), adminAuthHeaders());
+    table2 = getTable(table2.getId(), "joins", adminAuthHeaders());
+    assertTrue(table2.getJoins().getColumnJoins().isEmpty());
+    assertTrue(listTopJoinedTables(table2.getId(), null, adminAuthHeaders()).getData().isEmpty());
+
+    // Joins of the new table don't add up with the join counts of the deleted table
+    putJoins(table2.getId(), new TableJoins().withDayCount(1).withStartDate(RestUtil.today(0))
+            .withColumnJoins(singletonList(new ColumnJoin().withColumnName("c1").withJoinedWith(singletonList(
+                    new JoinedWith().withFullyQualifiedName(t1c1).withJoinCount(5))))), adminAuthHeaders());
+    table2 = getTable(table2.getId(), "joins", adminAuthHeaders());
+    validateColumnJoins(new ArrayList<>(singletonList(new ColumnJoin().withColumnName("c1").withJoinedWith(
+            new ArrayList<>(singletonList(new JoinedWith().withFullyQualifiedName(t1c1).withJoinCount(5)))))),
+            table2.getJoins());
   }
 
   @Test
@@ -793,6 +859,15 @@ public class TableResourceTest extends EntityResourceTest<Table> {
     // first result should be the latest date
     assertEquals(tableProfile.getProfileDate(), table.getTableProfile().get(0).getProfileDate());
     verifyTableProfileData(table.getTableProfile(), List.of(newTableProfile1, tableProfile));
+
+    // List profiles by date range and the latest N profiles
+    verifyTableProfileData(listTableProfiles(table.getId(), "2021-09-08", "2021-09-08", null, adminAuthHeaders())
+            .getData(), List.of(newTableProfile1));
+    verifyTableProfileData(listTableProfiles(table.getId(), null, null, 1, adminAuthHeaders()).getData(),
+            List.of(tableProfile));
+    UUID tableId = table.getId();
+    assertResponse(() -> listTableProfiles(tableId, "09/08/2021", null, null, adminAuthHeaders()),
+            BAD_REQUEST, "Invalid profile date 09/08/2021, expected format yyyy-MM-dd");
   }
 
   @Test
@@ -903,6 +978,105 @@ public class TableResourceTest extends EntityResourceTest<Table> {
     tableList1 = listEntities(queryParams, adminAuthHeaders());
     assertEquals(tableList.getData().size(), tableList1.getData().size());
     assertFields(tableList1.getData(), fields1);
+
+    // Summary of the tables leaves out columns unless they are asked for
+    queryParams = new HashMap<>() {{
+      put("summary", "true");
+    }};
+    tableList = listEntities(queryParams, adminAuthHeaders());
+    assertEquals(2, tableList.getData().size());
+    tableList.getData().forEach(table -> assertNull(table.getColumns()));
+
+    queryParams = new HashMap<>() {{
+      put("summary", "true");
+      put("fields", "columns");
+    }};
+    tableList = listEntities(queryParams, adminAuthHeaders());
+    assertEquals(2, tableList.getData().size());
+    tableList.getData().forEach(table -> assertEquals(COLUMNS.size(), table.getColumns().size()));
+  }
+
+  @Test
+  public void get_listTablesByDatabase_200(TestInfo test) throws HttpResponseException {
+    // Database "a.b" of service "a" has FQN that is a prefix of the FQN of database "c" of service "a.b"
+    Map<String, Database> databases = new HashMap<>();
+    for (String[] names : new String[][] {{"a", "b"}, {"a.b", "c"}}) {
+      DatabaseService service = createService(DatabaseServiceResourceTest.create(test).withName(names[0]),
+              adminAuthHeaders());
+      EntityReference serviceRef = new EntityReference().withId(service.getId()).withName(service.getName())
+              .withType(Entity.DATABASE_SERVICE);
+      Database database = createAndCheckDatabase(new CreateDatabase().withName(names[1]).withService(serviceRef),
+              adminAuthHeaders());
+      databases.put(database.getFullyQualifiedName(), database);
+    }
+    Table table = createTable(new CreateTable().withName("t1").withDatabase(databases.get("a.b").getId())
+            .withColumns(COLUMNS), adminAuthHeaders());
+    createTable(new CreateTable().withName("t2").withDatabase(databases.get("a.b").getId()).withColumns(COLUMNS),
+            adminAuthHeaders());
+    createTable(new CreateTable().withName("t1").withDatabase(databases.get("a.b.c").getId()).withColumns(COLUMNS),
+            adminAuthHeaders());
+
+    assertListed(Map.of("database", "a.b"), List.of("a.b.t1", "a.b.t2"));
+    assertListed(Map.of("database", "a.b.c"), List.of("a.b.c.t1"));
+
+    // Tables stored before the databaseId column was added are still listed by database
+    clearParentColumn("table_entity", "databaseId", table.getId());
+    assertListed(Map.of("database", "a.b"), List.of("a.b.t1", "a.b.t2"));
+    assertListed(Map.of("database", "a.b.c"), List.of("a.b.c.t1"));
+  }
+
+  @Test
+  public void get_tableColumnsWithPagination_200(TestInfo test) throws HttpResponseException {
+    List<Column> columns = new ArrayList<>();
+    for (int i = 0; i < 7; i++) {
+      columns.add(getColumn("c" + i, BIGINT, null));
+    }
+    columns.add(getColumn("other", BIGINT, USER_ADDRESS_TAG_LABEL));
+    Table table = createEntity(create(test).withColumns(columns).withTableConstraints(null), adminAuthHeaders());
+
+    // Page through the columns starting with c in both directions, in the order of the columns in the table
+    List<String> expected = Arrays.asList("c0", "c1", "c2", "c3", "c4", "c5", "c6");
+    int limit = 3;
+    int offset = 0;
+    ColumnList page = listColumns(table.getId(), "c", null, limit, null, null, adminAuthHeaders());
+    assertNull(page.getPaging().getBefore());
+    while (true) { // Forward scrolling
+      assertColumnPagination(expected, page, limit, offset);
+      if (page.getPaging().getAfter() == null) {
+        break;
+      }
+      offset += limit;
+      page = listColumns(table.getId(), "c", null, limit, null, page.getPaging().getAfter(), adminAuthHeaders());
+    }
+    while (page.getPaging().getBefore() != null) { // Backward scrolling
+      offset -= limit;
+      page = listColumns(table.getId(), "c", null, limit, page.getPaging().getBefore(), null, adminAuthHeaders());
+      assertColumnPagination(expected, page, limit, offset);
+    }
+    assertEquals(0, offset);
+
+    // Column tags are returned when asked for
+    page = listColumns(table.getId(), "other", "tags", null, null, null, adminAuthHeaders());
+    assertEquals(1, page.getData().size());
+    assertTrue(page.getData().get(0).getTags().stream().map(TagLabel::getTagFQN).collect(Collectors.toList())
+            .contains(USER_ADDRESS_TAG_LABEL.getTagFQN()));
+
+    // Listing columns of a table that does not exist fails
+    UUID nonExistent = UUID.randomUUID();
+    HttpResponseException exception = assertThrows(HttpResponseException.class, () ->
+            listColumns(nonExistent, null, null, null, null, null, adminAuthHeaders()));
+    assertResponse(exception, NOT_FOUND, CatalogExceptionMessage.entityNotFound(Entity.TABLE, nonExistent));
+  }
+
+  private static void assertColumnPagination(List<String> expected, ResultList<Column> actual, int limit,
+                                             int offset) {
+    if (actual.getPaging().getAfter() != null && actual.getPaging().getBefore() != null) {
+      assertEquals(limit, actual.getData().size());
+    }
+    for (int i = 0; i < actual.getData().size(); i++) {
+      assertEquals(expected.get(offset + i), actual.getData().get(i).getName());
+    }
+    assertEquals(expected.size(), actual.getPaging().getTotal());
   }
 
   @Test
@@ -1169,6 +1343,17 @@ public class TableResourceTest extends EntityResourceTest<Table> {
     return TestUtils.get(target, Table.class, authHeaders);
   }
 
+  public static ColumnList listColumns(UUID tableId, String namePrefix, String fields, Integer limit, String before,
+                                       String after, Map<String, String> authHeaders) throws HttpResponseException {
+    WebTarget target = CatalogApplicationTest.getResource("tables/" + tableId + "/columns");
+    target = namePrefix != null ? target.queryParam("namePrefix", namePrefix) : target;
+    target = fields != null ? target.queryParam("fields", fields) : target;
+    target = limit != null ? target.queryParam("limit", limit) : target;
+    target = before != null ? target.queryParam("before", before) : target;
+    target = after != null ? target.queryParam("after", after) : target;
+    return TestUtils.get(target, ColumnList.class, authHeaders);
+  }
+
   public static CreateTable create(TestInfo test) {
     return create(test, 0);
   }
@@ -1207,6 +1392,22 @@ public class TableResourceTest extends EntityResourceTest<Table> {
     TestUtils.put(target, data, OK, authHeaders);
   }
 
+  public static TableProfileList listTableProfiles(UUID tableId, String startDate, String endDate, Integer limit,
+                                                   Map<String, String> authHeaders) throws HttpResponseException {
+    WebTarget target = CatalogApplicationTest.getResource("tables/" + tableId + "/tableProfile");
+    target = startDate != null ? target.queryParam("startDate", startDate) : target;
+    target = endDate != null ? target.queryParam("endDate", endDate) : target;
+    target = limit != null ? target.queryParam("limit", limit) : target;
+    return TestUtils.get(target, TableProfileList.class, authHeaders);
+  }
+
+  public static JoinedTableList listTopJoinedTables(UUID tableId, Integer limit, Map<String, String> authHeaders)
+          throws HttpResponseException {
+    WebTarget target = CatalogApplicationTest.getResource("tables/" + tableId + "/joins/top");
+    target = limit != null ? target.queryParam("limit", limit) : target;
+    return TestUtils.get(target, JoinedTableList.class, authHeaders);
+  }
+
   public static void putTableProfileData(UUID tableId, TableProfile data, Map<String, String> authHeaders)
           throws HttpResponseException {
     WebTarget target = CatalogApplicationTest.getResource("tables/" + tableId + "/tableProfile");
@@ -30,8 +30,11 @@ import org.openmetadata.catalog.entity.data.Table;
 import org.openmetadata.catalog.entity.feed.Thread;
 import org.openmetadata.catalog.entity.teams.Team;
 import org.openmetadata.catalog.entity.teams.User;
+import org.openmetadata.catalog.jdbi3.FeedRepository;
 import org.openmetadata.catalog.resources.databases.TableResourceTest;
+import org.openmetadata.catalog.resources.feeds.FeedResource.PostList;
 import org.openmetadata.catalog.resources.feeds.FeedResource.ThreadList;
+import org.openmetadata.catalog.resources.teams.UserResourceTest;
 import org.openmetadata.catalog.type.Column;
 import org.openmetadata.catalog.type.ColumnDataType;
 import org.openmetadata.catalog.type.Post;
@@ -39,6 +42,7 @@ import org.openmetadata.catalog.util.TestUtils;
 
 import javax.ws.rs.client.WebTarget;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -47,10 +51,13 @@ import java.util.UUID;
 import static javax.ws.rs.core.Response.Status.BAD_REQUEST;
 import static javax.ws.rs.core.Response.Status.NOT_FOUND;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.openmetadata.catalog.exception.CatalogExceptionMessage.entityNotFound;
 import static org.openmetadata.catalog.util.TestUtils.adminAuthHeaders;
+import static org.openmetadata.catalog.util.TestUtils.assertEntityPagination;
 import static org.openmetadata.catalog.util.TestUtils.authHeaders;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -152,10 +159,10 @@ public class FeedResourceTest extends CatalogApplicationTest {
 
   @Test
   public void post_validThreadAndList_200(TestInfo test) throws HttpResponseException {
-    int totalThreadCount = listThreads(null, adminAuthHeaders()).getData().size();
-    int userThreadCount = listThreads(USER_LINK, adminAuthHeaders()).getData().size();
-    int teamThreadCount = listThreads(TEAM_LINK, adminAuthHeaders()).getData().size();
-    int tableThreadCount = listThreads(TABLE_LINK, adminAuthHeaders()).getData().size();
+    int totalThreadCount = listThreads(null, adminAuthHeaders()).getPaging().getTotal();
+    int userThreadCount = listThreads(USER_LINK, adminAuthHeaders()).getPaging().getTotal();
+    int teamThreadCount = listThreads(TEAM_LINK, adminAuthHeaders()).getPaging().getTotal();
+    int tableThreadCount = listThreads(TABLE_LINK, adminAuthHeaders()).getPaging().getTotal();
 
     CreateThread create = create().withMessage(
             String.format("%s mentions user %s team %s and table %s", test.getDisplayName(),
@@ -165,10 +172,10 @@ public class FeedResourceTest extends CatalogApplicationTest {
     for (int i = 0; i < 10; i++) {
       createAndCheck(create, userAuthHeaders);
       // List all the threads and make sure the number of threads increased by 1
-      assertEquals(++userThreadCount, listThreads(USER_LINK, userAuthHeaders).getData().size()); // Mentioned user
-      assertEquals(++teamThreadCount, listThreads(TEAM_LINK, userAuthHeaders).getData().size()); // Mentioned team
-      assertEquals(++tableThreadCount, listThreads(TABLE_LINK, userAuthHeaders).getData().size()); // About TABLE
-      assertEquals(++totalThreadCount, listThreads(null, userAuthHeaders).getData().size()); // Overall threads
+      assertEquals(++userThreadCount, listThreads(USER_LINK, userAuthHeaders).getPaging().getTotal()); // Mentioned user
+      assertEquals(++teamThreadCount, listThreads(TEAM_LINK, userAuthHeaders).getPaging().getTotal()); // Mentioned team
+      assertEquals(++tableThreadCount, listThreads(TABLE_LINK, userAuthHeaders).getPaging().getTotal()); // About TABLE
+      assertEquals(++totalThreadCount, listThreads(null, userAuthHeaders).getPaging().getTotal()); // Overall threads
     }
   }
 
@@ -203,10 +210,123 @@ public class FeedResourceTest extends CatalogApplicationTest {
   public void post_validAddPost_200() throws HttpResponseException {
     Map<String, String> authHeaders = authHeaders(USER.getEmail());
     Thread thread = createAndCheck(create(), authHeaders);
+    List<Post> posts = new ArrayList<>(thread.getPosts());
     // Add 10 posts and validate
     for (int i = 0; i < 10; i++) {
       Post post = createPost();
       thread = addPostAndCheck(thread, post, authHeaders);
+      posts.add(thread.getPosts().get(0));
+    }
+
+    // Thread has only the most recent posts
+    Thread getThread = getThread(thread.getId(), authHeaders);
+    assertEquals(11, getThread.getPostCount());
+    assertEquals(posts.subList(posts.size() - FeedRepository.RECENT_POSTS, posts.size()), getThread.getPosts());
+
+    // Page through the posts in the order they were posted
+    int limit = 4;
+    int offset = 0;
+    PostList page = listPosts(thread.getId(), limit, null, null, authHeaders);
+    assertNull(page.getPaging().getBefore());
+    while (true) { // Forward scrolling
+      assertEntityPagination(posts, page, limit, offset);
+      if (page.getPaging().getAfter() == null) {
+        break;
+      }
+      offset += limit;
+      page = listPosts(thread.getId(), limit, null, page.getPaging().getAfter(), authHeaders);
+    }
+    while (page.getPaging().getBefore() != null) { // Backward scrolling
+      offset -= limit;
+      page = listPosts(thread.getId(), limit, page.getPaging().getBefore(), null, authHeaders);
+      assertEntityPagination(posts, page, limit, offset);
+    }
+    assertEquals(0, offset);
+  }
+
+  @Test
+  public void get_listThreadsWithPagination_200() throws HttpResponseException {
+    Map<String, String> authHeaders = authHeaders(USER.getEmail());
+    for (int i = 0; i < 5; i++) {
+      createAndCheck(create(), authHeaders);
+    }
+    // Get all the threads about the table in one page as the expected order
+    ThreadList allThreads = listThreads(TABLE_LINK, FeedResource.MAX_PAGE_SIZE, null, null, authHeaders);
+    List<Thread> threads = allThreads.getData();
+    for (int i = 1; i < threads.size(); i++) { // Most recently active thread comes first
+      assertFalse(threads.get(i).getUpdatedAt().after(threads.get(i - 1).getUpdatedAt()));
+    }
+
+    int limit = 3;
+    int offset = 0;
+    ThreadList page = listThreads(TABLE_LINK, limit, null, null, authHeaders);
+    assertNull(page.getPaging().getBefore());
+    while (true) { // Forward scrolling
+      assertEntityPagination(threads, page, limit, offset);
+      if (page.getPaging().getAfter() == null) {
+        break;
+      }
+      offset += limit;
+      page = listThreads(TABLE_LINK, limit, null, page.getPaging().getAfter(), authHeaders);
+    }
+    while (page.getPaging().getBefore() != null) { // Backward scrolling
+      offset -= limit;
+      page = listThreads(TABLE_LINK, limit, page.getPaging().getBefore(), null, authHeaders);
+      assertEntityPagination(threads, page, limit, offset);
+    }
+    assertEquals(0, offset);
+
+    // Page size above the maximum is not allowed
+    HttpResponseException exception = assertThrows(HttpResponseException.class, () ->
+            listThreads(null, FeedResource.MAX_PAGE_SIZE + 1, null, null, authHeaders));
+    TestUtils.assertResponse(exception, BAD_REQUEST, "[query param limit must be less than or equal to " +
+            FeedResource.MAX_PAGE_SIZE + "]");
+  }
+
+  @Test
+  public void post_userFeed_200(TestInfo test) throws HttpResponseException {
+    User user = UserResourceTest.createUser(UserResourceTest.create(test), adminAuthHeaders());
+    String userLink = String.format("<#E/user/%s>", user.getName());
+    Map<String, String> authHeaders = authHeaders(user.getEmail());
+    assertEquals(0, listThreads(userLink, authHeaders).getPaging().getTotal());
+
+    // Thread created by another user is not in the feed of the user until the user replies to it
+    Thread thread1 = createAndCheck(create(), authHeaders(USER.getEmail()));
+    Thread thread2 = createAndCheck(create(), authHeaders(USER.getEmail()));
+    assertEquals(0, listThreads(userLink, authHeaders).getPaging().getTotal());
+    addPost(thread1.getId(), createPost().withFrom(user.getId()), authHeaders);
+    addPost(thread2.getId(), createPost().withFrom(user.getId()), authHeaders);
+    assertFeed(userLink, authHeaders, thread2, thread1);
+
+    // Reply to a thread moves it to the top of the feed
+    addPost(thread1.getId(), createPost(), authHeaders(USER.getEmail()));
+    assertFeed(userLink, authHeaders, thread1, thread2);
+
+    // Thread mentioning the user is in the feed of the user
+    Thread thread3 = createAndCheck(create().withMessage("mentions " + userLink), authHeaders(USER.getEmail()));
+    assertFeed(userLink, authHeaders, thread3, thread1, thread2);
+
+    // Page through the feed one thread at a time
+    ThreadList page = listThreads(userLink, 1, null, null, authHeaders);
+    assertEquals(thread3.getId(), page.getData().get(0).getId());
+    page = listThreads(userLink, 1, null, page.getPaging().getAfter(), authHeaders);
+    assertEquals(thread1.getId(), page.getData().get(0).getId());
+    page = listThreads(userLink, 1, null, page.getPaging().getAfter(), authHeaders);
+    assertEquals(thread2.getId(), page.getData().get(0).getId());
+    assertNull(page.getPaging().getAfter());
+    page = listThreads(userLink, 1, page.getPaging().getBefore(), null, authHeaders);
+    assertEquals(thread1.getId(), page.getData().get(0).getId());
+  }
+
+  private static void assertFeed(String userLink, Map<String, String> authHeaders, Thread... expected)
+          throws HttpResponseException {
+    ThreadList feed = listThreads(userLink, authHeaders);
+    assertEquals(expected.length, feed.getPaging().getTotal());
+    for (int i = 0; i < expected.length; i++) {
+      assertEquals(expected[i].getId(), feed.getData().get(i).getId());
+      Thread thread = getThread(expected[i].getId(), authHeaders);
+      assertEquals(thread.getPostCount(), feed.getData().get(i).getPostCount());
+      assertEquals(thread.getPosts(), feed.getData().get(i).getPosts());
     }
   }
 
@@ -225,7 +345,8 @@ public class FeedResourceTest extends CatalogApplicationTest {
   private Thread addPostAndCheck(Thread thread, Post addPost, Map<String, String> authHeaders)
           throws HttpResponseException {
     Thread returnedThread = addPost(thread.getId(), addPost, authHeaders);
-    // Last post is the newly added one
+    // Only the newly added post is returned
+    assertEquals(1, returnedThread.getPosts().size());
     validatePost(thread, returnedThread, addPost);
 
     Thread getThread = getThread(thread.getId(), authHeaders);
@@ -249,7 +370,7 @@ public class FeedResourceTest extends CatalogApplicationTest {
     assertNotNull(actualPost.getPostTs());
 
     // Ensure post count increased
-    assertEquals(expected.getPosts().size() + 1, actual.getPosts().size());
+    assertEquals(expected.getPostCount() + 1, actual.getPostCount());
   }
 
   public static Thread createThread(CreateThread create, Map<String, String> authHeaders) throws HttpResponseException {
@@ -274,10 +395,27 @@ public class FeedResourceTest extends CatalogApplicationTest {
     return TestUtils.get(target, Thread.class, authHeaders);
   }
 
+  public static PostList listPosts(UUID threadId, Integer limit, String before, String after,
+                                   Map<String, String> authHeaders) throws HttpResponseException {
+    WebTarget target = getResource("feed/" + threadId + "/posts");
+    target = limit != null ? target.queryParam("limit", limit) : target;
+    target = before != null ? target.queryParam("before", before) : target;
+    target = after != null ? target.queryParam("after", after) : target;
+    return TestUtils.get(target, PostList.class, authHeaders);
+  }
+
   public static ThreadList listThreads(String entityLink, Map<String, String> authHeaders)
           throws HttpResponseException {
+    return listThreads(entityLink, null, null, null, authHeaders);
+  }
+
+  public static ThreadList listThreads(String entityLink, Integer limit, String before, String after,
+                                       Map<String, String> authHeaders) throws HttpResponseException {
     WebTarget target = getResource("feed");
     target = entityLink != null ? target.queryParam("entity", entityLink) : target;
+    target = limit != null ? target.queryParam("limit", limit) : target;
+    target = before != null ? target.queryParam("before", before) : target;
+    target = after != null ? target.queryParam("after", after) : target;
     return TestUtils.get(target, ThreadList.class, authHeaders);
   }
 }
@@ -19,9 +19,14 @@ package org.openmetadata.catalog.resources.feeds;
 import org.junit.jupiter.api.Test;
 import org.openmetadata.catalog.resources.feeds.MessageParser.EntityLink;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class MessageParserTest {
   @Test
@@ -39,4 +44,33 @@ public class MessageParserTest {
     assertEquals(new EntityLink("table", "tableFQN", "description", null), links.get(1));
     assertEquals(new EntityLink("table", "tableFQN", "columns", "c1"), links.get(2));
   }
+
+  @Test
+  public void parseEntityLink() {
+    assertEquals(new EntityLink("table", "db.t1", "columns", "c1/c2"),
+            EntityLink.parse("<#E/table/db.t1/columns/c1/c2>"));
+    assertEquals(new EntityLink("table", "tableFQN/", null, null), EntityLink.parse("text <#E/table/tableFQN/>"));
+    assertThrows(IllegalArgumentException.class, () -> EntityLink.parse("<#E/table>"));
+    assertThrows(IllegalArgumentException.class, () -> EntityLink.parse("<#E/table/t1> <#E/table/t2>"));
+  }
+
+  @Test
+  public void parseMessageSameAsRegex() {
+    // Entity link pattern the parser replaced, used as the reference for what is an entity link
+    Pattern pattern = Pattern.compile("<#E/([^<>]+?)/([^<>]+?)(/([^<>]+?))?(/([^<>]+?))?>");
+    String[] tokens = {"<#E/", "<", ">", "/", "//", "#", "E", "table", "t.1", " "};
+    Random random = new Random(42);
+    for (int i = 0; i < 10000; i++) {
+      StringBuilder message = new StringBuilder();
+      for (int j = random.nextInt(20); j > 0; j--) {
+        message.append(tokens[random.nextInt(tokens.length)]);
+      }
+      List<EntityLink> expected = new ArrayList<>();
+      Matcher matcher = pattern.matcher(message);
+      while (matcher.find()) {
+        expected.add(new EntityLink(matcher.group(1), matcher.group(2), matcher.group(4), matcher.group(6)));
+      }
+      assertEquals(expected, MessageParser.getEntityLinks(message.toString()), message.toString());
+    }
+  }
 }
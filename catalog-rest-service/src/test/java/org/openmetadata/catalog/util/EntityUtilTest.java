@@ -0,0 +1,59 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.util;
+
+import org.junit.jupiter.api.Test;
+import org.openmetadata.catalog.type.TagLabel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EntityUtilTest {
+  @Test
+  public void testDiffLists() {
+    TagLabel tag1 = new TagLabel().withTagFQN("tag.t1");
+    TagLabel tag2 = new TagLabel().withTagFQN("tag.t2");
+    TagLabel tag3 = new TagLabel().withTagFQN("tag.t3");
+    TagLabel tag4 = new TagLabel().withTagFQN("tag.t4");
+
+    // t1 and t2 deleted and t4 added, t3 is in both lists
+    List<TagLabel> added = new ArrayList<>();
+    List<TagLabel> deleted = new ArrayList<>();
+    EntityUtil.diffLists(Arrays.asList(tag1, tag2, tag3), Arrays.asList(tag4, tag3),
+            TagLabel::getTagFQN, added, deleted);
+    assertEquals(Collections.singletonList(tag4), added);
+    assertEquals(Arrays.asList(tag1, tag2), deleted);
+
+    // Items are matched by key and not by object equality
+    added.clear();
+    deleted.clear();
+    EntityUtil.diffLists(Arrays.asList(tag1, tag2), Arrays.asList(new TagLabel().withTagFQN("tag.t2")
+            .withLabelType(TagLabel.LabelType.DERIVED), tag1), TagLabel::getTagFQN, added, deleted);
+    assertTrue(added.isEmpty());
+    assertTrue(deleted.isEmpty());
+
+    // Empty lists
+    EntityUtil.diffLists(Collections.emptyList(), Arrays.asList(tag1, tag1), TagLabel::getTagFQN, added, deleted);
+    assertEquals(Arrays.asList(tag1, tag1), added);
+    assertTrue(deleted.isEmpty());
+  }
+}
@@ -16,8 +16,11 @@
 
 package org.openmetadata.catalog.util;
 
+import org.openmetadata.catalog.entity.data.Table;
 import org.openmetadata.catalog.entity.teams.Team;
 import org.junit.jupiter.api.Test;
+import org.openmetadata.catalog.type.Column;
+import org.openmetadata.catalog.type.ColumnDataType;
 
 import javax.json.Json;
 import javax.json.JsonArrayBuilder;
@@ -26,6 +29,8 @@ import javax.json.JsonObject;
 import javax.json.JsonObjectBuilder;
 import javax.json.JsonPatchBuilder;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -98,4 +103,37 @@ public class JsonUtilsTest {
             () -> JsonUtils.applyPatch(original, jsonPatchBuilder2.build(), Team.class));
     assertTrue(jsonException.getMessage().contains("contains no element for index 3"));
   }
+
+  /**
+   * Test that JSON patch between two versions of an entity recreates the later version from the earlier one.
+   */
+  @Test
+  public void jsonPatchRoundTrip() throws IOException {
+    List<Column> columns = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      columns.add(new Column().withName("c" + i).withDataType(ColumnDataType.INT).withOrdinalPosition(i));
+    }
+    Table v1 = new Table().withId(UUID.randomUUID()).withName("table").withVersion(0.1).withColumns(columns);
+    String v1Json = JsonUtils.pojoToJson(v1);
+
+    // Remove columns from the middle and the end, add a column, and update description of table and column
+    List<Column> updatedColumns = new ArrayList<>(columns);
+    updatedColumns.remove(9);
+    updatedColumns.remove(3);
+    updatedColumns.add(1, new Column().withName("new").withDataType(ColumnDataType.STRING).withOrdinalPosition(10));
+    updatedColumns.set(5, new Column().withName("c6").withDataType(ColumnDataType.INT).withOrdinalPosition(6)
+            .withDescription("description"));
+    Table v2 = new Table().withId(v1.getId()).withName("table").withVersion(0.2).withDescription("description")
+            .withColumns(updatedColumns);
+    String v2Json = JsonUtils.pojoToJson(v2);
+
+    String patch = JsonUtils.getJsonPatch(v1Json, v2Json);
+    assertEquals(v2Json, JsonUtils.pojoToJson(JsonUtils.readValue(JsonUtils.applyJsonPatch(v1Json, patch),
+            Table.class)));
+
+    // Patch between identical documents is empty and applying it returns the same document
+    assertEquals("[]", JsonUtils.getJsonPatch(v1Json, v1Json));
+    assertEquals(v1Json, JsonUtils.pojoToJson(JsonUtils.readValue(JsonUtils.applyJsonPatch(v1Json, "[]"),
+            Table.class)));
+  }
 }
@@ -0,0 +1,92 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.catalog.util;
+
+import db.migration.V003__Compact_entity_versions;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.EntityRelationshipDAO;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The catalog tests and the load tests run the migrations on an embedded MySQL 5.7. Checks that the SQL migrations do
+ * not use features added in MySQL 8.0, which fail only when the migrations run.
+ */
+public class MigrationScriptsTest {
+  private static final List<String> MYSQL_8_FEATURES = List.of("JSON_TABLE", "[LAST", "BIN_TO_UUID(", "UUID_TO_BIN(",
+          " OVER (", " OVER(", "WITH RECURSIVE", "REGEXP_LIKE(", "REGEXP_REPLACE(", "REGEXP_SUBSTR(", "REGEXP_INSTR(",
+          " INVISIBLE", "DEFAULT (");
+
+  @Test
+  public void noMysql8Features() throws IOException, URISyntaxException {
+    List<Path> scripts;
+    try (Stream<Path> files = Files.list(Paths.get(getClass().getResource("/db/migration").toURI()))) {
+      scripts = files.filter(p -> p.getFileName().toString().endsWith(".sql")).sorted().collect(Collectors.toList());
+    }
+    assertFalse(scripts.isEmpty());
+    for (Path script : scripts) {
+      String sql = Files.readAllLines(script, StandardCharsets.UTF_8).stream()
+              .map(line -> line.contains("--") ? line.substring(0, line.indexOf("--")) : line) // Remove comments
+              .collect(Collectors.joining("\n")).toUpperCase(Locale.ROOT);
+      for (String feature : MYSQL_8_FEATURES) {
+        assertFalse(sql.contains(feature), script.getFileName() + " uses " + feature.trim() + " of MySQL 8.0");
+      }
+    }
+  }
+
+  @Test
+  public void uniqueVersions() throws IOException, URISyntaxException {
+    List<String> versions = Stream.concat(listVersions("/db/migration", "v", ".sql"),
+            listVersions("/" + V003__Compact_entity_versions.class.getPackageName().replace('.', '/'), "V", ".class"))
+            .collect(Collectors.toList());
+    assertFalse(versions.isEmpty());
+    for (String version : versions) {
+      assertEquals(1, versions.stream().filter(version::equals).count(), "Duplicate migration version " + version);
+    }
+  }
+
+  @Test
+  public void entityTypesAreSeeded() throws IOException, URISyntaxException {
+    String sql = Files.readString(Paths.get(getClass().getResource(
+            "/db/migration/v011__entity_relationship_binary_ids.sql").toURI()), StandardCharsets.UTF_8);
+    for (String type : EntityRelationshipDAO.SEEDED_ENTITY_TYPES) {
+      assertTrue(sql.contains("('" + type + "')"), "Entity type " + type + " is not seeded");
+    }
+  }
+
+  /** Versions of the migrations in the classpath directory, such as 003 of v003__name.sql */
+  private Stream<String> listVersions(String directory, String prefix, String suffix)
+          throws IOException, URISyntaxException {
+    try (Stream<Path> files = Files.list(Paths.get(getClass().getResource(directory).toURI()))) {
+      return files.map(p -> p.getFileName().toString())
+              .filter(name -> name.startsWith(prefix) && name.endsWith(suffix) && name.contains("__"))
+              .map(name -> name.substring(prefix.length(), name.indexOf("__"))).collect(Collectors.toList()).stream();
+    }
+  }
+}
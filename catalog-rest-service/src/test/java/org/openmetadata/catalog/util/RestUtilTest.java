@@ -22,9 +22,12 @@ import org.openmetadata.catalog.entity.teams.User;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class RestUtilTest {
@@ -58,4 +61,13 @@ public class RestUtilTest {
     assertTrue(relationships.containsAll(expectedRelationships) &&
             expectedRelationships.containsAll(relationships));
   }
+
+  @Test
+  public void testParseTimestamp() {
+    assertNull(RestUtil.parseTimestamp(null));
+    assertEquals(new Date(1630454400000L), RestUtil.parseTimestamp("1630454400000"));
+    assertEquals(new Date(1630454400000L), RestUtil.parseTimestamp("2021-09-01T00:00:00Z"));
+    assertEquals(new Date(1630454400000L), RestUtil.parseTimestamp("2021-09-01T02:00:00+02:00"));
+    assertThrows(IllegalArgumentException.class, () -> RestUtil.parseTimestamp("2021-09-01"));
+  }
 }
@@ -30,7 +30,7 @@ import java.util.Base64;
 import java.util.Random;
 
 /**
- * Class that uses AEC encryption to encrypt and decrypt plain text
+ * Class that uses AEC encryption to encrypt and decrypt plain text. Paging cursors use {@link CursorCodec} instead.
  */
 public final class CipherText {
   private static CipherText instance = null;
@@ -0,0 +1,209 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.common.utils;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Encodes and decodes paging cursors. A cursor is the sort key of the record a page starts before or after, the
+ * direction it is paged in, and optionally the version of the data it was read from. It is written in a compact binary
+ * format and encrypted with AES-GCM, which authenticates it, so a cursor that was tampered with or that was issued for
+ * the other direction is rejected with an {@link IllegalArgumentException}.
+ *
+ * <p>Cursors are stateless. All the servers of a cluster decode each other's cursors when they are configured with the
+ * same secret key with {@link #setSecretKey(String)}. Without one, a random key is used and cursors are only valid on
+ * the server that issued them until it restarts. Ciphers are kept per thread and are not created for every cursor.
+ */
+public final class CursorCodec {
+  public enum Direction { BEFORE, AFTER }
+
+  /** Decoded paging cursor */
+  public static final class Cursor {
+    private final String key;
+    private final Direction direction;
+    private final Long snapshotVersion;
+
+    public Cursor(String key, Direction direction, Long snapshotVersion) {
+      this.key = key;
+      this.direction = direction;
+      this.snapshotVersion = snapshotVersion;
+    }
+
+    public String getKey() {
+      return key;
+    }
+
+    public Direction getDirection() {
+      return direction;
+    }
+
+    public Long getSnapshotVersion() {
+      return snapshotVersion;
+    }
+  }
+
+  private static final byte FORMAT_VERSION = 1;
+  private static final int FLAG_AFTER = 1;
+  private static final int FLAG_SNAPSHOT = 2;
+  private static final int IV_LENGTH = 12;
+  private static final int TAG_BITS = 128;
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+  private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+  private static final ThreadLocal<Cipher> CIPHERS = ThreadLocal.withInitial(CursorCodec::newCipher);
+  private static final ThreadLocal<SecureRandom> RANDOMS = ThreadLocal.withInitial(SecureRandom::new);
+
+  private static volatile CursorCodec instance = new CursorCodec(randomKey());
+
+  private final SecretKeySpec secretKey;
+
+  private CursorCodec(SecretKeySpec secretKey) {
+    this.secretKey = secretKey;
+  }
+
+  public static CursorCodec instance() {
+    return instance;
+  }
+
+  /** Use the AES-256 key derived from {@code secret} for the cursors issued and decoded from now on */
+  public static void setSecretKey(String secret) {
+    if (secret == null || secret.isEmpty()) {
+      throw new IllegalArgumentException("Paging cursor secret key must not be empty");
+    }
+    instance = new CursorCodec(new SecretKeySpec(sha256(secret.getBytes(StandardCharsets.UTF_8)), "AES"));
+  }
+
+  /** Encode the cursor of the record with sort key {@code key} for paging in {@code direction} */
+  public String encode(String key, Direction direction) {
+    return encode(key, direction, null);
+  }
+
+  public String encode(String key, Direction direction, Long snapshotVersion) {
+    if (key == null) {
+      return null;
+    }
+    byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+    ByteBuffer plain = ByteBuffer.allocate(2 + (snapshotVersion == null ? 0 : Long.BYTES) + keyBytes.length);
+    plain.put(FORMAT_VERSION);
+    plain.put((byte) ((direction == Direction.AFTER ? FLAG_AFTER : 0) | (snapshotVersion == null ? 0 : FLAG_SNAPSHOT)));
+    if (snapshotVersion != null) {
+      plain.putLong(snapshotVersion);
+    }
+    plain.put(keyBytes);
+
+    byte[] token = new byte[IV_LENGTH + plain.capacity() + TAG_BITS / 8];
+    byte[] iv = new byte[IV_LENGTH];
+    RANDOMS.get().nextBytes(iv);
+    System.arraycopy(iv, 0, token, 0, IV_LENGTH);
+    Cipher cipher = CIPHERS.get();
+    try {
+      cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(TAG_BITS, iv));
+      cipher.doFinal(plain.array(), 0, plain.capacity(), token, IV_LENGTH);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Failed to encode paging cursor", e);
+    }
+    return ENCODER.encodeToString(token);
+  }
+
+  /**
+   * Decode a cursor issued for paging in {@code direction} and return its sort key.
+   * @throws IllegalArgumentException when the cursor is not valid or was issued for the other direction
+   */
+  public String decode(String cursor, Direction direction) {
+    if (cursor == null) {
+      return null;
+    }
+    Cursor decoded = decode(cursor);
+    if (decoded.getDirection() != direction) {
+      throw invalidCursor(cursor);
+    }
+    return decoded.getKey();
+  }
+
+  /** @throws IllegalArgumentException when the cursor is not valid */
+  public Cursor decode(String cursor) {
+    byte[] token;
+    try {
+      token = DECODER.decode(cursor);
+    } catch (IllegalArgumentException e) {
+      throw invalidCursor(cursor);
+    }
+    if (token.length < IV_LENGTH + TAG_BITS / 8 + 2) {
+      throw invalidCursor(cursor);
+    }
+    byte[] plain;
+    Cipher cipher = CIPHERS.get();
+    try {
+      cipher.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(TAG_BITS, token, 0, IV_LENGTH));
+      plain = cipher.doFinal(token, IV_LENGTH, token.length - IV_LENGTH);
+    } catch (AEADBadTagException e) {
+      throw invalidCursor(cursor);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Failed to decode paging cursor", e);
+    }
+
+    ByteBuffer buffer = ByteBuffer.wrap(plain);
+    if (buffer.get() != FORMAT_VERSION) {
+      throw invalidCursor(cursor);
+    }
+    int flags = buffer.get();
+    Direction direction = (flags & FLAG_AFTER) != 0 ? Direction.AFTER : Direction.BEFORE;
+    Long snapshotVersion = null;
+    if ((flags & FLAG_SNAPSHOT) != 0) {
+      if (buffer.remaining() < Long.BYTES) {
+        throw invalidCursor(cursor);
+      }
+      snapshotVersion = buffer.getLong();
+    }
+    String key = new String(plain, buffer.position(), buffer.remaining(), StandardCharsets.UTF_8);
+    return new Cursor(key, direction, snapshotVersion);
+  }
+
+  private static IllegalArgumentException invalidCursor(String cursor) {
+    return new IllegalArgumentException("Invalid paging cursor " + cursor);
+  }
+
+  private static Cipher newCipher() {
+    try {
+      return Cipher.getInstance("AES/GCM/NoPadding");
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("AES/GCM is not available", e);
+    }
+  }
+
+  private static SecretKeySpec randomKey() {
+    byte[] bytes = new byte[32];
+    new SecureRandom().nextBytes(bytes);
+    return new SecretKeySpec(bytes, "AES");
+  }
+
+  private static byte[] sha256(byte[] bytes) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(bytes);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
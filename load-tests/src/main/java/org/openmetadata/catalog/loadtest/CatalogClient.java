@@ -0,0 +1,96 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.loadtest;
+
+import org.openmetadata.catalog.security.CatalogOpenIdAuthorizationRequestFilter;
+import org.openmetadata.catalog.util.JsonUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+
+/**
+ * Minimal catalog REST client for the load test. It authenticates as the admin user with the header understood by
+ * {@link CatalogOpenIdAuthorizationRequestFilter} and fails on any non 2xx response.
+ */
+public class CatalogClient {
+  private static final String ADMIN = "admin@open-metadata.org";
+  private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+  private final String apiUrl;
+  private final HttpClient client;
+
+  public CatalogClient(String apiUrl) {
+    this.apiUrl = apiUrl;
+    this.client = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+  }
+
+  public String get(String path) throws IOException {
+    return send(request(path).GET());
+  }
+
+  public <T> T post(String path, Object entity, Class<T> clz) throws IOException {
+    return JsonUtils.readValue(send(request(path).POST(json(entity))), clz);
+  }
+
+  public <T> T put(String path, Object entity, Class<T> clz) throws IOException {
+    return JsonUtils.readValue(send(request(path).PUT(json(entity))), clz);
+  }
+
+  /** Put a raw request body, such as the user id expected by the followers APIs. */
+  public String put(String path, String body) throws IOException {
+    return send(request(path).PUT(BodyPublishers.ofString(body)));
+  }
+
+  public String patch(String path, String jsonPatch) throws IOException {
+    return send(request(path).header("Content-Type", "application/json-patch+json")
+            .method("PATCH", BodyPublishers.ofString(jsonPatch)));
+  }
+
+  private HttpRequest.Builder request(String path) {
+    return HttpRequest.newBuilder(URI.create(apiUrl + path))
+            .timeout(TIMEOUT)
+            .header("Content-Type", "application/json")
+            .header("Accept", "application/json")
+            .header(CatalogOpenIdAuthorizationRequestFilter.X_AUTH_PARAMS_EMAIL_HEADER, ADMIN);
+  }
+
+  private static HttpRequest.BodyPublisher json(Object entity) throws IOException {
+    return BodyPublishers.ofString(JsonUtils.pojoToJson(entity));
+  }
+
+  private String send(HttpRequest.Builder builder) throws IOException {
+    HttpRequest request = builder.build();
+    HttpResponse<String> response;
+    try {
+      response = client.send(request, BodyHandlers.ofString());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while calling " + request.uri(), e);
+    }
+    if (response.statusCode() / 100 != 2) {
+      throw new IOException(String.format("%s %s failed with status %d: %s", request.method(), request.uri(),
+              response.statusCode(), response.body()));
+    }
+    return response.body();
+  }
+}
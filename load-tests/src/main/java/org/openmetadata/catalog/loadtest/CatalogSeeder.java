@@ -0,0 +1,201 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.loadtest;
+
+import org.openmetadata.catalog.api.data.CreateDatabase;
+import org.openmetadata.catalog.api.data.CreateTable;
+import org.openmetadata.catalog.api.lineage.AddLineage;
+import org.openmetadata.catalog.api.services.CreateDatabaseService;
+import org.openmetadata.catalog.api.services.CreateDatabaseService.DatabaseServiceType;
+import org.openmetadata.catalog.api.teams.CreateUser;
+import org.openmetadata.catalog.entity.data.Database;
+import org.openmetadata.catalog.entity.data.Table;
+import org.openmetadata.catalog.entity.services.DatabaseService;
+import org.openmetadata.catalog.entity.teams.User;
+import org.openmetadata.catalog.type.Column;
+import org.openmetadata.catalog.type.ColumnDataType;
+import org.openmetadata.catalog.type.CreateTag;
+import org.openmetadata.catalog.type.CreateTagCategory;
+import org.openmetadata.catalog.type.CreateTagCategory.TagCategoryType;
+import org.openmetadata.catalog.type.DailyCount;
+import org.openmetadata.catalog.type.EntitiesEdge;
+import org.openmetadata.catalog.type.EntityReference;
+import org.openmetadata.catalog.type.EntityUsage;
+import org.openmetadata.catalog.type.JdbcInfo;
+import org.openmetadata.catalog.type.Tag;
+import org.openmetadata.catalog.type.TagCategory;
+import org.openmetadata.catalog.type.TagLabel;
+import org.openmetadata.catalog.util.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Seeds a synthetic catalog through the REST APIs: database services, databases, tables with tagged columns and
+ * owners, users, lineage chaining the tables of each database and daily usage of every table.
+ */
+public class CatalogSeeder {
+  private static final Logger LOG = LoggerFactory.getLogger(CatalogSeeder.class);
+  static final String TAG_CATEGORY = "LoadTest";
+
+  private final CatalogClient client;
+  private final LoadTestOptions options;
+  private final Random random;
+
+  public CatalogSeeder(CatalogClient client, LoadTestOptions options) {
+    this.client = client;
+    this.options = options;
+    this.random = new Random(options.seed);
+  }
+
+  /** Entities created by the seeder that the workload picks from. */
+  public static class SeededCatalog {
+    final List<EntityReference> users = new ArrayList<>();
+    final List<Database> databases = new ArrayList<>();
+    final List<Table> tables = Collections.synchronizedList(new ArrayList<>());
+  }
+
+  public SeededCatalog seed() throws IOException, InterruptedException {
+    long start = System.currentTimeMillis();
+    SeededCatalog catalog = new SeededCatalog();
+    List<String> tags = createTags();
+    for (int i = 0; i < options.users; i++) {
+      CreateUser create = new CreateUser().withName("loadtest_user" + i)
+              .withEmail("loadtest_user" + i + "@open-metadata.org");
+      User user = client.post("users", create, User.class);
+      catalog.users.add(new EntityReference().withId(user.getId()).withType("user"));
+    }
+    for (int s = 0; s < options.services; s++) {
+      CreateDatabaseService createService = new CreateDatabaseService().withName("loadtest_service" + s)
+              .withServiceType(DatabaseServiceType.MySQL)
+              .withJdbc(new JdbcInfo().withDriverClass("com.mysql.cj.jdbc.Driver")
+                      .withConnectionUrl("jdbc:mysql://localhost:3306/loadtest" + s));
+      DatabaseService service = client.post("services/databaseServices", createService, DatabaseService.class);
+      EntityReference serviceRef = new EntityReference().withId(service.getId()).withType("databaseService");
+      for (int d = 0; d < options.databases; d++) {
+        CreateDatabase createDatabase = new CreateDatabase().withName("loadtest_db" + d).withService(serviceRef)
+                .withOwner(randomUser(catalog));
+        catalog.databases.add(client.post("databases", createDatabase, Database.class));
+      }
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(options.concurrency);
+    try {
+      List<Callable<Void>> createTables = new ArrayList<>();
+      for (Database database : catalog.databases) {
+        createTables.add(() -> createTables(catalog, database, tags));
+      }
+      invokeAll(executor, createTables);
+      LOG.info("Seeded {} tables", catalog.tables.size());
+
+      List<Callable<Void>> addUsage = new ArrayList<>();
+      for (Table table : catalog.tables) {
+        addUsage.add(() -> addUsage(table));
+      }
+      invokeAll(executor, addUsage);
+    } finally {
+      executor.shutdownNow();
+    }
+    LOG.info("Seeded the catalog in {} seconds", (System.currentTimeMillis() - start) / 1000);
+    return catalog;
+  }
+
+  private List<String> createTags() throws IOException {
+    CreateTagCategory createCategory = new CreateTagCategory().withName(TAG_CATEGORY)
+            .withDescription("Tags created by the load test").withCategoryType(TagCategoryType.Descriptive);
+    client.post("tags", createCategory, TagCategory.class);
+    List<String> tags = new ArrayList<>();
+    for (int i = 0; i < options.tags; i++) {
+      CreateTag createTag = new CreateTag().withName("tag" + i).withDescription("Load test tag " + i);
+      tags.add(client.post("tags/" + TAG_CATEGORY, createTag, Tag.class).getFullyQualifiedName());
+    }
+    return tags;
+  }
+
+  /** Create the tables of a database, each one downstream of the previous one in the lineage graph. */
+  private Void createTables(SeededCatalog catalog, Database database, List<String> tags) throws IOException {
+    EntityReference previous = null;
+    for (int t = 0; t < options.tables; t++) {
+      CreateTable create = new CreateTable().withName("loadtest_table" + t).withDatabase(database.getId())
+              .withDescription("Load test table " + t).withColumns(columns(tags)).withOwner(randomUser(catalog));
+      Table table = client.post("tables", create, Table.class);
+      catalog.tables.add(table);
+      EntityReference tableRef = new EntityReference().withId(table.getId()).withType("table");
+      if (previous != null) {
+        AddLineage lineage = new AddLineage().withEdge(new EntitiesEdge().withFromEntity(previous)
+                .withToEntity(tableRef));
+        client.put("lineage", JsonUtils.pojoToJson(lineage));
+      }
+      previous = tableRef;
+    }
+    return null;
+  }
+
+  private Void addUsage(Table table) throws IOException {
+    LocalDate today = LocalDate.now();
+    for (int day = options.usageDays - 1; day >= 0; day--) {
+      DailyCount count = new DailyCount().withDate(today.minusDays(day).toString()).withCount(nextInt(100) + 1);
+      client.post("usage/table/" + table.getId(), count, EntityUsage.class);
+    }
+    return null;
+  }
+
+  private List<Column> columns(List<String> tags) {
+    List<Column> columns = new ArrayList<>(options.columns);
+    for (int c = 0; c < options.columns; c++) {
+      List<TagLabel> labels = new ArrayList<>();
+      for (int i = 0; i < Math.min(options.tagsPerColumn, tags.size()); i++) {
+        labels.add(new TagLabel().withTagFQN(tags.get((c + i) % tags.size())));
+      }
+      columns.add(new Column().withName("column" + c).withDescription("Load test column " + c)
+              .withDataType(c % 2 == 0 ? ColumnDataType.BIGINT : ColumnDataType.INT).withTags(labels));
+    }
+    return columns;
+  }
+
+  private EntityReference randomUser(SeededCatalog catalog) {
+    return catalog.users.isEmpty() ? null : catalog.users.get(nextInt(catalog.users.size()));
+  }
+
+  private int nextInt(int bound) {
+    synchronized (random) {
+      return random.nextInt(bound);
+    }
+  }
+
+  private static void invokeAll(ExecutorService executor, List<Callable<Void>> tasks)
+          throws IOException, InterruptedException {
+    for (Future<Void> future : executor.invokeAll(tasks)) {
+      try {
+        future.get();
+      } catch (ExecutionException e) {
+        throw new IOException("Failed to seed the catalog", e.getCause());
+      }
+    }
+  }
+}
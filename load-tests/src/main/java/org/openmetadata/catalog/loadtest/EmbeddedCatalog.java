@@ -0,0 +1,106 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.loadtest;
+
+import com.wix.mysql.EmbeddedMysql;
+import com.wix.mysql.config.MysqldConfig;
+import com.wix.mysql.config.SchemaConfig;
+import io.dropwizard.configuration.ResourceConfigurationSourceProvider;
+import io.dropwizard.testing.ConfigOverride;
+import io.dropwizard.testing.DropwizardTestSupport;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.openmetadata.catalog.CatalogApplication;
+import org.openmetadata.catalog.CatalogApplicationConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.ZoneId;
+import java.util.TimeZone;
+
+import static com.wix.mysql.distribution.Version.v5_7_27;
+
+/**
+ * Catalog server backed by an embedded MySQL, both started in this JVM. The schema is created by the same flyway
+ * migrations the server ships with. MySQL is the same 5.7 version the catalog tests run on, so the migrations are
+ * kept compatible with MySQL 5.7.
+ */
+public class EmbeddedCatalog implements AutoCloseable {
+  private static final Logger LOG = LoggerFactory.getLogger(EmbeddedCatalog.class);
+  private static final String SCHEMA = "openmetadata_load_test_db";
+  static final String USER = "test";
+
+  private final String jdbcUrl;
+  private final EmbeddedMysql mysql;
+  private final DropwizardTestSupport<CatalogApplicationConfig> app;
+
+  public EmbeddedCatalog(int mysqlPort) throws Exception {
+    jdbcUrl = jdbcUrl(mysqlPort);
+    mysql = startMysql(mysqlPort);
+    flyway(jdbcUrl).load().migrate();
+    LOG.info("Flyway migration is complete");
+
+    app = new DropwizardTestSupport<>(CatalogApplication.class, "loadtest.yaml",
+            new ResourceConfigurationSourceProvider(), ConfigOverride.config("database.url", jdbcUrl));
+    try {
+      app.before();
+    } catch (Exception e) {
+      mysql.stop();
+      throw e;
+    }
+    LOG.info("Catalog is started on port {}", app.getLocalPort());
+  }
+
+  static String jdbcUrl(int mysqlPort) {
+    return "jdbc:mysql://localhost:" + mysqlPort + "/" + SCHEMA + "?useSSL=false&serverTimezone=UTC";
+  }
+
+  static EmbeddedMysql startMysql(int mysqlPort) {
+    MysqldConfig config = MysqldConfig.aMysqldConfig(v5_7_27)
+            .withPort(mysqlPort)
+            .withTimeZone(TimeZone.getTimeZone(ZoneId.of("UTC")))
+            .withUser(USER, "")
+            .build();
+    EmbeddedMysql mysql = EmbeddedMysql.anEmbeddedMysql(config)
+            .addSchema(SchemaConfig.aSchemaConfig(SCHEMA).build()).start();
+    LOG.info("Embedded MySQL is started on port {}", mysqlPort);
+    return mysql;
+  }
+
+  /** Flyway configured with the migrations the server ships with. */
+  static FluentConfiguration flyway(String jdbcUrl) {
+    return Flyway.configure().dataSource(jdbcUrl, USER, "").sqlMigrationPrefix("v");
+  }
+
+  public String getApiUrl() {
+    return "http://localhost:" + app.getLocalPort() + "/api/v1/";
+  }
+
+  public String getJdbcUrl() {
+    return jdbcUrl;
+  }
+
+  public String getUser() {
+    return USER;
+  }
+
+  @Override
+  public void close() {
+    app.after();
+    mysql.stop();
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.loadtest;
+
+import org.openmetadata.catalog.entity.data.Database;
+import org.openmetadata.catalog.entity.data.Table;
+import org.openmetadata.catalog.loadtest.CatalogSeeder.SeededCatalog;
+import org.openmetadata.catalog.type.DailyCount;
+import org.openmetadata.catalog.type.EntityReference;
+import org.openmetadata.catalog.type.EntityUsage;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Endpoints exercised by the load test workload. The weight of an endpoint is its share of the read or write
+ * requests, matching how often the UI and the ingestion framework call it.
+ */
+public enum Endpoint {
+  LIST_TABLES("GET /tables", false, 3) {
+    @Override
+    void call(CatalogClient client, SeededCatalog catalog, Random random) throws IOException {
+      Database database = pick(catalog.databases, random);
+      client.get("tables?limit=10&fields=columns,tags,owner,usageSummary&database=" +
+              database.getFullyQualifiedName());
+    }
+  },
+  GET_TABLE("GET /tables/{id}", false, 4) {
+    @Override
+    void call(CatalogClient client, SeededCatalog catalog, Random random) throws IOException {
+      client.get("tables/" + pick(catalog.tables, random).getId() +
+              "?fields=columns,tableConstraints,usageSummary,owner,database,tags,followers,joins");
+    }
+  },
+  GET_TABLE_BY_NAME("GET /tables/name/{fqn}", false, 3) {
+    @Override
+    void call(CatalogClient client, SeededCatalog catalog, Random random) throws IOException {
+      client.get("tables/name/" + pick(catalog.tables, random).getFullyQualifiedName() +
+              "?fields=columns,tags,owner");
+    }
+  },
+  LIST_DATABASES("GET /databases", false, 1) {
+    @Override
+    void call(CatalogClient client, SeededCatalog catalog, Random random) throws IOException {
+      client.get("databases?limit=10&fields=owner,service,usageSummary");
+    }
+  },
+  GET_LINEAGE("GET /lineage/table/{id}", false, 2) {
+    @Override
+    void call(CatalogClient client, SeededCatalog catalog, Random random) throws IOException {
+      client.get("lineage/table/" + pick(catalog.tables, random).getId() + "?upstreamDepth=3&downstreamDepth=3");
+    }
+  },
+  GET_USAGE("GET /usage/table/{id}", false, 1) {
+    @Override
+    void call(CatalogClient client, SeededCatalog catalog, Random random) throws IOException {
+      client.get("usage/table/" + pick(catalog.tables, random).getId() + "?days=7");
+    }
+  },
+  GET_USER("GET /users/{id}", false, 1) {
+    @Override
+    void call(CatalogClient client, SeededCatalog catalog, Random random) throws IOException {
+      client.get("users/" + pick(catalog.users, random).getId() + "?fields=follows,owns");
+    }
+  },
+  PATCH_TABLE("PATCH /tables/{id}", true, 2) {
+    @Override
+    void call(CatalogClient client, SeededCatalog catalog, Random random) throws IOException {
+      Table table = pick(catalog.tables, random);
+      client.patch("tables/" + table.getId(), "[{\"op\":\"replace\",\"path\":\"/description\"," +
+              "\"value\":\"Load test description " + random.nextInt() + "\"}]");
+    }
+  },
+  ADD_FOLLOWER("PUT /tables/{id}/followers", true, 1) {
+    @Override
+    void call(CatalogClient client, SeededCatalog catalog, Random random) throws IOException {
+      EntityReference user = pick(catalog.users, random);
+      client.put("tables/" + pick(catalog.tables, random).getId() + "/followers", user.getId().toString());
+    }
+  },
+  REPORT_USAGE("POST /usage/table/{id}", true, 1) {
+    @Override
+    void call(CatalogClient client, SeededCatalog catalog, Random random) throws IOException {
+      DailyCount count = new DailyCount().withDate(LocalDate.now().toString()).withCount(random.nextInt(10) + 1);
+      client.post("usage/table/" + pick(catalog.tables, random).getId(), count, EntityUsage.class);
+    }
+  };
+
+  private final String label;
+  private final boolean write;
+  private final int weight;
+
+  Endpoint(String label, boolean write, int weight) {
+    this.label = label;
+    this.write = write;
+    this.weight = weight;
+  }
+
+  public String getLabel() {
+    return label;
+  }
+
+  public boolean isWrite() {
+    return write;
+  }
+
+  public int getWeight() {
+    return weight;
+  }
+
+  abstract void call(CatalogClient client, SeededCatalog catalog, Random random) throws IOException;
+
+  private static <T> T pick(List<T> list, Random random) {
+    return list.get(random.nextInt(list.size()));
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/** Records the latency in microseconds and the failures of every endpoint, safe for concurrent workers. */
+public class LatencyRecorder {
+  private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+  private final Map<Endpoint, Recorder> recorders = new EnumMap<>(Endpoint.class);
+  private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+
+  public LatencyRecorder() {
+    for (Endpoint endpoint : Endpoint.values()) {
+      recorders.put(endpoint, new Recorder(HIGHEST_TRACKABLE_MICROS, 3));
+      errors.put(endpoint, new LongAdder());
+    }
+  }
+
+  public void record(Endpoint endpoint, long nanos) {
+    recorders.get(endpoint).recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS));
+  }
+
+  public void error(Endpoint endpoint) {
+    errors.get(endpoint).increment();
+  }
+
+  /** Latencies recorded since the previous call. */
+  public Histogram histogram(Endpoint endpoint) {
+    return recorders.get(endpoint).getIntervalHistogram();
+  }
+
+  /** Failures recorded since the previous call. */
+  public long errors(Endpoint endpoint) {
+    return errors.get(endpoint).sumThenReset();
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.openmetadata.catalog.loadtest.CatalogSeeder.SeededCatalog;
+import org.openmetadata.catalog.util.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end load test of the catalog. It starts an embedded MySQL and the catalog server in this JVM, seeds a
+ * synthetic catalog, measures the SQL statements each endpoint sends to the database and then runs a mixed read and
+ * write workload from concurrent clients. Throughput, latency percentiles and statements per request of every
+ * endpoint are printed and written as JSON to the {@code --report} file.
+ *
+ * <pre>
+ *   java -jar load-tests/target/load-tests.jar --tables=100 --concurrency=32 --durationSeconds=120
+ * </pre>
+ */
+public class LoadTest {
+  private static final Logger LOG = LoggerFactory.getLogger(LoadTest.class);
+  /** Longer than the audit log flush interval, so that the audit writes of a request are counted with it. */
+  private static final long SETTLE_MILLIS = 1500;
+
+  private final LoadTestOptions options;
+  private final CatalogClient client;
+  private final SeededCatalog catalog;
+  private final Workload workload;
+
+  LoadTest(LoadTestOptions options, CatalogClient client, SeededCatalog catalog) {
+    this.options = options;
+    this.client = client;
+    this.catalog = catalog;
+    this.workload = new Workload(options.writeRatio);
+  }
+
+  public static void main(String[] args) throws Exception {
+    LoadTestOptions options = LoadTestOptions.parse(args);
+    try (EmbeddedCatalog server = new EmbeddedCatalog(options.mysqlPort)) {
+      CatalogClient client = new CatalogClient(server.getApiUrl());
+      SeededCatalog catalog = new CatalogSeeder(client, options).seed();
+      LoadTest loadTest = new LoadTest(options, client, catalog);
+
+      Map<Endpoint, Double> statements;
+      try (StatementCounter counter = new StatementCounter(server.getJdbcUrl(), server.getUser())) {
+        statements = loadTest.countStatements(counter);
+      }
+      LatencyRecorder recorder = new LatencyRecorder();
+      LOG.info("Warming up for {} seconds", options.warmupSeconds);
+      loadTest.run(recorder, options.warmupSeconds);
+      for (Endpoint endpoint : Endpoint.values()) {
+        recorder.histogram(endpoint);
+        recorder.errors(endpoint);
+      }
+      LOG.info("Running {} clients for {} seconds", options.concurrency, options.durationSeconds);
+      loadTest.run(recorder, options.durationSeconds);
+      loadTest.report(recorder, statements);
+    }
+  }
+
+  /**
+   * Call every endpoint {@code calibrationRequests} times from a single client while no other load runs and
+   * attribute the statements the database received in the meantime to the endpoint.
+   */
+  Map<Endpoint, Double> countStatements(StatementCounter counter) throws IOException, SQLException,
+          InterruptedException {
+    Map<Endpoint, Double> statements = new EnumMap<>(Endpoint.class);
+    Random random = new Random(options.seed);
+    for (Endpoint endpoint : Endpoint.values()) {
+      Thread.sleep(SETTLE_MILLIS);
+      long before = counter.read();
+      for (int i = 0; i < options.calibrationRequests; i++) {
+        endpoint.call(client, catalog, random);
+      }
+      Thread.sleep(SETTLE_MILLIS);
+      long after = counter.read();
+      statements.put(endpoint, (after - before - 1) / (double) options.calibrationRequests);
+    }
+    return statements;
+  }
+
+  void run(LatencyRecorder recorder, int seconds) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+    ExecutorService executor = Executors.newFixedThreadPool(options.concurrency);
+    for (int i = 0; i < options.concurrency; i++) {
+      Random random = new Random(options.seed + i);
+      executor.execute(() -> {
+        while (System.nanoTime() < deadline) {
+          Endpoint endpoint = workload.next(random);
+          long start = System.nanoTime();
+          try {
+            endpoint.call(client, catalog, random);
+            recorder.record(endpoint, System.nanoTime() - start);
+          } catch (IOException e) {
+            recorder.error(endpoint);
+            LOG.debug("Request {} failed", endpoint.getLabel(), e);
+          }
+        }
+      });
+    }
+    executor.shutdown();
+    if (!executor.awaitTermination(seconds + 60L, TimeUnit.SECONDS)) {
+      executor.shutdownNow();
+    }
+  }
+
+  void report(LatencyRecorder recorder, Map<Endpoint, Double> statements) throws IOException {
+    List<Map<String, Object>> rows = new ArrayList<>();
+    long total = 0;
+    StringBuilder table = new StringBuilder(String.format("%n%-28s %9s %7s %9s %9s %9s %9s %9s %9s%n", "endpoint",
+            "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "sql/req"));
+    for (Endpoint endpoint : Endpoint.values()) {
+      Histogram histogram = recorder.histogram(endpoint);
+      long errors = recorder.errors(endpoint);
+      double throughput = histogram.getTotalCount() / (double) options.durationSeconds;
+      total += histogram.getTotalCount();
+      Map<String, Object> row = new LinkedHashMap<>();
+      row.put("endpoint", endpoint.getLabel());
+      row.put("requests", histogram.getTotalCount());
+      row.put("errors", errors);
+      row.put("throughput", throughput);
+      row.put("p50Millis", millis(histogram.getValueAtPercentile(50)));
+      row.put("p95Millis", millis(histogram.getValueAtPercentile(95)));
+      row.put("p99Millis", millis(histogram.getValueAtPercentile(99)));
+      row.put("maxMillis", millis(histogram.getMaxValue()));
+      row.put("statementsPerRequest", statements.get(endpoint));
+      rows.add(row);
+      table.append(String.format("%-28s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.1f%n", row.values().toArray()));
+    }
+    table.append(String.format("%-28s %9d %7s %9.1f%n", "total", total, "",
+            total / (double) options.durationSeconds));
+    LOG.info("Load test results{}", table);
+
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("options", options);
+    report.put("endpoints", rows);
+    Files.write(Paths.get(options.report), JsonUtils.pojoToJson(report, true).getBytes(StandardCharsets.UTF_8));
+    LOG.info("Report is written to {}", options.report);
+  }
+
+  private static double millis(long micros) {
+    return micros / 1000.0;
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.loadtest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Options of a load test run, parsed from {@code --name=value} command line arguments. Catalog sizes are per parent,
+ * so {@code --services=2 --databases=5 --tables=50} seeds 500 tables.
+ */
+@JsonAutoDetect(fieldVisibility = Visibility.ANY)
+public class LoadTestOptions {
+  final int services;
+  final int databases;
+  final int tables;
+  final int columns;
+  final int tags;
+  final int tagsPerColumn;
+  final int users;
+  final int usageDays;
+  final int concurrency;
+  final int warmupSeconds;
+  final int durationSeconds;
+  final double writeRatio;
+  final int calibrationRequests;
+  final int mysqlPort;
+  final long seed;
+  final String report;
+
+  LoadTestOptions(Map<String, String> args) {
+    services = intArg(args, "services", 2);
+    databases = intArg(args, "databases", 5);
+    tables = intArg(args, "tables", 50);
+    columns = intArg(args, "columns", 20);
+    tags = intArg(args, "tags", 20);
+    tagsPerColumn = intArg(args, "tagsPerColumn", 1);
+    users = intArg(args, "users", 50);
+    usageDays = intArg(args, "usageDays", 7);
+    concurrency = intArg(args, "concurrency", 16);
+    warmupSeconds = intArg(args, "warmupSeconds", 10);
+    durationSeconds = intArg(args, "durationSeconds", 60);
+    writeRatio = Double.parseDouble(stringArg(args, "writeRatio", "0.1"));
+    calibrationRequests = intArg(args, "calibrationRequests", 20);
+    mysqlPort = intArg(args, "mysqlPort", 3308);
+    seed = Long.parseLong(stringArg(args, "seed", "42"));
+    report = stringArg(args, "report", "load-test-report.json");
+    if (!args.isEmpty()) {
+      throw new IllegalArgumentException("Unknown options " + args.keySet());
+    }
+    if (writeRatio < 0 || writeRatio > 1) {
+      throw new IllegalArgumentException("writeRatio must be between 0 and 1");
+    }
+  }
+
+  static LoadTestOptions parse(String[] args) {
+    Map<String, String> map = new HashMap<>();
+    for (String arg : args) {
+      int equals = arg.indexOf('=');
+      if (!arg.startsWith("--") || equals < 0) {
+        throw new IllegalArgumentException("Expected --name=value but got " + arg);
+      }
+      map.put(arg.substring(2, equals), arg.substring(equals + 1));
+    }
+    return new LoadTestOptions(map);
+  }
+
+  private static int intArg(Map<String, String> args, String name, int defaultValue) {
+    return Integer.parseInt(stringArg(args, name, String.valueOf(defaultValue)));
+  }
+
+  private static String stringArg(Map<String, String> args, String name, String defaultValue) {
+    String value = args.remove(name);
+    return value == null ? defaultValue : value;
+  }
+}
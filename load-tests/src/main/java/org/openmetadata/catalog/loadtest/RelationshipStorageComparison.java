@@ -0,0 +1,226 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.loadtest;
+
+import com.wix.mysql.EmbeddedMysql;
+import org.HdrHistogram.Histogram;
+import org.flywaydb.core.api.MigrationVersion;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.PreparedBatch;
+import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+import org.openmetadata.catalog.Entity;
+import org.openmetadata.catalog.jdbi3.CollectionDAO;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.EntityRelationshipDAO;
+import org.openmetadata.catalog.jdbi3.FromEntityReferenceMapper;
+import org.openmetadata.catalog.jdbi3.Relationship;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+/**
+ * Compares the size and the lookup latency of entity_relationship before and after its ids became BINARY(16) and its
+ * entity types ids of the entity_type dictionary. The schema is migrated up to v010, filled with a synthetic graph of
+ * databases containing tables, each table owned by a user and upstream of the next table, and measured. It is then
+ * migrated to the latest version, which converts the rows, and measured again.
+ *
+ * <pre>
+ *   java -cp load-tests/target/load-tests.jar org.openmetadata.catalog.loadtest.RelationshipStorageComparison \
+ *       --tables=200000 --lookups=20000
+ * </pre>
+ */
+public class RelationshipStorageComparison {
+  private static final Logger LOG = LoggerFactory.getLogger(RelationshipStorageComparison.class);
+  private static final int BATCH_SIZE = 1000;
+
+  // Queries of EntityRelationshipDAO before v011
+  private static final String FIND_TO_V010 = "SELECT toId FROM entity_relationship " +
+          "WHERE fromId = :fromId AND relation = :relation AND toEntity = :toEntity ORDER BY toId";
+  private static final String FIND_FROM_V010 = "SELECT fromId, fromEntity FROM entity_relationship " +
+          "WHERE toId = :toId AND relation = :relation ORDER BY fromId";
+
+  private final int tables;
+  private final int tablesPerDatabase;
+  private final int users;
+  private final int lookups;
+  private final Random random;
+  private final List<String> databaseIds = new ArrayList<>();
+  private final List<String> tableIds = new ArrayList<>();
+
+  RelationshipStorageComparison(Map<String, String> args) {
+    tables = Integer.parseInt(args.getOrDefault("tables", "100000"));
+    tablesPerDatabase = Integer.parseInt(args.getOrDefault("tablesPerDatabase", "500"));
+    users = Integer.parseInt(args.getOrDefault("users", "1000"));
+    lookups = Integer.parseInt(args.getOrDefault("lookups", "10000"));
+    random = new Random(Long.parseLong(args.getOrDefault("seed", "42")));
+  }
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options = new LinkedHashMap<>();
+    for (String arg : args) {
+      int equals = arg.indexOf('=');
+      if (!arg.startsWith("--") || equals < 0) {
+        throw new IllegalArgumentException("Expected --name=value but got " + arg);
+      }
+      options.put(arg.substring(2, equals), arg.substring(equals + 1));
+    }
+    int mysqlPort = Integer.parseInt(options.getOrDefault("mysqlPort", "3309"));
+    RelationshipStorageComparison comparison = new RelationshipStorageComparison(options);
+
+    EmbeddedMysql mysql = EmbeddedCatalog.startMysql(mysqlPort);
+    try {
+      String jdbcUrl = EmbeddedCatalog.jdbcUrl(mysqlPort);
+      Jdbi jdbi = Jdbi.create(jdbcUrl, EmbeddedCatalog.USER, "");
+      jdbi.installPlugin(new SqlObjectPlugin());
+
+      EmbeddedCatalog.flyway(jdbcUrl).target(MigrationVersion.fromVersion("10")).load().migrate();
+      comparison.seed(jdbi);
+      Map<String, Long> before = comparison.measure(jdbi, lookup -> lookup.findV010(jdbi));
+
+      long start = System.nanoTime();
+      EmbeddedCatalog.flyway(jdbcUrl).load().migrate();
+      LOG.info("Migration to binary ids took {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+      EntityRelationshipDAO dao = jdbi.onDemand(CollectionDAO.class).relationshipDAO();
+      Map<String, Long> after = comparison.measure(jdbi, lookup -> lookup.find(dao));
+
+      System.out.printf("%n%-28s %14s %14s%n", "", "v010", "v011");
+      for (String name : before.keySet()) {
+        System.out.printf("%-28s %14s %14s%n", name, before.get(name), after.getOrDefault(name, 0L));
+      }
+      for (String name : after.keySet()) {
+        if (!before.containsKey(name)) {
+          System.out.printf("%-28s %14s %14s%n", name, 0, after.get(name));
+        }
+      }
+    } finally {
+      mysql.stop();
+    }
+  }
+
+  /** Relationships of the synthetic graph, stored in the v010 schema with textual ids and types. */
+  private void seed(Jdbi jdbi) {
+    List<String> userIds = new ArrayList<>();
+    for (int i = 0; i < users; i++) {
+      userIds.add(UUID.randomUUID().toString());
+    }
+    for (int i = 0; i < tables; i++) {
+      if (i % tablesPerDatabase == 0) {
+        databaseIds.add(UUID.randomUUID().toString());
+      }
+      tableIds.add(UUID.randomUUID().toString());
+    }
+    jdbi.useHandle(handle -> {
+      List<Object[]> rows = new ArrayList<>();
+      for (int i = 0; i < tables; i++) {
+        String tableId = tableIds.get(i);
+        rows.add(new Object[] {databaseIds.get(i / tablesPerDatabase), tableId, Entity.DATABASE, Entity.TABLE,
+                Relationship.CONTAINS.ordinal()});
+        rows.add(new Object[] {userIds.get(random.nextInt(users)), tableId, Entity.USER, Entity.TABLE,
+                Relationship.OWNS.ordinal()});
+        if (i + 1 < tables) {
+          rows.add(new Object[] {tableId, tableIds.get(i + 1), Entity.TABLE, Entity.TABLE,
+                  Relationship.UPSTREAM.ordinal()});
+        }
+        if (rows.size() >= BATCH_SIZE) {
+          insert(handle, rows);
+        }
+      }
+      insert(handle, rows);
+    });
+    LOG.info("Seeded {} databases, {} tables and {} users", databaseIds.size(), tables, users);
+  }
+
+  private static void insert(Handle handle, List<Object[]> rows) {
+    PreparedBatch batch = handle.prepareBatch("INSERT INTO entity_relationship" +
+            "(fromId, toId, fromEntity, toEntity, relation) VALUES (?, ?, ?, ?, ?)");
+    rows.forEach(batch::add);
+    batch.execute();
+    rows.clear();
+  }
+
+  /**
+   * Size of the table and of each of its indexes in bytes, and the mean and p99 latency in microseconds of lookups of
+   * the tables of a database (findTo) and of the entities a table is related to by a relation (findFrom).
+   */
+  private Map<String, Long> measure(Jdbi jdbi, ToIntFunction<Lookup> find) {
+    Map<String, Long> results = new LinkedHashMap<>();
+    jdbi.useHandle(handle -> {
+      handle.execute("ANALYZE TABLE entity_relationship");
+      handle.createQuery("SELECT data_length, index_length FROM information_schema.tables " +
+              "WHERE table_schema = DATABASE() AND table_name = 'entity_relationship'")
+              .map((rs, ctx) -> {
+                results.put("data bytes", rs.getLong(1));
+                results.put("index bytes", rs.getLong(2));
+                return null;
+              }).list();
+      handle.createQuery("SELECT index_name, stat_value * @@innodb_page_size FROM mysql.innodb_index_stats " +
+              "WHERE database_name = DATABASE() AND table_name = 'entity_relationship' AND stat_name = 'size'")
+              .map((rs, ctx) -> results.put(rs.getString(1) + " bytes", rs.getLong(2))).list();
+    });
+
+    for (boolean findTo : new boolean[] {true, false}) {
+      Histogram histogram = new Histogram(TimeUnit.SECONDS.toMicros(10), 3);
+      // The first half warms up the buffer pool and the JIT
+      for (int i = 0; i < 2 * lookups; i++) {
+        Lookup lookup = findTo ? new Lookup(databaseIds.get(random.nextInt(databaseIds.size())), true)
+                : new Lookup(tableIds.get(random.nextInt(tableIds.size())), false);
+        long start = System.nanoTime();
+        find.applyAsInt(lookup);
+        if (i >= lookups) {
+          histogram.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        }
+      }
+      String name = findTo ? "findTo" : "findFrom";
+      results.put(name + " mean micros", Math.round(histogram.getMean()));
+      results.put(name + " p99 micros", histogram.getValueAtPercentile(99));
+    }
+    return results;
+  }
+
+  /** A findTo of the tables of a database, or a findFrom of the entities related to a table. */
+  private static final class Lookup {
+    private final String id;
+    private final boolean findTo;
+
+    private Lookup(String id, boolean findTo) {
+      this.id = id;
+      this.findTo = findTo;
+    }
+
+    // Like the DAO, each lookup opens its own handle
+    private int findV010(Jdbi jdbi) {
+      return jdbi.withHandle(handle -> findTo
+              ? handle.createQuery(FIND_TO_V010).bind("fromId", id).bind("relation", Relationship.CONTAINS.ordinal())
+                      .bind("toEntity", Entity.TABLE).mapTo(String.class).list().size()
+              : handle.createQuery(FIND_FROM_V010).bind("toId", id).bind("relation", Relationship.OWNS.ordinal())
+                      .map(new FromEntityReferenceMapper()).list().size());
+    }
+
+    private int find(EntityRelationshipDAO dao) {
+      return findTo ? dao.findTo(id, Relationship.CONTAINS.ordinal(), Entity.TABLE).size()
+              : dao.findFrom(id, Relationship.OWNS.ordinal()).size();
+    }
+  }
+}
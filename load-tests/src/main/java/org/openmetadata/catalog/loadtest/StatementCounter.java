@@ -0,0 +1,51 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.loadtest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Reads the number of statements the MySQL server has received from clients, the global {@code Questions} status
+ * variable. The difference between two reads counts every statement the catalog sent in between, including
+ * transaction control, and the one {@code SHOW STATUS} of the first read.
+ */
+public class StatementCounter implements AutoCloseable {
+  private final Connection connection;
+
+  public StatementCounter(String jdbcUrl, String user) throws SQLException {
+    connection = DriverManager.getConnection(jdbcUrl, user, "");
+  }
+
+  public long read() throws SQLException {
+    try (Statement statement = connection.createStatement();
+         ResultSet rs = statement.executeQuery("SHOW GLOBAL STATUS LIKE 'Questions'")) {
+      if (!rs.next()) {
+        throw new SQLException("MySQL did not report the Questions status variable");
+      }
+      return rs.getLong(2);
+    }
+  }
+
+  @Override
+  public void close() throws SQLException {
+    connection.close();
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements. See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Mix of read and write requests. A request is a write with probability {@code writeRatio}; the endpoint is then
+ * picked among the reads or the writes in proportion to the endpoint weights.
+ */
+public class Workload {
+  private final double writeRatio;
+  private final List<Endpoint> reads = new ArrayList<>();
+  private final List<Endpoint> writes = new ArrayList<>();
+
+  public Workload(double writeRatio) {
+    this.writeRatio = writeRatio;
+    for (Endpoint endpoint : Endpoint.values()) {
+      List<Endpoint> list = endpoint.isWrite() ? writes : reads;
+      for (int i = 0; i < endpoint.getWeight(); i++) {
+        list.add(endpoint);
+      }
+    }
+  }
+
+  public Endpoint next(Random random) {
+    List<Endpoint> list = random.nextDouble() < writeRatio ? writes : reads;
+    return list.get(random.nextInt(list.size()));
+  }
+}